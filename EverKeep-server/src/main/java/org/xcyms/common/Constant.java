@@ -16,7 +16,37 @@ public class Constant {
 
     public static final String UPLOAD_ROOT_PATH = "/uploads/";
 
-    public static final String THUMBNAIL_SUFFIX = "_thumb";
+    /**
+     * 多尺寸缩略图常量
+     */
+    public interface Rendition {
+        /** 文件名后缀前缀，完整后缀为 _w{长边像素} */
+        String SUFFIX = "_w";
+        /** thumbnail_url 使用的尺寸 (取不小于该值的最小尺寸)，与旧版单一缩略图一致 */
+        int THUMBNAIL_SIZE = 400;
+        /** 输出质量 */
+        double QUALITY = 0.8;
+    }
+
+    /**
+     * 按需缩放常量
+     */
+    public interface Render {
+        /** 宽高上限 (像素) */
+        int MAX_SIZE = 4096;
+        /** 宽高档位 (像素)，请求的宽高向上取到最近的档位，限制缓存中同一图片的尺寸组合数 */
+        int[] SIZES = {64, 128, 160, 240, 320, 400, 480, 640, 800, 1080, 1280, 1600, 2048, 2560, 3200, MAX_SIZE};
+        /** JPEG 质量档位，请求的质量向上取到最近的档位 */
+        int[] QUALITIES = {50, 60, 70, 80, 90, 100};
+        /** 默认 JPEG 质量 */
+        int DEFAULT_QUALITY = 80;
+        /** 等比缩放到目标区域内 (默认) */
+        String FIT_CONTAIN = "contain";
+        /** 等比缩放覆盖目标区域，居中裁剪 */
+        String FIT_COVER = "cover";
+        /** 拉伸到目标宽高 */
+        String FIT_FILL = "fill";
+    }
 
     /**
      * 配置键常量
@@ -50,6 +80,14 @@ public class Constant {
             String BUCKET = "tencent_cos_bucket";
             String REGION = "tencent_cos_region";
         }
+
+        /** 云存储客户端连接池 (修改后客户端自动重建) */
+        interface StorageClient {
+            /** 最大连接数 */
+            String MAX_CONNECTIONS = "storage_max_connections";
+            /** 空闲连接保活时间 (秒) */
+            String KEEP_ALIVE_SECONDS = "storage_keep_alive_seconds";
+        }
     }
 
     /**
@@ -58,6 +96,18 @@ public class Constant {
     public interface Cache {
         String CONFIG = "config";
 
+        /** 用户角色缓存 (近端缓存 + Redis)，角色分配变更时失效 */
+        String ROLE = "role";
+
+        /** 近端缓存失效广播频道 (Redis pub/sub) */
+        String EVICT_CHANNEL = "cache:evict";
+
+        /** 近端缓存有效期 (秒)，兜底丢失的失效广播 */
+        Long NEAR_CACHE_EXPIRE = 60L;
+
+        /** 近端缓存每个缓存的最大条目数 */
+        Long NEAR_CACHE_MAX_SIZE = 10000L;
+
         Long EXPIRE_7_DAYS = 60 * 60 * 24 * 7L;
 
         Long EXPIRE_1_HOUR = 60 * 60L;
@@ -71,6 +121,191 @@ public class Constant {
         Long EXPIRE_NONE = -1L;
     }
 
+    /**
+     * 用户存储用量常量
+     */
+    public interface Usage {
+        /** 用户用量计数器 Redis Key 前缀 (Hash) */
+        String KEY_PREFIX = "user_usage:";
+        /** 用户用量版本号 Redis Key 前缀，每次变更递增，回填计数器时校验 */
+        String VERSION_KEY_PREFIX = "user_usage_ver:";
+        /** 计数器过期时间 (秒)，过期后从台账表重新加载 */
+        Long EXPIRE_SECONDS = 60 * 60 * 24L;
+        /** 对账时每批读取的用户数 */
+        int RECONCILE_BATCH_SIZE = 500;
+        /** 对账任务锁 */
+        String RECONCILE_LOCK_KEY = "user_usage:reconcile:lock";
+        /** 对账任务租约时长 (秒)，每批之后续约 */
+        Long RECONCILE_LEASE_SECONDS = 60 * 5L;
+    }
+
+    /**
+     * 分片上传常量
+     */
+    public interface ChunkUpload {
+        /** 分片上传会话 Redis Key 前缀 */
+        String KEY_PREFIX = "chunk_upload:";
+
+        /** 默认分片大小 (S3/COS 要求除最后一片外不小于 5MB) */
+        Long DEFAULT_CHUNK_SIZE = 5 * 1024 * 1024L;
+
+        /** 最大分片大小 */
+        Long MAX_CHUNK_SIZE = 20 * 1024 * 1024L;
+
+        /** 最大分片数 */
+        Integer MAX_CHUNKS = 10000;
+
+        /** 会话有效期 (秒)，每次上传分片后续期 */
+        Long EXPIRE_SECONDS = 60 * 60 * 24L;
+
+        /** 会话过期时间索引 (ZSET: uploadId -> 过期时间毫秒)，供清理任务查找过期会话 */
+        String EXPIRY_KEY = "chunk_upload:expiry";
+
+        /** 会话副本 (Hash: uploadId -> 会话)，会话 Key 过期后清理任务据此释放存储端资源 */
+        String SESSIONS_KEY = "chunk_upload:sessions";
+
+        /** 用户未完成会话索引 Key 前缀 (ZSET: uploadId -> 过期时间毫秒) */
+        String USER_KEY_PREFIX = "chunk_upload:user:";
+
+        /** 每个用户同时未完成的会话数上限 */
+        Integer MAX_OPEN_SESSIONS = 20;
+
+        /** 过期会话清理锁 */
+        String SWEEP_LOCK_KEY = "chunk_upload:sweep:lock";
+
+        /** 过期会话清理租约时长 (秒) */
+        Long SWEEP_LEASE_SECONDS = 300L;
+
+        /** 每批清理的过期会话数 */
+        Integer SWEEP_BATCH_SIZE = 100;
+
+        /** 云存储本地副本文件名前缀 (位于 java.io.tmpdir) */
+        String LOCAL_COPY_PREFIX = "chunk_";
+    }
+
+    /**
+     * 客户端直传常量
+     */
+    public interface DirectUpload {
+        /** 直传会话 Redis Key 前缀 */
+        String KEY_PREFIX = "direct_upload:";
+
+        /** 预签名地址有效期 (秒) */
+        Long URL_EXPIRE_SECONDS = 60 * 15L;
+
+        /** 会话有效期 (秒)，需长于地址有效期，给大文件上传完成后调用完成接口留出时间 */
+        Long EXPIRE_SECONDS = 60 * 60 * 2L;
+
+        /** 客户端写入的暂存目录：预签名地址只指向暂存对象，完成时复制到正式路径后删除，正式对象不会再被客户端覆盖 */
+        String STAGING_PREFIX = "staging/direct/";
+    }
+
+    /**
+     * 媒体处理任务常量
+     */
+    public interface MediaJob {
+        /** 图片任务：缩略图 + EXIF */
+        String TYPE_IMAGE = "IMAGE";
+        /** 视频任务：封面 + 时长 */
+        String TYPE_VIDEO = "VIDEO";
+
+        /** 最大尝试次数 */
+        Integer MAX_ATTEMPTS = 5;
+
+        /** 租约时长 (秒)，执行中由心跳每30秒续约，超过后任务视为中断 (节点宕机)，由任意节点重新认领 */
+        Long LEASE_SECONDS = 60 * 2L;
+
+        /** 失败重试的基础退避时间 (秒)，按尝试次数指数增长 */
+        Long RETRY_BASE_SECONDS = 30L;
+
+        /** 失败重试的最大退避时间 (秒) */
+        Long RETRY_MAX_SECONDS = 60 * 60L;
+
+        /** 节点繁忙 (计算线程池已满) 时任务延后认领的时间 (秒) */
+        Long DEFER_SECONDS = 5L;
+
+        /** 已完成任务的保留天数 */
+        Integer RETENTION_DAYS = 7;
+
+        /** 失败 (不再重试) 任务的保留天数，保留更久以便排查 */
+        Integer FAILED_RETENTION_DAYS = 30;
+
+        /** 上传时留下的本地副本文件名前缀 (位于 java.io.tmpdir) */
+        String LOCAL_COPY_PREFIX = "upload_";
+
+        /** 从存储下载的源文件名前缀 (位于 java.io.tmpdir) */
+        String DOWNLOAD_PREFIX = "media_job_";
+
+        /** 本地临时文件保留时间 (秒)，超过后由各节点清理 (任务仍需要时从存储下载) */
+        Long TEMP_FILE_RETENTION_SECONDS = 60 * 60 * 24L;
+    }
+
+    /**
+     * 回收站常量
+     */
+    public interface Recycle {
+        /** 永久删除时每批处理的记录数 (一次加锁查询 + 一条 DELETE ... IN + 一次批量删除文件) */
+        Integer DELETE_BATCH_SIZE = 500;
+
+        /** 回收站保留天数，超过后由清理任务永久删除 */
+        Integer RETENTION_DAYS = 30;
+
+        /** 清理任务租约锁 */
+        String CLEANUP_LOCK_KEY = "recycle_cleanup:lock";
+
+        /** 清理任务租约时长 (秒)，每处理一批续约一次 */
+        Long CLEANUP_LEASE_SECONDS = 60 * 5L;
+
+        /** 清理进度检查点 (Hash)，中断后从该位置继续 */
+        String CLEANUP_CHECKPOINT_KEY = "recycle_cleanup:checkpoint";
+
+        /** 检查点有效期 (秒) */
+        Long CLEANUP_CHECKPOINT_EXPIRE_SECONDS = 60 * 60 * 24 * 3L;
+    }
+
+    /**
+     * 孤儿文件回收常量
+     */
+    public interface StorageGc {
+        /** 回收任务租约锁 */
+        String LOCK_KEY = "storage_gc:lock";
+
+        /** 租约时长 (秒)，读取引用与列举对象期间定期续约 */
+        Long LEASE_SECONDS = 60 * 5L;
+
+        /** 读取数据库引用时每批的记录数 */
+        Integer SCAN_BATCH_SIZE = 5000;
+
+        /** 列举对象时每处理多少个续约一次 */
+        Integer RENEW_INTERVAL = 10000;
+
+        /** 每批删除的对象数 */
+        Integer DELETE_BATCH_SIZE = 1000;
+    }
+
+    /**
+     * 相似图片常量
+     */
+    public interface Similar {
+        /** 默认汉明距离阈值 (64 位 dHash，不超过该距离视为近似重复) */
+        Integer DEFAULT_DISTANCE = 6;
+
+        /** 最大汉明距离阈值，过大时几乎所有图片都会连成一组且检索退化为全量比较 */
+        Integer MAX_DISTANCE = 12;
+
+        /** 单次返回的最大分组数 (按组内图片数降序) */
+        Integer MAX_CLUSTERS = 100;
+
+        /** 内存中最多保留的用户索引数 */
+        Long INDEX_MAX_USERS = 1000L;
+
+        /** 用户索引空闲过期时间 (秒)，过期后下次查询时重新加载 */
+        Long INDEX_EXPIRE_SECONDS = 60 * 30L;
+
+        /** 用户索引失效广播频道 (Redis pub/sub)，消息格式: 节点ID|用户ID */
+        String EVICT_CHANNEL = "similar:evict";
+    }
+
     /**
      * 角色常量
      */
@@ -0,0 +1,79 @@
+package org.xcyms.common;
+
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * <p>
+ *     游标 (Keyset) 分页结果
+ *     按 (create_time, id) 排序，游标为上一页最后一条记录的 (create_time, id)，对客户端不透明；
+ *     翻页代价与页码无关，适合画廊等无限滚动场景。
+ * </p>
+ * @author liu-xu
+ * @date 2026年02月15日 10:10
+ */
+@Data
+public class CursorPage<T> {
+
+    /** 每页最大条数 */
+    public static final long MAX_SIZE = 100;
+
+    /** 当前页数据 */
+    private List<T> records;
+
+    /** 下一页游标，没有更多数据时为 null */
+    private String nextCursor;
+
+    /** 是否还有更多数据 */
+    private boolean hasMore;
+
+    /** 总条数，仅在请求 withCount=true 时返回 */
+    private Long total;
+
+    /**
+     * 解码后的游标位置
+     *
+     * @param createTime 排序键
+     * @param id         主键 (排序键相同时的二级排序)
+     * @param asc        游标生成时的排序方向
+     */
+    public record Cursor(LocalDateTime createTime, Long id, boolean asc) {
+    }
+
+    public static String encode(LocalDateTime createTime, Long id, boolean asc) {
+        String raw = createTime + "|" + id + "|" + (asc ? "a" : "d");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解码游标
+     *
+     * @return 游标为空时返回 null
+     * @throws IllegalArgumentException 游标格式不正确
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]), "a".equals(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("无效的分页游标");
+        }
+    }
+
+    /**
+     * 规范化每页条数
+     */
+    public static long normalizeSize(Long size) {
+        if (size == null || size <= 0) {
+            return 20;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+}
@@ -4,6 +4,7 @@ import java.lang.annotation.*;
 
 /**
  * 上传限流注解
+ * 按小时/天/月三个窗口同时限制上传次数与上传字节数，管理员不受限制；次数为 0 或字节数为空时该项不限制
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
@@ -23,4 +24,35 @@ public @interface UploadLimit {
      * 每月限制上传数量，默认 2000
      */
     int month() default 2000;
-}
\ No newline at end of file
+
+    /**
+     * 每小时限制上传字节数 (如 2GB)，默认 2GB
+     */
+    String hourBytes() default "2GB";
+
+    /**
+     * 每天限制上传字节数，默认 10GB
+     */
+    String dayBytes() default "10GB";
+
+    /**
+     * 每月限制上传字节数，默认 100GB
+     */
+    String monthBytes() default "100GB";
+
+    /**
+     * 窗口模式，默认固定窗口
+     */
+    Mode mode() default Mode.FIXED_WINDOW;
+
+    enum Mode {
+        /**
+         * 固定窗口：按自然小时/天/月计数，窗口切换时计数清零 (边界前后可能集中出现两倍的上传量)
+         */
+        FIXED_WINDOW,
+        /**
+         * 滑动窗口：当前窗口计数 + 上一窗口计数 × 未滑出的比例，近似最近一个窗口长度内的用量 (月按 30 天计)
+         */
+        SLIDING_WINDOW
+    }
+}
@@ -0,0 +1,275 @@
+package org.xcyms.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * 磁盘 LRU 缓存：按总大小限制，超过上限时按最近访问时间淘汰到低水位。
+ * 索引保存在内存中，启动时按文件修改时间重建 (访问时间定期同步到修改时间)；同一 key 同时只有一个线程加载，其余线程等待其结果。
+ * 读取时返回已打开的输入流：查找与打开期间条目被固定 (pin)，淘汰会跳过，打开之后即使被淘汰删除也能读完；
+ * 文件在打开前被外部删除时视为未命中重新加载。
+ * key 直接作为文件名，由调用方保证只包含文件名安全的字符。
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月19日 15:10
+ */
+@Slf4j
+public class DiskLruCache {
+
+    /** 写入中的临时文件后缀，启动时清理 */
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /** 访问时间同步到文件修改时间的最小间隔，重启后按修改时间恢复访问顺序 */
+    private static final long TOUCH_INTERVAL_MILLIS = 60 * 60 * 1000L;
+
+    /** 淘汰到上限的该比例，避免每次写入都触发淘汰 */
+    private static final double LOW_WATER_MARK = 0.9;
+
+    /**
+     * 加载逻辑：把内容写入给定的临时文件
+     */
+    @FunctionalInterface
+    public interface Loader {
+        void load(File target) throws IOException;
+    }
+
+    /**
+     * 已打开的缓存文件，调用方负责关闭
+     *
+     * @param stream 文件输入流
+     * @param size   文件大小 (bytes)
+     */
+    public record Snapshot(InputStream stream, long size) implements Closeable {
+        @Override
+        public void close() throws IOException {
+            stream.close();
+        }
+    }
+
+    private static final class Entry {
+        private final long size;
+        private volatile long lastAccess;
+        /** 正在打开该文件的线程数，大于 0 时不淘汰 */
+        private final AtomicInteger pins = new AtomicInteger();
+
+        private Entry(long size, long lastAccess) {
+            this.size = size;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private final Path directory;
+    private final long maxBytes;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    /** 正在加载的 key */
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public DiskLruCache(Path directory, long maxBytes) throws IOException {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        Files.createDirectories(directory);
+        rebuildIndex();
+    }
+
+    /**
+     * 打开缓存文件并刷新访问时间
+     *
+     * @return 不存在返回 null
+     */
+    public Snapshot open(String key) throws IOException {
+        // 在 compute 中固定，与淘汰时的移除互斥
+        Entry entry = entries.computeIfPresent(key, (k, e) -> {
+            e.pins.incrementAndGet();
+            return e;
+        });
+        if (entry == null) {
+            return null;
+        }
+        try {
+            Path path = directory.resolve(key);
+            InputStream stream;
+            try {
+                // NIO 打开的文件在 Windows 上也允许删除，淘汰不会因文件被占用而失败
+                stream = Files.newInputStream(path);
+            } catch (NoSuchFileException e) {
+                // 被外部删除
+                if (entries.remove(key, entry)) {
+                    totalBytes.addAndGet(-entry.size);
+                }
+                return null;
+            }
+            long now = System.currentTimeMillis();
+            if (now - entry.lastAccess > TOUCH_INTERVAL_MILLIS) {
+                path.toFile().setLastModified(now);
+            }
+            entry.lastAccess = now;
+            return new Snapshot(stream, entry.size);
+        } finally {
+            entry.pins.decrementAndGet();
+        }
+    }
+
+    /**
+     * 打开缓存文件，不存在时加载 (同一 key 并发请求只加载一次)
+     */
+    public Snapshot open(String key, Loader loader) throws IOException {
+        while (true) {
+            Snapshot snapshot = open(key);
+            if (snapshot != null) {
+                return snapshot;
+            }
+
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            CompletableFuture<Void> loading = inFlight.putIfAbsent(key, future);
+            if (loading != null) {
+                try {
+                    loading.join();
+                } catch (CompletionException e) {
+                    throw e.getCause() instanceof IOException ex ? ex : new IOException(e.getCause());
+                }
+                // 加载完成后重新打开，期间已被淘汰时重新加载
+                continue;
+            }
+
+            try {
+                // 前一次加载可能在本线程查询之后、登记之前刚完成
+                snapshot = open(key);
+                if (snapshot == null) {
+                    snapshot = load(key, loader);
+                }
+                future.complete(null);
+                return snapshot;
+            } catch (IOException | RuntimeException e) {
+                future.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, future);
+            }
+        }
+    }
+
+    /**
+     * 缓存占用的总大小 (bytes)
+     */
+    public long size() {
+        return totalBytes.get();
+    }
+
+    /**
+     * 缓存文件数量
+     */
+    public int count() {
+        return entries.size();
+    }
+
+    private Snapshot load(String key, Loader loader) throws IOException {
+        Path temp = directory.resolve(key + "." + UUID.randomUUID() + TEMP_SUFFIX);
+        Path target = directory.resolve(key);
+        try {
+            loader.load(temp.toFile());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        long size = Files.size(target);
+        // 打开之前固定，超过上限时不会淘汰刚加载的文件
+        Entry entry = new Entry(size, System.currentTimeMillis());
+        entry.pins.incrementAndGet();
+        Entry previous = entries.put(key, entry);
+        totalBytes.addAndGet(size - (previous == null ? 0 : previous.size));
+        try {
+            if (totalBytes.get() > maxBytes) {
+                evict();
+            }
+            return new Snapshot(Files.newInputStream(target), size);
+        } finally {
+            entry.pins.decrementAndGet();
+        }
+    }
+
+    /**
+     * 按最近访问时间从旧到新删除，直到低于低水位；跳过正在打开的条目
+     * 正在被读取的文件删除后仍可读完 (已打开的文件句柄不受影响)
+     */
+    private synchronized void evict() {
+        long lowWater = (long) (maxBytes * LOW_WATER_MARK);
+        if (totalBytes.get() <= lowWater) {
+            return;
+        }
+        List<Map.Entry<String, Entry>> candidates = new ArrayList<>(entries.entrySet());
+        candidates.sort(Comparator.comparingLong(e -> e.getValue().lastAccess));
+
+        int evicted = 0;
+        for (Map.Entry<String, Entry> candidate : candidates) {
+            if (totalBytes.get() <= lowWater) {
+                break;
+            }
+            Entry entry = candidate.getValue();
+            boolean[] removed = {false};
+            entries.computeIfPresent(candidate.getKey(), (k, current) -> {
+                if (current != entry || current.pins.get() > 0) {
+                    return current;
+                }
+                removed[0] = true;
+                return null;
+            });
+            if (removed[0]) {
+                totalBytes.addAndGet(-entry.size);
+                try {
+                    Files.deleteIfExists(directory.resolve(candidate.getKey()));
+                } catch (IOException e) {
+                    log.warn("删除缓存文件失败: {}", candidate.getKey(), e);
+                }
+                evicted++;
+            }
+        }
+        log.info("磁盘缓存淘汰 {} 个文件, 当前 {}MB: {}", evicted, totalBytes.get() / 1024 / 1024, directory);
+    }
+
+    private void rebuildIndex() throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                if (!Files.isRegularFile(path)) {
+                    continue;
+                }
+                String name = path.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(path);
+                    continue;
+                }
+                long size = Files.size(path);
+                entries.put(name, new Entry(size, Files.getLastModifiedTime(path).toMillis()));
+                totalBytes.addAndGet(size);
+            }
+        }
+        log.info("磁盘缓存已加载 {} 个文件, 共 {}MB: {}", entries.size(), totalBytes.get() / 1024 / 1024, directory);
+        if (totalBytes.get() > maxBytes) {
+            evict();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package org.xcyms.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * 二级缓存：进程内近端缓存 (Caffeine) + 远端共享缓存 (Redis)
+ * 读：先查本地，未命中再查 Redis 并回填本地；写/失效：先写 Redis，再更新本地，失效时通过 pub/sub 通知其他节点。
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月13日 09:40
+ */
+public class NearCache implements Cache {
+
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final NearCacheManager cacheManager;
+
+    /** 正在回源加载的 key */
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /** 失效版本号，每次 evict/clear 递增 */
+    private final AtomicLong generation = new AtomicLong();
+
+    NearCache(Cache remote, com.github.benmanes.caffeine.cache.Cache<Object, Object> local, NearCacheManager cacheManager) {
+        this.remote = remote;
+        this.local = local;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            return new SimpleValueWrapper(value);
+        }
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            local.put(key, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("缓存值类型不匹配: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    /**
+     * 单飞加载 (@Cacheable(sync = true) 时调用)：同一节点上同一个 key 同时只有一个线程回源，其余线程等待其结果。
+     * 加载结果为 null 时不缓存。
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            return (T) value;
+        }
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> loading = inFlight.putIfAbsent(key, future);
+        if (loading != null) {
+            try {
+                return (T) loading.join();
+            } catch (CompletionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+        }
+
+        // 加载期间发生了失效，则本次结果只返回不回填，避免旧值覆盖失效
+        long generationAtStart = generation.get();
+        try {
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper != null) {
+                value = wrapper.get();
+            } else {
+                value = valueLoader.call();
+                if (value != null && generation.get() == generationAtStart) {
+                    remote.put(key, value);
+                }
+            }
+            if (value != null && generation.get() == generationAtStart) {
+                local.put(key, value);
+            }
+            future.complete(value);
+            return (T) value;
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        if (value != null) {
+            local.put(key, value);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        generation.incrementAndGet();
+        remote.evict(key);
+        local.invalidate(key);
+        cacheManager.publishEvict(getName(), key);
+    }
+
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        remote.clear();
+        local.invalidateAll();
+        cacheManager.publishEvict(getName(), null);
+    }
+
+    /**
+     * 仅清除本地近端缓存 (收到其他节点的失效广播时调用)
+     *
+     * @param key 为 null 时清空全部
+     */
+    void invalidateLocal(Object key) {
+        generation.incrementAndGet();
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.xcyms.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.xcyms.utils.IdGenerator;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * 二级缓存管理器
+ * 对指定的缓存在 Redis 缓存前增加进程内近端缓存 ({@link NearCache})，其余缓存直接使用 Redis。
+ * 失效操作通过 Redis pub/sub 广播到所有节点，各节点收到后只清除自己的本地缓存。
+ * 消息格式: 节点ID|缓存名|key (key 为空表示清空整个缓存)
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月13日 09:55
+ */
+@Slf4j
+public class NearCacheManager implements CacheManager, MessageListener {
+
+    private static final String SEPARATOR = "|";
+
+    /** 当前节点ID，用于忽略自己发出的广播 */
+    private final String nodeId = IdGenerator.nanoId();
+
+    private final CacheManager remoteCacheManager;
+    private final Set<String> nearCacheNames;
+    private final Duration expire;
+    private final long maxSize;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String channel;
+
+    private final Map<String, NearCache> nearCaches = new ConcurrentHashMap<>();
+
+    public NearCacheManager(CacheManager remoteCacheManager, Set<String> nearCacheNames, Duration expire, long maxSize,
+                            StringRedisTemplate stringRedisTemplate, String channel) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.nearCacheNames = nearCacheNames;
+        this.expire = expire;
+        this.maxSize = maxSize;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.channel = channel;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        if (!nearCacheNames.contains(name)) {
+            return remoteCacheManager.getCache(name);
+        }
+        return nearCaches.computeIfAbsent(name, n -> {
+            Cache remote = remoteCacheManager.getCache(n);
+            return new NearCache(remote, Caffeine.newBuilder()
+                    .expireAfterWrite(expire)
+                    .maximumSize(maxSize)
+                    .build(), this);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 广播失效消息
+     *
+     * @param key 为 null 或非字符串 key 时清空整个缓存
+     */
+    void publishEvict(String cacheName, Object key) {
+        String keyPart = key instanceof String ? (String) key : "";
+        try {
+            stringRedisTemplate.convertAndSend(channel, nodeId + SEPARATOR + cacheName + SEPARATOR + keyPart);
+        } catch (Exception e) {
+            // 广播失败时其他节点依赖近端缓存的过期时间兜底
+            log.warn("缓存失效广播失败: cache={}, key={}", cacheName, keyPart, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + SEPARATOR, 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        NearCache cache = nearCaches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        cache.invalidateLocal(parts[2].isEmpty() ? null : parts[2]);
+        log.debug("收到缓存失效广播: cache={}, key={}", parts[1], parts[2]);
+    }
+}
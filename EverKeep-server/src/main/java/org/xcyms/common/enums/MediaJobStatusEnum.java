@@ -0,0 +1,25 @@
+package org.xcyms.common.enums;
+
+import com.baomidou.mybatisplus.annotation.EnumValue;
+import lombok.Getter;
+
+/**
+ * 媒体处理任务状态枚举
+ */
+@Getter
+public enum MediaJobStatusEnum implements BaseEnum {
+
+    PENDING(0, "待处理"),
+    RUNNING(1, "处理中"),
+    SUCCESS(2, "已完成"),
+    FAILED(3, "失败");
+
+    @EnumValue
+    private final Integer code;
+    private final String desc;
+
+    MediaJobStatusEnum(Integer code, String desc) {
+        this.code = code;
+        this.desc = desc;
+    }
+}
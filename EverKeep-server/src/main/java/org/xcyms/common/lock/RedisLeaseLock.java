@@ -0,0 +1,73 @@
+package org.xcyms.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.xcyms.utils.IdGenerator;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * <p>
+ * 基于 Redis 的租约锁 (多节点部署时保证定时任务只在一个节点上执行)
+ * 获取时写入随机令牌并设置租约时长，持有者在执行过程中定期续约；节点崩溃后租约到期自动释放。
+ * 续约与释放都先比对令牌，不会误操作其他节点在租约过期后重新获取的锁。
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月25日 10:05
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLeaseLock {
+
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+                    "return 0", Long.class);
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('DEL', KEYS[1]) end " +
+                    "return 0", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 尝试获取锁
+     *
+     * @param key   锁的 key
+     * @param lease 租约时长
+     * @return 持有令牌 (续约/释放时使用)，已被其他节点持有返回 null
+     */
+    public String tryAcquire(String key, Duration lease) {
+        String token = IdGenerator.nanoId();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, token, lease);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    /**
+     * 续约
+     *
+     * @return false 表示租约已丢失 (已过期并可能被其他节点获取)，调用方应停止执行
+     */
+    public boolean renew(String key, String token, Duration lease) {
+        Long result = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(key), token, String.valueOf(lease.toMillis()));
+        return result != null && result == 1;
+    }
+
+    /**
+     * 释放锁，失败时等待租约到期
+     */
+    public void release(String key, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        } catch (Exception e) {
+            log.warn("释放锁失败，等待租约到期: key={}", key, e);
+        }
+    }
+}
@@ -3,6 +3,9 @@ package org.xcyms.config;
 import org.modelmapper.ModelMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.xcyms.entity.Image;
+import org.xcyms.entity.dto.ImageDTO;
+import org.xcyms.utils.ImageRenditions;
 
 /**
  * <p>
@@ -17,6 +20,15 @@ public class ModelMapperConfig {
 
     @Bean
     public ModelMapper getModelMapper() {
-        return new ModelMapper();
+        ModelMapper modelMapper = new ModelMapper();
+        // 多尺寸缩略图地址由原图地址和已生成的尺寸推导
+        modelMapper.typeMap(Image.class, ImageDTO.class)
+                .addMappings(mapping -> mapping.skip(ImageDTO::setRenditions))
+                .setPostConverter(context -> {
+                    Image source = context.getSource();
+                    context.getDestination().setRenditions(ImageRenditions.urls(source.getUrl(), source.getRenditionSizes()));
+                    return context.getDestination();
+                });
+        return modelMapper;
     }
 }
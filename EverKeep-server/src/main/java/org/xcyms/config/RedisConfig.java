@@ -11,12 +11,17 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.xcyms.common.Constant;
+import org.xcyms.common.cache.NearCacheManager;
 
 import java.time.Duration;
+import java.util.Set;
 
 /**
  * Redis 配置类
@@ -47,9 +52,10 @@ public class RedisConfig {
 
     /**
      * 自定义 CacheManager，配置缓存过期时间和 JSON 序列化
+     * 配置缓存 (config) 与角色缓存 (role) 在 Redis 前增加进程内近端缓存，避免每次读取配置、鉴权都访问 Redis
      */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory factory) {
+    public NearCacheManager cacheManager(RedisConnectionFactory factory, StringRedisTemplate stringRedisTemplate) {
         GenericJackson2JsonRedisSerializer jsonSerializer = customSerializer();
 
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
@@ -62,9 +68,28 @@ public class RedisConfig {
                 // 不缓存空值
                 .disableCachingNullValues();
 
-        return RedisCacheManager.builder(factory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(factory)
                 .cacheDefaults(config)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new NearCacheManager(redisCacheManager,
+                Set.of(Constant.Cache.CONFIG, Constant.Cache.ROLE),
+                Duration.ofSeconds(Constant.Cache.NEAR_CACHE_EXPIRE),
+                Constant.Cache.NEAR_CACHE_MAX_SIZE,
+                stringRedisTemplate,
+                Constant.Cache.EVICT_CHANNEL);
+    }
+
+    /**
+     * 订阅缓存失效广播，清除本节点的近端缓存
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory factory, NearCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.addMessageListener(cacheManager, new ChannelTopic(Constant.Cache.EVICT_CHANNEL));
+        return container;
     }
 
     /**
@@ -0,0 +1,225 @@
+package org.xcyms.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * <p>
+ * 数据库结构迁移执行器
+ * 启动时按版本号顺序执行 classpath:db/migration/V{版本}__{描述}.sql 中尚未执行的脚本，执行记录保存在 sys_schema_version。
+ * 多节点同时启动时通过 MySQL GET_LOCK 保证只有一个节点在执行迁移。
+ * 脚本应可在新库 (由 init-sql 初始化) 上重复执行：表/索引/列已存在的错误会被跳过。
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月16日 10:20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaMigrationRunner implements InitializingBean {
+
+    private static final String LOCATION = "classpath:db/migration/V*__*.sql";
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+    private static final String LOCK_NAME = "everkeep_schema_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 300;
+
+    /**
+     * 对象已存在类错误：1050 表已存在，1060 列已存在，1061 索引名已存在
+     */
+    private static final Set<Integer> ALREADY_EXISTS_ERRORS = Set.of(1050, 1060, 1061);
+
+    private final DataSource dataSource;
+
+    @Value("${everkeep.migration.enabled:true}")
+    private boolean enabled;
+
+    private record Migration(int version, String description, String script, long checksum) {
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (!enabled) {
+            log.info("数据库迁移已关闭");
+            return;
+        }
+        List<Migration> migrations = loadMigrations();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            acquireLock(connection);
+            try {
+                migrate(connection, migrations);
+            } finally {
+                releaseLock(connection);
+            }
+        }
+    }
+
+    private void migrate(Connection connection, List<Migration> migrations) throws SQLException {
+        createHistoryTable(connection);
+        Map<Integer, Long> applied = loadApplied(connection);
+
+        int count = 0;
+        for (Migration migration : migrations) {
+            Long checksum = applied.get(migration.version());
+            if (checksum != null) {
+                // 与 Flyway 一致：已执行的脚本不允许修改，结构变更只能追加新版本
+                if (checksum != migration.checksum()) {
+                    throw new IllegalStateException("数据库迁移脚本已被修改: V" + migration.version() + "__" + migration.description());
+                }
+                continue;
+            }
+            long start = System.currentTimeMillis();
+            for (String sql : splitStatements(migration.script())) {
+                execute(connection, migration, sql);
+            }
+            long cost = System.currentTimeMillis() - start;
+            recordApplied(connection, migration, cost);
+            log.info("数据库迁移完成: V{}__{}, 耗时 {}ms", migration.version(), migration.description(), cost);
+            count++;
+        }
+        if (count == 0) {
+            log.info("数据库结构已是最新版本");
+        }
+    }
+
+    private void execute(Connection connection, Migration migration, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            if (ALREADY_EXISTS_ERRORS.contains(e.getErrorCode())) {
+                log.info("数据库迁移 V{} 跳过已存在的对象: {}", migration.version(), e.getMessage());
+                return;
+            }
+            log.error("数据库迁移失败: V{}__{}, SQL: {}", migration.version(), migration.description(), sql);
+            throw e;
+        }
+    }
+
+    private List<Migration> loadMigrations() throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(LOCATION);
+        List<Migration> migrations = new ArrayList<>();
+        Map<Integer, String> versions = new HashMap<>();
+        for (Resource resource : resources) {
+            Matcher matcher = FILE_NAME.matcher(resource.getFilename() == null ? "" : resource.getFilename());
+            if (!matcher.matches()) {
+                continue;
+            }
+            int version = Integer.parseInt(matcher.group(1));
+            String previous = versions.put(version, resource.getFilename());
+            if (previous != null) {
+                throw new IllegalStateException("数据库迁移版本号重复: " + previous + ", " + resource.getFilename());
+            }
+            String script = resource.getContentAsString(StandardCharsets.UTF_8);
+            CRC32 crc32 = new CRC32();
+            crc32.update(script.replace("\r\n", "\n").getBytes(StandardCharsets.UTF_8));
+            migrations.add(new Migration(version, matcher.group(2), script, crc32.getValue()));
+        }
+        migrations.sort(Comparator.comparingInt(Migration::version));
+        return migrations;
+    }
+
+    /**
+     * 按行尾的分号拆分语句，忽略 -- 注释行
+     */
+    private List<String> splitStatements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : script.split("\\r?\\n")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                continue;
+            }
+            current.append(line).append('\n');
+            if (trimmed.endsWith(";")) {
+                String sql = current.toString().trim();
+                statements.add(sql.substring(0, sql.length() - 1));
+                current.setLength(0);
+            }
+        }
+        if (!current.toString().isBlank()) {
+            statements.add(current.toString().trim());
+        }
+        return statements;
+    }
+
+    private void createHistoryTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS `sys_schema_version` (" +
+                    "`version` int NOT NULL COMMENT '版本号', " +
+                    "`description` varchar(200) NOT NULL COMMENT '描述', " +
+                    "`checksum` bigint NOT NULL COMMENT '脚本CRC32', " +
+                    "`execution_time` int NOT NULL COMMENT '执行耗时(ms)', " +
+                    "`installed_time` datetime NULL DEFAULT CURRENT_TIMESTAMP COMMENT '执行时间', " +
+                    "PRIMARY KEY (`version`)" +
+                    ") ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COMMENT = '数据库迁移记录'");
+        }
+    }
+
+    private Map<Integer, Long> loadApplied(Connection connection) throws SQLException {
+        Map<Integer, Long> applied = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT version, checksum FROM sys_schema_version")) {
+            while (rs.next()) {
+                applied.put(rs.getInt(1), rs.getLong(2));
+            }
+        }
+        return applied;
+    }
+
+    private void recordApplied(Connection connection, Migration migration, long cost) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO sys_schema_version (version, description, checksum, execution_time) VALUES (?, ?, ?, ?)")) {
+            ps.setInt(1, migration.version());
+            ps.setString(2, migration.description());
+            ps.setLong(3, migration.checksum());
+            ps.setLong(4, cost);
+            ps.executeUpdate();
+        }
+    }
+
+    private void acquireLock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new IllegalStateException("获取数据库迁移锁超时");
+                }
+            }
+        }
+    }
+
+    private void releaseLock(Connection connection) {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.executeQuery().close();
+        } catch (SQLException e) {
+            // 连接关闭时锁会自动释放
+            log.warn("释放数据库迁移锁失败", e);
+        }
+    }
+}
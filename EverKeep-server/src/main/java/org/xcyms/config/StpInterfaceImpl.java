@@ -3,19 +3,20 @@ package org.xcyms.config;
 import cn.dev33.satoken.stp.StpInterface;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.xcyms.mapper.RoleMapper;
+import org.xcyms.service.IRoleService;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 自定义权限验证接口扩展，对接 Sa-Token
+ * 角色读取缓存 (见 {@link IRoleService#getRoleKeys})，@SaCheckRole / StpUtil.hasRole 不查询数据库
  */
 @Component
 @RequiredArgsConstructor
 public class StpInterfaceImpl implements StpInterface {
 
-    private final RoleMapper roleMapper;
+    private final IRoleService roleService;
 
     @Override
     public List<String> getPermissionList(Object loginId, String loginType) {
@@ -24,6 +25,6 @@ public class StpInterfaceImpl implements StpInterface {
 
     @Override
     public List<String> getRoleList(Object loginId, String loginType) {
-        return roleMapper.getRoleKeysByUserId(Long.valueOf(loginId.toString()));
+        return roleService.getRoleKeys(Long.valueOf(loginId.toString()));
     }
 }
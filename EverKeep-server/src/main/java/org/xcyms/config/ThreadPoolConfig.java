@@ -1,17 +1,30 @@
 package org.xcyms.config;
 
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.system.JavaVersion;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <p>
  * 线程池配置类
+ * 每个线程池上报指标 (标签 name 为线程池名称)：
+ * executor.task.queued 队列中等待的任务数 (虚拟线程池没有队列，不上报)，executor.task.active 执行中的任务数，
+ * executor.task.wait 排队耗时，executor.task.execution 执行耗时。
+ * 查看: GET /actuator/metrics/executor.task.wait?tag=name:mediaExecutor
  * </p>
  *
  * @author liu-xu
@@ -19,10 +32,13 @@ import java.util.concurrent.ThreadPoolExecutor;
  */
 
 @Configuration
+@RequiredArgsConstructor
 public class ThreadPoolConfig {
 
     private final int cores = Runtime.getRuntime().availableProcessors();
 
+    private final MeterRegistry meterRegistry;
+
     /**
      * 通用异步任务线程池 (默认池)
      * 适用于一般的后台逻辑、消息发送等
@@ -36,13 +52,12 @@ public class ThreadPoolConfig {
         executor.setQueueCapacity(1000);
         executor.setThreadNamePrefix("common-task-");
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
-        executor.initialize();
-        return executor;
+        return initialize(executor, "commonExecutor");
     }
 
     /**
      * I/O 密集型任务线程池
-     * 适用于文件解析（如 EXIF）、外部 API 调用、大批量数据库操作
+     * 适用于外部 API 调用、大批量数据库操作
      */
     @Bean("ioExecutor")
     public Executor ioExecutor() {
@@ -55,7 +70,89 @@ public class ThreadPoolConfig {
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
+        return initialize(executor, "ioExecutor");
+    }
+
+    /**
+     * 媒体计算线程池 (缩略图缩放、视频解码等 CPU 密集型任务)
+     * 线程数固定为 CPU 核数，避免并发解码争抢 CPU 缓存和堆内存；队列有界，
+     * 队满时直接拒绝而不是在调用方线程执行 (调用方是调度线程)，由调用方延后重试。
+     */
+    @Bean("mediaExecutor")
+    public Executor mediaExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(cores * 2);
+        executor.setThreadNamePrefix("media-task-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return initialize(executor, "mediaExecutor");
+    }
+
+    /**
+     * 存储传输线程池 (缩略图/封面上传、源文件下载等阻塞在网络上的任务)
+     * JDK 21+ 上使用虚拟线程，每个任务一个线程，只限制总并发以保护存储端连接数；
+     * 更低版本的 JDK 回退为有界的平台线程池。
+     */
+    @Bean("storageExecutor")
+    public Executor storageExecutor() {
+        int concurrency = Math.max(64, cores * 8);
+        if (JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("storage-vt-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(concurrency);
+            executor.setTaskTerminationTimeout(60 * 1000L);
+            executor.setTaskDecorator(metricsDecorator("storageExecutor"));
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores * 2);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("storage-task-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return initialize(executor, "storageExecutor");
+    }
+
+    /**
+     * 记录任务排队/执行耗时及执行中任务数
+     */
+    private TaskDecorator metricsDecorator(String name) {
+        AtomicInteger active = new AtomicInteger();
+        Gauge.builder("executor.task.active", active, AtomicInteger::get).tag("name", name).register(meterRegistry);
+        Timer waitTimer = Timer.builder("executor.task.wait").tag("name", name)
+                .publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+        Timer executionTimer = Timer.builder("executor.task.execution").tag("name", name)
+                .publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+
+        return runnable -> {
+            long submitTime = System.nanoTime();
+            return () -> {
+                long startTime = System.nanoTime();
+                waitTimer.record(startTime - submitTime, TimeUnit.NANOSECONDS);
+                active.incrementAndGet();
+                try {
+                    runnable.run();
+                } finally {
+                    active.decrementAndGet();
+                    executionTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+
+    /**
+     * 初始化线程池并上报队列深度
+     */
+    private ThreadPoolTaskExecutor initialize(ThreadPoolTaskExecutor executor, String name) {
+        executor.setTaskDecorator(metricsDecorator(name));
         executor.initialize();
+        Gauge.builder("executor.task.queued", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .tag("name", name).register(meterRegistry);
         return executor;
     }
 }
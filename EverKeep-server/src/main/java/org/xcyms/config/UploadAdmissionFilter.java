@@ -0,0 +1,167 @@
+package org.xcyms.config;
+
+import cn.dev33.satoken.stp.StpUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import org.xcyms.common.ApiResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * <p>
+ * 上传预准入过滤器
+ * 在 DispatcherServlet 解析 multipart 请求体之前，按登录用户 (令牌无效或未登录按客户端 IP) 使用本节点内存中的令牌桶限流，
+ * 明显超出频率的请求直接返回 429，不读取请求体；通过后再由 {@link UploadLimitAspect} 做跨节点的精确限流。
+ * 令牌桶只在首次被拒绝时查询一次是否为管理员，结果随令牌桶缓存。
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月26日 14:20
+ */
+@Slf4j
+@Component
+// 位于 RequestContextFilter (-105) 之后，Sa-Token 可以读取当前请求
+@Order(-100)
+@RequiredArgsConstructor
+public class UploadAdmissionFilter extends OncePerRequestFilter {
+
+    private final ObjectMapper objectMapper;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @Value("${everkeep.upload.admission.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 令牌桶容量 (允许的突发请求数)
+     */
+    @Value("${everkeep.upload.admission.capacity:200}")
+    private int capacity;
+
+    /**
+     * 每秒补充的令牌数 (允许的持续请求速率)
+     */
+    @Value("${everkeep.upload.admission.refill-per-second:10}")
+    private double refillPerSecond;
+
+    /**
+     * 内存中最多保留的令牌桶数，超过后淘汰最久未访问的
+     */
+    @Value("${everkeep.upload.admission.max-buckets:100000}")
+    private long maxBuckets;
+
+    /**
+     * 限流的上传接口 (不含 context-path)
+     */
+    @Value("${everkeep.upload.admission.paths:/file/upload,/file/chunk/upload,/file/chunk/init,/file/direct/init}")
+    private List<String> paths;
+
+    private Cache<String, TokenBucket> buckets;
+
+    @PostConstruct
+    public void init() {
+        // 空闲到补满所需的时间之后，新建的令牌桶与原来的等价，可以淘汰
+        long idleSeconds = Math.max(60, (long) Math.ceil(capacity / refillPerSecond));
+        buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofSeconds(idleSeconds))
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"POST".equals(request.getMethod())
+                || !paths.contains(urlPathHelper.getPathWithinApplication(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = bucketKey(request);
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity, refillPerSecond));
+        if (bucket.tryAcquire() || bucket.isExempt()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        log.warn("上传请求过于频繁，预准入拒绝: key={}, path={}", key, request.getRequestURI());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (long) Math.ceil(1 / refillPerSecond))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResult.error(HttpStatus.TOO_MANY_REQUESTS.value(), "上传过于频繁，请稍后再试"));
+    }
+
+    /**
+     * 按令牌解析出的登录用户区分，未携带令牌或令牌无效时按客户端 IP
+     * (不能直接使用令牌原文：客户端每次请求换一个伪造的令牌即可获得一个新的满额令牌桶)
+     */
+    private String bucketKey(HttpServletRequest request) {
+        String token = StpUtil.getTokenValue();
+        Object loginId = StringUtils.isNotBlank(token) ? StpUtil.getLoginIdByToken(token) : null;
+        return loginId != null ? "u:" + loginId : "ip:" + request.getRemoteAddr();
+    }
+
+    /**
+     * 令牌桶：按距上次补充的时间惰性补充令牌
+     */
+    private static final class TokenBucket {
+
+        private final int capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefill;
+
+        /**
+         * 是否为管理员 (不限流)，首次被拒绝时查询
+         */
+        private volatile Boolean exempt;
+
+        private TokenBucket(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerSecond / 1_000_000_000d;
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        private synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean isExempt() {
+            Boolean value = exempt;
+            if (value == null) {
+                value = StpUtil.isLogin() && StpUtil.hasRole("ADMIN");
+                exempt = value;
+            }
+            return value;
+        }
+    }
+}
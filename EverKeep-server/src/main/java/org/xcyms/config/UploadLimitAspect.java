@@ -3,21 +3,29 @@ package org.xcyms.config;
 import cn.dev33.satoken.stp.StpUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
 import org.xcyms.common.annotation.UploadLimit;
+import org.xcyms.entity.dto.ChunkUploadDTO;
+import org.xcyms.entity.dto.DirectUploadDTO;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * <p>
  * 上传限流aop
+ * 小时/天/月三个窗口的次数与字节数在一个 Lua 脚本中检查并累加 (一次 Redis 往返，全部通过才累加，无需回退)；
+ * 同一用户的 key 使用相同的 hash tag，集群模式下落在同一个槽位。
  * </p>
  *
  * @author liu-xu
@@ -29,41 +37,134 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class UploadLimitAspect {
 
+    private static final String KEY_PREFIX = "upload_limit:";
+
+    /**
+     * KEYS: 每个窗口两个 key (当前窗口, 上一窗口)，Hash 字段 count/bytes
+     * ARGV: 窗口数, 本次次数, 本次字节数, 然后每个窗口 (次数上限, 字节上限, 上一窗口权重, 过期秒数)
+     * 返回 {超限窗口序号, 1-次数/2-字节}，全部通过返回 {0, 0}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> LIMIT_SCRIPT = new DefaultRedisScript<>(
+            "local n = tonumber(ARGV[1]) " +
+                    "local count = tonumber(ARGV[2]) " +
+                    "local bytes = tonumber(ARGV[3]) " +
+                    "for i = 1, n do " +
+                    "local base = 3 + (i - 1) * 4 " +
+                    "local weight = tonumber(ARGV[base + 3]) " +
+                    "local current = redis.call('HMGET', KEYS[2 * i - 1], 'count', 'bytes') " +
+                    "local usedCount = tonumber(current[1]) or 0 " +
+                    "local usedBytes = tonumber(current[2]) or 0 " +
+                    "if weight > 0 then " +
+                    "local previous = redis.call('HMGET', KEYS[2 * i], 'count', 'bytes') " +
+                    "usedCount = usedCount + math.floor((tonumber(previous[1]) or 0) * weight) " +
+                    "usedBytes = usedBytes + math.floor((tonumber(previous[2]) or 0) * weight) " +
+                    "end " +
+                    "local limitCount = tonumber(ARGV[base + 1]) " +
+                    "local limitBytes = tonumber(ARGV[base + 2]) " +
+                    "if limitCount > 0 and usedCount + count > limitCount then return {i, 1} end " +
+                    "if limitBytes > 0 and usedBytes + bytes > limitBytes then return {i, 2} end " +
+                    "end " +
+                    "for i = 1, n do " +
+                    "local base = 3 + (i - 1) * 4 " +
+                    "redis.call('HINCRBY', KEYS[2 * i - 1], 'count', count) " +
+                    "redis.call('HINCRBY', KEYS[2 * i - 1], 'bytes', bytes) " +
+                    "redis.call('EXPIRE', KEYS[2 * i - 1], ARGV[base + 4]) " +
+                    "end " +
+                    "return {0, 0}", List.class);
+
     private final StringRedisTemplate redisTemplate;
 
+    /**
+     * 限流窗口
+     *
+     * @param name     窗口名称 (用于 key)
+     * @param unitName 窗口单位 (用于提示)
+     * @param seconds  窗口长度 (秒)，固定窗口用于过期时间，滑动窗口同时用于划分窗口
+     * @param pattern  固定窗口的时间格式 (按自然小时/天/月划分)
+     */
+    private record Window(String name, String unitName, long seconds, DateTimeFormatter pattern) {
+    }
+
+    private static final List<Window> WINDOWS = List.of(
+            new Window("hour", "小时", 3600, DateTimeFormatter.ofPattern("yyyyMMddHH")),
+            new Window("day", "天", 86400, DateTimeFormatter.ofPattern("yyyyMMdd")),
+            new Window("month", "月", 2592000, DateTimeFormatter.ofPattern("yyyyMM")));
+
     @Before("@annotation(uploadLimit)")
     public void doBefore(JoinPoint joinPoint, UploadLimit uploadLimit) {
-        // 1. 获取当前用户ID
+        // 1. 获取当前用户，忽略管理员 (角色来自 StpInterfaceImpl)
         long userId = StpUtil.getLoginIdAsLong();
-        // 忽略管理员
-        if (userId == 1L) {
+        if (StpUtil.hasRole("ADMIN")) {
             return;
         }
 
-        // 2. 检查小时限制
-        String hourKey = "upload_limit:" + userId + ":hour:" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHH"));
-        checkLimit(hourKey, uploadLimit.hour(), 3600, "小时");
+        // 2. 组装各窗口的 key 与参数
+        int[] countLimits = {uploadLimit.hour(), uploadLimit.day(), uploadLimit.month()};
+        String[] byteLimits = {uploadLimit.hourBytes(), uploadLimit.dayBytes(), uploadLimit.monthBytes()};
+        boolean sliding = uploadLimit.mode() == UploadLimit.Mode.SLIDING_WINDOW;
+        long bytes = uploadBytes(joinPoint.getArgs());
+        LocalDateTime now = LocalDateTime.now();
+        long nowMillis = System.currentTimeMillis();
 
-        // 3. 检查天限制
-        String dayKey = "upload_limit:" + userId + ":day:" + LocalDate.now();
-        checkLimit(dayKey, uploadLimit.day(), 86400, "天");
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>(List.of(String.valueOf(WINDOWS.size()), "1", String.valueOf(bytes)));
+        for (int i = 0; i < WINDOWS.size(); i++) {
+            Window window = WINDOWS.get(i);
+            String prefix = KEY_PREFIX + "{" + userId + "}:" + window.name() + ":";
+            double weight = 0;
+            if (sliding) {
+                long windowMillis = window.seconds() * 1000;
+                long index = nowMillis / windowMillis;
+                weight = 1 - (double) (nowMillis % windowMillis) / windowMillis;
+                keys.add(prefix + "s" + index);
+                keys.add(prefix + "s" + (index - 1));
+            } else {
+                String key = prefix + now.format(window.pattern());
+                keys.add(key);
+                keys.add(key);
+            }
+            args.add(String.valueOf(countLimits[i]));
+            args.add(String.valueOf(parseBytes(byteLimits[i])));
+            args.add(String.valueOf(weight));
+            // 滑动窗口的计数在下一窗口中仍需读取
+            args.add(String.valueOf(sliding ? window.seconds() * 2 : window.seconds()));
+        }
 
-        // 4. 检查月限制
-        String monthKey = "upload_limit:" + userId + ":month:" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
-        checkLimit(monthKey, uploadLimit.month(), 2592000, "月");
+        // 3. 一次检查并累加全部窗口
+        List<?> result = redisTemplate.execute(LIMIT_SCRIPT, keys, args.toArray());
+        int exceeded = result == null || result.isEmpty() ? 0 : ((Number) result.get(0)).intValue();
+        if (exceeded == 0) {
+            return;
+        }
+        Window window = WINDOWS.get(exceeded - 1);
+        if (((Number) result.get(1)).intValue() == 1) {
+            log.warn("用户上传触发{}限流: userId={}, limit={}", window.unitName(), userId, countLimits[exceeded - 1]);
+            throw new RuntimeException("已达到每" + window.unitName() + "上传上限(" + countLimits[exceeded - 1] + "次)，请稍后再试");
+        }
+        log.warn("用户上传触发{}流量限制: userId={}, bytes={}, limit={}", window.unitName(), userId, bytes, byteLimits[exceeded - 1]);
+        throw new RuntimeException("已达到每" + window.unitName() + "上传流量上限(" + byteLimits[exceeded - 1] + ")，请稍后再试");
     }
 
-    private void checkLimit(String key, int limit, long expireSeconds, String unitName) {
-        long current = redisTemplate.opsForValue().increment(key);
-
-        if (current == 1) {
-            redisTemplate.expire(key, expireSeconds, TimeUnit.SECONDS);
+    /**
+     * 本次上传的字节数：普通上传取文件大小，分片/直传初始化取声明的文件大小
+     */
+    private long uploadBytes(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof MultipartFile file) {
+                return file.getSize();
+            }
+            if (arg instanceof ChunkUploadDTO dto && dto.getFileSize() != null) {
+                return dto.getFileSize();
+            }
+            if (arg instanceof DirectUploadDTO dto && dto.getFileSize() != null) {
+                return dto.getFileSize();
+            }
         }
+        return 0;
+    }
 
-        if (current > limit) {
-            redisTemplate.opsForValue().decrement(key); // 回退计数器
-            log.warn("用户上传触发{}限流: key={}, limit={}", unitName, key, limit);
-            throw new RuntimeException("已达到每" + unitName + "上传上限(" + limit + "次)，请稍后再试");
-        }
+    private long parseBytes(String limit) {
+        return StringUtils.isBlank(limit) ? 0 : DataSize.parse(limit).toBytes();
     }
-}
\ No newline at end of file
+}
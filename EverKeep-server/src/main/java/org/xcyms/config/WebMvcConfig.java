@@ -46,6 +46,8 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .excludePathPatterns(
                         "/user/login",
                         "/user/register",
+                        // 本地存储文件与 nginx 直出时一致，不校验登录 (<img>/<video> 无法携带 token)
+                        "/uploads/**",
                         "/druid/**"
                 );
     }
@@ -1,5 +1,6 @@
 package org.xcyms.controller;
 
+import cn.dev33.satoken.annotation.SaCheckRole;
 import cn.dev33.satoken.stp.StpUtil;
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.core.metadata.OrderItem;
@@ -84,4 +85,11 @@ public class AlbumController {
     public ApiResult<String> delete(Long id) {
         return albumService.removeById(id) ? ApiResult.success("删除成功") : ApiResult.error("删除失败");
     }
+
+    @ApiDoc("重建相册统计(管理员)")
+    @SaCheckRole("ADMIN")
+    @PostMapping("/admin/rebuildStats")
+    public ApiResult<Integer> rebuildStats(@RequestParam(required = false) Long albumId) {
+        return ApiResult.success(albumService.rebuildStats(albumId));
+    }
 }
\ No newline at end of file
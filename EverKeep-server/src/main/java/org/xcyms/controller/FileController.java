@@ -6,6 +6,10 @@ import org.springframework.web.multipart.MultipartFile;
 import org.xcyms.common.ApiResult;
 import org.xcyms.common.annotation.ApiDoc;
 import org.xcyms.common.annotation.UploadLimit;
+import org.xcyms.entity.dto.ChunkUploadDTO;
+import org.xcyms.entity.dto.DirectUploadDTO;
+import org.xcyms.service.IChunkUploadService;
+import org.xcyms.service.IDirectUploadService;
 import org.xcyms.service.IImageService;
 import org.xcyms.service.IVideoService;
 
@@ -24,6 +28,8 @@ public class FileController {
 
     private final IImageService imageService;
     private final IVideoService videoService;
+    private final IChunkUploadService chunkUploadService;
+    private final IDirectUploadService directUploadService;
 
     @ApiDoc("通用文件上传接口")
     @PostMapping("/upload")
@@ -37,4 +43,46 @@ public class FileController {
         }
         return imageService.uploadImage(file, albumId, category);
     }
-}
\ No newline at end of file
+
+    @ApiDoc("分片上传-初始化")
+    @PostMapping("/chunk/init")
+    @UploadLimit()
+    public ApiResult<ChunkUploadDTO> initChunk(@RequestBody ChunkUploadDTO chunkUploadDTO) {
+        return chunkUploadService.init(chunkUploadDTO);
+    }
+
+    @ApiDoc("分片上传-上传分片")
+    @PostMapping("/chunk/upload")
+    public ApiResult<ChunkUploadDTO> uploadChunk(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam("uploadId") String uploadId,
+            @RequestParam("index") Integer index,
+            @RequestParam(value = "checksum", required = false) String checksum) {
+        return chunkUploadService.uploadChunk(uploadId, index, checksum, file);
+    }
+
+    @ApiDoc("分片上传-查询进度")
+    @GetMapping("/chunk/status")
+    public ApiResult<ChunkUploadDTO> chunkStatus(@RequestParam("uploadId") String uploadId) {
+        return chunkUploadService.status(uploadId);
+    }
+
+    @ApiDoc("分片上传-合并")
+    @PostMapping("/chunk/complete")
+    public ApiResult<?> completeChunk(@RequestParam("uploadId") String uploadId) {
+        return chunkUploadService.complete(uploadId);
+    }
+
+    @ApiDoc("直传-获取预签名上传地址 (仅 S3/COS，客户端以 PUT 方式将文件直接上传到该地址)")
+    @PostMapping("/direct/init")
+    @UploadLimit()
+    public ApiResult<DirectUploadDTO> initDirect(@RequestBody DirectUploadDTO directUploadDTO) {
+        return directUploadService.init(directUploadDTO);
+    }
+
+    @ApiDoc("直传-上传完成回调")
+    @PostMapping("/direct/complete")
+    public ApiResult<?> completeDirect(@RequestParam("uploadId") String uploadId) {
+        return directUploadService.complete(uploadId);
+    }
+}
@@ -7,15 +7,25 @@ import com.baomidou.mybatisplus.core.metadata.OrderItem;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.xcyms.common.ApiResult;
+import org.xcyms.common.CursorPage;
 import org.xcyms.common.annotation.ApiDoc;
 import org.xcyms.common.enums.YesNoEnum;
 import org.xcyms.entity.Image;
 import org.xcyms.entity.dto.ImageDTO;
+import org.xcyms.service.IImageRenderService;
 import org.xcyms.service.IImageService;
+import org.xcyms.service.ISimilarImageService;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>
@@ -32,6 +42,8 @@ import java.util.List;
 public class ImageController {
 
     private final IImageService imageService;
+    private final IImageRenderService imageRenderService;
+    private final ISimilarImageService similarImageService;
 
     /**
      * 获取图片列表
@@ -84,6 +96,48 @@ public class ImageController {
         return imageService.getPage(page, imageDTO);
     }
 
+    @ApiDoc("游标分页获取我的图片 (无限滚动)")
+    @PostMapping("/cursor")
+    public ApiResult<CursorPage<ImageDTO>> cursor(@RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Long size,
+                                                  @RequestParam(required = false, defaultValue = "false") boolean asc,
+                                                  @RequestParam(required = false, defaultValue = "false") boolean withCount,
+                                                  @RequestBody ImageDTO imageDTO) {
+        // 只能查看自己的图片
+        imageDTO.setUserId(StpUtil.getLoginIdAsLong());
+        return imageService.getCursorPage(imageDTO, cursor, size, asc, withCount);
+    }
+
+    @ApiDoc("游标分页获取公开图片 (画廊无限滚动)")
+    @PostMapping("/public/cursor")
+    public ApiResult<CursorPage<ImageDTO>> publicCursor(@RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Long size,
+                                                        @RequestParam(required = false, defaultValue = "false") boolean asc,
+                                                        @RequestParam(required = false, defaultValue = "false") boolean withCount,
+                                                        @RequestBody ImageDTO imageDTO) {
+        // 强制查询公开状态的图片
+        imageDTO.setStatus(YesNoEnum.YES);
+        imageDTO.setUserId(null);
+        return imageService.getCursorPage(imageDTO, cursor, size, asc, withCount);
+    }
+
+    @ApiDoc("按需缩放图片 (w/h 至少指定一个; fit: contain-等比缩放到区域内(默认), cover-等比缩放并居中裁剪, fill-拉伸; q: JPEG质量1-100)")
+    @GetMapping("/{id}/render")
+    public ResponseEntity<Resource> render(@PathVariable Long id,
+                                           @RequestParam(required = false) Integer w,
+                                           @RequestParam(required = false) Integer h,
+                                           @RequestParam(required = false) String fit,
+                                           @RequestParam(required = false) Integer q) {
+        IImageRenderService.RenderedImage rendered = imageRenderService.render(id, w, h, fit, q);
+        return ResponseEntity.ok()
+                .contentType(MediaTypeFactory.getMediaType("image." + rendered.format()).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .contentLength(rendered.size())
+                // 同一 ID 的图片内容不会变化，缩放结果可长期缓存；非公开图片不允许共享缓存
+                .cacheControl(CacheControl.maxAge(30, TimeUnit.DAYS).cachePrivate())
+                // 写出后由消息转换器关闭输入流
+                .body(new InputStreamResource(rendered.stream()));
+    }
+
     @ApiDoc("批量删除图片")
     @DeleteMapping("/delete")
     public ApiResult<String> delete(@RequestBody List<Long> idList) {
@@ -132,6 +186,12 @@ public class ImageController {
         return imageService.batchMove(imageDTO);
     }
 
+    @ApiDoc("获取我的相似图片分组 (distance: 汉明距离阈值 0-12，默认 6，越小越相似)")
+    @GetMapping("/similar")
+    public ApiResult<List<List<ImageDTO>>> similar(@RequestParam(required = false) Integer distance) {
+        return ApiResult.success(similarImageService.clusters(StpUtil.getLoginIdAsLong(), distance));
+    }
+
     @ApiDoc("获取所有图片分页列表(管理员)")
     @SaCheckRole("ADMIN")
     @PostMapping("/admin/page")
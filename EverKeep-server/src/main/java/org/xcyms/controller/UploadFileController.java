@@ -0,0 +1,209 @@
+package org.xcyms.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UrlPathHelper;
+import org.xcyms.common.Constant;
+import org.xcyms.common.annotation.ApiDoc;
+import org.xcyms.service.storage.IStorageService;
+import org.xcyms.service.storage.StorageFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * 本地存储文件访问控制器 (未部署 nginx 时直接由应用提供 /uploads/ 下的文件)
+ * 支持单段 Range 请求 (视频拖动进度条只读取所需区间)，强 ETag + Last-Modified 条件请求返回 304；
+ * 文件内容通过 Tomcat sendfile 由内核直接发送，不支持时使用 FileChannel.transferTo 写出，不经过堆内缓冲。
+ * <p/>
+ * @author liu-xu
+ * @date 2026年02月20日 10:05
+ */
+@Slf4j
+@ApiDoc("本地文件访问")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/uploads")
+public class UploadFileController {
+
+    /**
+     * 上传生成的文件名 (雪花ID，缩略图带 _w{尺寸} 后缀)：同一路径只写入一次，内容不会变化
+     */
+    private static final Pattern IMMUTABLE_NAME = Pattern.compile("^\\d{15,20}(_w\\d+)?\\.[A-Za-z0-9]+$");
+
+    /**
+     * 单次 transferTo 的最大字节数
+     */
+    private static final long TRANSFER_CHUNK = 8 * 1024 * 1024L;
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final StorageFactory storageFactory;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @ApiDoc("获取本地存储的文件 (支持 Range / If-None-Match / If-Modified-Since)")
+    @RequestMapping(value = "/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        File file = resolveFile(request);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        long length = file.length();
+        long lastModified = file.lastModified();
+        String etag = etag(file, length, lastModified);
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(file).getHeaderValue());
+        // 同时处理 If-None-Match/If-Modified-Since (304) 与 If-Match/If-Unmodified-Since (412)，并写出 ETag/Last-Modified
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+        response.setContentType(MediaTypeFactory.getMediaType(file.getName())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range;
+        try {
+            range = requestedRange(request, etag, lastModified);
+        } catch (IllegalArgumentException e) {
+            // Range / If-Range 格式错误时忽略，按完整文件返回
+            range = null;
+        }
+        if (range != null) {
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = length == 0 ? 0 : end - start + 1;
+        response.setContentLengthLong(count);
+        if (count == 0 || RequestMethod.HEAD.name().equals(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 由 Tomcat 在请求处理结束后通过 sendfile 发送
+            request.setAttribute(SENDFILE_FILENAME, file.getCanonicalPath());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        transfer(file, start, count, response);
+    }
+
+    /**
+     * 请求路径映射到上传根目录下的文件，不存在、不在根目录内或为分片临时文件时返回 null
+     */
+    private File resolveFile(HttpServletRequest request) throws IOException {
+        String path = urlPathHelper.getPathWithinApplication(request);
+        if (!path.startsWith(Constant.UPLOAD_ROOT_PATH) || path.endsWith(".part")) {
+            return null;
+        }
+        IStorageService storage = storageFactory.getServiceByUrl(path);
+        File file = storage.getLocalFile(path);
+        File root = storage.getLocalFile(Constant.UPLOAD_ROOT_PATH);
+        if (file == null || root == null || !file.isFile()) {
+            return null;
+        }
+        // 防止 ../ 访问根目录以外的文件
+        if (!file.getCanonicalPath().startsWith(root.getCanonicalPath() + File.separator)) {
+            log.warn("拒绝访问上传目录以外的文件: {}", path);
+            return null;
+        }
+        return file;
+    }
+
+    /**
+     * 强 ETag：路径 + 大小 + 修改时间，文件被替换后随之变化
+     */
+    private String etag(File file, long length, long lastModified) {
+        return "\"" + Integer.toHexString(file.getPath().hashCode()) + "-" + Long.toHexString(length)
+                + "-" + Long.toHexString(lastModified) + "\"";
+    }
+
+    /**
+     * 上传生成的文件不可变，允许浏览器和 CDN 长期缓存且不再校验；其余文件每次按 ETag 校验
+     */
+    private CacheControl cacheControl(File file) {
+        if (IMMUTABLE_NAME.matcher(file.getName()).matches()) {
+            return CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+        }
+        return CacheControl.noCache();
+    }
+
+    /**
+     * 解析 Range 请求头：只支持单段区间，多段时按完整文件返回 (格式错误抛出 IllegalArgumentException)；
+     * If-Range 与当前 ETag/修改时间不一致时说明客户端缓存的片段已过期，同样返回完整文件
+     */
+    private HttpRange requestedRange(HttpServletRequest request, String etag, long lastModified) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (StringUtils.isBlank(header)) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (StringUtils.isNotBlank(ifRange)) {
+            if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+                if (!ifRange.equals(etag)) {
+                    return null;
+                }
+            } else {
+                long since = request.getDateHeader(HttpHeaders.IF_RANGE);
+                if (since == -1 || lastModified / 1000 > since / 1000) {
+                    return null;
+                }
+            }
+        }
+        List<HttpRange> ranges = HttpRange.parseRanges(header);
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+
+    /**
+     * 不支持 sendfile 时使用 transferTo 写出区间，由通道直接读取文件
+     */
+    private void transfer(File file, long start, long count, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, Math.min(remaining, TRANSFER_CHUNK), target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+}
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.web.bind.annotation.*;
 import org.xcyms.common.ApiResult;
+import org.xcyms.common.CursorPage;
 import org.xcyms.common.annotation.ApiDoc;
 import org.xcyms.common.enums.YesNoEnum;
 import org.xcyms.entity.Video;
@@ -64,6 +65,29 @@ public class VideoController {
         return videoService.getPage(page, videoDTO);
     }
 
+    @ApiDoc("游标分页获取我的视频 (无限滚动)")
+    @PostMapping("/cursor")
+    public ApiResult<CursorPage<VideoDTO>> cursor(@RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Long size,
+                                                  @RequestParam(required = false, defaultValue = "false") boolean asc,
+                                                  @RequestParam(required = false, defaultValue = "false") boolean withCount,
+                                                  @RequestBody VideoDTO videoDTO) {
+        videoDTO.setUserId(StpUtil.getLoginIdAsLong());
+        return videoService.getCursorPage(videoDTO, cursor, size, asc, withCount);
+    }
+
+    @ApiDoc("游标分页获取公开视频 (无限滚动)")
+    @PostMapping("/public/cursor")
+    public ApiResult<CursorPage<VideoDTO>> publicCursor(@RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Long size,
+                                                        @RequestParam(required = false, defaultValue = "false") boolean asc,
+                                                        @RequestParam(required = false, defaultValue = "false") boolean withCount,
+                                                        @RequestBody VideoDTO videoDTO) {
+        videoDTO.setStatus(YesNoEnum.YES);
+        videoDTO.setUserId(null);
+        return videoService.getCursorPage(videoDTO, cursor, size, asc, withCount);
+    }
+
     @ApiDoc("批量删除视频")
     @DeleteMapping("/delete")
     public ApiResult<String> delete(@RequestBody List<Long> idList) {
@@ -44,6 +44,19 @@ public class Album implements Serializable {
     @TableField("cover")
     private String cover;
 
+    // 以下统计字段由图片/视频服务增量维护，不接受通过实体写入
+    @ApiDocProperty("图片数量 (不含回收站)")
+    @TableField(value = "image_count", insertStrategy = FieldStrategy.NEVER, updateStrategy = FieldStrategy.NEVER)
+    private Long imageCount;
+
+    @ApiDocProperty("视频数量 (不含回收站)")
+    @TableField(value = "video_count", insertStrategy = FieldStrategy.NEVER, updateStrategy = FieldStrategy.NEVER)
+    private Long videoCount;
+
+    @ApiDocProperty("占用空间 (bytes，不含回收站)")
+    @TableField(value = "total_size", insertStrategy = FieldStrategy.NEVER, updateStrategy = FieldStrategy.NEVER)
+    private Long totalSize;
+
     @ApiDocProperty("创建时间")
     @TableField(value = "create_time", fill = FieldFill.INSERT)
     private LocalDateTime createTime;
@@ -0,0 +1,67 @@
+package org.xcyms.entity;
+
+import com.baomidou.mybatisplus.annotation.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.xcyms.common.annotation.ApiDocProperty;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * <p>
+ * 存储对象 (内容去重)
+ * 同一用户上传的相同内容 (SHA-256) 只保存一份，图片/视频记录通过 blob_id 引用；
+ * 引用数包含回收站中的记录，永久删除最后一个引用时才删除物理文件
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-21
+ */
+@Getter
+@Setter
+@TableName("biz_blob")
+public class Blob implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @ApiDocProperty("存储对象ID")
+    @TableId(value = "id", type = IdType.AUTO)
+    private Long id;
+
+    @ApiDocProperty("上传者ID")
+    @TableField("user_id")
+    private Long userId;
+
+    @ApiDocProperty("内容SHA-256")
+    @TableField("sha256")
+    private String sha256;
+
+    @ApiDocProperty("文件大小(Byte)")
+    @TableField("size")
+    private Long size;
+
+    @ApiDocProperty("存储类型 (LOCAL/S3/TENCENT)")
+    @TableField("storage_type")
+    private String storageType;
+
+    @ApiDocProperty("存储相对路径")
+    @TableField("relative_path")
+    private String relativePath;
+
+    @ApiDocProperty("访问地址")
+    @TableField("url")
+    private String url;
+
+    @ApiDocProperty("引用数")
+    @TableField("ref_count")
+    private Integer refCount;
+
+    @ApiDocProperty("创建时间")
+    @TableField(value = "create_time", fill = FieldFill.INSERT)
+    private LocalDateTime createTime;
+
+    @ApiDocProperty("更新时间")
+    @TableField(value = "update_time", fill = FieldFill.UPDATE)
+    private LocalDateTime updateTime;
+}
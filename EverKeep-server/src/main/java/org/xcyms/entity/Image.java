@@ -112,4 +112,16 @@ public class Image implements Serializable {
     @ApiDocProperty("拍摄时间")
     @TableField("take_time")
     private LocalDateTime takeTime;
+
+    @ApiDocProperty("已生成的多尺寸缩略图(长边像素，逗号分隔)")
+    @TableField("rendition_sizes")
+    private String renditionSizes;
+
+    @ApiDocProperty("存储对象ID (内容去重)")
+    @TableField("blob_id")
+    private Long blobId;
+
+    @ApiDocProperty("感知哈希 (64 位 dHash，用于查找相似图片)")
+    @TableField("phash")
+    private Long phash;
 }
\ No newline at end of file
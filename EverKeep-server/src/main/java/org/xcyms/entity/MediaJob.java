@@ -0,0 +1,95 @@
+package org.xcyms.entity;
+
+import com.baomidou.mybatisplus.annotation.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.xcyms.common.annotation.ApiDocProperty;
+import org.xcyms.common.enums.MediaJobStatusEnum;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * <p>
+ * 媒体处理任务 (图片缩略图/EXIF、视频封面)
+ * 每个媒体最多一条任务 (job_type + biz_id 唯一)，重复提交会重置为待处理
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-17
+ */
+@Getter
+@Setter
+@TableName("biz_media_job")
+public class MediaJob implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @ApiDocProperty("任务ID")
+    @TableId(value = "id", type = IdType.AUTO)
+    private Long id;
+
+    @ApiDocProperty("任务类型 (IMAGE/VIDEO)")
+    @TableField("job_type")
+    private String jobType;
+
+    @ApiDocProperty("图片/视频ID")
+    @TableField("biz_id")
+    private Long bizId;
+
+    @ApiDocProperty("源文件所在的存储类型")
+    @TableField("storage_type")
+    private String storageType;
+
+    @ApiDocProperty("源文件相对路径")
+    @TableField("relative_path")
+    private String relativePath;
+
+    @ApiDocProperty("源文件访问地址")
+    @TableField("media_url")
+    private String mediaUrl;
+
+    @ApiDocProperty("上传节点上的本地副本 (不存在时从存储下载)")
+    @TableField("local_path")
+    private String localPath;
+
+    @ApiDocProperty("本地副本是否为临时文件")
+    @TableField("temporary")
+    private Boolean temporary;
+
+    @ApiDocProperty("状态")
+    @TableField("status")
+    private MediaJobStatusEnum status;
+
+    @ApiDocProperty("已尝试次数")
+    @TableField("attempts")
+    private Integer attempts;
+
+    @ApiDocProperty("最大尝试次数")
+    @TableField("max_attempts")
+    private Integer maxAttempts;
+
+    @ApiDocProperty("下次可执行时间")
+    @TableField("next_run_time")
+    private LocalDateTime nextRunTime;
+
+    @ApiDocProperty("租约持有者")
+    @TableField("lease_owner")
+    private String leaseOwner;
+
+    @ApiDocProperty("租约到期时间")
+    @TableField("lease_expire_time")
+    private LocalDateTime leaseExpireTime;
+
+    @ApiDocProperty("最近一次失败原因")
+    @TableField("last_error")
+    private String lastError;
+
+    @ApiDocProperty("创建时间")
+    @TableField(value = "create_time", fill = FieldFill.INSERT)
+    private LocalDateTime createTime;
+
+    @ApiDocProperty("修改时间")
+    @TableField(value = "update_time", fill = FieldFill.INSERT_UPDATE)
+    private LocalDateTime updateTime;
+}
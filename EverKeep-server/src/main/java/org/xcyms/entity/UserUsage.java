@@ -0,0 +1,56 @@
+package org.xcyms.entity;
+
+import com.baomidou.mybatisplus.annotation.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.xcyms.common.annotation.ApiDocProperty;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * <p>
+ * 用户存储用量台账 (只统计未删除的图片/视频，回收站中的不计入)
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-14
+ */
+@Getter
+@Setter
+@TableName("biz_user_usage")
+public class UserUsage implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @ApiDocProperty("用户ID")
+    @TableId(value = "user_id", type = IdType.INPUT)
+    private Long userId;
+
+    @ApiDocProperty("图片占用空间(Byte)")
+    @TableField("image_size")
+    private Long imageSize;
+
+    @ApiDocProperty("图片数量")
+    @TableField("image_count")
+    private Long imageCount;
+
+    @ApiDocProperty("视频占用空间(Byte)")
+    @TableField("video_size")
+    private Long videoSize;
+
+    @ApiDocProperty("视频数量")
+    @TableField("video_count")
+    private Long videoCount;
+
+    @ApiDocProperty("更新时间")
+    @TableField(value = "update_time", fill = FieldFill.UPDATE)
+    private LocalDateTime updateTime;
+
+    /**
+     * 总占用空间 (图片 + 视频)
+     */
+    public long getTotalSize() {
+        return (imageSize == null ? 0L : imageSize) + (videoSize == null ? 0L : videoSize);
+    }
+}
@@ -76,4 +76,8 @@ public class Video implements Serializable {
     @TableField("deleted")
     @TableLogic
     private YesNoEnum deleted;
+
+    @ApiDocProperty("存储对象ID (内容去重)")
+    @TableField("blob_id")
+    private Long blobId;
 }
\ No newline at end of file
@@ -33,6 +33,12 @@ public class AlbumDTO {
     @ApiDocProperty("图片总数")
     private Long imageCount;
 
+    @ApiDocProperty("视频总数")
+    private Long videoCount;
+
+    @ApiDocProperty("占用空间(bytes)")
+    private Long totalSize;
+
     @ApiDocProperty("创建时间")
     private LocalDateTime createTime;
 
@@ -0,0 +1,41 @@
+package org.xcyms.entity.dto;
+
+import lombok.Data;
+import org.xcyms.common.annotation.ApiDocProperty;
+
+import java.util.List;
+
+/**
+ * <p>
+ *     分片上传DTO
+ * </p>
+ * @author liu-xu
+ * @date 2026年02月11日 15:10
+ */
+@Data
+public class ChunkUploadDTO {
+
+    @ApiDocProperty("分片上传ID")
+    private String uploadId;
+
+    @ApiDocProperty("原始文件名")
+    private String fileName;
+
+    @ApiDocProperty("文件总大小(Byte)")
+    private Long fileSize;
+
+    @ApiDocProperty("分片大小(Byte)，不传则使用服务端默认值")
+    private Long chunkSize;
+
+    @ApiDocProperty("分片总数")
+    private Integer totalChunks;
+
+    @ApiDocProperty("上传分类 (image/video/...)")
+    private String category;
+
+    @ApiDocProperty("相册ID")
+    private Long albumId;
+
+    @ApiDocProperty("已上传的分片序号列表 (从0开始)")
+    private List<Integer> uploadedChunks;
+}
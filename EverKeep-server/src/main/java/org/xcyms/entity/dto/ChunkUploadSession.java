@@ -0,0 +1,57 @@
+package org.xcyms.entity.dto;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * <p>
+ *     分片上传会话 (保存在 Redis 中)
+ * </p>
+ * @author liu-xu
+ * @date 2026年02月11日 15:18
+ */
+@Data
+public class ChunkUploadSession implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** 分片上传ID */
+    private String uploadId;
+
+    /** 上传用户ID */
+    private Long userId;
+
+    /** 相册ID */
+    private Long albumId;
+
+    /** 上传分类 */
+    private String category;
+
+    /** 原始文件名 */
+    private String fileName;
+
+    /** 文件后缀 (不含点) */
+    private String ext;
+
+    /** 文件总大小 */
+    private Long fileSize;
+
+    /** 分片大小 */
+    private Long chunkSize;
+
+    /** 分片总数 */
+    private Integer totalChunks;
+
+    /** 最终对象的相对路径 */
+    private String relativePath;
+
+    /** 初始化时使用的存储类型，整个会话固定使用该存储 */
+    private String storageType;
+
+    /** 存储后端的分片上传ID */
+    private String multipartId;
+
+    /** 云存储时供后续处理使用的本地副本路径，本地存储为 null */
+    private String localCopyPath;
+}
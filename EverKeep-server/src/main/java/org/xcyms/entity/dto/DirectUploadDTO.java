@@ -0,0 +1,36 @@
+package org.xcyms.entity.dto;
+
+import lombok.Data;
+import org.xcyms.common.annotation.ApiDocProperty;
+
+/**
+ * <p>
+ *     客户端直传DTO
+ * </p>
+ * @author liu-xu
+ * @date 2026年02月23日 10:12
+ */
+@Data
+public class DirectUploadDTO {
+
+    @ApiDocProperty("直传ID")
+    private String uploadId;
+
+    @ApiDocProperty("原始文件名")
+    private String fileName;
+
+    @ApiDocProperty("文件大小(Byte)")
+    private Long fileSize;
+
+    @ApiDocProperty("上传分类 (image/video/...)")
+    private String category;
+
+    @ApiDocProperty("相册ID")
+    private Long albumId;
+
+    @ApiDocProperty("预签名上传地址 (客户端以 PUT 方式直接上传文件内容)")
+    private String uploadUrl;
+
+    @ApiDocProperty("上传地址有效期(秒)")
+    private Long expireSeconds;
+}
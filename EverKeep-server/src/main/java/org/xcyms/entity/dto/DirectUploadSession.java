@@ -0,0 +1,48 @@
+package org.xcyms.entity.dto;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * <p>
+ *     客户端直传会话 (保存在 Redis 中)
+ * </p>
+ * @author liu-xu
+ * @date 2026年02月23日 10:15
+ */
+@Data
+public class DirectUploadSession implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** 直传ID */
+    private String uploadId;
+
+    /** 上传用户ID */
+    private Long userId;
+
+    /** 相册ID */
+    private Long albumId;
+
+    /** 上传分类 */
+    private String category;
+
+    /** 原始文件名 */
+    private String fileName;
+
+    /** 文件后缀 (不含点) */
+    private String ext;
+
+    /** 声明的文件大小 */
+    private Long fileSize;
+
+    /** 对象的相对路径 */
+    private String relativePath;
+
+    /** 客户端写入的暂存对象相对路径 (预签名地址指向该路径) */
+    private String stagingPath;
+
+    /** 签发地址时使用的存储类型 */
+    private String storageType;
+}
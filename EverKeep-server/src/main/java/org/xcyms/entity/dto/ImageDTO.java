@@ -6,6 +6,7 @@ import org.xcyms.common.enums.YesNoEnum;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p>
@@ -32,6 +33,9 @@ public class ImageDTO {
     @ApiDocProperty("缩略图URL")
     private String thumbnailUrl;
 
+    @ApiDocProperty("多尺寸缩略图URL(长边像素 -> URL，按尺寸升序)，客户端按显示尺寸选用不小于所需的最小尺寸")
+    private Map<Integer, String> renditions;
+
     @ApiDocProperty("图片名称")
     private String name;
 
@@ -9,6 +9,8 @@ import org.apache.ibatis.annotations.Param;
 import org.xcyms.entity.Album;
 import org.xcyms.entity.dto.AlbumDTO;
 
+import java.util.List;
+
 /**
  * <p>
  * 相册表 Mapper 接口
@@ -22,4 +24,25 @@ public interface AlbumMapper extends BaseMapper<Album> {
 
     IPage<AlbumDTO> selectAlbumPageWithImageCount(IPage<Album> page, @Param(Constants.WRAPPER) Wrapper<Album> queryWrapper);
 
+    /**
+     * 增量更新相册统计 (结果不会小于 0)
+     */
+    int increaseStats(@Param("albumId") Long albumId, @Param("imageCount") long imageCount,
+                      @Param("videoCount") long videoCount, @Param("totalSize") long totalSize);
+
+    /**
+     * 按图片表/视频表重新统计相册数据
+     *
+     * @param albumId 为 null 时重建全部相册
+     * @return 更新的相册数
+     */
+    int rebuildStats(@Param("albumId") Long albumId);
+
+    /**
+     * 按 id 游标分批查询封面地址 (包含已删除相册，只返回 id、cover)
+     *
+     * @param afterId 上一批最后一条的 id，从 0 开始
+     */
+    List<Album> selectStorageRefs(@Param("afterId") Long afterId, @Param("limit") int limit);
+
 }
\ No newline at end of file
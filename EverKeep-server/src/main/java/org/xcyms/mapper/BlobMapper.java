@@ -0,0 +1,63 @@
+package org.xcyms.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.xcyms.entity.Blob;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * 存储对象 Mapper 接口
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-21
+ */
+@Mapper
+public interface BlobMapper extends BaseMapper<Blob> {
+
+    /**
+     * 按内容查询
+     */
+    Blob selectByHash(@Param("userId") Long userId, @Param("sha256") String sha256);
+
+    /**
+     * 已存在相同内容时引用数 +1
+     *
+     * @return 1-已存在, 0-不存在
+     */
+    int increaseRef(@Param("userId") Long userId, @Param("sha256") String sha256, @Param("size") long size);
+
+    /**
+     * 登记新对象，相同内容已被并发登记时改为引用数 +1
+     */
+    int insertOrIncrease(Blob blob);
+
+    /**
+     * 批量扣减引用数 (同一条 UPDATE 语句，持有行锁直到事务提交)
+     *
+     * @param counts 对象ID -> 扣减数
+     */
+    int decreaseRefs(@Param("counts") Map<Long, Long> counts);
+
+    /**
+     * 查询其中已无引用的对象ID
+     */
+    List<Long> selectUnreferencedIds(@Param("idList") Collection<Long> idList);
+
+    /**
+     * 删除其中已无引用的对象 (调用方负责删除物理文件)
+     */
+    int deleteUnreferenced(@Param("idList") Collection<Long> idList);
+
+    /**
+     * 按 id 游标分批查询存储对象地址 (只返回 id、url)
+     *
+     * @param afterId 上一批最后一条的 id，从 0 开始
+     */
+    List<Blob> selectStorageRefs(@Param("afterId") Long afterId, @Param("limit") int limit);
+}
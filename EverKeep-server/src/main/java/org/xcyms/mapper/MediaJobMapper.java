@@ -0,0 +1,74 @@
+package org.xcyms.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.xcyms.entity.MediaJob;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>
+ * 媒体处理任务 Mapper 接口
+ * 时间条件统一使用数据库时间 NOW()，避免各节点时钟偏差影响租约判断
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-17
+ */
+@Mapper
+public interface MediaJobMapper extends BaseMapper<MediaJob> {
+
+    /**
+     * 提交任务，同一媒体已有任务时重置为待处理
+     */
+    int upsert(MediaJob job);
+
+    /**
+     * 认领到期的待处理任务：置为处理中、写入租约并累加尝试次数
+     *
+     * @return 认领数量
+     */
+    int claim(@Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds, @Param("limit") int limit);
+
+    /**
+     * 查询本次认领到的任务
+     */
+    List<MediaJob> selectByOwner(@Param("owner") String owner);
+
+    /**
+     * 标记完成 (仅租约持有者可操作)
+     */
+    int markSuccess(@Param("id") Long id, @Param("owner") String owner);
+
+    /**
+     * 标记失败：未达最大次数时延迟重试，否则置为失败 (仅租约持有者可操作)
+     */
+    int markFailed(@Param("id") Long id, @Param("owner") String owner,
+                   @Param("delaySeconds") long delaySeconds, @Param("error") String error);
+
+    /**
+     * 释放租约并延后重新认领，不计入尝试次数 (节点繁忙未能执行时调用，仅租约持有者可操作)
+     */
+    int release(@Param("id") Long id, @Param("owner") String owner, @Param("delaySeconds") long delaySeconds);
+
+    /**
+     * 回收租约已过期的任务 (节点宕机或重启时中断的任务)
+     *
+     * @return 回收数量
+     */
+    int recoverExpired();
+
+    /**
+     * 延长执行中任务的租约 (仅租约持有者可操作)
+     *
+     * @return 续约数量
+     */
+    int renewLeases(@Param("jobs") Collection<MediaJob> jobs, @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * 删除指定天数前已完成的任务与失败 (不再重试) 的任务
+     */
+    int deleteFinished(@Param("days") int days, @Param("failedDays") int failedDays);
+}
@@ -2,10 +2,13 @@ package org.xcyms.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 import org.xcyms.entity.Role;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p>
@@ -22,4 +25,17 @@ public interface RoleMapper extends BaseMapper<Role> {
             "LEFT JOIN sys_user_role ur ON r.id = ur.role_id " +
             "WHERE ur.user_id = #{userId}")
     List<String> getRoleKeysByUserId(Long userId);
+
+    /**
+     * 批量查询多个用户的角色 (列表页一次查询，避免逐行查询)
+     *
+     * @return 每行包含 userId、roleKey
+     */
+    @Select("<script>" +
+            "SELECT ur.user_id as 'userId', r.role_key as 'roleKey' FROM sys_user_role ur " +
+            "JOIN sys_role r ON r.id = ur.role_id " +
+            "WHERE ur.user_id IN " +
+            "<foreach collection='userIds' item='userId' open='(' separator=',' close=')'>#{userId}</foreach>" +
+            "</script>")
+    List<Map<String, Object>> getRoleKeysByUserIds(@Param("userIds") Collection<Long> userIds);
 }
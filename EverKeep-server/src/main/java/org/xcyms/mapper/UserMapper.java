@@ -2,8 +2,11 @@ package org.xcyms.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import org.xcyms.entity.User;
 
+import java.util.List;
+
 /**
  * <p>
  * 用户表 Mapper 接口
@@ -15,4 +18,10 @@ import org.xcyms.entity.User;
 @Mapper
 public interface UserMapper extends BaseMapper<User> {
 
+    /**
+     * 按 id 游标分批查询头像地址 (包含已注销用户，只返回 id、avatar)
+     *
+     * @param afterId 上一批最后一条的 id，从 0 开始
+     */
+    List<User> selectStorageRefs(@Param("afterId") Long afterId, @Param("limit") int limit);
 }
@@ -0,0 +1,52 @@
+package org.xcyms.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.xcyms.entity.UserUsage;
+
+import java.util.List;
+
+/**
+ * <p>
+ * 用户存储用量台账 Mapper 接口
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-14
+ */
+@Mapper
+public interface UserUsageMapper extends BaseMapper<UserUsage> {
+
+    /**
+     * 原子累加用量 (增量可为负)，台账行不存在时不做任何修改 (首次读取时再按业务表初始化)
+     */
+    int increase(@Param("userId") Long userId,
+                 @Param("imageSize") long imageSize, @Param("imageCount") long imageCount,
+                 @Param("videoSize") long videoSize, @Param("videoCount") long videoCount);
+
+    /**
+     * 初始化台账行，已存在则忽略
+     */
+    int insertIgnore(UserUsage userUsage);
+
+    /**
+     * 按业务表重新统计用量 (userId 为 null 时统计全部用户)，用于初始化与对账
+     */
+    List<UserUsage> selectActualUsage(@Param("userId") Long userId);
+
+    /**
+     * 锁定台账行 (SELECT ... FOR UPDATE)，对账时与业务表统计在同一事务中执行
+     */
+    UserUsage selectForUpdate(@Param("userId") Long userId);
+
+    /**
+     * 按 id 游标分批读取用户 id (包含已逻辑删除的用户)，用于逐用户对账
+     */
+    List<Long> selectUserIds(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 汇总所有用户用量
+     */
+    UserUsage selectTotalUsage();
+}
@@ -7,6 +7,7 @@ import org.apache.ibatis.annotations.Param;
 import org.xcyms.entity.Video;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -26,22 +27,53 @@ public interface VideoMapper extends BaseMapper<Video> {
     IPage<Video> selectRecyclePage(IPage<Video> page, @Param("userId") Long userId);
 
     /**
-     * 物理删除
+     * 批量物理删除
      */
-    int deletePermanently(@Param("id") Long id);
+    int deletePermanently(@Param("idList") Collection<Long> idList);
 
     /**
      * 批量恢复
      */
-    void restore(@Param("idList") String idList);
+    void restore(@Param("idList") Collection<Long> idList);
 
     /**
-     * 查询回收站中超过指定时间的过期视频
+     * 按 (update_time, id) 游标分批查询回收站中超过指定时间的过期视频 (只返回 id、update_time)
+     *
+     * @param afterTime 上一批最后一条的 update_time，为空时从头开始
+     * @param afterId   上一批最后一条的 id
      */
-    List<Video> selectExpiredRecycleVideos(@Param("expireTime") LocalDateTime expireTime);
+    List<Video> selectExpiredRecycleCursor(@Param("expireTime") LocalDateTime expireTime, @Param("afterTime") LocalDateTime afterTime,
+                                          @Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * 按 id 游标分批查询引用的存储文件 (包含回收站，只返回 id、url、cover_url)
+     *
+     * @param afterId 上一批最后一条的 id，从 0 开始
+     */
+    List<Video> selectStorageRefs(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * 记录总数 (包含回收站)
+     */
+    long countWithDeleted();
 
     /**
      * 根据ID查询记录，忽略逻辑删除状态
      */
     Video selectWithDeleted(@Param("id") Long id);
-}
\ No newline at end of file
+
+    /**
+     * 加锁批量查询记录，忽略逻辑删除状态 (永久删除时使用)
+     */
+    List<Video> selectWithDeletedByIdsForUpdate(@Param("idList") Collection<Long> idList);
+
+    /**
+     * 加锁查询回收站中的记录 (恢复时用于维护用量台账)
+     */
+    List<Video> selectDeletedByIdsForUpdate(@Param("idList") Collection<Long> idList);
+
+    /**
+     * 查询引用同一存储对象且已处理完成的任一记录 (忽略逻辑删除状态)，重复上传时复用其封面/时长
+     */
+    Video selectProcessedByBlobId(@Param("blobId") Long blobId);
+}
@@ -26,4 +26,12 @@ public interface IAlbumService extends IService<Album> {
     ApiResult<List<AlbumDTO>> getMyAlbums(String name, Long userId);
 
     ApiResult<IPage<AlbumDTO>> getPage(Page<Album> page, AlbumDTO albumDTO);
+
+    /**
+     * 按图片表/视频表重建相册统计 (图片数、视频数、占用空间)，用于修复增量维护产生的偏差
+     *
+     * @param albumId 相册ID，为 null 时重建全部相册
+     * @return 更新的相册数
+     */
+    int rebuildStats(Long albumId);
 }
\ No newline at end of file
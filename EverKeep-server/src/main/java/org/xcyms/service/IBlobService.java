@@ -0,0 +1,48 @@
+package org.xcyms.service;
+
+import com.baomidou.mybatisplus.extension.service.IService;
+import org.xcyms.entity.Blob;
+import org.xcyms.service.storage.UploadResult;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * <p>
+ * 存储对象 服务类
+ * 引用计数的增减需与图片/视频记录的写入、删除在同一事务中执行
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-21
+ */
+public interface IBlobService extends IService<Blob> {
+
+    /**
+     * 引用已存在的相同内容 (引用数 +1)
+     *
+     * @return 已存在的对象，不存在返回 null
+     */
+    Blob acquire(Long userId, String sha256, long size);
+
+    /**
+     * 登记刚写入存储的文件 (引用数为 1)；相同内容已被并发登记时改为引用已有对象，
+     * 此时返回对象的 url 与本次上传不同，调用方应删除本次写入的文件
+     */
+    Blob register(Long userId, UploadResult uploadResult);
+
+    /**
+     * 批量释放引用 (同一对象出现几次即释放几个引用)
+     *
+     * @return 已无引用并被删除的对象ID (调用方负责删除物理文件)
+     */
+    Set<Long> releaseAll(Collection<Long> blobIds);
+
+    /**
+     * 构造引用已有对象时的上传结果，供媒体处理任务读取源文件
+     *
+     * @param blob     已有对象
+     * @param uploaded 本次上传结果 (可为空)，其中的临时副本内容相同，可直接复用
+     */
+    UploadResult toUploadResult(Blob blob, UploadResult uploaded);
+}
@@ -0,0 +1,49 @@
+package org.xcyms.service;
+
+import org.springframework.web.multipart.MultipartFile;
+import org.xcyms.common.ApiResult;
+import org.xcyms.entity.dto.ChunkUploadDTO;
+
+/**
+ * <p>
+ * 分片 (断点续传) 上传 服务类
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-11
+ */
+public interface IChunkUploadService {
+
+    /**
+     * 初始化分片上传，校验配额/大小/格式并分配上传ID
+     */
+    ApiResult<ChunkUploadDTO> init(ChunkUploadDTO chunkUploadDTO);
+
+    /**
+     * 上传单个分片，同一分片可重复上传
+     *
+     * @param uploadId 分片上传ID
+     * @param index    分片序号 (从0开始)
+     * @param checksum 分片 SHA-256 (可选，传入则校验)
+     * @param chunk    分片数据
+     */
+    ApiResult<ChunkUploadDTO> uploadChunk(String uploadId, Integer index, String checksum, MultipartFile chunk);
+
+    /**
+     * 查询上传进度 (已上传的分片)，用于断点续传
+     */
+    ApiResult<ChunkUploadDTO> status(String uploadId);
+
+    /**
+     * 合并分片并创建图片/视频记录
+     */
+    ApiResult<?> complete(String uploadId);
+
+    /**
+     * 释放已过期会话占用的资源 (存储端分片上传、本地副本、Redis 分片记录)
+     *
+     * @param limit 本次最多处理的会话数
+     * @return 处理的会话数
+     */
+    int sweepExpired(int limit);
+}
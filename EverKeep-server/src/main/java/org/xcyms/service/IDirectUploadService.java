@@ -0,0 +1,26 @@
+package org.xcyms.service;
+
+import org.xcyms.common.ApiResult;
+import org.xcyms.entity.dto.DirectUploadDTO;
+
+/**
+ * <p>
+ * 客户端直传 服务类
+ * 客户端使用预签名地址直接把文件写入对象存储，应用服务器只负责校验与入库
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-23
+ */
+public interface IDirectUploadService {
+
+    /**
+     * 校验配额/大小/格式并签发预签名上传地址 (仅 S3/COS)
+     */
+    ApiResult<DirectUploadDTO> init(DirectUploadDTO directUploadDTO);
+
+    /**
+     * 客户端上传完成后回调：确认对象大小、校验文件头，创建图片/视频记录
+     */
+    ApiResult<?> complete(String uploadId);
+}
@@ -0,0 +1,36 @@
+package org.xcyms.service;
+
+import java.io.InputStream;
+
+/**
+ * <p>
+ * 图片按需缩放 服务类
+ * 宽高与质量取到固定档位，首次请求某个档位时从原图缩放并写入本地磁盘缓存 (按大小上限 LRU 淘汰)，之后直接返回缓存文件。
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-19
+ */
+public interface IImageRenderService {
+
+    /**
+     * 缩放结果
+     *
+     * @param stream 已打开的缓存文件 (之后被淘汰删除也能读完)，调用方写出后负责关闭
+     * @param size   文件大小 (bytes)
+     * @param format 输出格式 (jpg/png/...)
+     */
+    record RenderedImage(InputStream stream, long size, String format) {
+    }
+
+    /**
+     * 获取按需缩放后的图片，只能访问自己的图片或公开图片
+     *
+     * @param imageId 图片ID
+     * @param width   目标宽度，可为空，向上取到 Constant.Render.SIZES 中的档位
+     * @param height  目标高度，可为空 (宽高至少指定一个)，同上
+     * @param fit     缩放模式，见 Constant.Render，默认 contain
+     * @param quality JPEG 质量 (1-100)，默认 80，向上取到 Constant.Render.QUALITIES 中的档位
+     */
+    RenderedImage render(Long imageId, Integer width, Integer height, String fit, Integer quality);
+}
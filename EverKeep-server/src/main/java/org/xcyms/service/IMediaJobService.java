@@ -0,0 +1,76 @@
+package org.xcyms.service;
+
+import com.baomidou.mybatisplus.extension.service.IService;
+import org.xcyms.entity.MediaJob;
+import org.xcyms.service.storage.UploadResult;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>
+ * 媒体处理任务 服务类
+ * 任务持久化在数据库中，上传请求只负责提交，处理由 {@link org.xcyms.task.MediaJobWorker} 按租约认领执行，
+ * 节点重启或宕机时中断的任务在租约过期后由其他节点继续处理。
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-17
+ */
+public interface IMediaJobService extends IService<MediaJob> {
+
+    /**
+     * 提交任务 (与媒体记录在同一事务中调用，记录回滚时任务一并回滚)
+     *
+     * @param jobType      任务类型，见 Constant.MediaJob
+     * @param bizId        图片/视频ID
+     * @param uploadResult 上传结果 (源文件位置)
+     */
+    void submit(String jobType, Long bizId, UploadResult uploadResult);
+
+    /**
+     * 认领待处理任务
+     *
+     * @param owner 租约持有者 (每次认领唯一)
+     * @param limit 最多认领数量
+     */
+    List<MediaJob> claim(String owner, int limit);
+
+    /**
+     * 标记任务完成
+     */
+    void complete(MediaJob job);
+
+    /**
+     * 标记任务失败，按尝试次数指数退避后重试
+     *
+     * @return 是否已达最大尝试次数 (不再重试)
+     */
+    boolean fail(MediaJob job, Exception e);
+
+    /**
+     * 节点繁忙未能执行时归还任务，短暂延后由任意节点重新认领，不计入尝试次数
+     */
+    void defer(MediaJob job);
+
+    /**
+     * 回收租约过期的任务
+     *
+     * @return 回收数量
+     */
+    int recoverExpired();
+
+    /**
+     * 续约本节点执行中的任务
+     *
+     * @return 续约成功的数量 (小于任务数说明部分租约已过期并被回收)
+     */
+    int renewLeases(Collection<MediaJob> jobs);
+
+    /**
+     * 清理过期的已完成任务与失败任务
+     *
+     * @return 清理数量
+     */
+    int cleanFinished();
+}
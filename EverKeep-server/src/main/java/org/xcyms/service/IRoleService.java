@@ -3,6 +3,10 @@ package org.xcyms.service;
 import com.baomidou.mybatisplus.extension.service.IService;
 import org.xcyms.entity.Role;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * <p>
  * 服务类
@@ -13,4 +17,32 @@ import org.xcyms.entity.Role;
  */
 public interface IRoleService extends IService<Role> {
 
+    /**
+     * 获取用户的角色标识 (近端缓存 + Redis 缓存，Sa-Token 鉴权时调用)
+     *
+     * @param userId 用户ID
+     * @return 角色标识列表，没有角色时为空列表
+     */
+    List<String> getRoleKeys(Long userId);
+
+    /**
+     * 批量获取多个用户的角色标识，缓存未命中的用户合并为一次查询
+     *
+     * @param userIds 用户ID
+     * @return 用户ID -> 角色标识列表 (没有角色的用户为空列表)
+     */
+    Map<Long, List<String>> getRoleKeysByUserIds(Collection<Long> userIds);
+
+    /**
+     * 设置用户的角色 (覆盖原有角色)，提交后失效该用户的角色缓存
+     *
+     * @param userId  用户ID
+     * @param roleIds 角色ID
+     */
+    void assignRoles(Long userId, Collection<Long> roleIds);
+
+    /**
+     * 失效用户的角色缓存 (广播到所有节点)
+     */
+    void evictRoleKeys(Long userId);
 }
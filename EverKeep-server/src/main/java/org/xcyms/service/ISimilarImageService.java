@@ -0,0 +1,38 @@
+package org.xcyms.service;
+
+import org.xcyms.entity.dto.ImageDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>
+ * 相似图片 服务类
+ * 每个用户的感知哈希在首次查询时加载为内存中的 BK 树，之后随图片处理、删除、恢复增量更新；
+ * 其他节点的变更通过 Redis 广播使本节点的索引失效，下次查询时重新加载。
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-22
+ */
+public interface ISimilarImageService {
+
+    /**
+     * 查询相似图片分组 (组内任意两张图片可经由距离不超过阈值的图片相连)
+     *
+     * @param userId   用户ID
+     * @param distance 汉明距离阈值，为空时使用默认值
+     * @return 分组列表 (每组至少两张，按组内数量降序)
+     */
+    List<List<ImageDTO>> clusters(Long userId, Integer distance);
+
+    /**
+     * 图片加入索引 (存在事务时在提交后执行)
+     */
+    void add(Long userId, Long imageId, Long phash);
+
+    /**
+     * 图片移出索引 (存在事务时在提交后执行)
+     */
+    void remove(Long userId, Collection<Long> imageIds);
+}
@@ -0,0 +1,49 @@
+package org.xcyms.service;
+
+import com.baomidou.mybatisplus.extension.service.IService;
+import org.xcyms.entity.UserUsage;
+
+/**
+ * <p>
+ * 用户存储用量台账 服务类
+ * 上传、删除到回收站、恢复、永久删除时增量维护，配额校验与统计直接读取台账，不再对业务表做 SUM
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-14
+ */
+public interface IUserUsageService extends IService<UserUsage> {
+
+    /**
+     * 获取用户用量 (优先 Redis，其次台账表，台账不存在时按业务表初始化)
+     */
+    UserUsage getUsage(Long userId);
+
+    /**
+     * 获取用户已使用空间 (图片 + 视频)
+     */
+    long getUsedSize(Long userId);
+
+    /**
+     * 累加图片用量 (删除时传负数)
+     */
+    void changeImage(Long userId, long size, long count);
+
+    /**
+     * 累加视频用量 (删除时传负数)
+     */
+    void changeVideo(Long userId, long size, long count);
+
+    /**
+     * 所有用户用量汇总 (管理员统计)
+     */
+    UserUsage getTotalUsage();
+
+    /**
+     * 按业务表重新统计并修复台账偏差
+     *
+     * @param afterBatch 每批用户处理完后回调 (调用方续约，抛出异常时中止对账)
+     * @return 修复的用户数
+     */
+    int reconcile(Runnable afterBatch);
+}
@@ -5,9 +5,12 @@ import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.IService;
 import org.springframework.web.multipart.MultipartFile;
 import org.xcyms.common.ApiResult;
+import org.xcyms.common.CursorPage;
 import org.xcyms.entity.Video;
 import org.xcyms.entity.dto.VideoDTO;
+import org.xcyms.service.storage.UploadResult;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -22,8 +25,39 @@ public interface IVideoService extends IService<Video> {
 
     ApiResult<VideoDTO> uploadVideo(MultipartFile file, Long albumId, String category);
 
+    /**
+     * 校验上传 (配额、大小、格式)
+     */
+    ApiResult<VideoDTO> validateUpload(Long userId, String originalFilename, long size);
+
+    /**
+     * 生成上传的相对目录 (如 user/1/video/2026/01/22/)
+     */
+    String getRelativePath(Long userId, String category);
+
+    /**
+     * 文件写入存储后创建记录并触发异步处理
+     *
+     * @param userId           上传用户ID
+     * @param albumId          相册ID
+     * @param originalFilename 原始文件名
+     * @param uploadResult     存储上传结果
+     */
+    ApiResult<VideoDTO> saveUploaded(Long userId, Long albumId, String originalFilename, UploadResult uploadResult);
+
     ApiResult<IPage<VideoDTO>> getPage(Page<Video> page, VideoDTO videoDTO);
 
+    /**
+     * 游标分页查询，按 (create_time, id) 排序，不执行 OFFSET
+     *
+     * @param videoDTO  查询参数
+     * @param cursor    上一页返回的 nextCursor，首页传 null
+     * @param size      每页条数
+     * @param asc       是否升序
+     * @param withCount 是否统计总数 (无限滚动场景传 false，省去 COUNT 查询)
+     */
+    ApiResult<CursorPage<VideoDTO>> getCursorPage(VideoDTO videoDTO, String cursor, Long size, boolean asc, boolean withCount);
+
     ApiResult<String> updateStatus(VideoDTO videoDTO);
 
     ApiResult<String> move(Long videoId, Long albumId);
@@ -45,6 +79,13 @@ public interface IVideoService extends IService<Video> {
      */
     ApiResult<String> deletePermanently(List<Long> idList);
 
+    /**
+     * 清理回收站中已过期的视频 (只删除加锁后确认仍在回收站且 update_time 早于 expireTime 的记录)
+     *
+     * @return 删除的记录数
+     */
+    int deleteExpired(List<Long> idList, LocalDateTime expireTime);
+
     ApiResult<String> setCover(Long videoId);
 
     ApiResult<String> rename(VideoDTO videoDTO);
@@ -71,9 +71,16 @@ public class AlbumServiceImpl extends ServiceImpl<AlbumMapper, Album> implements
             }
         }
 
-        // 处理排序逻辑：如果是 imageCount 排序，由于是自定义 SQL，需要特殊处理
+        // 处理排序逻辑：imageCount 为相册表上的统计字段别名，可直接排序
         // MyBatis Plus 的 OrderItem 会自动拼接到 customSqlSegment 中
 
         return ApiResult.success(baseMapper.selectAlbumPageWithImageCount(page, wrapper));
     }
+
+    @Override
+    public int rebuildStats(Long albumId) {
+        int updated = baseMapper.rebuildStats(albumId);
+        log.info("相册统计已重建: albumId={}, 更新 {} 个相册", albumId == null ? "全部" : albumId, updated);
+        return updated;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package org.xcyms.service.impl;
+
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.xcyms.entity.Blob;
+import org.xcyms.mapper.BlobMapper;
+import org.xcyms.service.IBlobService;
+import org.xcyms.service.storage.StorageFactory;
+import org.xcyms.service.storage.UploadResult;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * 存储对象 服务实现类
+ * 引用数 +1 与最后一个引用的删除都是对同一行的原子操作：释放时在事务内持有行锁直到提交，
+ * 并发的引用要么在释放前完成 (对象不会被删除)，要么在删除后执行 (找不到对象，按新文件上传)。
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-21
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlobServiceImpl extends ServiceImpl<BlobMapper, Blob> implements IBlobService {
+
+    private final StorageFactory storageFactory;
+
+    @Override
+    public Blob acquire(Long userId, String sha256, long size) {
+        if (this.baseMapper.increaseRef(userId, sha256, size) == 0) {
+            return null;
+        }
+        return this.baseMapper.selectByHash(userId, sha256);
+    }
+
+    @Override
+    public Blob register(Long userId, UploadResult uploadResult) {
+        Blob blob = new Blob();
+        blob.setUserId(userId);
+        blob.setSha256(uploadResult.getSha256());
+        blob.setSize(uploadResult.getSize());
+        blob.setStorageType(uploadResult.getStorageType());
+        blob.setRelativePath(uploadResult.getRelativePath());
+        blob.setUrl(uploadResult.getUrl());
+        this.baseMapper.insertOrIncrease(blob);
+        Blob registered = this.baseMapper.selectByHash(userId, uploadResult.getSha256());
+        if (!registered.getUrl().equals(uploadResult.getUrl())) {
+            log.info("相同内容已被并发上传，引用已有文件: blobId={}, url={}", registered.getId(), registered.getUrl());
+        }
+        return registered;
+    }
+
+    @Override
+    public Set<Long> releaseAll(Collection<Long> blobIds) {
+        if (blobIds == null || blobIds.isEmpty()) {
+            return Set.of();
+        }
+        Map<Long, Long> counts = blobIds.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        if (this.baseMapper.decreaseRefs(counts) == 0) {
+            return Set.of();
+        }
+        List<Long> unreferenced = this.baseMapper.selectUnreferencedIds(counts.keySet());
+        if (unreferenced.isEmpty()) {
+            return Set.of();
+        }
+        this.baseMapper.deleteUnreferenced(unreferenced);
+        return new HashSet<>(unreferenced);
+    }
+
+    @Override
+    public UploadResult toUploadResult(Blob blob, UploadResult uploaded) {
+        UploadResult result = new UploadResult();
+        result.setUrl(blob.getUrl());
+        result.setStorageType(blob.getStorageType());
+        result.setRelativePath(blob.getRelativePath());
+        result.setSize(blob.getSize());
+        result.setSha256(blob.getSha256());
+        if (uploaded != null && uploaded.isTemporary() && uploaded.getLocalFile() != null) {
+            result.setLocalFile(uploaded.getLocalFile());
+            result.setTemporary(true);
+        } else {
+            // 本地存储直接读取原文件，云存储由任务下载
+            result.setLocalFile(storageFactory.getService(blob.getStorageType()).getLocalFile(blob.getUrl()));
+            result.setTemporary(false);
+        }
+        return result;
+    }
+}
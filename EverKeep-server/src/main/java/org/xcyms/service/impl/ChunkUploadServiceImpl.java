@@ -0,0 +1,438 @@
+package org.xcyms.service.impl;
+
+import cn.dev33.satoken.stp.StpUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.xcyms.common.ApiResult;
+import org.xcyms.common.Constant;
+import org.xcyms.entity.dto.ChunkUploadDTO;
+import org.xcyms.entity.dto.ChunkUploadSession;
+import org.xcyms.service.IChunkUploadService;
+import org.xcyms.service.IImageService;
+import org.xcyms.service.IVideoService;
+import org.xcyms.service.storage.IStorageService;
+import org.xcyms.service.storage.MediaInputStream;
+import org.xcyms.service.storage.MediaUploader;
+import org.xcyms.service.storage.StorageFactory;
+import org.xcyms.service.storage.UploadResult;
+import org.xcyms.utils.IdGenerator;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * 分片 (断点续传) 上传 服务实现类
+ * 会话与已上传分片保存在 Redis 中；本地存储按偏移定位写入同一文件，S3/COS 使用原生分片上传。
+ * 会话同时登记在过期时间索引中，过期未完成的会话由 {@link #sweepExpired(int)} 中止存储端分片上传并删除本地副本；
+ * 每个用户同时未完成的会话数有上限。
+ * 注意：本地存储及云存储的本地处理副本都落在接收分片的节点上，多节点部署时需按 uploadId 做会话保持。
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-11
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkUploadServiceImpl implements IChunkUploadService {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StorageFactory storageFactory;
+    private final MediaUploader mediaUploader;
+    private final IImageService imageService;
+    private final IVideoService videoService;
+
+    @Override
+    public ApiResult<ChunkUploadDTO> init(ChunkUploadDTO chunkUploadDTO) {
+        String fileName = chunkUploadDTO.getFileName();
+        Long fileSize = chunkUploadDTO.getFileSize();
+        if (StringUtils.isBlank(fileName)) {
+            return ApiResult.error("文件名不能为空");
+        }
+        if (fileSize == null || fileSize <= 0) {
+            return ApiResult.error("文件不能为空");
+        }
+
+        Long userId = StpUtil.getLoginIdAsLong();
+        String category = StringUtils.defaultIfBlank(chunkUploadDTO.getCategory(), "image");
+        boolean isVideo = "video".equals(category);
+
+        // 1. 验证 (配额、大小、格式)，与普通上传规则一致
+        ApiResult<?> validateResult = isVideo
+                ? videoService.validateUpload(userId, fileName, fileSize)
+                : imageService.validateUpload(userId, fileName, fileSize);
+        if (validateResult.getCode() != 200) {
+            return ApiResult.error(validateResult.getMessage());
+        }
+
+        // 2. 计算分片 (云存储要求除最后一片外不小于 5MB)
+        long chunkSize = chunkUploadDTO.getChunkSize() == null ? Constant.ChunkUpload.DEFAULT_CHUNK_SIZE
+                : Math.min(Math.max(chunkUploadDTO.getChunkSize(), Constant.ChunkUpload.DEFAULT_CHUNK_SIZE), Constant.ChunkUpload.MAX_CHUNK_SIZE);
+        long totalChunks = (fileSize + chunkSize - 1) / chunkSize;
+        if (totalChunks > Constant.ChunkUpload.MAX_CHUNKS) {
+            return ApiResult.error("分片数量超限");
+        }
+
+        // 3. 路径处理
+        String ext = fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
+        String relativePath = (isVideo ? videoService.getRelativePath(userId, category) : imageService.getRelativePath(userId, category))
+                + IdGenerator.nextIdStr() + "." + ext;
+
+        // 4. 占用未完成会话名额 (先登记再计数，并发初始化不会超出上限)
+        String uploadId = IdGenerator.nanoId();
+        String userKey = Constant.ChunkUpload.USER_KEY_PREFIX + userId;
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(userKey, 0, now);
+        redisTemplate.opsForZSet().add(userKey, uploadId, expireAt(now));
+        redisTemplate.expire(userKey, Constant.ChunkUpload.EXPIRE_SECONDS, TimeUnit.SECONDS);
+        Long open = redisTemplate.opsForZSet().zCard(userKey);
+        if (open != null && open > Constant.ChunkUpload.MAX_OPEN_SESSIONS) {
+            redisTemplate.opsForZSet().remove(userKey, uploadId);
+            return ApiResult.error("未完成的上传任务过多，请先完成已有任务或稍后再试");
+        }
+
+        // 5. 初始化存储端分片上传，会话固定使用当前存储
+        String storageType = storageFactory.getServiceType();
+        IStorageService storage = storageFactory.getService(storageType);
+
+        ChunkUploadSession session = new ChunkUploadSession();
+        session.setUploadId(uploadId);
+        session.setUserId(userId);
+        session.setAlbumId(chunkUploadDTO.getAlbumId());
+        session.setCategory(category);
+        session.setFileName(fileName);
+        session.setExt(ext);
+        session.setFileSize(fileSize);
+        session.setChunkSize(chunkSize);
+        session.setTotalChunks((int) totalChunks);
+        session.setRelativePath(relativePath);
+        session.setStorageType(storageType);
+        try {
+            session.setMultipartId(storage.initMultipartUpload(relativePath, fileSize));
+        } catch (RuntimeException e) {
+            redisTemplate.opsForZSet().remove(userKey, uploadId);
+            throw e;
+        }
+
+        // 云存储需要额外保留一份本地副本供 EXIF/封面处理，同样按偏移写入
+        if (needLocalFile(category) && !storage.isLocal()) {
+            File localCopy = new File(System.getProperty("java.io.tmpdir"), Constant.ChunkUpload.LOCAL_COPY_PREFIX + uploadId + "." + ext);
+            try (RandomAccessFile raf = new RandomAccessFile(localCopy, "rw")) {
+                raf.setLength(fileSize);
+            } catch (IOException e) {
+                log.error("分片本地副本创建失败: {}", localCopy, e);
+                storage.abortMultipartUpload(relativePath, session.getMultipartId());
+                redisTemplate.opsForZSet().remove(userKey, uploadId);
+                return ApiResult.error("文件上传失败");
+            }
+            session.setLocalCopyPath(localCopy.getAbsolutePath());
+        }
+
+        // 先登记过期索引再写会话：登记后即使会话写入失败，存储端资源也会被清理任务释放
+        redisTemplate.opsForHash().put(Constant.ChunkUpload.SESSIONS_KEY, uploadId, session);
+        redisTemplate.opsForZSet().add(Constant.ChunkUpload.EXPIRY_KEY, uploadId, expireAt(now));
+        redisTemplate.opsForValue().set(sessionKey(uploadId), session, Constant.ChunkUpload.EXPIRE_SECONDS, TimeUnit.SECONDS);
+        return ApiResult.success(toDTO(session, List.of()));
+    }
+
+    @Override
+    public ApiResult<ChunkUploadDTO> uploadChunk(String uploadId, Integer index, String checksum, MultipartFile chunk) {
+        ChunkUploadSession session = getSession(uploadId);
+        if (session == null) {
+            return ApiResult.error("上传任务不存在或已过期");
+        }
+        if (index == null || index < 0 || index >= session.getTotalChunks()) {
+            return ApiResult.error("分片序号无效");
+        }
+        long offset = index * session.getChunkSize();
+        long expectedSize = Math.min(session.getChunkSize(), session.getFileSize() - offset);
+        if (chunk == null || chunk.getSize() != expectedSize) {
+            return ApiResult.error("分片大小不正确");
+        }
+
+        IStorageService storage = storageFactory.getService(session.getStorageType());
+        String etag;
+        try {
+            // 先校验再写入：分片已由容器缓存 (内存或临时文件)，可以重复读取；
+            // 校验失败时不写入存储与本地副本，已上传的同序号分片保持不变
+            if (StringUtils.isNotBlank(checksum) && !checksum.equalsIgnoreCase(sha256(chunk))) {
+                log.warn("分片校验失败: uploadId={}, index={}", uploadId, index);
+                return ApiResult.error("分片校验失败，请重新上传");
+            }
+        } catch (IOException e) {
+            log.error("分片读取失败: uploadId={}, index={}", uploadId, index, e);
+            return ApiResult.error("分片上传失败");
+        }
+        try (InputStream buffered = new BufferedInputStream(chunk.getInputStream())) {
+            // 首个分片包含文件头，校验真实格式
+            if (index == 0) {
+                mediaUploader.sniff(buffered, session.getExt());
+            }
+
+            OutputStream tee = null;
+            if (session.getLocalCopyPath() != null) {
+                FileChannel copyChannel = FileChannel.open(new File(session.getLocalCopyPath()).toPath(), StandardOpenOption.WRITE);
+                copyChannel.position(offset);
+                tee = Channels.newOutputStream(copyChannel);
+            }
+
+            try (MediaInputStream in = new MediaInputStream(buffered, tee)) {
+                etag = storage.uploadPart(session.getRelativePath(), session.getMultipartId(), index + 1, offset, in, expectedSize);
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+        } catch (IllegalArgumentException e) {
+            return ApiResult.error(e.getMessage());
+        } catch (IOException e) {
+            log.error("分片上传失败: uploadId={}, index={}", uploadId, index, e);
+            return ApiResult.error("分片上传失败");
+        }
+
+        // 记录分片并续期会话
+        String partsKey = partsKey(uploadId);
+        redisTemplate.opsForHash().put(partsKey, String.valueOf(index), etag == null ? "" : etag);
+        redisTemplate.expire(partsKey, Constant.ChunkUpload.EXPIRE_SECONDS, TimeUnit.SECONDS);
+        redisTemplate.expire(sessionKey(uploadId), Constant.ChunkUpload.EXPIRE_SECONDS, TimeUnit.SECONDS);
+        double expireAt = expireAt(System.currentTimeMillis());
+        redisTemplate.opsForZSet().add(Constant.ChunkUpload.EXPIRY_KEY, uploadId, expireAt);
+        redisTemplate.opsForZSet().add(Constant.ChunkUpload.USER_KEY_PREFIX + session.getUserId(), uploadId, expireAt);
+
+        return ApiResult.success(toDTO(session, getUploadedChunks(uploadId)));
+    }
+
+    @Override
+    public ApiResult<ChunkUploadDTO> status(String uploadId) {
+        ChunkUploadSession session = getSession(uploadId);
+        if (session == null) {
+            return ApiResult.error("上传任务不存在或已过期");
+        }
+        return ApiResult.success(toDTO(session, getUploadedChunks(uploadId)));
+    }
+
+    @Override
+    public ApiResult<?> complete(String uploadId) {
+        ChunkUploadSession session = getSession(uploadId);
+        if (session == null) {
+            return ApiResult.error("上传任务不存在或已过期");
+        }
+
+        String lockKey = sessionKey(uploadId) + ":lock";
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, 1, 5, TimeUnit.MINUTES);
+        if (!Boolean.TRUE.equals(locked)) {
+            return ApiResult.error("文件正在合并，请勿重复提交");
+        }
+
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(partsKey(uploadId));
+            if (entries.size() < session.getTotalChunks()) {
+                return ApiResult.error("分片未全部上传 (" + entries.size() + "/" + session.getTotalChunks() + ")");
+            }
+
+            // 合并前再次校验配额，防止初始化后并发上传导致超额
+            boolean isVideo = "video".equals(session.getCategory());
+            ApiResult<?> validateResult = isVideo
+                    ? videoService.validateUpload(session.getUserId(), session.getFileName(), session.getFileSize())
+                    : imageService.validateUpload(session.getUserId(), session.getFileName(), session.getFileSize());
+            if (validateResult.getCode() != 200) {
+                abort(session);
+                return ApiResult.error(validateResult.getMessage());
+            }
+
+            Map<Integer, String> partETags = new HashMap<>();
+            entries.forEach((k, v) -> partETags.put(Integer.parseInt(k.toString()) + 1, v == null ? "" : v.toString()));
+
+            IStorageService storage = storageFactory.getService(session.getStorageType());
+            String url = storage.completeMultipartUpload(session.getRelativePath(), session.getMultipartId(), partETags);
+
+            UploadResult uploadResult = new UploadResult();
+            uploadResult.setUrl(url);
+            uploadResult.setStorageType(session.getStorageType());
+            uploadResult.setRelativePath(session.getRelativePath());
+            uploadResult.setSize(session.getFileSize());
+            if (needLocalFile(session.getCategory())) {
+                if (session.getLocalCopyPath() != null) {
+                    uploadResult.setLocalFile(new File(session.getLocalCopyPath()));
+                    uploadResult.setTemporary(true);
+                } else {
+                    uploadResult.setLocalFile(storage.getLocalFile(url));
+                    uploadResult.setTemporary(false);
+                }
+                uploadResult.setSha256(sha256(uploadResult.getLocalFile()));
+            }
+
+            // 与普通上传一致：创建记录并触发 EXIF/封面处理 (相同内容已存在时引用已有文件并删除本次合并的文件)
+            ApiResult<?> result;
+            try {
+                result = isVideo
+                        ? videoService.saveUploaded(session.getUserId(), session.getAlbumId(), session.getFileName(), uploadResult)
+                        : imageService.saveUploaded(session.getUserId(), session.getAlbumId(), session.getCategory(), session.getFileName(), uploadResult);
+            } catch (RuntimeException e) {
+                // 分片已合并，清理任务无法再中止；删除合并后的文件与本地副本后结束会话
+                log.error("分片上传入库失败，删除已合并的文件: uploadId={}, path={}", uploadId, session.getRelativePath(), e);
+                discardCompleted(session, storage, url);
+                throw e;
+            }
+
+            // 入库成功后再结束会话
+            redisTemplate.delete(List.of(sessionKey(uploadId), partsKey(uploadId)));
+            unregister(session);
+            return result;
+        } finally {
+            redisTemplate.delete(lockKey);
+        }
+    }
+
+    private ChunkUploadSession getSession(String uploadId) {
+        if (StringUtils.isBlank(uploadId)) {
+            return null;
+        }
+        Object value = redisTemplate.opsForValue().get(sessionKey(uploadId));
+        if (!(value instanceof ChunkUploadSession session)) {
+            return null;
+        }
+        // 只能操作自己的上传任务
+        if (!session.getUserId().equals(StpUtil.getLoginIdAsLong())) {
+            return null;
+        }
+        return session;
+    }
+
+    private List<Integer> getUploadedChunks(String uploadId) {
+        return redisTemplate.opsForHash().keys(partsKey(uploadId)).stream()
+                .map(k -> Integer.parseInt(k.toString()))
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    public int sweepExpired(int limit) {
+        Set<Object> expired = redisTemplate.opsForZSet()
+                .rangeByScore(Constant.ChunkUpload.EXPIRY_KEY, 0, System.currentTimeMillis(), 0, limit);
+        if (expired == null || expired.isEmpty()) {
+            return 0;
+        }
+        for (Object member : expired) {
+            String uploadId = member.toString();
+            Object value = redisTemplate.opsForHash().get(Constant.ChunkUpload.SESSIONS_KEY, uploadId);
+            if (!(value instanceof ChunkUploadSession session)) {
+                redisTemplate.opsForZSet().remove(Constant.ChunkUpload.EXPIRY_KEY, uploadId);
+                continue;
+            }
+            // 续期与更新索引不是原子的，会话仍存在时按剩余有效期重新登记
+            Long ttl = redisTemplate.getExpire(sessionKey(uploadId), TimeUnit.MILLISECONDS);
+            if (ttl != null && ttl > 0) {
+                redisTemplate.opsForZSet().add(Constant.ChunkUpload.EXPIRY_KEY, uploadId, System.currentTimeMillis() + ttl);
+                continue;
+            }
+            try {
+                abort(session);
+                log.info("过期分片上传已清理: uploadId={}, userId={}", uploadId, session.getUserId());
+            } catch (Exception e) {
+                // 保留索引，下次重试
+                log.warn("过期分片上传清理失败: uploadId={}", uploadId, e);
+            }
+        }
+        return expired.size();
+    }
+
+    private void abort(ChunkUploadSession session) {
+        storageFactory.getService(session.getStorageType()).abortMultipartUpload(session.getRelativePath(), session.getMultipartId());
+        // 本地副本只存在于接收分片的节点，其他节点上的副本由各节点的临时文件清理删除
+        if (session.getLocalCopyPath() != null) {
+            new File(session.getLocalCopyPath()).delete();
+        }
+        redisTemplate.delete(List.of(sessionKey(session.getUploadId()), partsKey(session.getUploadId())));
+        unregister(session);
+    }
+
+    /**
+     * 删除已合并的文件与本地副本并结束会话 (合并后入库失败时调用)
+     */
+    private void discardCompleted(ChunkUploadSession session, IStorageService storage, String url) {
+        try {
+            storage.delete(url);
+        } catch (Exception e) {
+            log.error("删除已合并的文件失败: {}", url, e);
+        }
+        if (session.getLocalCopyPath() != null) {
+            new File(session.getLocalCopyPath()).delete();
+        }
+        redisTemplate.delete(List.of(sessionKey(session.getUploadId()), partsKey(session.getUploadId())));
+        unregister(session);
+    }
+
+    /**
+     * 移出过期索引与用户未完成会话索引
+     */
+    private void unregister(ChunkUploadSession session) {
+        redisTemplate.opsForHash().delete(Constant.ChunkUpload.SESSIONS_KEY, session.getUploadId());
+        redisTemplate.opsForZSet().remove(Constant.ChunkUpload.EXPIRY_KEY, session.getUploadId());
+        redisTemplate.opsForZSet().remove(Constant.ChunkUpload.USER_KEY_PREFIX + session.getUserId(), session.getUploadId());
+    }
+
+    private double expireAt(long now) {
+        return now + Constant.ChunkUpload.EXPIRE_SECONDS * 1000;
+    }
+
+    private String sha256(MultipartFile chunk) throws IOException {
+        try (MediaInputStream in = new MediaInputStream(chunk.getInputStream())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return in.getSha256();
+        }
+    }
+
+    private String sha256(File file) {
+        if (file == null || !file.exists()) {
+            return null;
+        }
+        try (MediaInputStream in = new MediaInputStream(Files.newInputStream(file.toPath()))) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return in.getSha256();
+        } catch (IOException e) {
+            log.warn("计算文件摘要失败: {}", file, e);
+            return null;
+        }
+    }
+
+    private boolean needLocalFile(String category) {
+        return "image".equals(category) || "video".equals(category);
+    }
+
+    private ChunkUploadDTO toDTO(ChunkUploadSession session, List<Integer> uploadedChunks) {
+        ChunkUploadDTO dto = new ChunkUploadDTO();
+        dto.setUploadId(session.getUploadId());
+        dto.setFileName(session.getFileName());
+        dto.setFileSize(session.getFileSize());
+        dto.setChunkSize(session.getChunkSize());
+        dto.setTotalChunks(session.getTotalChunks());
+        dto.setCategory(session.getCategory());
+        dto.setAlbumId(session.getAlbumId());
+        dto.setUploadedChunks(uploadedChunks);
+        return dto;
+    }
+
+    private String sessionKey(String uploadId) {
+        return Constant.ChunkUpload.KEY_PREFIX + uploadId;
+    }
+
+    private String partsKey(String uploadId) {
+        return Constant.ChunkUpload.KEY_PREFIX + uploadId + ":parts";
+    }
+}
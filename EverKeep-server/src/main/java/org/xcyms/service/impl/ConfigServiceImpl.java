@@ -4,7 +4,8 @@ import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.xcyms.common.ApiResult;
@@ -31,9 +32,10 @@ import java.util.stream.Collectors;
 public class ConfigServiceImpl extends ServiceImpl<ConfigMapper, Config> implements IConfigService {
 
     private final ModelMapper modelMapper;
+    private final CacheManager cacheManager;
 
     @Override
-    @Cacheable(value = Constant.Cache.CONFIG, key = "'val:' + (#userId == null || #userId == 0 ? 'sys' : #userId) + ':' + #key", unless = "#result == null")
+    @Cacheable(value = Constant.Cache.CONFIG, key = "'val:' + (#userId == null || #userId == 0 ? 'sys' : #userId) + ':' + #key", sync = true)
     public String getConfigValue(Long userId, String key) {
         // 归一化 userId: 0 视为 null (系统配置)
         final Long finalUserId = (userId != null && userId == 0) ? null : userId;
@@ -57,7 +59,7 @@ public class ConfigServiceImpl extends ServiceImpl<ConfigMapper, Config> impleme
     }
 
     @Override
-    @Cacheable(value = Constant.Cache.CONFIG, key = "'list:' + (#userId == null ? 'sys' : #userId)", unless = "#result == null")
+    @Cacheable(value = Constant.Cache.CONFIG, key = "'list:' + (#userId == null ? 'sys' : #userId)", sync = true)
     public List<ConfigDTO> getUserConfigs(Long userId) {
         // 1. 获取所有系统默认配置
         List<Config> defaultConfigs = this.list(new LambdaQueryWrapper<Config>().isNull(Config::getUserId));
@@ -84,7 +86,6 @@ public class ConfigServiceImpl extends ServiceImpl<ConfigMapper, Config> impleme
     }
 
     @Override
-    @CacheEvict(value = Constant.Cache.CONFIG, allEntries = true)
     public ApiResult<Boolean> updateConfig(ConfigDTO configDTO) {
         Long targetUserId = configDTO.getUserId();
         // 归一化 userId: 0 视为 null (系统配置)
@@ -107,14 +108,36 @@ public class ConfigServiceImpl extends ServiceImpl<ConfigMapper, Config> impleme
         Config configToSave = modelMapper.map(configDTO, Config.class);
         configToSave.setUserId(targetUserId);
 
+        boolean result;
         if (existingConfig != null) {
             // 如果已存在该用户的配置记录，则更新它
             configToSave.setId(existingConfig.getId());
-            return ApiResult.success(this.updateById(configToSave));
+            result = this.updateById(configToSave);
         } else {
             // 如果不存在（即目前使用的是系统默认值），则为该用户新增一条配置记录
             configToSave.setId(null);
-            return ApiResult.success(this.save(configToSave));
+            result = this.save(configToSave);
         }
+
+        // 写库之后再失效缓存
+        evictConfigCache(targetUserId, key);
+        return ApiResult.success(result);
+    }
+
+    /**
+     * 按影响范围失效配置缓存
+     * 用户配置只影响该用户的 (userId, key) 与配置列表；系统默认配置会被所有未覆盖的用户继承，需要清空整个配置缓存
+     */
+    private void evictConfigCache(Long userId, String key) {
+        Cache cache = cacheManager.getCache(Constant.Cache.CONFIG);
+        if (cache == null) {
+            return;
+        }
+        if (userId == null) {
+            cache.clear();
+            return;
+        }
+        cache.evict("val:" + userId + ":" + key);
+        cache.evict("list:" + userId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,219 @@
+package org.xcyms.service.impl;
+
+import cn.dev33.satoken.stp.StpUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.xcyms.common.ApiResult;
+import org.xcyms.common.Constant;
+import org.xcyms.entity.dto.DirectUploadDTO;
+import org.xcyms.entity.dto.DirectUploadSession;
+import org.xcyms.service.IDirectUploadService;
+import org.xcyms.service.IImageService;
+import org.xcyms.service.IVideoService;
+import org.xcyms.service.storage.IStorageService;
+import org.xcyms.service.storage.StorageFactory;
+import org.xcyms.service.storage.UploadResult;
+import org.xcyms.utils.FileTypeSniffer;
+import org.xcyms.utils.IdGenerator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * 客户端直传 服务实现类
+ * 文件内容由客户端直接写入 S3/COS 的暂存对象，应用服务器只读取对象元数据和文件头：
+ * 完成回调中先将暂存对象复制到正式路径并删除暂存对象 (预签名地址在有效期内可被重复使用，只能覆盖暂存对象)，
+ * 再对正式对象确认实际大小、重新校验配额、嗅探文件头校验真实格式，不符时删除对象；
+ * 入库后的缩略图/EXIF/封面处理由 MediaJobWorker 在处理节点上从存储下载原文件完成。
+ * 直传的文件没有在服务端计算摘要，不参与内容去重。
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-23
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DirectUploadServiceImpl implements IDirectUploadService {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StorageFactory storageFactory;
+    private final IImageService imageService;
+    private final IVideoService videoService;
+
+    @Override
+    public ApiResult<DirectUploadDTO> init(DirectUploadDTO directUploadDTO) {
+        String fileName = directUploadDTO.getFileName();
+        Long fileSize = directUploadDTO.getFileSize();
+        if (StringUtils.isBlank(fileName)) {
+            return ApiResult.error("文件名不能为空");
+        }
+        if (fileSize == null || fileSize <= 0) {
+            return ApiResult.error("文件不能为空");
+        }
+
+        String storageType = storageFactory.getServiceType();
+        IStorageService storage = storageFactory.getService(storageType);
+        if (storage.isLocal()) {
+            return ApiResult.error("当前存储不支持直传，请使用普通上传");
+        }
+
+        Long userId = StpUtil.getLoginIdAsLong();
+        String category = StringUtils.defaultIfBlank(directUploadDTO.getCategory(), "image");
+        boolean isVideo = "video".equals(category);
+
+        // 1. 验证 (配额、大小、格式)，与普通上传规则一致
+        ApiResult<?> validateResult = validate(isVideo, userId, fileName, fileSize);
+        if (validateResult.getCode() != 200) {
+            return ApiResult.error(validateResult.getMessage());
+        }
+
+        // 2. 路径处理
+        String ext = fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
+        String relativePath = (isVideo ? videoService.getRelativePath(userId, category) : imageService.getRelativePath(userId, category))
+                + IdGenerator.nextIdStr() + "." + ext;
+
+        // 3. 签发暂存对象的上传地址
+        String uploadId = IdGenerator.nanoId();
+        String stagingPath = Constant.DirectUpload.STAGING_PREFIX + uploadId + "." + ext;
+        String uploadUrl = storage.presignUpload(stagingPath, Constant.DirectUpload.URL_EXPIRE_SECONDS);
+        if (uploadUrl == null) {
+            return ApiResult.error("当前存储不支持直传，请使用普通上传");
+        }
+
+        DirectUploadSession session = new DirectUploadSession();
+        session.setUploadId(uploadId);
+        session.setUserId(userId);
+        session.setAlbumId(directUploadDTO.getAlbumId());
+        session.setCategory(category);
+        session.setFileName(fileName);
+        session.setExt(ext);
+        session.setFileSize(fileSize);
+        session.setRelativePath(relativePath);
+        session.setStagingPath(stagingPath);
+        session.setStorageType(storageType);
+        redisTemplate.opsForValue().set(sessionKey(session.getUploadId()), session, Constant.DirectUpload.EXPIRE_SECONDS, TimeUnit.SECONDS);
+
+        DirectUploadDTO dto = new DirectUploadDTO();
+        dto.setUploadId(session.getUploadId());
+        dto.setFileName(fileName);
+        dto.setFileSize(fileSize);
+        dto.setCategory(category);
+        dto.setAlbumId(session.getAlbumId());
+        dto.setUploadUrl(uploadUrl);
+        dto.setExpireSeconds(Constant.DirectUpload.URL_EXPIRE_SECONDS);
+        return ApiResult.success(dto);
+    }
+
+    @Override
+    public ApiResult<?> complete(String uploadId) {
+        DirectUploadSession session = getSession(uploadId);
+        if (session == null) {
+            return ApiResult.error("上传任务不存在或已过期");
+        }
+
+        String lockKey = sessionKey(uploadId) + ":lock";
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, 1, 5, TimeUnit.MINUTES);
+        if (!Boolean.TRUE.equals(locked)) {
+            return ApiResult.error("上传正在处理，请勿重复提交");
+        }
+
+        try {
+            IStorageService storage = storageFactory.getService(session.getStorageType());
+            String relativePath = session.getRelativePath();
+
+            // 1. 确认暂存对象已写入
+            long stagingSize = storage.getObjectSize(session.getStagingPath());
+            if (stagingSize < 0) {
+                return ApiResult.error("文件尚未上传完成");
+            }
+            if (stagingSize != session.getFileSize()) {
+                log.warn("直传文件大小与声明不符: uploadId={}, declared={}, actual={}", uploadId, session.getFileSize(), stagingSize);
+                discard(session, storage);
+                return ApiResult.error("文件大小与声明不符");
+            }
+
+            // 2. 复制到正式路径后删除暂存对象：之后的校验与处理都针对正式对象，客户端无法再覆盖
+            storage.copy(session.getStagingPath(), relativePath);
+            storage.delete(storage.getUrl(session.getStagingPath()));
+
+            // 3. 确认正式对象大小与声明一致 (预签名 PUT 无法限制请求体大小，只能事后校验；复制前暂存对象可能被再次覆盖)
+            long size = storage.getObjectSize(relativePath);
+            if (size != session.getFileSize()) {
+                log.warn("直传文件大小与声明不符: uploadId={}, declared={}, actual={}", uploadId, session.getFileSize(), size);
+                discard(session, storage);
+                return ApiResult.error("文件大小与声明不符");
+            }
+
+            // 4. 入库前再次校验配额，防止签发后并发上传导致超额
+            boolean isVideo = "video".equals(session.getCategory());
+            ApiResult<?> validateResult = validate(isVideo, session.getUserId(), session.getFileName(), size);
+            if (validateResult.getCode() != 200) {
+                discard(session, storage);
+                return ApiResult.error(validateResult.getMessage());
+            }
+
+            // 5. 只读取文件头校验真实格式
+            String detectedType = FileTypeSniffer.detect(storage.readHead(relativePath, FileTypeSniffer.HEAD_SIZE));
+            if (!FileTypeSniffer.matches(detectedType, session.getExt())) {
+                log.warn("直传文件内容与后缀不符: uploadId={}, ext={}, detected={}", uploadId, session.getExt(), detectedType);
+                discard(session, storage);
+                return ApiResult.error("文件内容与格式不符");
+            }
+
+            UploadResult uploadResult = new UploadResult();
+            uploadResult.setUrl(storage.getUrl(relativePath));
+            uploadResult.setStorageType(session.getStorageType());
+            uploadResult.setRelativePath(relativePath);
+            uploadResult.setSize(size);
+            uploadResult.setDetectedType(detectedType);
+
+            redisTemplate.delete(sessionKey(uploadId));
+
+            // 与普通上传一致：创建记录并提交处理任务 (没有本地文件，由任务从存储下载)
+            if (isVideo) {
+                return videoService.saveUploaded(session.getUserId(), session.getAlbumId(), session.getFileName(), uploadResult);
+            }
+            return imageService.saveUploaded(session.getUserId(), session.getAlbumId(), session.getCategory(), session.getFileName(), uploadResult);
+        } finally {
+            redisTemplate.delete(lockKey);
+        }
+    }
+
+    private ApiResult<?> validate(boolean isVideo, Long userId, String fileName, long size) {
+        return isVideo
+                ? videoService.validateUpload(userId, fileName, size)
+                : imageService.validateUpload(userId, fileName, size);
+    }
+
+    private DirectUploadSession getSession(String uploadId) {
+        if (StringUtils.isBlank(uploadId)) {
+            return null;
+        }
+        Object value = redisTemplate.opsForValue().get(sessionKey(uploadId));
+        if (!(value instanceof DirectUploadSession session)) {
+            return null;
+        }
+        // 只能操作自己的上传任务
+        if (!session.getUserId().equals(StpUtil.getLoginIdAsLong())) {
+            return null;
+        }
+        return session;
+    }
+
+    /**
+     * 校验失败时删除客户端写入的暂存对象与已复制的正式对象，并结束会话
+     */
+    private void discard(DirectUploadSession session, IStorageService storage) {
+        storage.deleteAll(List.of(storage.getUrl(session.getStagingPath()), storage.getUrl(session.getRelativePath())));
+        redisTemplate.delete(sessionKey(session.getUploadId()));
+    }
+
+    private String sessionKey(String uploadId) {
+        return Constant.DirectUpload.KEY_PREFIX + uploadId;
+    }
+}
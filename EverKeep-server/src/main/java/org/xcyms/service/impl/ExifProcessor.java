@@ -1,6 +1,7 @@
 package org.xcyms.service.impl;
 
 import com.drew.imaging.ImageMetadataReader;
+import com.drew.imaging.ImageProcessingException;
 import com.drew.metadata.Metadata;
 import com.drew.metadata.exif.ExifIFD0Directory;
 import com.drew.metadata.exif.ExifSubIFDDirectory;
@@ -8,17 +9,30 @@ import com.drew.metadata.exif.GpsDirectory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.coobird.thumbnailator.Thumbnails;
-import org.springframework.scheduling.annotation.Async;
+import net.coobird.thumbnailator.util.exif.Orientation;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.xcyms.common.Constant;
+import org.xcyms.common.enums.YesNoEnum;
 import org.xcyms.entity.Image;
 import org.xcyms.mapper.ImageMapper;
+import org.xcyms.service.ISimilarImageService;
 import org.xcyms.service.storage.StorageFactory;
+import org.xcyms.utils.ImageRenditions;
+import org.xcyms.utils.PerceptualHash;
 
+import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 /**
  * <p>
@@ -35,109 +49,165 @@ public class ExifProcessor {
 
     private final ImageMapper imageMapper;
     private final StorageFactory storageFactory;
+    private final ImageDecoder imageDecoder;
+    private final ISimilarImageService similarImageService;
 
     /**
-     * 异步提取并更新图片元数据
-     * @param file 物理临时文件
+     * 生成的缩略图尺寸 (长边像素)
+     */
+    @Value("${everkeep.image.renditions:160,400,1080,2048}")
+    private List<Integer> renditionSizes;
+
+    /**
+     * 计算阶段：生成本地多尺寸缩略图并提取图片元数据 (在媒体计算线程池中执行)
+     * 任务可重复执行：缩略图路径固定、数据库按ID覆盖更新
+     * @param file 本地原图文件 (由调用方负责清理)
      * @param imageId 数据库记录ID
      * @param originalUrl 原始图片Web访问路径
+     * @return 待发布的结果，发布时上传各尺寸缩略图并更新数据库
+     * @throws Exception 缩略图生成失败，由任务重试
      */
-    @Async("ioExecutor")
-    public void processExifAsync(File file, Long imageId, String originalUrl) {
-        log.info("开始异步处理图片: {}, ID: {}, URL: {}", file.getName(), imageId, originalUrl);
-        File thumbFile = null;
-        try {
-            if (!file.exists()) {
-                log.warn("文件不存在，跳过处理: {}", file.getAbsolutePath());
-                return;
-            }
-
-            Image updateImage = new Image();
-            updateImage.setId(imageId);
+    public ProcessedMedia process(File file, Long imageId, String originalUrl) throws Exception {
+        log.info("开始处理图片: {}, ID: {}, URL: {}", file.getName(), imageId, originalUrl);
+        if (!file.exists()) {
+            throw new FileNotFoundException("文件不存在: " + file.getAbsolutePath());
+        }
 
-            // 1. 生成并上传缩略图
-            try {
-                String originalPath = file.getAbsolutePath();
-                String thumbnailPath = insertBeforeExtension(originalPath);
-                thumbFile = new File(thumbnailPath);
+        Image updateImage = new Image();
+        updateImage.setId(imageId);
 
-                log.debug("准备生成缩略图: {} -> {}", originalPath, thumbnailPath);
+        // 1. 解析 EXIF 信息 (格式不支持等解析失败不影响缩略图结果，也不重试)
+        Metadata metadata = null;
+        try {
+            metadata = ImageMetadataReader.readMetadata(file);
+            readExif(metadata, updateImage);
+        } catch (ImageProcessingException | IOException e) {
+            log.warn("EXIF 解析失败 (ID: {}): {}", imageId, e.getMessage());
+        }
 
-                Thumbnails.of(file)
-                        .size(400, 400)
-                        .outputQuality(0.8)
-                        .toFile(thumbFile);
+        // 2. 生成多尺寸缩略图，与原图使用相同的相对路径，文件名后加尺寸后缀
+        String relativePath = extractRelativePath(originalUrl);
+        String format = relativePath.substring(relativePath.lastIndexOf(".") + 1).toLowerCase();
+        Pyramid pyramid = renderPyramid(file, format, imageDecoder.readOrientation(metadata));
+        TreeMap<Integer, File> renditions = pyramid.renditions();
+
+        updateImage.setPhash(pyramid.phash());
+        updateImage.setRenditionSizes(ImageRenditions.join(renditions.keySet()));
+        // 兼容只使用 thumbnail_url 的客户端：取不小于旧版缩略图尺寸的最小尺寸，原图较小时取最大尺寸
+        Integer thumbnailSize = renditions.ceilingKey(Constant.Rendition.THUMBNAIL_SIZE);
+        int thumbSize = thumbnailSize != null ? thumbnailSize : renditions.lastKey();
+
+        return new ProcessedMedia(new ArrayList<>(renditions.values()), () -> {
+            for (Map.Entry<Integer, File> entry : renditions.entrySet()) {
+                String url = storageFactory.getService().upload(entry.getValue(), ImageRenditions.path(relativePath, entry.getKey()));
+                if (entry.getKey() == thumbSize) {
+                    updateImage.setThumbnailUrl(url);
+                }
+            }
+            log.info("多尺寸缩略图上传成功: ID: {}, 尺寸: {}", imageId, updateImage.getRenditionSizes());
 
-                // 上传缩略图 (使用与原图相同的相对路径逻辑，但在文件名后加后缀)
-                // 注意：这里需要从 originalUrl 中提取出相对路径
-                // 简化处理：我们直接从存储服务获取上传路径逻辑，或者在 uploadImage 时就把 relativePath 传过来
-                // 为了简单，我们这里假设 relativePath 可以从 originalUrl 推导，或者干脆重新生成
+            imageMapper.updateById(updateImage);
+            log.info("图片处理完成（EXIF/缩略图）: {}", imageId);
 
-                // 改进：我们这里需要 thumbnail 的相对路径
-                // 暂时简单处理，从 originalUrl 提取相对路径部分
-                String relativeUrl = extractRelativePath(originalUrl);
-                String thumbRelativePath = insertBeforeExtension(relativeUrl);
+            // 加入所属用户的相似图片索引 (已删除的图片恢复时再加入)
+            Image current = imageMapper.selectWithDeleted(imageId);
+            if (current != null && current.getDeleted() != YesNoEnum.YES) {
+                similarImageService.add(current.getUserId(), imageId, pyramid.phash());
+            }
+        });
+    }
 
-                String thumbUrl = storageFactory.getService().upload(thumbFile, thumbRelativePath);
-                updateImage.setThumbnailUrl(thumbUrl);
+    /**
+     * 多尺寸缩略图及感知哈希
+     *
+     * @param renditions 尺寸 -> 本地临时文件
+     * @param phash      由最小尺寸缩略图计算的 dHash
+     */
+    private record Pyramid(TreeMap<Integer, File> renditions, long phash) {
+    }
 
-                log.info("缩略图生成并上传成功: {}", thumbUrl);
-            } catch (Exception e) {
-                log.error("缩略图处理失败 (ID: {}): {}", imageId, e.getMessage());
+    /**
+     * 只降采样解码一次原图，按尺寸从大到小逐级缩小 (每级以上一级结果为输入)
+     * 不放大：不小于原图长边的尺寸中只保留最小的一个，按原图尺寸重新压缩；
+     * 感知哈希取自最小一级的缩小结果 (已按 EXIF 方向旋转)，不再额外解码
+     *
+     * @param file        原图文件
+     * @param format      输出格式 (与原图一致)
+     * @param orientation EXIF 方向，可为 null
+     */
+    private Pyramid renderPyramid(File file, String format, Orientation orientation) throws IOException {
+        TreeSet<Integer> sizes = new TreeSet<>();
+        for (Integer size : renditionSizes) {
+            if (size != null && size > 0) {
+                sizes.add(size);
             }
+        }
+        if (sizes.isEmpty()) {
+            sizes.add(Constant.Rendition.THUMBNAIL_SIZE);
+        }
 
-            // 2. 解析 EXIF 信息
-            Metadata metadata = ImageMetadataReader.readMetadata(file);
-            boolean hasExif = false;
+        int maxSize = sizes.last();
+        return imageDecoder.decode(file, maxSize, maxSize, false, orientation, source -> renderPyramid(source, sizes, format));
+    }
 
-            // 1. 机身信息
-            ExifIFD0Directory ifd0Dir = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
-            if (ifd0Dir != null) {
-                updateImage.setMake(ifd0Dir.getString(ExifIFD0Directory.TAG_MAKE));
-                updateImage.setModel(ifd0Dir.getString(ExifIFD0Directory.TAG_MODEL));
-                hasExif = true;
-            }
+    private Pyramid renderPyramid(BufferedImage source, TreeSet<Integer> sizes, String format) throws IOException {
+        int longEdge = Math.max(source.getWidth(), source.getHeight());
+        Integer cap = sizes.ceiling(longEdge);
+        if (cap != null) {
+            sizes.tailSet(cap, false).clear();
+        }
 
-            // 2. 拍摄参数
-            ExifSubIFDDirectory subIfdDir = metadata.getFirstDirectoryOfType(ExifSubIFDDirectory.class);
-            if (subIfdDir != null) {
-                updateImage.setExposureTime(subIfdDir.getString(ExifSubIFDDirectory.TAG_EXPOSURE_TIME));
-                updateImage.setFNumber(subIfdDir.getString(ExifSubIFDDirectory.TAG_FNUMBER));
-                updateImage.setIso(subIfdDir.getString(ExifSubIFDDirectory.TAG_ISO_EQUIVALENT));
-                updateImage.setFocalLength(subIfdDir.getString(ExifSubIFDDirectory.TAG_FOCAL_LENGTH));
-                updateImage.setLensModel(subIfdDir.getString(ExifSubIFDDirectory.TAG_LENS_MODEL));
-
-                Date date = subIfdDir.getDate(ExifSubIFDDirectory.TAG_DATETIME_ORIGINAL);
-                if (date != null) {
-                    updateImage.setTakeTime(LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()));
-                }
-                hasExif = true;
+        TreeMap<Integer, File> renditions = new TreeMap<>();
+        try {
+            BufferedImage previous = source;
+            for (Integer size : sizes.descendingSet()) {
+                int target = Math.min(size, longEdge);
+                BufferedImage scaled = target == longEdge ? previous : Thumbnails.of(previous).size(target, target).asBufferedImage();
+
+                File output = File.createTempFile("rendition_", "." + format);
+                renditions.put(size, output);
+                Thumbnails.of(scaled)
+                        .scale(1.0)
+                        .outputFormat(format)
+                        .outputQuality(Constant.Rendition.QUALITY)
+                        .toFile(output);
+                previous = scaled;
             }
+            return new Pyramid(renditions, PerceptualHash.dHash(previous));
+        } catch (IOException | RuntimeException e) {
+            renditions.values().forEach(File::delete);
+            throw e;
+        }
+    }
 
-            // 3. GPS信息
-            GpsDirectory gpsDir = metadata.getFirstDirectoryOfType(GpsDirectory.class);
-            if (gpsDir != null && gpsDir.getGeoLocation() != null) {
-                updateImage.setLat(String.valueOf(gpsDir.getGeoLocation().getLatitude()));
-                updateImage.setLng(String.valueOf(gpsDir.getGeoLocation().getLongitude()));
-                hasExif = true;
-            }
+    private void readExif(Metadata metadata, Image updateImage) {
+        // 1. 机身信息
+        ExifIFD0Directory ifd0Dir = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
+        if (ifd0Dir != null) {
+            updateImage.setMake(ifd0Dir.getString(ExifIFD0Directory.TAG_MAKE));
+            updateImage.setModel(ifd0Dir.getString(ExifIFD0Directory.TAG_MODEL));
+        }
 
-            // 无论是否有 EXIF，只要生成了缩略图也需要更新
-            if (hasExif || updateImage.getThumbnailUrl() != null) {
-                imageMapper.updateById(updateImage);
-                log.info("图片处理完成（EXIF/缩略图）: {}", imageId);
+        // 2. 拍摄参数
+        ExifSubIFDDirectory subIfdDir = metadata.getFirstDirectoryOfType(ExifSubIFDDirectory.class);
+        if (subIfdDir != null) {
+            updateImage.setExposureTime(subIfdDir.getString(ExifSubIFDDirectory.TAG_EXPOSURE_TIME));
+            updateImage.setFNumber(subIfdDir.getString(ExifSubIFDDirectory.TAG_FNUMBER));
+            updateImage.setIso(subIfdDir.getString(ExifSubIFDDirectory.TAG_ISO_EQUIVALENT));
+            updateImage.setFocalLength(subIfdDir.getString(ExifSubIFDDirectory.TAG_FOCAL_LENGTH));
+            updateImage.setLensModel(subIfdDir.getString(ExifSubIFDDirectory.TAG_LENS_MODEL));
+
+            Date date = subIfdDir.getDate(ExifSubIFDDirectory.TAG_DATETIME_ORIGINAL);
+            if (date != null) {
+                updateImage.setTakeTime(LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()));
             }
+        }
 
-        } catch (Exception e) {
-            log.error("EXIF 异步解析失败: {}", file.getName(), e);
-        } finally {
-            // 清理临时文件
-            if (file.exists()) {
-                file.delete();
-            }
-            if (thumbFile != null && thumbFile.exists()) {
-                thumbFile.delete();
-            }
+        // 3. GPS信息
+        GpsDirectory gpsDir = metadata.getFirstDirectoryOfType(GpsDirectory.class);
+        if (gpsDir != null && gpsDir.getGeoLocation() != null) {
+            updateImage.setLat(String.valueOf(gpsDir.getGeoLocation().getLatitude()));
+            updateImage.setLng(String.valueOf(gpsDir.getGeoLocation().getLongitude()));
         }
     }
 
@@ -154,12 +224,4 @@ public class ExifProcessor {
             return url;
         }
     }
-    private String insertBeforeExtension(String path) {
-        if (path == null) return null;
-        int lastDotIndex = path.lastIndexOf(".");
-        if (lastDotIndex == -1) {
-            return path + Constant.THUMBNAIL_SUFFIX;
-        }
-        return path.substring(0, lastDotIndex) + Constant.THUMBNAIL_SUFFIX + path.substring(lastDotIndex);
-    }
 }
\ No newline at end of file
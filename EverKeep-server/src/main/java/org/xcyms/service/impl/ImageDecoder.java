@@ -0,0 +1,190 @@
+package org.xcyms.service.impl;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.imaging.ImageProcessingException;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.exif.ExifIFD0Directory;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.util.exif.ExifFilterUtils;
+import net.coobird.thumbnailator.util.exif.Orientation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * 图片降采样解码 (缩略图生成、按需缩放共用)
+ * 解码器按整数步长隔行隔列取样，直接输出接近目标尺寸的图像，不在堆中生成全尺寸位图；
+ * 步长取不使图像小于目标尺寸的最大值 (之后由 Thumbnailator 平滑缩小)，再按单次解码内存上限继续增大步长。
+ * 指标：media.decode.bytes 单次解码的位图大小，media.decode.inflight.bytes 当前解码位图占用的内存。
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月19日 14:20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageDecoder {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 单次解码原图的内存上限，超过时增大降采样步长
+     */
+    @Value("${everkeep.image.max-decode-size:64MB}")
+    private DataSize maxDecodeSize;
+
+    /** 单次解码的位图大小 */
+    private DistributionSummary decodeBytes;
+
+    /** 当前所有解码位图占用的内存 */
+    private final AtomicLong decodingBytes = new AtomicLong();
+
+    /**
+     * 使用解码结果的处理逻辑 (允许抛出 IOException)
+     */
+    @FunctionalInterface
+    public interface ImageHandler<T> {
+        T handle(BufferedImage image) throws IOException;
+    }
+
+    @PostConstruct
+    public void initMetrics() {
+        decodeBytes = DistributionSummary.builder("media.decode.bytes")
+                .baseUnit("bytes")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("media.decode.inflight.bytes", decodingBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 降采样解码并按 EXIF 方向旋转，在处理逻辑执行期间计入解码内存
+     *
+     * @param file         原图文件
+     * @param targetWidth  目标宽度 (按旋转后的方向)，0 表示不限制
+     * @param targetHeight 目标高度 (按旋转后的方向)，0 表示不限制
+     * @param cover        true: 解码结果需覆盖目标区域 (裁剪/拉伸)；false: 只需容纳在目标区域内
+     * @param orientation  EXIF 方向，可为 null
+     * @param handler      使用解码结果的处理逻辑
+     */
+    public <T> T decode(File file, int targetWidth, int targetHeight, boolean cover, Orientation orientation,
+                        ImageHandler<T> handler) throws IOException {
+        // 旋转 90/270 度的图片，存储方向的宽高与目标宽高对调
+        boolean transposed = orientation == Orientation.LEFT_TOP || orientation == Orientation.RIGHT_TOP
+                || orientation == Orientation.RIGHT_BOTTOM || orientation == Orientation.LEFT_BOTTOM;
+        BufferedImage image = transposed
+                ? subsample(file, targetHeight, targetWidth, cover)
+                : subsample(file, targetWidth, targetHeight, cover);
+        long bytes = sizeOf(image);
+        decodeBytes.record(bytes);
+        decodingBytes.addAndGet(bytes);
+        try {
+            if (orientation != null && orientation != Orientation.TOP_LEFT) {
+                image = ExifFilterUtils.getFilterForOrientation(orientation).apply(image);
+            }
+            return handler.handle(image);
+        } finally {
+            decodingBytes.addAndGet(-bytes);
+        }
+    }
+
+    /**
+     * 读取图片的 EXIF 方向，读取失败返回 null
+     */
+    public Orientation readOrientation(File file) {
+        try {
+            return readOrientation(ImageMetadataReader.readMetadata(file));
+        } catch (ImageProcessingException | IOException e) {
+            return null;
+        }
+    }
+
+    public Orientation readOrientation(Metadata metadata) {
+        if (metadata == null) {
+            return null;
+        }
+        ExifIFD0Directory ifd0Dir = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
+        Integer orientation = ifd0Dir == null ? null : ifd0Dir.getInteger(ExifIFD0Directory.TAG_ORIENTATION);
+        return orientation == null ? null : Orientation.typeOf(orientation);
+    }
+
+    private BufferedImage subsample(File file, int targetWidth, int targetHeight, boolean cover) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("不支持的图片格式: " + file.getName());
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                int factor = subsampleFactor(width, height, targetWidth, targetHeight, cover);
+                long budget = maxDecodeSize.toBytes();
+                while (factor < Math.max(width, height) && estimateBytes(width, height, factor) > budget) {
+                    factor++;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(factor, factor, 0, 0);
+                BufferedImage image = reader.read(0, param);
+                log.debug("降采样解码: {} {}x{} -> {}x{} (步长 {}, 约 {}KB)", file.getName(), width, height,
+                        image.getWidth(), image.getHeight(), factor, sizeOf(image) / 1024);
+                return image;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 不使解码结果小于目标尺寸的最大步长
+     * 容纳 (contain) 时缩放比例由较紧的一边决定，覆盖 (cover/fill) 时由较松的一边决定
+     */
+    private int subsampleFactor(int width, int height, int targetWidth, int targetHeight, boolean cover) {
+        double ratioX = targetWidth > 0 ? (double) width / targetWidth : 0;
+        double ratioY = targetHeight > 0 ? (double) height / targetHeight : 0;
+        double ratio;
+        if (ratioX == 0 || ratioY == 0) {
+            ratio = Math.max(ratioX, ratioY);
+        } else {
+            ratio = cover ? Math.min(ratioX, ratioY) : Math.max(ratioX, ratioY);
+        }
+        return Math.max(1, (int) Math.floor(ratio));
+    }
+
+    /**
+     * 按每像素 4 字节 (ARGB) 估算解码后的位图大小
+     */
+    private long estimateBytes(int width, int height, int factor) {
+        return (long) ((width + factor - 1) / factor) * ((height + factor - 1) / factor) * 4;
+    }
+
+    /**
+     * 位图实际占用的堆内存
+     */
+    private long sizeOf(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+}
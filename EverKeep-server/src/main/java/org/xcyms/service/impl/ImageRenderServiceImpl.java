@@ -0,0 +1,237 @@
+package org.xcyms.service.impl;
+
+import cn.dev33.satoken.stp.StpUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import net.coobird.thumbnailator.geometry.Positions;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.xcyms.common.Constant;
+import org.xcyms.common.cache.DiskLruCache;
+import org.xcyms.common.enums.YesNoEnum;
+import org.xcyms.entity.Image;
+import org.xcyms.mapper.ImageMapper;
+import org.xcyms.service.IImageRenderService;
+import org.xcyms.service.storage.IStorageService;
+import org.xcyms.service.storage.StorageFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * <p>
+ * 图片按需缩放 服务实现类
+ * 宽高与质量向上取到固定档位 (Constant.Render.SIZES / QUALITIES)，缓存中每张图片的尺寸组合数有上限，不能用任意尺寸刷满缓存；
+ * 同一尺寸的并发请求只缩放一次 (由磁盘缓存合并)；缩放在媒体计算线程池中执行，与缩略图任务共享 CPU 并发上限，
+ * 线程池已满时直接返回繁忙而不是在请求线程中解码。
+ * 指标：image.render.requests (result=hit/miss)，image.render.resize 缩放耗时，image.render.cache.bytes 缓存大小。
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-19
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageRenderServiceImpl implements IImageRenderService {
+
+    private static final Set<String> FITS = Set.of(Constant.Render.FIT_CONTAIN, Constant.Render.FIT_COVER, Constant.Render.FIT_FILL);
+
+    private final ImageMapper imageMapper;
+    private final StorageFactory storageFactory;
+    private final ImageDecoder imageDecoder;
+    private final MeterRegistry meterRegistry;
+
+    @Resource(name = "mediaExecutor")
+    private Executor mediaExecutor;
+
+    /**
+     * 缓存目录
+     */
+    @Value("${everkeep.render.cache-dir:${java.io.tmpdir}/everkeep-render}")
+    private String cacheDir;
+
+    /**
+     * 缓存大小上限
+     */
+    @Value("${everkeep.render.cache-max-size:2GB}")
+    private DataSize cacheMaxSize;
+
+    private DiskLruCache cache;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Timer resizeTimer;
+
+    @PostConstruct
+    public void init() throws IOException {
+        cache = new DiskLruCache(Path.of(cacheDir), cacheMaxSize.toBytes());
+        Gauge.builder("image.render.cache.bytes", cache, DiskLruCache::size).baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("image.render.cache.files", cache, DiskLruCache::count).register(meterRegistry);
+        hitCounter = Counter.builder("image.render.requests").tag("result", "hit").register(meterRegistry);
+        missCounter = Counter.builder("image.render.requests").tag("result", "miss").register(meterRegistry);
+        resizeTimer = Timer.builder("image.render.resize").publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+    }
+
+    @Override
+    public RenderedImage render(Long imageId, Integer width, Integer height, String fit, Integer quality) {
+        int requestedWidth = width == null ? 0 : width;
+        int requestedHeight = height == null ? 0 : height;
+        if (requestedWidth < 0 || requestedHeight < 0 || (requestedWidth == 0 && requestedHeight == 0)
+                || requestedWidth > Constant.Render.MAX_SIZE || requestedHeight > Constant.Render.MAX_SIZE) {
+            throw new RuntimeException("缩放尺寸不合法，宽高至少指定一个且不超过 " + Constant.Render.MAX_SIZE);
+        }
+        int w = snap(requestedWidth, Constant.Render.SIZES);
+        int h = snap(requestedHeight, Constant.Render.SIZES);
+        String mode = StringUtils.isBlank(fit) ? Constant.Render.FIT_CONTAIN : fit.toLowerCase();
+        if (!FITS.contains(mode)) {
+            throw new RuntimeException("不支持的缩放模式: " + fit);
+        }
+        // 只指定一边时裁剪/拉伸没有意义，按等比缩放处理
+        if (w == 0 || h == 0) {
+            mode = Constant.Render.FIT_CONTAIN;
+        }
+        if (quality != null && (quality < 1 || quality > 100)) {
+            throw new RuntimeException("图片质量应在 1-100 之间");
+        }
+        int q = quality == null ? Constant.Render.DEFAULT_QUALITY : snap(quality, Constant.Render.QUALITIES);
+
+        Image image = imageMapper.selectById(imageId);
+        if (image == null) {
+            throw new RuntimeException("图片不存在");
+        }
+        if (image.getStatus() != YesNoEnum.YES && !image.getUserId().equals(StpUtil.getLoginIdAsLong())) {
+            throw new RuntimeException("无权访问该图片");
+        }
+
+        // 与原图格式一致，无法写出的格式 (如 webp) 转为 jpg；质量只对 jpg 生效
+        String format = StringUtils.defaultIfBlank(image.getType(), "jpg").toLowerCase();
+        if (!ImageIO.getImageWritersByFormatName(format).hasNext()) {
+            format = "jpg";
+        }
+        boolean jpeg = "jpg".equals(format) || "jpeg".equals(format);
+        String key = imageId + "_" + w + "x" + h + "_" + mode + (jpeg ? "_q" + q : "") + "." + format;
+
+        String outputFormat = format;
+        String fitMode = mode;
+        try {
+            DiskLruCache.Snapshot cached = cache.open(key);
+            if (cached != null) {
+                hitCounter.increment();
+                return new RenderedImage(cached.stream(), cached.size(), format);
+            }
+            missCounter.increment();
+            DiskLruCache.Snapshot snapshot = cache.open(key, target -> resize(image, w, h, fitMode, jpeg ? q : 0, outputFormat, target));
+            return new RenderedImage(snapshot.stream(), snapshot.size(), format);
+        } catch (IOException e) {
+            log.error("图片缩放失败: id={}, key={}", imageId, key, e);
+            throw new RuntimeException("图片缩放失败");
+        }
+    }
+
+    /**
+     * 向上取到不小于请求值的最小档位，0 (未指定) 保持不变
+     */
+    private int snap(int value, int[] steps) {
+        if (value == 0) {
+            return 0;
+        }
+        for (int step : steps) {
+            if (step >= value) {
+                return step;
+            }
+        }
+        return steps[steps.length - 1];
+    }
+
+    /**
+     * 读取原图 (本地存储直接读取，对象存储先下载到临时文件)，在媒体计算线程池中缩放并写入目标文件
+     */
+    private void resize(Image image, int width, int height, String fit, int quality, String format, File target) throws IOException {
+        IStorageService storage = storageFactory.getServiceByUrl(image.getUrl());
+        File source = storage.getLocalFile(image.getUrl());
+        File downloaded = null;
+        try {
+            if (source == null || !source.exists()) {
+                downloaded = File.createTempFile("render_", "." + StringUtils.defaultIfBlank(image.getType(), "tmp"));
+                storage.download(storage.getRelativePath(image.getUrl()), downloaded);
+                source = downloaded;
+            }
+            File input = source;
+            Timer.Sample sample = Timer.start(meterRegistry);
+            CompletableFuture.runAsync(() -> {
+                try {
+                    scale(input, width, height, fit, quality, format, target);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, mediaExecutor).join();
+            sample.stop(resizeTimer);
+        } catch (RejectedExecutionException e) {
+            throw new RuntimeException("图片处理繁忙，请稍后重试");
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            throw e.getCause() instanceof RuntimeException ex ? ex : e;
+        } finally {
+            if (downloaded != null && downloaded.exists()) {
+                downloaded.delete();
+            }
+        }
+    }
+
+    /**
+     * 降采样解码后缩放，不放大：原图不足目标尺寸时按原图分辨率输出 (cover/fill 保持目标宽高比)
+     */
+    private void scale(File source, int width, int height, String fit, int quality, String format, File target) throws IOException {
+        boolean cover = !Constant.Render.FIT_CONTAIN.equals(fit);
+        imageDecoder.decode(source, width, height, cover, imageDecoder.readOrientation(source), decoded -> {
+            int sourceWidth = decoded.getWidth();
+            int sourceHeight = decoded.getHeight();
+            Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(decoded);
+            if (!cover) {
+                double scale = Math.min(width > 0 ? (double) width / sourceWidth : Double.MAX_VALUE,
+                        height > 0 ? (double) height / sourceHeight : Double.MAX_VALUE);
+                builder.scale(Math.min(scale, 1.0));
+            } else {
+                double shrink = Math.max(1.0, Math.max((double) width / sourceWidth, (double) height / sourceHeight));
+                int targetWidth = Math.max(1, (int) Math.round(width / shrink));
+                int targetHeight = Math.max(1, (int) Math.round(height / shrink));
+                if (Constant.Render.FIT_COVER.equals(fit)) {
+                    builder.size(targetWidth, targetHeight).crop(Positions.CENTER);
+                } else {
+                    builder.forceSize(targetWidth, targetHeight);
+                }
+            }
+            builder.outputFormat(format);
+            if (quality > 0) {
+                builder.outputQuality(quality / 100.0);
+            }
+            try (OutputStream out = new FileOutputStream(target)) {
+                builder.toOutputStream(out);
+            }
+            return null;
+        });
+    }
+}
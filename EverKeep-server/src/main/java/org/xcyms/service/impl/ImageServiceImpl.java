@@ -11,26 +11,48 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.xcyms.common.ApiResult;
 import org.xcyms.common.Constant;
+import org.xcyms.common.CursorPage;
+import org.xcyms.common.enums.YesNoEnum;
 import org.xcyms.entity.Album;
+import org.xcyms.entity.Blob;
 import org.xcyms.entity.Image;
 import org.xcyms.entity.dto.ImageDTO;
 import org.xcyms.mapper.AlbumMapper;
 import org.xcyms.mapper.ImageMapper;
+import org.xcyms.service.IBlobService;
 import org.xcyms.service.IConfigService;
 import org.xcyms.service.IImageService;
+import org.xcyms.service.IMediaJobService;
+import org.xcyms.service.ISimilarImageService;
+import org.xcyms.service.IUserUsageService;
+import org.xcyms.service.storage.IStorageService;
+import org.xcyms.service.storage.MediaUploader;
 import org.xcyms.service.storage.StorageFactory;
+import org.xcyms.service.storage.UploadResult;
 import org.xcyms.utils.IdGenerator;
+import org.xcyms.utils.ImageRenditions;
 
 import java.io.File;
 import java.io.IOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * <p>
@@ -48,8 +70,13 @@ public class ImageServiceImpl extends ServiceImpl<ImageMapper, Image> implements
     private final ModelMapper mapper;
     private final AlbumMapper albumMapper;
     private final IConfigService configService;
-    private final ExifProcessor exifProcessor;
     private final StorageFactory storageFactory;
+    private final MediaUploader mediaUploader;
+    private final IUserUsageService userUsageService;
+    private final IMediaJobService mediaJobService;
+    private final TransactionTemplate transactionTemplate;
+    private final IBlobService blobService;
+    private final ISimilarImageService similarImageService;
 
     @Override
     public ApiResult<ImageDTO> uploadImage(MultipartFile file, Long albumId, String category) {
@@ -64,7 +91,7 @@ public class ImageServiceImpl extends ServiceImpl<ImageMapper, Image> implements
         }
 
         // 1. 验证 (大小、格式)
-        ApiResult<ImageDTO> validateResult = validateFile(file, userId);
+        ApiResult<ImageDTO> validateResult = validateUpload(userId, originalFilename, file.getSize());
         if (validateResult.getCode() != 200) {
             return validateResult;
         }
@@ -75,70 +102,178 @@ public class ImageServiceImpl extends ServiceImpl<ImageMapper, Image> implements
         String newFileName = IdGenerator.nextIdStr() + suffix;
         String finalRelativePath = relativePath + newFileName;
 
-        // 3. 临时保存并上传
-        File tempFile = null;
         try {
-            tempFile = File.createTempFile("upload_", suffix);
-            file.transferTo(tempFile);
-
-            // 执行上传策略
-            String webUrl = storageFactory.getService().upload(tempFile, finalRelativePath);
-
-            // 4. 数据入库
+            // 3. 内容去重：已上传过相同内容时直接引用已有文件，跳过存储写入与缩略图/EXIF 处理
             if ("image".equals(category)) {
-                Image image = new Image();
-                image.setUserId(userId);
-                image.setAlbumId(albumId);
-                image.setName(originalFilename);
-                image.setUrl(webUrl);
-                image.setSize(file.getSize());
-                image.setType(suffix.substring(1));
-
-                this.save(image);
+                String sha256 = mediaUploader.digest(file, suffix.substring(1));
+                ApiResult<ImageDTO> duplicate = saveDuplicate(userId, albumId, originalFilename, sha256, file.getSize());
+                if (duplicate != null) {
+                    return duplicate;
+                }
+            }
 
-                // 触发异步解析 (传入临时文件进行处理)
-                exifProcessor.processExifAsync(tempFile, image.getId(), webUrl);
+            // 4. 流式上传 (写入存储的同时完成格式嗅探与摘要计算)
+            UploadResult uploadResult = mediaUploader.upload(file, finalRelativePath, suffix.substring(1), "image".equals(category));
 
-                return ApiResult.success(mapper.map(image, ImageDTO.class));
-            }
+            // 5. 数据入库
+            return saveUploaded(userId, albumId, category, originalFilename, uploadResult);
+        } catch (IllegalArgumentException e) {
+            return ApiResult.error(e.getMessage());
+        } catch (IOException e) {
+            log.error("文件上传失败", e);
+            return ApiResult.error("文件上传失败");
+        }
+    }
 
+    @Override
+    public ApiResult<ImageDTO> saveUploaded(Long userId, Long albumId, String category, String originalFilename, UploadResult uploadResult) {
+        String webUrl = uploadResult.getUrl();
+        if (!"image".equals(category)) {
             ImageDTO imageDTO = new ImageDTO();
             imageDTO.setName(originalFilename);
             imageDTO.setUrl(webUrl);
             return ApiResult.success(imageDTO);
+        }
 
-        } catch (IOException e) {
-            log.error("文件上传失败", e);
-            return ApiResult.error("文件上传失败");
+        Image image = newImage(userId, albumId, originalFilename, uploadResult.getSize());
+        image.setUrl(webUrl);
+
+        // 没有摘要时 (如分片上传未保留本地文件) 不参与去重
+        if (StringUtils.isBlank(uploadResult.getSha256())) {
+            transactionTemplate.executeWithoutResult(status -> saveImage(image, null, uploadResult));
+            return ApiResult.success(mapper.map(image, ImageDTO.class));
+        }
+
+        // 登记存储对象；相同内容被并发上传时引用先登记的文件
+        Blob blob = transactionTemplate.execute(status -> {
+            Blob registered = blobService.register(userId, uploadResult);
+            boolean duplicate = !registered.getUrl().equals(uploadResult.getUrl());
+            saveImage(image, registered, duplicate ? blobService.toUploadResult(registered, uploadResult) : uploadResult);
+            return registered;
+        });
+        if (!blob.getUrl().equals(uploadResult.getUrl())) {
+            try {
+                storageFactory.getService(uploadResult.getStorageType()).delete(uploadResult.getUrl());
+            } catch (Exception e) {
+                log.error("删除重复文件失败: {}", uploadResult.getUrl(), e);
+            }
+        }
+        return ApiResult.success(mapper.map(image, ImageDTO.class));
+    }
+
+    /**
+     * 已上传过相同内容时引用已有文件入库
+     *
+     * @return 未命中返回 null
+     */
+    private ApiResult<ImageDTO> saveDuplicate(Long userId, Long albumId, String originalFilename, String sha256, long size) {
+        Image image = newImage(userId, albumId, originalFilename, size);
+        Boolean saved = transactionTemplate.execute(status -> {
+            Blob blob = blobService.acquire(userId, sha256, size);
+            if (blob == null) {
+                return false;
+            }
+            saveImage(image, blob, blobService.toUploadResult(blob, null));
+            return true;
+        });
+        if (!Boolean.TRUE.equals(saved)) {
+            return null;
+        }
+        log.info("重复上传，引用已有文件: userId={}, blobId={}, imageId={}", userId, image.getBlobId(), image.getId());
+        return ApiResult.success(mapper.map(image, ImageDTO.class));
+    }
+
+    private Image newImage(Long userId, Long albumId, String originalFilename, long size) {
+        Image image = new Image();
+        image.setUserId(userId);
+        image.setAlbumId(albumId);
+        image.setName(originalFilename);
+        image.setSize(size);
+        image.setType(originalFilename.substring(originalFilename.lastIndexOf(".") + 1).toLowerCase());
+        return image;
+    }
+
+    /**
+     * 记录、用量台账、相册统计、缩略图/EXIF 处理任务在同一事务中写入，任务由 MediaJobWorker 异步执行
+     * 引用的存储对象已有处理完成的记录时直接复用其缩略图与 EXIF，不再提交任务 (本次上传的临时副本随即删除)
+     *
+     * @param blob         引用的存储对象，不参与去重时为 null
+     * @param uploadResult 源文件信息 (提交处理任务用)
+     */
+    private void saveImage(Image image, Blob blob, UploadResult uploadResult) {
+        Image processed = null;
+        if (blob != null) {
+            image.setBlobId(blob.getId());
+            image.setUrl(blob.getUrl());
+            processed = this.baseMapper.selectProcessedByBlobId(blob.getId());
+        }
+        if (processed != null) {
+            copyProcessed(processed, image);
+        }
+
+        this.save(image);
+        userUsageService.changeImage(image.getUserId(), image.getSize(), 1);
+        changeAlbumStats(List.of(image), 1);
+        if (processed == null) {
+            mediaJobService.submit(Constant.MediaJob.TYPE_IMAGE, image.getId(), uploadResult);
+            return;
+        }
+        similarImageService.add(image.getUserId(), image.getId(), image.getPhash());
+        if (uploadResult.isTemporary() && uploadResult.getLocalFile() != null) {
+            File localFile = uploadResult.getLocalFile();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    localFile.delete();
+                }
+            });
         }
     }
 
-    private ApiResult<ImageDTO> validateFile(MultipartFile file, Long userId) {
+    /**
+     * 复制同内容图片的处理结果 (缩略图、EXIF 与感知哈希只由文件内容决定)
+     */
+    private void copyProcessed(Image source, Image target) {
+        target.setThumbnailUrl(source.getThumbnailUrl());
+        target.setRenditionSizes(source.getRenditionSizes());
+        target.setMake(source.getMake());
+        target.setModel(source.getModel());
+        target.setExposureTime(source.getExposureTime());
+        target.setFNumber(source.getFNumber());
+        target.setIso(source.getIso());
+        target.setFocalLength(source.getFocalLength());
+        target.setLensModel(source.getLensModel());
+        target.setLat(source.getLat());
+        target.setLng(source.getLng());
+        target.setTakeTime(source.getTakeTime());
+        target.setPhash(source.getPhash());
+    }
+
+    @Override
+    public ApiResult<ImageDTO> validateUpload(Long userId, String originalFilename, long size) {
         // 1. 校验用户存储空间配额
         String maxStorageStr = configService.getConfigValue(userId, Constant.ConfigKey.MAX_STORAGE_SIZE);
         // 默认 100MB
         long maxStorage = StringUtils.isNotBlank(maxStorageStr) ? Long.parseLong(maxStorageStr) : 100 * 1024 * 1024L;
 
-        // 查询用户已使用空间
-        Map<String, Object> map = this.getMap(new QueryWrapper<Image>()
-                .select("sum(size) as totalSize")
-                .eq("user_id", userId)
-                .eq("deleted", 0));
-        long usedSize = map != null && map.get("totalSize") != null ? Long.parseLong(map.get("totalSize").toString()) : 0L;
+        // 查询用户已使用空间 (图片 + 视频，读取用量台账)
+        long usedSize = userUsageService.getUsedSize(userId);
 
-        if (usedSize + file.getSize() > maxStorage) {
+        if (usedSize + size > maxStorage) {
             return ApiResult.error("存储空间已不足 (配额: " + (maxStorage / 1024 / 1024) + "MB)");
         }
 
         // 2. 单文件大小校验
         String maxSizeStr = configService.getConfigValue(userId, Constant.ConfigKey.MAX_FILE_SIZE);
         long maxSize = StringUtils.isNotBlank(maxSizeStr) ? Long.parseLong(maxSizeStr) : 10 * 1024 * 1024;
-        if (file.getSize() > maxSize) {
+        if (size > maxSize) {
             return ApiResult.error("文件大小超限");
         }
 
         // 3. 格式校验
-        String originalFilename = file.getOriginalFilename();
+        if (!originalFilename.contains(".")) {
+            return ApiResult.error("不支持的文件格式");
+        }
         String suffix = originalFilename.substring(originalFilename.lastIndexOf(".")).toLowerCase();
         String allowedExtStr = configService.getConfigValue(userId, Constant.ConfigKey.ALLOWED_EXTENSIONS);
         Set<String> allowedExtensions = StringUtils.isNotBlank(allowedExtStr)
@@ -151,7 +286,8 @@ public class ImageServiceImpl extends ServiceImpl<ImageMapper, Image> implements
         return ApiResult.success();
     }
 
-    private String getRelativePath(Long userId, String category) {
+    @Override
+    public String getRelativePath(Long userId, String category) {
         String userSubDir = configService.getConfigValue(userId, Constant.ConfigKey.USER_UPLOAD_DIR);
         String datePath = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
         StringBuilder sb = new StringBuilder();
@@ -173,14 +309,56 @@ public class ImageServiceImpl extends ServiceImpl<ImageMapper, Image> implements
      */
     @Override
     public ApiResult<IPage<ImageDTO>> getPage(Page<Image> page, ImageDTO imageDTO) {
-        IPage<Image> iPage = this.page(page, new QueryWrapper<Image>()
+        IPage<Image> iPage = this.page(page, buildQuery(imageDTO));
+        IPage<ImageDTO> iPageDTO = iPage.convert(image -> mapper.map(image, ImageDTO.class));
+        return ApiResult.success(iPageDTO);
+    }
+
+    @Override
+    public ApiResult<CursorPage<ImageDTO>> getCursorPage(ImageDTO imageDTO, String cursor, Long size, boolean asc, boolean withCount) {
+        CursorPage.Cursor position;
+        try {
+            position = CursorPage.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ApiResult.error(e.getMessage());
+        }
+        if (position != null && position.asc() != asc) {
+            return ApiResult.error("排序方向与游标不一致");
+        }
+        long pageSize = CursorPage.normalizeSize(size);
+
+        CursorPage<ImageDTO> result = new CursorPage<>();
+        if (withCount) {
+            result.setTotal(this.count(buildQuery(imageDTO)));
+        }
+
+        // 从游标位置继续扫描索引 (行比较可直接走 (.., create_time, id) 复合索引的范围扫描)
+        LambdaQueryWrapper<Image> wrapper = buildQuery(imageDTO);
+        if (position != null) {
+            wrapper.apply(asc ? "(create_time, id) > ({0}, {1})" : "(create_time, id) < ({0}, {1})", position.createTime(), position.id());
+        }
+        wrapper.orderBy(true, asc, Image::getCreateTime).orderBy(true, asc, Image::getId);
+
+        // 多取一条用于判断是否还有下一页，不执行 COUNT
+        List<Image> images = this.page(new Page<>(1, pageSize + 1, false), wrapper).getRecords();
+        boolean hasMore = images.size() > pageSize;
+        if (hasMore) {
+            images = images.subList(0, (int) pageSize);
+            Image last = images.get(images.size() - 1);
+            result.setNextCursor(CursorPage.encode(last.getCreateTime(), last.getId(), asc));
+        }
+        result.setHasMore(hasMore);
+        result.setRecords(images.stream().map(image -> mapper.map(image, ImageDTO.class)).toList());
+        return ApiResult.success(result);
+    }
+
+    private LambdaQueryWrapper<Image> buildQuery(ImageDTO imageDTO) {
+        return new QueryWrapper<Image>()
                 .lambda()
                 .like(StringUtils.isNotBlank(imageDTO.getName()), Image::getName, imageDTO.getName())
                 .eq(null != imageDTO.getStatus(), Image::getStatus, imageDTO.getStatus())
                 .eq(null != imageDTO.getAlbumId(), Image::getAlbumId, imageDTO.getAlbumId())
-                .eq(null != imageDTO.getUserId(), Image::getUserId, imageDTO.getUserId()));
-        IPage<ImageDTO> iPageDTO = iPage.convert(image -> mapper.map(image, ImageDTO.class));
-        return ApiResult.success(iPageDTO);
+                .eq(null != imageDTO.getUserId(), Image::getUserId, imageDTO.getUserId());
     }
 
     /**
@@ -211,10 +389,16 @@ public class ImageServiceImpl extends ServiceImpl<ImageMapper, Image> implements
      * @date 2026/1/12 9:24
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ApiResult<String> move(Long imageId, Long albumId) {
+        if (albumId == null) {
+            return ApiResult.error("目标相册不能为空");
+        }
+        List<Image> images = selectForMove(List.of(imageId));
         Image image = new Image();
         image.setAlbumId(albumId);
         this.update(image, new LambdaQueryWrapper<Image>().eq(Image::getId, imageId));
+        moveAlbumStats(images, albumId);
         return ApiResult.success("移动成功");
     }
 
@@ -252,6 +436,7 @@ public class ImageServiceImpl extends ServiceImpl<ImageMapper, Image> implements
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ApiResult<String> batchMove(ImageDTO imageDTO) {
         if (imageDTO.getIds() == null || imageDTO.getIds().isEmpty()) {
             return ApiResult.error("未选择图片");
@@ -260,11 +445,13 @@ public class ImageServiceImpl extends ServiceImpl<ImageMapper, Image> implements
             return ApiResult.error("目标相册不能为空");
         }
 
+        List<Image> images = selectForMove(imageDTO.getIds());
         LambdaQueryWrapper<Image> queryWrapper = new LambdaQueryWrapper<Image>()
                 .in(Image::getId, imageDTO.getIds());
         Image image = new Image();
         image.setAlbumId(imageDTO.getAlbumId());
         this.update(image, queryWrapper);
+        moveAlbumStats(images, imageDTO.getAlbumId());
         return ApiResult.success("批量移动成功");
     }
 
@@ -275,13 +462,40 @@ public class ImageServiceImpl extends ServiceImpl<ImageMapper, Image> implements
         return ApiResult.success(iPageDTO);
     }
 
+    /**
+     * 删除到回收站 (逻辑删除)，同时扣减用量台账
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean removeByIds(Collection<?> list) {
+        if (list == null || list.isEmpty()) {
+            return false;
+        }
+        // 加锁读取仍未删除的记录，保证同一图片只扣减一次
+        List<Image> images = this.list(new LambdaQueryWrapper<Image>()
+                .select(Image::getId, Image::getUserId, Image::getAlbumId, Image::getSize)
+                .in(Image::getId, list)
+                .last("FOR UPDATE"));
+        boolean result = super.removeByIds(list);
+        changeUsage(images, -1);
+        changeAlbumStats(images, -1);
+        images.stream()
+                .collect(Collectors.groupingBy(Image::getUserId, Collectors.mapping(Image::getId, Collectors.toList())))
+                .forEach(similarImageService::remove);
+        return result;
+    }
+
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ApiResult<String> restore(List<Long> idList) {
         if (idList == null || idList.isEmpty()) {
             return ApiResult.error("请选择要恢复的图片");
         }
-        String ids = StringUtils.join(idList, ",");
-        this.baseMapper.restore(ids);
+        List<Image> images = this.baseMapper.selectDeletedByIdsForUpdate(idList);
+        this.baseMapper.restore(idList);
+        changeUsage(images, 1);
+        changeAlbumStats(images, 1);
+        images.forEach(image -> similarImageService.add(image.getUserId(), image.getId(), image.getPhash()));
         return ApiResult.success("已从回收站恢复");
     }
 
@@ -291,23 +505,137 @@ public class ImageServiceImpl extends ServiceImpl<ImageMapper, Image> implements
             return ApiResult.error("请选择要删除的图片");
         }
 
-        for (Long id : idList) {
-            Image image = this.baseMapper.selectWithDeleted(id);
-            if (image != null) {
-                // 1. 调用存储策略删除物理文件
-                try {
-                    storageFactory.getService().delete(image.getUrl());
-                    if (StringUtils.isNotBlank(image.getThumbnailUrl())) {
-                        storageFactory.getService().delete(image.getThumbnailUrl());
-                    }
-                } catch (Exception e) {
-                    log.error("删除物理文件失败: {}", image.getUrl(), e);
-                }
+        deleteInBatches(idList, image -> true);
+        return ApiResult.success("已永久删除");
+    }
+
+    @Override
+    public int deleteExpired(List<Long> idList, LocalDateTime expireTime) {
+        // 加锁后再次确认仍在回收站且已过期 (查询到删除之间可能被恢复)
+        return deleteInBatches(idList, image -> image.getDeleted() == YesNoEnum.YES
+                && image.getUpdateTime() != null && image.getUpdateTime().isBefore(expireTime));
+    }
 
-                // 2. 物理删除数据库记录
-                this.baseMapper.deletePermanently(id);
+    /**
+     * 分批物理删除：每批在一个事务中删除记录并释放存储对象引用，提交后按存储批量删除已无引用的文件
+     *
+     * @param filter 加锁查询后只删除满足条件的记录
+     * @return 删除的记录数
+     */
+    private int deleteInBatches(List<Long> idList, Predicate<Image> filter) {
+        List<Long> ids = idList.stream().filter(Objects::nonNull).distinct().toList();
+        int deleted = 0;
+        for (int i = 0; i < ids.size(); i += Constant.Recycle.DELETE_BATCH_SIZE) {
+            List<Long> batch = ids.subList(i, Math.min(i + Constant.Recycle.DELETE_BATCH_SIZE, ids.size()));
+            DeleteResult result = transactionTemplate.execute(status -> deleteBatch(batch, filter));
+            if (result == null) {
+                continue;
+            }
+            deleted += result.deleted();
+            if (!result.released().isEmpty()) {
+                deleteFiles(result.released());
             }
         }
-        return ApiResult.success("已永久删除");
+        return deleted;
+    }
+
+    /**
+     * 批量删除结果
+     *
+     * @param deleted  删除的记录数
+     * @param released 文件已无引用、需要删除物理文件的记录
+     */
+    private record DeleteResult(int deleted, List<Image> released) {
+    }
+
+    /**
+     * 一次加锁查询、一条 DELETE 删除一批记录 (回收站中的记录删除时已扣减过用量)
+     */
+    private DeleteResult deleteBatch(List<Long> ids, Predicate<Image> filter) {
+        List<Image> images = this.baseMapper.selectWithDeletedByIdsForUpdate(ids).stream().filter(filter).toList();
+        if (images.isEmpty()) {
+            return new DeleteResult(0, List.of());
+        }
+        this.baseMapper.deletePermanently(images.stream().map(Image::getId).toList());
+
+        List<Image> active = images.stream().filter(i -> i.getDeleted() != YesNoEnum.YES).toList();
+        changeUsage(active, -1);
+        changeAlbumStats(active, -1);
+        active.stream()
+                .collect(Collectors.groupingBy(Image::getUserId, Collectors.mapping(Image::getId, Collectors.toList())))
+                .forEach(similarImageService::remove);
+
+        Set<Long> unreferenced = blobService.releaseAll(images.stream().map(Image::getBlobId).filter(Objects::nonNull).toList());
+        return new DeleteResult(images.size(), images.stream()
+                .filter(i -> i.getBlobId() == null || unreferenced.contains(i.getBlobId()))
+                .toList());
+    }
+
+    /**
+     * 删除原图及多尺寸缩略图 (thumbnail_url 为其中之一)，旧数据只有单一缩略图；按存储分组后批量删除
+     */
+    private void deleteFiles(List<Image> images) {
+        Map<IStorageService, Set<String>> urls = new LinkedHashMap<>();
+        for (Image image : images) {
+            Set<String> files = urls.computeIfAbsent(storageFactory.getServiceByUrl(image.getUrl()), k -> new LinkedHashSet<>());
+            files.add(image.getUrl());
+            files.addAll(ImageRenditions.urls(image.getUrl(), image.getRenditionSizes()).values());
+            if (StringUtils.isNotBlank(image.getThumbnailUrl())) {
+                files.add(image.getThumbnailUrl());
+            }
+        }
+        urls.forEach((storage, files) -> {
+            try {
+                storage.deleteAll(files);
+            } catch (Exception e) {
+                log.error("删除物理文件失败: {} 个文件", files.size(), e);
+            }
+        });
+    }
+
+    /**
+     * 按用户汇总后更新用量台账
+     *
+     * @param sign 1-增加, -1-扣减
+     */
+    private void changeUsage(List<Image> images, int sign) {
+        images.stream()
+                .collect(Collectors.groupingBy(Image::getUserId))
+                .forEach((userId, list) -> userUsageService.changeImage(userId,
+                        sign * list.stream().mapToLong(i -> i.getSize() == null ? 0L : i.getSize()).sum(),
+                        sign * (long) list.size()));
+    }
+
+    /**
+     * 按相册汇总后更新相册统计
+     *
+     * @param sign 1-增加, -1-扣减
+     */
+    private void changeAlbumStats(List<Image> images, int sign) {
+        images.stream()
+                .filter(i -> i.getAlbumId() != null)
+                .collect(Collectors.groupingBy(Image::getAlbumId))
+                .forEach((albumId, list) -> albumMapper.increaseStats(albumId, sign * (long) list.size(), 0,
+                        sign * list.stream().mapToLong(i -> i.getSize() == null ? 0L : i.getSize()).sum()));
+    }
+
+    /**
+     * 加锁读取待移动的图片 (回收站中的图片不参与移动)，保证统计只迁移一次
+     */
+    private List<Image> selectForMove(Collection<Long> idList) {
+        return this.list(new LambdaQueryWrapper<Image>()
+                .select(Image::getId, Image::getAlbumId, Image::getSize)
+                .in(Image::getId, idList)
+                .last("FOR UPDATE"));
+    }
+
+    /**
+     * 将图片的统计从原相册转移到目标相册
+     */
+    private void moveAlbumStats(List<Image> images, Long targetAlbumId) {
+        List<Image> moved = images.stream().filter(i -> !targetAlbumId.equals(i.getAlbumId())).toList();
+        changeAlbumStats(moved, -1);
+        moved.forEach(i -> i.setAlbumId(targetAlbumId));
+        changeAlbumStats(moved, 1);
     }
 }
\ No newline at end of file
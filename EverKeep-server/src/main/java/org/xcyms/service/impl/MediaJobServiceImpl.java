@@ -0,0 +1,105 @@
+package org.xcyms.service.impl;
+
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+import org.xcyms.common.Constant;
+import org.xcyms.entity.MediaJob;
+import org.xcyms.mapper.MediaJobMapper;
+import org.xcyms.service.IMediaJobService;
+import org.xcyms.service.storage.UploadResult;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>
+ * 媒体处理任务 服务实现类
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-17
+ */
+@Slf4j
+@Service
+public class MediaJobServiceImpl extends ServiceImpl<MediaJobMapper, MediaJob> implements IMediaJobService {
+
+    /**
+     * last_error 字段长度
+     */
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Override
+    public void submit(String jobType, Long bizId, UploadResult uploadResult) {
+        MediaJob job = new MediaJob();
+        job.setJobType(jobType);
+        job.setBizId(bizId);
+        job.setStorageType(uploadResult.getStorageType());
+        job.setRelativePath(uploadResult.getRelativePath());
+        job.setMediaUrl(uploadResult.getUrl());
+        job.setLocalPath(uploadResult.getLocalFile() == null ? null : uploadResult.getLocalFile().getAbsolutePath());
+        job.setTemporary(uploadResult.isTemporary());
+        job.setMaxAttempts(Constant.MediaJob.MAX_ATTEMPTS);
+        this.baseMapper.upsert(job);
+    }
+
+    @Override
+    public List<MediaJob> claim(String owner, int limit) {
+        if (this.baseMapper.claim(owner, Constant.MediaJob.LEASE_SECONDS, limit) == 0) {
+            return List.of();
+        }
+        return this.baseMapper.selectByOwner(owner);
+    }
+
+    @Override
+    public void complete(MediaJob job) {
+        if (this.baseMapper.markSuccess(job.getId(), job.getLeaseOwner()) == 0) {
+            // 租约已过期并被其他节点认领，处理是幂等的，忽略即可
+            log.warn("媒体任务租约已失效: id={}", job.getId());
+        }
+    }
+
+    @Override
+    public boolean fail(MediaJob job, Exception e) {
+        int attempts = job.getAttempts();
+        // 30s, 60s, 120s ... 最长 1 小时
+        long delay = Math.min(Constant.MediaJob.RETRY_BASE_SECONDS << Math.min(attempts - 1, 20),
+                Constant.MediaJob.RETRY_MAX_SECONDS);
+        String error = StringUtils.abbreviate(e.getClass().getSimpleName() + ": " + e.getMessage(), MAX_ERROR_LENGTH);
+        this.baseMapper.markFailed(job.getId(), job.getLeaseOwner(), delay, error);
+
+        boolean exhausted = attempts >= job.getMaxAttempts();
+        if (exhausted) {
+            log.error("媒体任务失败且不再重试: id={}, type={}, bizId={}", job.getId(), job.getJobType(), job.getBizId(), e);
+        } else {
+            log.warn("媒体任务失败，{}秒后重试 ({}/{}): id={}, type={}, bizId={}, error={}", delay, attempts,
+                    job.getMaxAttempts(), job.getId(), job.getJobType(), job.getBizId(), error);
+        }
+        return exhausted;
+    }
+
+    @Override
+    public void defer(MediaJob job) {
+        this.baseMapper.release(job.getId(), job.getLeaseOwner(), Constant.MediaJob.DEFER_SECONDS);
+        log.info("节点繁忙，媒体任务延后执行: id={}, type={}, bizId={}", job.getId(), job.getJobType(), job.getBizId());
+    }
+
+    @Override
+    public int recoverExpired() {
+        return this.baseMapper.recoverExpired();
+    }
+
+    @Override
+    public int renewLeases(Collection<MediaJob> jobs) {
+        if (jobs.isEmpty()) {
+            return 0;
+        }
+        return this.baseMapper.renewLeases(jobs, Constant.MediaJob.LEASE_SECONDS);
+    }
+
+    @Override
+    public int cleanFinished() {
+        return this.baseMapper.deleteFinished(Constant.MediaJob.RETENTION_DAYS, Constant.MediaJob.FAILED_RETENTION_DAYS);
+    }
+}
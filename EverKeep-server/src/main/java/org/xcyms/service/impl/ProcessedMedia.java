@@ -0,0 +1,58 @@
+package org.xcyms.service.impl;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * <p>
+ * 媒体处理的中间结果
+ * 计算阶段 (解码、缩放) 在媒体计算线程池中生成本地临时文件，发布阶段 (上传、写库) 在存储线程池中执行，
+ * 使 CPU 线程不被网络上传阻塞。
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月18日 10:10
+ */
+public final class ProcessedMedia {
+
+    /**
+     * 发布动作 (允许抛出受检异常)
+     */
+    @FunctionalInterface
+    public interface Publisher {
+        void publish() throws Exception;
+    }
+
+    /** 计算阶段生成的临时文件 */
+    private final List<File> artifacts;
+    private final Publisher publisher;
+
+    ProcessedMedia(List<File> artifacts, Publisher publisher) {
+        this.artifacts = artifacts;
+        this.publisher = publisher;
+    }
+
+    /**
+     * 上传生成的文件并更新数据库，结束后删除临时文件
+     *
+     * @throws Exception 上传或更新失败，由任务重试
+     */
+    public void publish() throws Exception {
+        try {
+            publisher.publish();
+        } finally {
+            discard();
+        }
+    }
+
+    /**
+     * 放弃发布，删除临时文件
+     */
+    public void discard() {
+        for (File artifact : artifacts) {
+            if (artifact.exists()) {
+                artifact.delete();
+            }
+        }
+    }
+}
@@ -1,20 +1,118 @@
 package org.xcyms.service.impl;
 
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.xcyms.common.Constant;
 import org.xcyms.entity.Role;
+import org.xcyms.entity.UserRole;
 import org.xcyms.mapper.RoleMapper;
+import org.xcyms.mapper.UserRoleMapper;
 import org.xcyms.service.IRoleService;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
 /**
  * <p>
  * 角色服务实现类
+ * 用户角色缓存在近端缓存 + Redis 中 (key: user:{userId})，稳定状态下鉴权不查询数据库；
+ * 角色分配变更提交后失效缓存并广播到其他节点。
  * </p>
  *
  * @author liu-xu
  * @since 2026-01-12
  */
 @Service
+@RequiredArgsConstructor
 public class RoleServiceImpl extends ServiceImpl<RoleMapper, Role> implements IRoleService {
 
+    private final UserRoleMapper userRoleMapper;
+    private final CacheManager cacheManager;
+
+    @Override
+    @Cacheable(value = Constant.Cache.ROLE, key = "'user:' + #userId", sync = true)
+    public List<String> getRoleKeys(Long userId) {
+        // 使用 ArrayList，保证 Redis 中的 JSON 可以反序列化
+        return new ArrayList<>(baseMapper.getRoleKeysByUserId(userId));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Long, List<String>> getRoleKeysByUserIds(Collection<Long> userIds) {
+        Map<Long, List<String>> result = new HashMap<>();
+        Cache cache = cacheManager.getCache(Constant.Cache.ROLE);
+        List<Long> missing = new ArrayList<>();
+        for (Long userId : new LinkedHashSet<>(userIds)) {
+            List<String> cached = cache == null ? null : cache.get(cacheKey(userId), List.class);
+            if (cached != null) {
+                result.put(userId, cached);
+            } else {
+                missing.add(userId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        // 未命中的用户合并查询；结果不回填缓存 (批量回填无法与并发的失效排序，避免覆盖刚失效的旧值)
+        missing.forEach(userId -> result.put(userId, new ArrayList<>()));
+        for (Map<String, Object> row : baseMapper.getRoleKeysByUserIds(missing)) {
+            Long userId = ((Number) row.get("userId")).longValue();
+            result.get(userId).add((String) row.get("roleKey"));
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void assignRoles(Long userId, Collection<Long> roleIds) {
+        userRoleMapper.delete(new LambdaQueryWrapper<UserRole>().eq(UserRole::getUserId, userId));
+        for (Long roleId : new LinkedHashSet<>(roleIds)) {
+            UserRole userRole = new UserRole();
+            userRole.setUserId(userId);
+            userRole.setRoleId(roleId);
+            userRoleMapper.insert(userRole);
+        }
+        afterCommit(() -> evictRoleKeys(userId));
+    }
+
+    @Override
+    public void evictRoleKeys(Long userId) {
+        Cache cache = cacheManager.getCache(Constant.Cache.ROLE);
+        if (cache != null) {
+            cache.evict(cacheKey(userId));
+        }
+    }
+
+    private String cacheKey(Long userId) {
+        return "user:" + userId;
+    }
+
+    /**
+     * 在事务提交后执行 (没有事务时立即执行)，避免其他请求在提交前重新加载到旧角色
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
 }
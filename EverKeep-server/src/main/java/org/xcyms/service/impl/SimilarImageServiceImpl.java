@@ -0,0 +1,257 @@
+package org.xcyms.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.xcyms.common.Constant;
+import org.xcyms.entity.Image;
+import org.xcyms.entity.dto.ImageDTO;
+import org.xcyms.mapper.ImageMapper;
+import org.xcyms.service.ISimilarImageService;
+import org.xcyms.utils.BkTree;
+import org.xcyms.utils.IdGenerator;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * 相似图片 服务实现类
+ * 分组只在内存索引上计算：每张图片在 BK 树中检索阈值内的近邻，再用并查集合并，不扫描数据库中的全部记录。
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-22
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SimilarImageServiceImpl implements ISimilarImageService, MessageListener {
+
+    private static final String SEPARATOR = "|";
+
+    /** 当前节点ID，用于忽略自己发出的广播 */
+    private final String nodeId = IdGenerator.nanoId();
+
+    private final ImageMapper imageMapper;
+    private final ModelMapper mapper;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Cache<Long, UserIndex> indexes = Caffeine.newBuilder()
+            .maximumSize(Constant.Similar.INDEX_MAX_USERS)
+            .expireAfterAccess(Duration.ofSeconds(Constant.Similar.INDEX_EXPIRE_SECONDS))
+            .build();
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(Constant.Similar.EVICT_CHANNEL));
+    }
+
+    @Override
+    public List<List<ImageDTO>> clusters(Long userId, Integer distance) {
+        int maxDistance = distance == null ? Constant.Similar.DEFAULT_DISTANCE : distance;
+        if (maxDistance < 0 || maxDistance > Constant.Similar.MAX_DISTANCE) {
+            throw new RuntimeException("相似度阈值应在 0-" + Constant.Similar.MAX_DISTANCE + " 之间");
+        }
+        List<List<Long>> groups = indexes.get(userId, this::load).clusters(maxDistance, Constant.Similar.MAX_CLUSTERS);
+        if (groups.isEmpty()) {
+            return List.of();
+        }
+
+        // 按分组顺序组装，期间被删除的图片直接跳过
+        List<Long> ids = groups.stream().flatMap(List::stream).toList();
+        Map<Long, Image> images = imageMapper.selectBatchIds(ids).stream()
+                .collect(Collectors.toMap(Image::getId, Function.identity()));
+        List<List<ImageDTO>> result = new ArrayList<>(groups.size());
+        for (List<Long> group : groups) {
+            List<ImageDTO> list = group.stream()
+                    .map(images::get)
+                    .filter(image -> image != null && userId.equals(image.getUserId()))
+                    .map(image -> mapper.map(image, ImageDTO.class))
+                    .toList();
+            if (list.size() > 1) {
+                result.add(list);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void add(Long userId, Long imageId, Long phash) {
+        if (userId == null || imageId == null || phash == null) {
+            return;
+        }
+        afterCommit(() -> {
+            UserIndex index = indexes.getIfPresent(userId);
+            if (index != null) {
+                index.add(imageId, phash);
+            }
+            publishEvict(userId);
+        });
+    }
+
+    @Override
+    public void remove(Long userId, Collection<Long> imageIds) {
+        if (userId == null || imageIds == null || imageIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(imageIds);
+        afterCommit(() -> {
+            UserIndex index = indexes.getIfPresent(userId);
+            if (index != null) {
+                ids.forEach(index::remove);
+            }
+            publishEvict(userId);
+        });
+    }
+
+    /**
+     * 从数据库加载用户的全部感知哈希
+     */
+    private UserIndex load(Long userId) {
+        UserIndex index = new UserIndex();
+        List<Image> hashes = imageMapper.selectHashesByUserId(userId);
+        for (Image image : hashes) {
+            index.add(image.getId(), image.getPhash());
+        }
+        log.debug("加载相似图片索引: userId={}, size={}", userId, hashes.size());
+        return index;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 广播索引失效，其他节点丢弃该用户的索引
+     */
+    private void publishEvict(Long userId) {
+        try {
+            stringRedisTemplate.convertAndSend(Constant.Similar.EVICT_CHANNEL, nodeId + SEPARATOR + userId);
+        } catch (Exception e) {
+            // 广播失败时其他节点依赖索引的过期时间兜底
+            log.warn("相似图片索引失效广播失败: userId={}", userId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + SEPARATOR, 2);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            indexes.invalidate(Long.valueOf(parts[1]));
+        } catch (NumberFormatException e) {
+            log.warn("无效的相似图片索引失效消息: {}", body);
+        }
+    }
+
+    /**
+     * 单个用户的索引，读写均加锁 (同一用户的并发量很小)
+     */
+    private static final class UserIndex {
+
+        private final BkTree tree = new BkTree();
+        private final Map<Long, Long> hashes = new HashMap<>();
+
+        synchronized void add(Long imageId, Long phash) {
+            Long previous = hashes.put(imageId, phash);
+            if (previous != null) {
+                tree.remove(imageId, previous);
+            }
+            tree.add(imageId, phash);
+        }
+
+        synchronized void remove(Long imageId) {
+            Long previous = hashes.remove(imageId);
+            if (previous != null) {
+                tree.remove(imageId, previous);
+            }
+        }
+
+        /**
+         * 每张图片检索一次阈值内的近邻并合并到同一组
+         */
+        synchronized List<List<Long>> clusters(int maxDistance, int maxClusters) {
+            Map<Long, Long> parent = new HashMap<>(hashes.size() * 2);
+            for (Map.Entry<Long, Long> entry : hashes.entrySet()) {
+                Long id = entry.getKey();
+                tree.search(entry.getValue(), maxDistance, other -> {
+                    if (other != id) {
+                        union(parent, id, other);
+                    }
+                });
+            }
+
+            Map<Long, Set<Long>> groups = new HashMap<>();
+            for (Long id : parent.keySet()) {
+                groups.computeIfAbsent(find(parent, id), k -> new LinkedHashSet<>()).add(id);
+            }
+            return groups.values().stream()
+                    .filter(group -> group.size() > 1)
+                    .sorted(Comparator.<Set<Long>>comparingInt(Set::size).reversed())
+                    .limit(maxClusters)
+                    .map(group -> group.stream().sorted(Comparator.reverseOrder()).toList())
+                    .toList();
+        }
+
+        private static long find(Map<Long, Long> parent, long id) {
+            long root = id;
+            Long next;
+            while ((next = parent.get(root)) != null && next != root) {
+                root = next;
+            }
+            // 路径压缩
+            long current = id;
+            while (current != root) {
+                long following = parent.get(current);
+                parent.put(current, root);
+                current = following;
+            }
+            return root;
+        }
+
+        private static void union(Map<Long, Long> parent, long a, long b) {
+            parent.putIfAbsent(a, a);
+            parent.putIfAbsent(b, b);
+            long rootA = find(parent, a);
+            long rootB = find(parent, b);
+            if (rootA != rootB) {
+                parent.put(Math.max(rootA, rootB), Math.min(rootA, rootB));
+            }
+        }
+    }
+}
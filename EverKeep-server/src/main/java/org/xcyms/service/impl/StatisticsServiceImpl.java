@@ -10,6 +10,7 @@ import org.xcyms.common.ApiResult;
 import org.xcyms.common.Constant;
 import org.xcyms.entity.Album;
 import org.xcyms.entity.Image;
+import org.xcyms.entity.UserUsage;
 import org.xcyms.entity.dto.StatsSummaryDTO;
 import org.xcyms.service.*;
 
@@ -27,6 +28,7 @@ public class StatisticsServiceImpl implements IStatisticsService {
     private final IAlbumService albumService;
     private final IUserService userService;
     private final IConfigService configService;
+    private final IUserUsageService userUsageService;
 
     @Override
     @Cacheable(value = "stats", key = "T(cn.dev33.satoken.stp.StpUtil).hasRole('ADMIN') ? 'admin' : #userId")
@@ -36,25 +38,19 @@ public class StatisticsServiceImpl implements IStatisticsService {
         StatsSummaryDTO stats = new StatsSummaryDTO();
 
         // 1. 基础统计数据
+        // 图片数量与存储用量读取用量台账 (图片 + 视频)
         if (isAdmin) {
-            stats.setImageCount(imageService.count());
+            UserUsage usage = userUsageService.getTotalUsage();
+            stats.setImageCount(usage.getImageCount());
             stats.setAlbumCount(albumService.count());
             stats.setUserCount(userService.count());
-            Map<String, Object> map = imageService.getMap(new QueryWrapper<Image>()
-                    .select("sum(size) as totalSize")
-                    .eq("deleted", 0));
-            stats.setStorageUsage(map != null && map.get("totalSize") != null ?
-                    Long.parseLong(map.get("totalSize").toString()) : 0L);
+            stats.setStorageUsage(usage.getTotalSize());
         } else {
-            stats.setImageCount(imageService.count(new QueryWrapper<Image>().eq("user_id", userId)));
+            UserUsage usage = userUsageService.getUsage(userId);
+            stats.setImageCount(usage.getImageCount());
             stats.setAlbumCount(albumService.count(new QueryWrapper<Album>().eq("user_id", userId)));
             stats.setUserCount(1L);
-            Map<String, Object> map = imageService.getMap(new QueryWrapper<Image>()
-                    .select("sum(size) as totalSize")
-                    .eq("user_id", userId)
-                    .eq("deleted", 0));
-            stats.setStorageUsage(map != null && map.get("totalSize") != null ?
-                    Long.parseLong(map.get("totalSize").toString()) : 0L);
+            stats.setStorageUsage(usage.getTotalSize());
         }
         stats.setTotalSize(Convert.toLong(configService.getConfigValue(userId, Constant.ConfigKey.MAX_STORAGE_SIZE)));
 
@@ -13,16 +13,15 @@ import org.springframework.stereotype.Service;
 import org.xcyms.common.ApiResult;
 import org.xcyms.common.Constant;
 import org.xcyms.entity.User;
-import org.xcyms.entity.UserRole;
 import org.xcyms.entity.dto.LoginDTO;
 import org.xcyms.entity.dto.UserDTO;
-import org.xcyms.mapper.RoleMapper;
 import org.xcyms.mapper.UserMapper;
-import org.xcyms.mapper.UserRoleMapper;
+import org.xcyms.service.IRoleService;
 import org.xcyms.service.IUserService;
 import org.xcyms.utils.PasswordUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -39,8 +38,7 @@ import java.util.stream.Collectors;
 public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements IUserService {
 
     private final ModelMapper mapper;
-    private final RoleMapper roleMapper;
-    private final UserRoleMapper userRoleMapper;
+    private final IRoleService roleService;
 
     @Override
     public ApiResult<String> register(User user) {
@@ -63,10 +61,7 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements IU
         baseMapper.insert(user);
 
         //4. 保存用户角色
-        UserRole userRole = new UserRole();
-        userRole.setUserId(user.getId());
-        userRole.setRoleId(Constant.Role.USER);
-        userRoleMapper.insert(userRole);
+        roleService.assignRoles(user.getId(), List.of(Constant.Role.USER));
         return ApiResult.success("注册成功");
     }
 
@@ -107,7 +102,7 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements IU
         UserDTO userDto = mapper.map(user, UserDTO.class);
 
         // 获取角色列表
-        List<String> roles = roleMapper.getRoleKeysByUserId(loginId);
+        List<String> roles = roleService.getRoleKeys(loginId);
         userDto.setRoles(roles);
 
         return ApiResult.success(userDto);
@@ -122,9 +117,12 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements IU
         }
         Page<User> userPage = this.page(page, wrapper);
 
+        // 一次查询当前页全部用户的角色
+        Map<Long, List<String>> roles = userPage.getRecords().isEmpty() ? Map.of()
+                : roleService.getRoleKeysByUserIds(userPage.getRecords().stream().map(User::getId).toList());
         List<UserDTO> dtos = userPage.getRecords().stream().map(user -> {
             UserDTO dto = mapper.map(user, UserDTO.class);
-            dto.setRoles(roleMapper.getRoleKeysByUserId(user.getId()));
+            dto.setRoles(roles.getOrDefault(user.getId(), List.of()));
             return dto;
         }).collect(Collectors.toList());
 
@@ -0,0 +1,234 @@
+package org.xcyms.service.impl;
+
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.xcyms.common.Constant;
+import org.xcyms.entity.UserUsage;
+import org.xcyms.mapper.UserUsageMapper;
+import org.xcyms.service.IUserUsageService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ * 用户存储用量台账 服务实现类
+ * 台账表是准确值，Redis Hash 是其缓存；变更时先原子更新台账表，再 (事务提交后) 递增版本号并对已存在的 Redis 计数器做 HINCRBY。
+ * 计数器不存在时由读取方从台账表回填，回填前后版本号不一致 (期间有变更) 时放弃回填，避免用旧值覆盖。
+ * 任何一步失败导致的偏差由 {@link #reconcile(Runnable)} 定时修复。
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-14
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserUsageServiceImpl extends ServiceImpl<UserUsageMapper, UserUsage> implements IUserUsageService {
+
+    /**
+     * 递增版本号；仅当计数器已存在时累加，避免在不存在的 key 上从 0 开始累加出错误的值
+     * KEYS[1] 计数器, KEYS[2] 版本号; ARGV[1..4] 增量, ARGV[5] 过期时间(秒)
+     */
+    private static final DefaultRedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+                    "redis.call('EXPIRE', KEYS[2], ARGV[5]) " +
+                    "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+                    "redis.call('HINCRBY', KEYS[1], 'imageSize', ARGV[1]) " +
+                    "redis.call('HINCRBY', KEYS[1], 'imageCount', ARGV[2]) " +
+                    "redis.call('HINCRBY', KEYS[1], 'videoSize', ARGV[3]) " +
+                    "redis.call('HINCRBY', KEYS[1], 'videoCount', ARGV[4]) " +
+                    "return 1 end " +
+                    "return 0", Long.class);
+
+    /**
+     * 回填计数器：版本号与读取台账前一致且计数器不存在时才写入
+     * KEYS[1] 计数器, KEYS[2] 版本号; ARGV[1] 读取台账前的版本号 (不存在为空串), ARGV[2..5] 用量, ARGV[6] 过期时间(秒)
+     */
+    private static final DefaultRedisScript<Long> REFILL_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('GET', KEYS[2]) or '' " +
+                    "if version ~= ARGV[1] or redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+                    "redis.call('HSET', KEYS[1], 'imageSize', ARGV[2], 'imageCount', ARGV[3], 'videoSize', ARGV[4], 'videoCount', ARGV[5]) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[6]) " +
+                    "return 1", Long.class);
+
+    /**
+     * 删除计数器并递增版本号，使正在进行的回填失效
+     * KEYS[1] 计数器, KEYS[2] 版本号; ARGV[1] 过期时间(秒)
+     */
+    private static final DefaultRedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+                    "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+                    "return redis.call('DEL', KEYS[1])", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public UserUsage getUsage(Long userId) {
+        String key = Constant.Usage.KEY_PREFIX + userId;
+        Map<Object, Object> cached = stringRedisTemplate.opsForHash().entries(key);
+        if (!cached.isEmpty()) {
+            UserUsage usage = new UserUsage();
+            usage.setUserId(userId);
+            usage.setImageSize(toLong(cached.get("imageSize")));
+            usage.setImageCount(toLong(cached.get("imageCount")));
+            usage.setVideoSize(toLong(cached.get("videoSize")));
+            usage.setVideoCount(toLong(cached.get("videoCount")));
+            return usage;
+        }
+
+        // 先读版本号再读台账：读取台账之后提交的变更一定会使版本号变化
+        String version = stringRedisTemplate.opsForValue().get(Constant.Usage.VERSION_KEY_PREFIX + userId);
+        UserUsage usage = this.getById(userId);
+        if (usage == null) {
+            // 台账尚未建立 (新用户或首次上线)，按业务表统计一次
+            List<UserUsage> actual = this.baseMapper.selectActualUsage(userId);
+            usage = actual.isEmpty() ? emptyUsage(userId) : actual.get(0);
+            this.baseMapper.insertIgnore(usage);
+        }
+
+        stringRedisTemplate.execute(REFILL_SCRIPT, keys(userId), version == null ? "" : version,
+                String.valueOf(usage.getImageSize()), String.valueOf(usage.getImageCount()),
+                String.valueOf(usage.getVideoSize()), String.valueOf(usage.getVideoCount()),
+                String.valueOf(Constant.Usage.EXPIRE_SECONDS));
+        return usage;
+    }
+
+    @Override
+    public long getUsedSize(Long userId) {
+        return getUsage(userId).getTotalSize();
+    }
+
+    @Override
+    public void changeImage(Long userId, long size, long count) {
+        change(userId, size, count, 0, 0);
+    }
+
+    @Override
+    public void changeVideo(Long userId, long size, long count) {
+        change(userId, 0, 0, size, count);
+    }
+
+    private void change(Long userId, long imageSize, long imageCount, long videoSize, long videoCount) {
+        if (userId == null || (imageSize == 0 && imageCount == 0 && videoSize == 0 && videoCount == 0)) {
+            return;
+        }
+        this.baseMapper.increase(userId, imageSize, imageCount, videoSize, videoCount);
+
+        Runnable updateCounter = () -> {
+            try {
+                stringRedisTemplate.execute(INCREASE_SCRIPT, keys(userId),
+                        String.valueOf(imageSize), String.valueOf(imageCount), String.valueOf(videoSize), String.valueOf(videoCount),
+                        String.valueOf(Constant.Usage.EXPIRE_SECONDS));
+            } catch (Exception e) {
+                // 计数器更新失败时直接删除，下次读取从台账表重新加载
+                log.warn("用户用量计数器更新失败: userId={}", userId, e);
+                invalidate(userId);
+            }
+        };
+        // 处于事务中时等提交后再更新 Redis，避免回滚后计数器与台账不一致
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    updateCounter.run();
+                }
+            });
+        } else {
+            updateCounter.run();
+        }
+    }
+
+    @Override
+    public UserUsage getTotalUsage() {
+        UserUsage total = this.baseMapper.selectTotalUsage();
+        return total != null ? total : emptyUsage(null);
+    }
+
+    /**
+     * 逐用户对账：在同一事务中锁定台账行并按业务表统计，统计期间的并发变更会等待行锁，提交后在修复值上累加
+     */
+    @Override
+    public int reconcile(Runnable afterBatch) {
+        int repaired = 0;
+        long afterId = 0;
+        List<Long> userIds;
+        do {
+            userIds = this.baseMapper.selectUserIds(afterId, Constant.Usage.RECONCILE_BATCH_SIZE);
+            for (Long userId : userIds) {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcile(userId)))) {
+                    invalidate(userId);
+                    repaired++;
+                }
+                afterId = userId;
+            }
+            afterBatch.run();
+        } while (userIds.size() == Constant.Usage.RECONCILE_BATCH_SIZE);
+        return repaired;
+    }
+
+    /**
+     * 修复单个用户的台账 (需在事务中执行)
+     *
+     * @return 是否存在偏差并已修复
+     */
+    private boolean reconcile(Long userId) {
+        // 先加锁再统计：InnoDB 的一致性读快照在第一次普通查询时建立，加锁之后统计才能包含等待锁期间提交的变更
+        UserUsage ledger = this.baseMapper.selectForUpdate(userId);
+        if (ledger == null) {
+            // 台账行不存在时变更不会修改台账，插入空行后加锁
+            this.baseMapper.insertIgnore(emptyUsage(userId));
+            ledger = this.baseMapper.selectForUpdate(userId);
+        }
+        List<UserUsage> actualList = this.baseMapper.selectActualUsage(userId);
+        UserUsage actual = actualList.isEmpty() ? emptyUsage(userId) : actualList.get(0);
+        if (sameUsage(ledger, actual)) {
+            return false;
+        }
+        log.warn("用户用量偏差已修复: userId={}, 台账={}B/{}B, 实际={}B/{}B", userId,
+                ledger.getImageSize(), ledger.getVideoSize(), actual.getImageSize(), actual.getVideoSize());
+        this.updateById(actual);
+        return true;
+    }
+
+    private List<String> keys(Long userId) {
+        return List.of(Constant.Usage.KEY_PREFIX + userId, Constant.Usage.VERSION_KEY_PREFIX + userId);
+    }
+
+    /**
+     * 删除计数器并使正在进行的回填失效，下次读取从台账表重新加载
+     */
+    private void invalidate(Long userId) {
+        stringRedisTemplate.execute(INVALIDATE_SCRIPT, keys(userId), String.valueOf(Constant.Usage.EXPIRE_SECONDS));
+    }
+
+    private boolean sameUsage(UserUsage a, UserUsage b) {
+        return Objects.equals(a.getImageSize(), b.getImageSize())
+                && Objects.equals(a.getImageCount(), b.getImageCount())
+                && Objects.equals(a.getVideoSize(), b.getVideoSize())
+                && Objects.equals(a.getVideoCount(), b.getVideoCount());
+    }
+
+    private UserUsage emptyUsage(Long userId) {
+        UserUsage usage = new UserUsage();
+        usage.setUserId(userId);
+        usage.setImageSize(0L);
+        usage.setImageCount(0L);
+        usage.setVideoSize(0L);
+        usage.setVideoCount(0L);
+        return usage;
+    }
+
+    private long toLong(Object value) {
+        return value == null ? 0L : Math.max(Long.parseLong(value.toString()), 0L);
+    }
+}
@@ -5,7 +5,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.bytedeco.javacv.FFmpegFrameGrabber;
 import org.bytedeco.javacv.Frame;
 import org.bytedeco.javacv.Java2DFrameConverter;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.xcyms.entity.Video;
 import org.xcyms.mapper.VideoMapper;
@@ -14,6 +13,8 @@ import org.xcyms.service.storage.StorageFactory;
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.List;
 
 /**
  * <p>
@@ -32,23 +33,24 @@ public class VideoProcessor {
     private final StorageFactory storageFactory;
 
     /**
-     * 异步提取视频封面
+     * 计算阶段：解码视频，生成本地封面图并读取时长 (在媒体计算线程池中执行)
+     * 任务可重复执行：封面路径固定、数据库按ID覆盖更新
      *
-     * @param videoFile   本地临时视频文件
-     * @param videoId     视频记录ID
-     * @param relativeDir 封面图保存的相对目录
+     * @param videoFile    本地视频文件 (由调用方负责清理，可能是从存储下载的临时文件)
+     * @param videoId      视频记录ID
+     * @param relativePath 视频在存储中的相对路径，封面图保存在同目录下的同名 .jpg
+     * @return 待发布的结果，发布时上传封面并更新数据库
+     * @throws Exception 解码失败，由任务重试
      */
-    @Async("ioExecutor")
-    public void processVideoAsync(File videoFile, Long videoId, String relativeDir) {
+    public ProcessedMedia process(File videoFile, Long videoId, String relativePath) throws Exception {
         log.info("开始处理视频封面: {}, ID: {}", videoFile.getName(), videoId);
+        if (!videoFile.exists()) {
+            throw new FileNotFoundException("视频文件不存在: " + videoFile.getAbsolutePath());
+        }
+
         File coverFile = null;
         FFmpegFrameGrabber grabber = null;
         try {
-            if (!videoFile.exists()) {
-                log.warn("视频文件不存在，跳过处理: {}", videoFile.getAbsolutePath());
-                return;
-            }
-
             grabber = new FFmpegFrameGrabber(videoFile);
             grabber.start();
 
@@ -66,32 +68,34 @@ public class VideoProcessor {
                 count++;
             }
 
+            Video updateVideo = new Video();
+            updateVideo.setId(videoId);
+            updateVideo.setDuration(duration);
+
+            String coverRelativePath = null;
             if (frame != null && frame.image != null) {
-                // 转换帧为图片
+                // 转换帧为图片，保存临时封面图
                 Java2DFrameConverter converter = new Java2DFrameConverter();
                 BufferedImage bi = converter.getBufferedImage(frame);
-
-                // 保存临时封面图
-                String coverName = videoFile.getName().substring(0, videoFile.getName().lastIndexOf(".")) + ".jpg";
                 coverFile = File.createTempFile("cover_", ".jpg");
                 ImageIO.write(bi, "jpg", coverFile);
+                coverRelativePath = relativePath.substring(0, relativePath.lastIndexOf(".")) + ".jpg";
+            } else {
+                log.warn("视频未读取到有效画面，跳过封面: {}", videoId);
+            }
 
-                // 上传封面图
-                String coverRelativePath = relativeDir + coverName;
-                String coverUrl = storageFactory.getService().upload(coverFile, coverRelativePath);
-
+            File cover = coverFile;
+            String coverPath = coverRelativePath;
+            coverFile = null;
+            return new ProcessedMedia(cover == null ? List.of() : List.of(cover), () -> {
+                if (cover != null) {
+                    String coverUrl = storageFactory.getService().upload(cover, coverPath);
+                    updateVideo.setCoverUrl(coverUrl);
+                    log.info("视频封面提取并上传成功: {}", coverUrl);
+                }
                 // 更新数据库
-                Video updateVideo = new Video();
-                updateVideo.setId(videoId);
-                updateVideo.setCoverUrl(coverUrl);
-                updateVideo.setDuration(duration);
                 videoMapper.updateById(updateVideo);
-
-                log.info("视频封面提取并上传成功: {}", coverUrl);
-            }
-
-        } catch (Exception e) {
-            log.error("视频处理失败: {}", videoFile.getName(), e);
+            });
         } finally {
             try {
                 if (grabber != null) {
@@ -101,14 +105,10 @@ public class VideoProcessor {
             } catch (Exception e) {
                 log.error("释放 grabber 失败", e);
             }
-            // 清理临时封面文件
+            // 生成失败时清理临时封面文件，成功时由发布阶段清理
             if (coverFile != null && coverFile.exists()) {
                 coverFile.delete();
             }
-            // 清理视频临时文件
-            if (videoFile != null && videoFile.exists()) {
-                videoFile.delete();
-            }
         }
     }
-}
\ No newline at end of file
+}
@@ -11,26 +11,46 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.xcyms.common.ApiResult;
 import org.xcyms.common.Constant;
+import org.xcyms.common.CursorPage;
+import org.xcyms.common.enums.YesNoEnum;
 import org.xcyms.entity.Album;
+import org.xcyms.entity.Blob;
 import org.xcyms.entity.Video;
 import org.xcyms.entity.dto.VideoDTO;
 import org.xcyms.mapper.AlbumMapper;
 import org.xcyms.mapper.VideoMapper;
+import org.xcyms.service.IBlobService;
 import org.xcyms.service.IConfigService;
+import org.xcyms.service.IMediaJobService;
+import org.xcyms.service.IUserUsageService;
 import org.xcyms.service.IVideoService;
+import org.xcyms.service.storage.IStorageService;
+import org.xcyms.service.storage.MediaUploader;
 import org.xcyms.service.storage.StorageFactory;
+import org.xcyms.service.storage.UploadResult;
 import org.xcyms.utils.IdGenerator;
 
 import java.io.File;
 import java.io.IOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * <p>
@@ -48,8 +68,12 @@ public class VideoServiceImpl extends ServiceImpl<VideoMapper, Video> implements
     private final ModelMapper mapper;
     private final IConfigService configService;
     private final StorageFactory storageFactory;
-    private final VideoProcessor videoProcessor;
     private final AlbumMapper albumMapper;
+    private final MediaUploader mediaUploader;
+    private final IUserUsageService userUsageService;
+    private final IMediaJobService mediaJobService;
+    private final TransactionTemplate transactionTemplate;
+    private final IBlobService blobService;
 
     @Override
     public ApiResult<VideoDTO> uploadVideo(MultipartFile file, Long albumId, String category) {
@@ -64,7 +88,7 @@ public class VideoServiceImpl extends ServiceImpl<VideoMapper, Video> implements
         }
 
         // 1. 验证 (大小、格式)
-        ApiResult<VideoDTO> validateResult = validateFile(file, userId);
+        ApiResult<VideoDTO> validateResult = validateUpload(userId, originalFilename, file.getSize());
         if (validateResult.getCode() != 200) {
             return validateResult;
         }
@@ -75,64 +99,153 @@ public class VideoServiceImpl extends ServiceImpl<VideoMapper, Video> implements
         String newFileName = IdGenerator.nextIdStr() + suffix;
         String finalRelativePath = relativePath + newFileName;
 
-        // 3. 临时保存并上传
-        File tempFile = null;
         try {
-            tempFile = File.createTempFile("upload_v_", suffix);
-            file.transferTo(tempFile);
+            // 3. 内容去重：已上传过相同内容时直接引用已有文件，跳过存储写入与封面处理
+            String sha256 = mediaUploader.digest(file, suffix.substring(1));
+            ApiResult<VideoDTO> duplicate = saveDuplicate(userId, albumId, originalFilename, sha256, file.getSize());
+            if (duplicate != null) {
+                return duplicate;
+            }
 
-            // 执行上传策略
-            String webUrl = storageFactory.getService().upload(tempFile, finalRelativePath);
+            // 4. 流式上传 (写入存储的同时完成格式嗅探与摘要计算)
+            UploadResult uploadResult = mediaUploader.upload(file, finalRelativePath, suffix.substring(1), true);
 
-            // 4. 数据入库
-            Video video = new Video();
-            video.setUserId(userId);
-            video.setAlbumId(albumId);
-            video.setName(originalFilename);
-            video.setUrl(webUrl);
-            video.setSize(file.getSize());
-            video.setType(suffix.substring(1));
+            // 5. 数据入库
+            return saveUploaded(userId, albumId, originalFilename, uploadResult);
+        } catch (IllegalArgumentException e) {
+            return ApiResult.error(e.getMessage());
+        } catch (IOException e) {
+            log.error("视频上传失败", e);
+            return ApiResult.error("视频上传失败");
+        }
+    }
 
-            this.save(video);
+    @Override
+    public ApiResult<VideoDTO> saveUploaded(Long userId, Long albumId, String originalFilename, UploadResult uploadResult) {
+        try {
+            Video video = newVideo(userId, albumId, originalFilename, uploadResult.getSize());
+            video.setUrl(uploadResult.getUrl());
 
-            // 5. 异步处理视频封面 (不再在 finally 中删除 tempFile，由 processor 处理)
-            videoProcessor.processVideoAsync(tempFile, video.getId(), relativePath);
+            // 没有摘要时不参与去重
+            if (StringUtils.isBlank(uploadResult.getSha256())) {
+                transactionTemplate.executeWithoutResult(status -> saveVideo(video, null, uploadResult));
+                return ApiResult.success(mapper.map(video, VideoDTO.class));
+            }
 
+            // 登记存储对象；相同内容被并发上传时引用先登记的文件
+            Blob blob = transactionTemplate.execute(status -> {
+                Blob registered = blobService.register(userId, uploadResult);
+                boolean duplicate = !registered.getUrl().equals(uploadResult.getUrl());
+                saveVideo(video, registered, duplicate ? blobService.toUploadResult(registered, uploadResult) : uploadResult);
+                return registered;
+            });
+            if (!blob.getUrl().equals(uploadResult.getUrl())) {
+                try {
+                    storageFactory.getService(uploadResult.getStorageType()).delete(uploadResult.getUrl());
+                } catch (Exception e) {
+                    log.error("删除重复文件失败: {}", uploadResult.getUrl(), e);
+                }
+            }
             return ApiResult.success(mapper.map(video, VideoDTO.class));
+        } catch (RuntimeException e) {
+            // 入库失败时清理临时副本
+            if (uploadResult.isTemporary() && uploadResult.getLocalFile() != null) {
+                uploadResult.getLocalFile().delete();
+            }
+            throw e;
+        }
+    }
 
-        } catch (IOException e) {
-            log.error("视频上传失败", e);
-            // 发生异常时清理临时文件
-            if (tempFile != null && tempFile.exists()) {
-                tempFile.delete();
+    /**
+     * 已上传过相同内容时引用已有文件入库
+     *
+     * @return 未命中返回 null
+     */
+    private ApiResult<VideoDTO> saveDuplicate(Long userId, Long albumId, String originalFilename, String sha256, long size) {
+        Video video = newVideo(userId, albumId, originalFilename, size);
+        Boolean saved = transactionTemplate.execute(status -> {
+            Blob blob = blobService.acquire(userId, sha256, size);
+            if (blob == null) {
+                return false;
             }
-            return ApiResult.error("视频上传失败");
+            saveVideo(video, blob, blobService.toUploadResult(blob, null));
+            return true;
+        });
+        if (!Boolean.TRUE.equals(saved)) {
+            return null;
         }
+        log.info("重复上传，引用已有文件: userId={}, blobId={}, videoId={}", userId, video.getBlobId(), video.getId());
+        return ApiResult.success(mapper.map(video, VideoDTO.class));
+    }
+
+    private Video newVideo(Long userId, Long albumId, String originalFilename, long size) {
+        Video video = new Video();
+        video.setUserId(userId);
+        video.setAlbumId(albumId);
+        video.setName(originalFilename);
+        video.setSize(size);
+        video.setType(originalFilename.substring(originalFilename.lastIndexOf(".") + 1).toLowerCase());
+        return video;
     }
 
-    private ApiResult<VideoDTO> validateFile(MultipartFile file, Long userId) {
+    /**
+     * 记录、用量台账、相册统计、封面处理任务在同一事务中写入，任务由 MediaJobWorker 异步执行 (临时副本由任务负责清理)
+     * 引用的存储对象已有处理完成的记录时直接复用其封面与时长，不再提交任务 (本次上传的临时副本随即删除)
+     *
+     * @param blob         引用的存储对象，不参与去重时为 null
+     * @param uploadResult 源文件信息 (提交处理任务用)
+     */
+    private void saveVideo(Video video, Blob blob, UploadResult uploadResult) {
+        Video processed = null;
+        if (blob != null) {
+            video.setBlobId(blob.getId());
+            video.setUrl(blob.getUrl());
+            processed = this.baseMapper.selectProcessedByBlobId(blob.getId());
+        }
+        if (processed != null) {
+            video.setCoverUrl(processed.getCoverUrl());
+            video.setDuration(processed.getDuration());
+        }
+
+        this.save(video);
+        userUsageService.changeVideo(video.getUserId(), video.getSize(), 1);
+        changeAlbumStats(List.of(video), 1);
+        if (processed == null) {
+            mediaJobService.submit(Constant.MediaJob.TYPE_VIDEO, video.getId(), uploadResult);
+        } else if (uploadResult.isTemporary() && uploadResult.getLocalFile() != null) {
+            File localFile = uploadResult.getLocalFile();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    localFile.delete();
+                }
+            });
+        }
+    }
+
+    @Override
+    public ApiResult<VideoDTO> validateUpload(Long userId, String originalFilename, long size) {
         // 1. 校验用户存储空间配额
         String maxStorageStr = configService.getConfigValue(userId, Constant.ConfigKey.MAX_STORAGE_SIZE);
         long maxStorage = StringUtils.isNotBlank(maxStorageStr) ? Long.parseLong(maxStorageStr) : 100 * 1024 * 1024L;
 
-        Map<String, Object> map = this.getMap(new QueryWrapper<Video>()
-                .select("sum(size) as totalSize")
-                .eq("user_id", userId)
-                .eq("deleted", 0));
-        long usedSize = map != null && map.get("totalSize") != null ? Long.parseLong(map.get("totalSize").toString()) : 0L;
+        // 图片与视频共用配额 (读取用量台账)
+        long usedSize = userUsageService.getUsedSize(userId);
 
-        if (usedSize + file.getSize() > maxStorage) {
+        if (usedSize + size > maxStorage) {
             return ApiResult.error("存储空间已不足");
         }
 
         // 2. 单文件大小校验 (视频允许大一点)
         long maxSize = 50 * 1024 * 1024; // 默认 50MB
-        if (file.getSize() > maxSize) {
+        if (size > maxSize) {
             return ApiResult.error("视频文件不能超过 50MB");
         }
 
         // 3. 格式校验
-        String originalFilename = file.getOriginalFilename();
+        if (!originalFilename.contains(".")) {
+            return ApiResult.error("不支持的视频格式");
+        }
         String suffix = originalFilename.substring(originalFilename.lastIndexOf(".")).toLowerCase();
         Set<String> allowedExtensions = Set.of("mp4", "mov", "avi", "mkv");
         String ext = suffix.startsWith(".") ? suffix.substring(1) : suffix;
@@ -142,7 +255,8 @@ public class VideoServiceImpl extends ServiceImpl<VideoMapper, Video> implements
         return ApiResult.success();
     }
 
-    private String getRelativePath(Long userId, String category) {
+    @Override
+    public String getRelativePath(Long userId, String category) {
         String userSubDir = configService.getConfigValue(userId, Constant.ConfigKey.USER_UPLOAD_DIR);
         String datePath = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
         StringBuilder sb = new StringBuilder();
@@ -155,14 +269,55 @@ public class VideoServiceImpl extends ServiceImpl<VideoMapper, Video> implements
 
     @Override
     public ApiResult<IPage<VideoDTO>> getPage(Page<Video> page, VideoDTO videoDTO) {
-        IPage<Video> iPage = this.page(page, new QueryWrapper<Video>()
+        IPage<Video> iPage = this.page(page, buildQuery(videoDTO));
+        IPage<VideoDTO> iPageDTO = iPage.convert(video -> mapper.map(video, VideoDTO.class));
+        return ApiResult.success(iPageDTO);
+    }
+
+    @Override
+    public ApiResult<CursorPage<VideoDTO>> getCursorPage(VideoDTO videoDTO, String cursor, Long size, boolean asc, boolean withCount) {
+        CursorPage.Cursor position;
+        try {
+            position = CursorPage.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ApiResult.error(e.getMessage());
+        }
+        if (position != null && position.asc() != asc) {
+            return ApiResult.error("排序方向与游标不一致");
+        }
+        long pageSize = CursorPage.normalizeSize(size);
+
+        CursorPage<VideoDTO> result = new CursorPage<>();
+        if (withCount) {
+            result.setTotal(this.count(buildQuery(videoDTO)));
+        }
+
+        LambdaQueryWrapper<Video> wrapper = buildQuery(videoDTO);
+        if (position != null) {
+            wrapper.apply(asc ? "(create_time, id) > ({0}, {1})" : "(create_time, id) < ({0}, {1})", position.createTime(), position.id());
+        }
+        wrapper.orderBy(true, asc, Video::getCreateTime).orderBy(true, asc, Video::getId);
+
+        // 多取一条用于判断是否还有下一页，不执行 COUNT
+        List<Video> videos = this.page(new Page<>(1, pageSize + 1, false), wrapper).getRecords();
+        boolean hasMore = videos.size() > pageSize;
+        if (hasMore) {
+            videos = videos.subList(0, (int) pageSize);
+            Video last = videos.get(videos.size() - 1);
+            result.setNextCursor(CursorPage.encode(last.getCreateTime(), last.getId(), asc));
+        }
+        result.setHasMore(hasMore);
+        result.setRecords(videos.stream().map(video -> mapper.map(video, VideoDTO.class)).toList());
+        return ApiResult.success(result);
+    }
+
+    private LambdaQueryWrapper<Video> buildQuery(VideoDTO videoDTO) {
+        return new QueryWrapper<Video>()
                 .lambda()
                 .like(StringUtils.isNotBlank(videoDTO.getName()), Video::getName, videoDTO.getName())
                 .eq(null != videoDTO.getStatus(), Video::getStatus, videoDTO.getStatus())
                 .eq(null != videoDTO.getAlbumId(), Video::getAlbumId, videoDTO.getAlbumId())
-                .eq(null != videoDTO.getUserId(), Video::getUserId, videoDTO.getUserId()));
-        IPage<VideoDTO> iPageDTO = iPage.convert(video -> mapper.map(video, VideoDTO.class));
-        return ApiResult.success(iPageDTO);
+                .eq(null != videoDTO.getUserId(), Video::getUserId, videoDTO.getUserId());
     }
 
     @Override
@@ -176,23 +331,35 @@ public class VideoServiceImpl extends ServiceImpl<VideoMapper, Video> implements
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ApiResult<String> move(Long videoId, Long albumId) {
+        if (albumId == null) {
+            return ApiResult.error("目标相册不能为空");
+        }
+        List<Video> videos = selectForMove(List.of(videoId));
         Video video = new Video();
         video.setAlbumId(albumId);
         this.update(video, new LambdaQueryWrapper<Video>().eq(Video::getId, videoId));
+        moveAlbumStats(videos, albumId);
         return ApiResult.success("移动成功");
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public ApiResult<String> batchMove(VideoDTO videoDTO) {
         if (videoDTO.getIds() == null || videoDTO.getIds().isEmpty()) {
             return ApiResult.error("未选择视频");
         }
+        if (videoDTO.getAlbumId() == null) {
+            return ApiResult.error("目标相册不能为空");
+        }
+        List<Video> videos = selectForMove(videoDTO.getIds());
         LambdaQueryWrapper<Video> queryWrapper = new LambdaQueryWrapper<Video>()
                 .in(Video::getId, videoDTO.getIds());
         Video video = new Video();
         video.setAlbumId(videoDTO.getAlbumId());
         this.update(video, queryWrapper);
+        moveAlbumStats(videos, videoDTO.getAlbumId());
         return ApiResult.success("批量移动成功");
     }
 
@@ -203,13 +370,36 @@ public class VideoServiceImpl extends ServiceImpl<VideoMapper, Video> implements
         return ApiResult.success(iPageDTO);
     }
 
+    /**
+     * 删除到回收站 (逻辑删除)，同时扣减用量台账
+     */
     @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean removeByIds(Collection<?> list) {
+        if (list == null || list.isEmpty()) {
+            return false;
+        }
+        // 加锁读取仍未删除的记录，保证同一视频只扣减一次
+        List<Video> videos = this.list(new LambdaQueryWrapper<Video>()
+                .select(Video::getId, Video::getUserId, Video::getAlbumId, Video::getSize)
+                .in(Video::getId, list)
+                .last("FOR UPDATE"));
+        boolean result = super.removeByIds(list);
+        changeUsage(videos, -1);
+        changeAlbumStats(videos, -1);
+        return result;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
     public ApiResult<String> restore(List<Long> idList) {
         if (idList == null || idList.isEmpty()) {
             return ApiResult.error("请选择要恢复的视频");
         }
-        String ids = StringUtils.join(idList, ",");
-        this.baseMapper.restore(ids);
+        List<Video> videos = this.baseMapper.selectDeletedByIdsForUpdate(idList);
+        this.baseMapper.restore(idList);
+        changeUsage(videos, 1);
+        changeAlbumStats(videos, 1);
         return ApiResult.success("已从回收站恢复");
     }
 
@@ -219,18 +409,134 @@ public class VideoServiceImpl extends ServiceImpl<VideoMapper, Video> implements
             return ApiResult.error("请选择要删除的视频");
         }
 
-        for (Long id : idList) {
-            Video video = this.baseMapper.selectWithDeleted(id);
-            if (video != null) {
-                try {
-                    storageFactory.getService().delete(video.getUrl());
-                } catch (Exception e) {
-                    log.error("删除物理文件失败: {}", video.getUrl(), e);
-                }
-                this.baseMapper.deletePermanently(id);
+        deleteInBatches(idList, video -> true);
+        return ApiResult.success("已永久删除");
+    }
+
+    @Override
+    public int deleteExpired(List<Long> idList, LocalDateTime expireTime) {
+        // 加锁后再次确认仍在回收站且已过期 (查询到删除之间可能被恢复)
+        return deleteInBatches(idList, video -> video.getDeleted() == YesNoEnum.YES
+                && video.getUpdateTime() != null && video.getUpdateTime().isBefore(expireTime));
+    }
+
+    /**
+     * 分批物理删除：每批在一个事务中删除记录并释放存储对象引用，提交后按存储批量删除已无引用的文件
+     *
+     * @param filter 加锁查询后只删除满足条件的记录
+     * @return 删除的记录数
+     */
+    private int deleteInBatches(List<Long> idList, Predicate<Video> filter) {
+        List<Long> ids = idList.stream().filter(Objects::nonNull).distinct().toList();
+        int deleted = 0;
+        for (int i = 0; i < ids.size(); i += Constant.Recycle.DELETE_BATCH_SIZE) {
+            List<Long> batch = ids.subList(i, Math.min(i + Constant.Recycle.DELETE_BATCH_SIZE, ids.size()));
+            DeleteResult result = transactionTemplate.execute(status -> deleteBatch(batch, filter));
+            if (result == null) {
+                continue;
+            }
+            deleted += result.deleted();
+            if (!result.released().isEmpty()) {
+                deleteFiles(result.released());
             }
         }
-        return ApiResult.success("已永久删除");
+        return deleted;
+    }
+
+    /**
+     * 批量删除结果
+     *
+     * @param deleted  删除的记录数
+     * @param released 文件已无引用、需要删除物理文件的记录
+     */
+    private record DeleteResult(int deleted, List<Video> released) {
+    }
+
+    /**
+     * 一次加锁查询、一条 DELETE 删除一批记录 (回收站中的记录删除时已扣减过用量)
+     */
+    private DeleteResult deleteBatch(List<Long> ids, Predicate<Video> filter) {
+        List<Video> videos = this.baseMapper.selectWithDeletedByIdsForUpdate(ids).stream().filter(filter).toList();
+        if (videos.isEmpty()) {
+            return new DeleteResult(0, List.of());
+        }
+        this.baseMapper.deletePermanently(videos.stream().map(Video::getId).toList());
+
+        List<Video> active = videos.stream().filter(v -> v.getDeleted() != YesNoEnum.YES).toList();
+        changeUsage(active, -1);
+        changeAlbumStats(active, -1);
+
+        Set<Long> unreferenced = blobService.releaseAll(videos.stream().map(Video::getBlobId).filter(Objects::nonNull).toList());
+        return new DeleteResult(videos.size(), videos.stream()
+                .filter(v -> v.getBlobId() == null || unreferenced.contains(v.getBlobId()))
+                .toList());
+    }
+
+    /**
+     * 删除视频及封面文件，按存储分组后批量删除
+     */
+    private void deleteFiles(List<Video> videos) {
+        Map<IStorageService, Set<String>> urls = new LinkedHashMap<>();
+        for (Video video : videos) {
+            Set<String> files = urls.computeIfAbsent(storageFactory.getServiceByUrl(video.getUrl()), k -> new LinkedHashSet<>());
+            files.add(video.getUrl());
+            if (StringUtils.isNotBlank(video.getCoverUrl())) {
+                files.add(video.getCoverUrl());
+            }
+        }
+        urls.forEach((storage, files) -> {
+            try {
+                storage.deleteAll(files);
+            } catch (Exception e) {
+                log.error("删除物理文件失败: {} 个文件", files.size(), e);
+            }
+        });
+    }
+
+    /**
+     * 按用户汇总后更新用量台账
+     *
+     * @param sign 1-增加, -1-扣减
+     */
+    private void changeUsage(List<Video> videos, int sign) {
+        videos.stream()
+                .collect(Collectors.groupingBy(Video::getUserId))
+                .forEach((userId, list) -> userUsageService.changeVideo(userId,
+                        sign * list.stream().mapToLong(v -> v.getSize() == null ? 0L : v.getSize()).sum(),
+                        sign * (long) list.size()));
+    }
+
+    /**
+     * 按相册汇总后更新相册统计
+     *
+     * @param sign 1-增加, -1-扣减
+     */
+    private void changeAlbumStats(List<Video> videos, int sign) {
+        videos.stream()
+                .filter(v -> v.getAlbumId() != null)
+                .collect(Collectors.groupingBy(Video::getAlbumId))
+                .forEach((albumId, list) -> albumMapper.increaseStats(albumId, 0, sign * (long) list.size(),
+                        sign * list.stream().mapToLong(v -> v.getSize() == null ? 0L : v.getSize()).sum()));
+    }
+
+    /**
+     * 加锁读取待移动的视频 (回收站中的视频不参与移动)，保证统计只迁移一次
+     */
+    private List<Video> selectForMove(Collection<Long> idList) {
+        return this.list(new LambdaQueryWrapper<Video>()
+                .select(Video::getId, Video::getAlbumId, Video::getSize)
+                .in(Video::getId, idList)
+                .last("FOR UPDATE"));
+    }
+
+    /**
+     * 将视频的统计从原相册转移到目标相册
+     */
+    private void moveAlbumStats(List<Video> videos, Long targetAlbumId) {
+        List<Video> moved = videos.stream().filter(v -> !targetAlbumId.equals(v.getAlbumId())).toList();
+        changeAlbumStats(moved, -1);
+        moved.forEach(v -> v.setAlbumId(targetAlbumId));
+        changeAlbumStats(moved, 1);
     }
 
     @Override
@@ -1,6 +1,10 @@
 package org.xcyms.service.storage;
 
 import java.io.File;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * <p>
@@ -20,9 +24,135 @@ public interface IStorageService {
      */
     String upload(File file, String relativePath);
 
+    /**
+     * 以流的方式上传文件，不经过本地临时文件
+     * @param inputStream 文件输入流 (由调用方负责关闭)
+     * @param size 文件大小 (bytes)
+     * @param relativePath 相对路径 (如 user/1/image/2026/01/22/xxx.jpg)
+     * @return 最终可访问的 Web URL 或路径
+     */
+    String upload(InputStream inputStream, long size, String relativePath);
+
+    /**
+     * 初始化分片上传
+     * @param relativePath 最终对象的相对路径
+     * @param size 文件总大小 (bytes)
+     * @return 分片上传ID
+     */
+    String initMultipartUpload(String relativePath, long size);
+
+    /**
+     * 上传单个分片，同一分片重复上传会覆盖之前的数据
+     * @param relativePath 最终对象的相对路径
+     * @param multipartId 分片上传ID
+     * @param partNumber 分片序号 (从 1 开始)
+     * @param offset 分片在文件中的字节偏移
+     * @param inputStream 分片数据 (由调用方负责关闭)
+     * @param partSize 分片大小 (bytes)
+     * @return 分片 ETag
+     */
+    String uploadPart(String relativePath, String multipartId, int partNumber, long offset, InputStream inputStream, long partSize);
+
+    /**
+     * 合并分片，完成上传
+     * @param relativePath 最终对象的相对路径
+     * @param multipartId 分片上传ID
+     * @param partETags 分片序号 -> ETag
+     * @return 最终可访问的 Web URL 或路径
+     */
+    String completeMultipartUpload(String relativePath, String multipartId, Map<Integer, String> partETags);
+
+    /**
+     * 取消分片上传并清理已上传的分片
+     * @param relativePath 最终对象的相对路径
+     * @param multipartId 分片上传ID
+     */
+    void abortMultipartUpload(String relativePath, String multipartId);
+
     /**
      * 删除文件
      * @param url 数据库存储的 URL
      */
     void delete(String url);
+
+    /**
+     * 批量删除文件 (单个文件删除失败只记录日志，不影响其他文件)
+     * @param urls 数据库存储的 URL
+     */
+    default void deleteAll(Collection<String> urls) {
+        urls.forEach(this::delete);
+    }
+
+    /**
+     * 下载文件到本地
+     * @param relativePath 相对路径 (上传时使用的路径)
+     * @param target 目标文件 (已存在时覆盖)
+     */
+    void download(String relativePath, File target);
+
+    /**
+     * 由数据库存储的 URL 得到上传时使用的相对路径
+     * @param url 数据库存储的 URL
+     * @return 相对路径 (如 user/1/image/2026/01/22/xxx.jpg)
+     */
+    String getRelativePath(String url);
+
+    /**
+     * 生成客户端直传使用的预签名 PUT 地址，文件内容不经过应用服务器
+     * @param relativePath 最终对象的相对路径
+     * @param expireSeconds 地址有效期 (秒)
+     * @return 预签名地址，不支持直传的存储返回 null
+     */
+    default String presignUpload(String relativePath, long expireSeconds) {
+        return null;
+    }
+
+    /**
+     * 查询对象大小 (如客户端直传完成后确认对象已写入)
+     * @param relativePath 相对路径
+     * @return 对象大小 (bytes)，对象不存在返回 -1
+     */
+    long getObjectSize(String relativePath);
+
+    /**
+     * 读取对象开头的若干字节 (用于校验文件头而不读取整个对象，对象存储使用 Range 请求)
+     * @param relativePath 相对路径
+     * @param length 读取的字节数，对象较小时返回实际长度
+     */
+    byte[] readHead(String relativePath, int length);
+
+    /**
+     * 在存储内部复制对象 (对象存储为服务端复制，数据不经过应用服务器)
+     * @param sourceRelativePath 源对象相对路径
+     * @param targetRelativePath 目标对象相对路径 (已存在时覆盖)
+     */
+    void copy(String sourceRelativePath, String targetRelativePath);
+
+    /**
+     * 由相对路径得到写入数据库的 URL (与 upload 返回值一致)
+     * @param relativePath 相对路径
+     */
+    String getUrl(String relativePath);
+
+    /**
+     * 列举存储中的全部对象，逐页读取并逐个回调，不在内存中保留完整列表
+     * @param consumer 对象回调 (抛出异常时停止列举)
+     */
+    void listObjects(Consumer<StorageObject> consumer);
+
+    /**
+     * 是否为本地磁盘存储
+     */
+    default boolean isLocal() {
+        return false;
+    }
+
+    /**
+     * 获取 URL 对应的本地物理文件
+     * @param url 数据库存储的 URL
+     * @return 本地文件，非本地存储返回 null
+     */
+    default File getLocalFile(String url) {
+        return null;
+    }
 }
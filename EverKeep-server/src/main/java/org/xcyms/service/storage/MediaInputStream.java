@@ -0,0 +1,120 @@
+package org.xcyms.service.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * <p>
+ * 上传媒体输入流
+ * 在存储后端读取数据的同一遍中计算 SHA-256、统计字节数，并可选地旁路写入一份本地副本
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月10日 10:12
+ */
+public class MediaInputStream extends FilterInputStream {
+
+    private final MessageDigest digest;
+    private final OutputStream tee;
+    private long bytesRead;
+    private String sha256;
+
+    public MediaInputStream(InputStream in) {
+        this(in, null);
+    }
+
+    /**
+     * @param in  源输入流
+     * @param tee 旁路输出流 (可为 null)，读取到的数据会同步写入
+     */
+    public MediaInputStream(InputStream in, OutputStream tee) {
+        super(in);
+        this.tee = tee;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("不支持 SHA-256 摘要算法", e);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b != -1) {
+            digest.update((byte) b);
+            bytesRead++;
+            if (tee != null) {
+                tee.write(b);
+            }
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = in.read(b, off, len);
+        if (n > 0) {
+            digest.update(b, off, n);
+            bytesRead += n;
+            if (tee != null) {
+                tee.write(b, off, n);
+            }
+        }
+        return n;
+    }
+
+    /**
+     * 跳过的数据同样需要计入摘要，因此按读取处理
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(8192, Math.max(n, 0))];
+        long skipped = 0;
+        while (skipped < n) {
+            int r = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (r == -1) {
+                break;
+            }
+            skipped += r;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (tee != null) {
+                tee.close();
+            }
+        }
+    }
+
+    /**
+     * 已读取的字节数
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * 内容的 SHA-256 (十六进制小写)，须在数据读取完毕后调用
+     */
+    public String getSha256() {
+        if (sha256 == null) {
+            sha256 = HexFormat.of().formatHex(digest.digest());
+        }
+        return sha256;
+    }
+}
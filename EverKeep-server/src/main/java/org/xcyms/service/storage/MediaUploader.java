@@ -0,0 +1,168 @@
+package org.xcyms.service.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import org.xcyms.common.Constant;
+import org.xcyms.utils.FileTypeSniffer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * <p>
+ * 流式上传管线
+ * 请求体只读取一遍：嗅探格式 -> 计算摘要 -> 写入存储后端，不再额外落临时文件；
+ * 云存储的大文件先在同一遍读取中写入本地临时文件，再由 {@link MultipartUploadEngine} 并行分片上传
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月10日 10:26
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MediaUploader {
+
+    private final StorageFactory storageFactory;
+    private final MultipartUploadEngine multipartUploadEngine;
+
+    /**
+     * 流式上传
+     *
+     * @param file          上传的文件
+     * @param relativePath  相对路径
+     * @param ext           声明的文件后缀 (不含点)
+     * @param needLocalFile 是否需要保留本地文件供后续异步处理
+     * @return 上传结果
+     * @throws IllegalArgumentException 文件内容与后缀不符
+     * @throws IOException              读取上传数据失败
+     */
+    public UploadResult upload(MultipartFile file, String relativePath, String ext, boolean needLocalFile) throws IOException {
+        String storageType = storageFactory.getServiceType();
+        IStorageService storage = storageFactory.getService(storageType);
+        UploadResult result = new UploadResult();
+        result.setStorageType(storageType);
+
+        try (InputStream buffered = new BufferedInputStream(file.getInputStream())) {
+            // 1. 嗅探文件头 (mark/reset，不会产生额外读取)
+            result.setDetectedType(sniff(buffered, ext));
+
+            if (multipartUploadEngine.isMultipart(storage, file.getSize())) {
+                uploadMultipart(buffered, storage, relativePath, ext, needLocalFile, result);
+                log.debug("分片上传完成: path={}, size={}, sha256={}", relativePath, result.getSize(), result.getSha256());
+                return result;
+            }
+
+            // 2. 本地存储可直接使用落盘后的文件；云存储则在同一遍读取中旁路写出一份临时副本
+            File teeFile = null;
+            OutputStream tee = null;
+            if (needLocalFile && !storage.isLocal()) {
+                teeFile = File.createTempFile(Constant.MediaJob.LOCAL_COPY_PREFIX, "." + ext);
+                tee = new BufferedOutputStream(new FileOutputStream(teeFile));
+            }
+
+            // 3. 摘要 + 写入存储
+            try (MediaInputStream in = new MediaInputStream(buffered, tee)) {
+                String url = storage.upload(in, file.getSize(), relativePath);
+                // 存储后端可能未读到流末尾，补齐以保证摘要与旁路副本完整
+                in.transferTo(OutputStream.nullOutputStream());
+                result.setUrl(url);
+                result.setRelativePath(relativePath);
+                result.setSize(in.getBytesRead());
+                result.setSha256(in.getSha256());
+            } catch (RuntimeException | IOException e) {
+                if (teeFile != null) {
+                    teeFile.delete();
+                }
+                throw e;
+            }
+
+            if (needLocalFile) {
+                if (teeFile != null) {
+                    result.setLocalFile(teeFile);
+                    result.setTemporary(true);
+                } else {
+                    result.setLocalFile(storage.getLocalFile(result.getUrl()));
+                    result.setTemporary(false);
+                }
+            }
+        }
+
+        log.debug("流式上传完成: path={}, size={}, sha256={}", relativePath, result.getSize(), result.getSha256());
+        return result;
+    }
+
+    /**
+     * 大文件：读取请求体写入本地临时文件 (同时计算摘要)，再并行分片上传；
+     * 需要本地文件时临时文件即作为处理副本，否则上传后删除
+     */
+    private void uploadMultipart(InputStream buffered, IStorageService storage, String relativePath, String ext,
+                                 boolean needLocalFile, UploadResult result) throws IOException {
+        File spool = File.createTempFile(Constant.MediaJob.LOCAL_COPY_PREFIX, "." + ext);
+        boolean keep = false;
+        try {
+            try (MediaInputStream in = new MediaInputStream(buffered, new BufferedOutputStream(new FileOutputStream(spool)))) {
+                in.transferTo(OutputStream.nullOutputStream());
+                result.setSize(in.getBytesRead());
+                result.setSha256(in.getSha256());
+            }
+            result.setUrl(multipartUploadEngine.upload(storage, spool, relativePath));
+            result.setRelativePath(relativePath);
+            if (needLocalFile) {
+                result.setLocalFile(spool);
+                result.setTemporary(true);
+                keep = true;
+            }
+        } finally {
+            if (!keep) {
+                spool.delete();
+            }
+        }
+    }
+
+    /**
+     * 在写入存储前计算内容摘要，用于去重判断
+     * 请求体已由容器接收到本地 (内存或临时文件)，这里只是一次本地读取，命中时可省去向存储写入
+     *
+     * @param file 上传的文件
+     * @param ext  声明的文件后缀 (不含点)
+     * @return 内容 SHA-256
+     * @throws IllegalArgumentException 文件内容与后缀不符
+     */
+    public String digest(MultipartFile file, String ext) throws IOException {
+        try (InputStream buffered = new BufferedInputStream(file.getInputStream())) {
+            sniff(buffered, ext);
+            try (MediaInputStream in = new MediaInputStream(buffered)) {
+                in.transferTo(OutputStream.nullOutputStream());
+                return in.getSha256();
+            }
+        }
+    }
+
+    /**
+     * 嗅探文件头并校验与声明后缀是否一致，读取后流位置复位
+     *
+     * @param buffered 支持 mark/reset 的输入流
+     * @param ext      声明的文件后缀 (不含点)
+     * @return 识别出的格式，无法识别返回 null
+     * @throws IllegalArgumentException 文件内容与后缀不符
+     */
+    public String sniff(InputStream buffered, String ext) throws IOException {
+        buffered.mark(FileTypeSniffer.HEAD_SIZE);
+        byte[] head = buffered.readNBytes(FileTypeSniffer.HEAD_SIZE);
+        buffered.reset();
+        String detectedType = FileTypeSniffer.detect(head);
+        if (!FileTypeSniffer.matches(detectedType, ext)) {
+            log.warn("文件内容与后缀不符: ext={}, detected={}", ext, detectedType);
+            throw new IllegalArgumentException("文件内容与格式不符");
+        }
+        return detectedType;
+    }
+}
@@ -0,0 +1,254 @@
+package org.xcyms.service.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.xcyms.common.Constant;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * 并行分片上传引擎
+ * 大文件按固定大小切分，各分片在存储传输线程池中并发上传 (单个文件同时上传的分片数有上限)，
+ * 避免单条 TCP 连接的吞吐决定整体耗时。分片数据通过内存映射按偏移读取，不复制到堆内存；
+ * 上传时同步计算分片 MD5 并与存储返回的 ETag 比对，失败或不一致的分片单独重试，最终失败时取消整个分片上传。
+ * 本地存储及小于阈值的文件直接使用单次上传。
+ * 指标：storage.multipart.part.retries 分片重试次数
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月24日 09:40
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MultipartUploadEngine {
+
+    /**
+     * 标准 S3/COS 分片 ETag 为分片内容的 MD5；服务端加密等情况下不是 MD5，此时跳过比对
+     */
+    private static final Pattern MD5_ETAG = Pattern.compile("^[0-9a-fA-F]{32}$");
+
+    private final MeterRegistry meterRegistry;
+
+    @Resource(name = "storageExecutor")
+    private Executor storageExecutor;
+
+    /**
+     * 达到该大小的文件使用并行分片上传
+     */
+    @Value("${everkeep.storage.multipart.threshold:32MB}")
+    private DataSize threshold;
+
+    /**
+     * 分片大小 (不小于 5MB，分片数超过上限时自动增大)
+     */
+    @Value("${everkeep.storage.multipart.part-size:8MB}")
+    private DataSize partSize;
+
+    /**
+     * 单个文件同时上传的最大分片数
+     */
+    @Value("${everkeep.storage.multipart.parallelism:4}")
+    private int parallelism;
+
+    /**
+     * 单个分片的最大尝试次数
+     */
+    @Value("${everkeep.storage.multipart.max-attempts:3}")
+    private int maxAttempts;
+
+    private Counter retryCounter;
+
+    @PostConstruct
+    public void init() {
+        retryCounter = Counter.builder("storage.multipart.part.retries").register(meterRegistry);
+    }
+
+    /**
+     * 是否使用分片上传
+     *
+     * @param storage 存储服务
+     * @param size    文件大小 (bytes)
+     */
+    public boolean isMultipart(IStorageService storage, long size) {
+        return !storage.isLocal() && size >= threshold.toBytes();
+    }
+
+    /**
+     * 上传本地文件，达到阈值时并行分片上传
+     *
+     * @param storage      存储服务
+     * @param file         本地文件 (上传期间不能被修改)
+     * @param relativePath 相对路径
+     * @return 最终可访问的 Web URL 或路径
+     */
+    public String upload(IStorageService storage, File file, String relativePath) throws IOException {
+        long size = file.length();
+        if (!isMultipart(storage, size)) {
+            return storage.upload(file, relativePath);
+        }
+        long chunkSize = Math.max(Math.max(partSize.toBytes(), Constant.ChunkUpload.DEFAULT_CHUNK_SIZE),
+                (size + Constant.ChunkUpload.MAX_CHUNKS - 1) / Constant.ChunkUpload.MAX_CHUNKS);
+        int partCount = (int) ((size + chunkSize - 1) / chunkSize);
+        long start = System.currentTimeMillis();
+
+        String multipartId = storage.initMultipartUpload(relativePath, size);
+        Map<Integer, String> partETags = new ConcurrentHashMap<>();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            Semaphore permits = new Semaphore(Math.max(1, parallelism));
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            List<CompletableFuture<Void>> futures = new ArrayList<>(partCount);
+            for (int i = 0; i < partCount && failure.get() == null; i++) {
+                int partNumber = i + 1;
+                long offset = i * chunkSize;
+                long length = Math.min(chunkSize, size - offset);
+                permits.acquire();
+                try {
+                    futures.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            partETags.put(partNumber, uploadPart(storage, channel, relativePath, multipartId, partNumber, offset, length));
+                        } catch (RuntimeException e) {
+                            failure.compareAndSet(null, e);
+                            throw e;
+                        } finally {
+                            permits.release();
+                        }
+                    }, storageExecutor));
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                    failure.compareAndSet(null, e);
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            storage.abortMultipartUpload(relativePath, multipartId);
+            throw new IOException("分片上传被中断", e);
+        } catch (Throwable e) {
+            storage.abortMultipartUpload(relativePath, multipartId);
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof IOException ex) {
+                throw ex;
+            }
+            throw cause instanceof RuntimeException ex ? ex : new RuntimeException(cause);
+        }
+
+        String url = storage.completeMultipartUpload(relativePath, multipartId, partETags);
+        log.info("并行分片上传完成: path={}, size={}, parts={}, cost={}ms", relativePath, size, partCount, System.currentTimeMillis() - start);
+        return url;
+    }
+
+    /**
+     * 上传单个分片，失败或校验不一致时按指数退避重试 (每次重新映射，从头读取)
+     */
+    private String uploadPart(IStorageService storage, FileChannel channel, String relativePath, String multipartId,
+                              int partNumber, long offset, long length) {
+        RuntimeException last = null;
+        for (int attempt = 1; attempt <= Math.max(1, maxAttempts); attempt++) {
+            try {
+                MessageDigest md5 = MessageDigest.getInstance("MD5");
+                try (InputStream in = new DigestInputStream(new ByteBufferInputStream(
+                        channel.map(FileChannel.MapMode.READ_ONLY, offset, length)), md5)) {
+                    String etag = storage.uploadPart(relativePath, multipartId, partNumber, offset, in, length);
+                    // 存储端可能未读到分片末尾，补齐以保证摘要完整
+                    in.transferTo(OutputStream.nullOutputStream());
+                    String expected = HexFormat.of().formatHex(md5.digest());
+                    String actual = etag == null ? "" : etag.replace("\"", "");
+                    if (MD5_ETAG.matcher(actual).matches() && !expected.equalsIgnoreCase(actual)) {
+                        throw new IllegalStateException("分片校验失败: expected=" + expected + ", etag=" + actual);
+                    }
+                    return etag;
+                }
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("不支持 MD5 摘要算法", e);
+            } catch (IOException | RuntimeException e) {
+                last = e instanceof RuntimeException ex ? ex : new RuntimeException(e);
+                log.warn("分片上传失败: path={}, part={}, attempt={}/{}: {}", relativePath, partNumber, attempt, maxAttempts, e.getMessage());
+            }
+            if (attempt < maxAttempts) {
+                retryCounter.increment();
+                try {
+                    Thread.sleep(200L << (attempt - 1));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        throw last != null ? last : new RuntimeException("分片上传失败");
+    }
+
+    /**
+     * 内存映射区域的输入流
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.min(Math.max(n, 0), buffer.remaining());
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+    }
+}
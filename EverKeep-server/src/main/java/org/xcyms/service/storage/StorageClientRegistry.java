@@ -0,0 +1,200 @@
+package org.xcyms.service.storage;
+
+import com.qcloud.cos.COSClient;
+import com.qcloud.cos.ClientConfig;
+import com.qcloud.cos.auth.BasicCOSCredentials;
+import com.qcloud.cos.region.Region;
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.stereotype.Component;
+import org.xcyms.common.Constant;
+import org.xcyms.service.IConfigService;
+import org.xcyms.service.storage.impl.MinioMultipartClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * 云存储客户端注册表
+ * 每种存储只保留一个长期复用的客户端 (共享连接池)，只有相关 sys_config 配置变化时才重建，
+ * 旧客户端延迟关闭，保证进行中的请求不受影响。
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月12日 10:05
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorageClientRegistry {
+
+    /** 默认最大连接数 */
+    private static final int DEFAULT_MAX_CONNECTIONS = 64;
+    /** 默认空闲连接保活时间 (秒) */
+    private static final int DEFAULT_KEEP_ALIVE_SECONDS = 300;
+    /** 配置变更后旧客户端的关闭延迟 (秒) */
+    private static final long RETIRE_DELAY_SECONDS = 120;
+
+    private final IConfigService configService;
+
+    private volatile MinioHolder minioHolder;
+    private volatile CosHolder cosHolder;
+
+    private record MinioHolder(String fingerprint, OkHttpClient httpClient, MinioClient client, MinioMultipartClient multipartClient) {
+    }
+
+    private record CosHolder(String fingerprint, COSClient client) {
+    }
+
+    /**
+     * 获取 S3 (MinIO) 客户端
+     */
+    public MinioClient getMinioClient() {
+        return getMinioHolder().client();
+    }
+
+    /**
+     * 获取支持原生分片上传的 S3 (MinIO) 客户端，与 {@link #getMinioClient()} 共享连接池
+     */
+    public MinioMultipartClient getMinioMultipartClient() {
+        return getMinioHolder().multipartClient();
+    }
+
+    /**
+     * 获取腾讯云 COS 客户端，调用方不要 shutdown
+     */
+    public COSClient getCosClient() {
+        String secretId = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.SECRET_ID);
+        String secretKey = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.SECRET_KEY);
+        String region = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.REGION);
+        int maxConnections = getMaxConnections();
+        int keepAliveSeconds = getKeepAliveSeconds();
+        String fingerprint = fingerprint(secretId, secretKey, region, maxConnections, keepAliveSeconds);
+
+        CosHolder holder = cosHolder;
+        if (holder != null && holder.fingerprint().equals(fingerprint)) {
+            return holder.client();
+        }
+        synchronized (this) {
+            holder = cosHolder;
+            if (holder != null && holder.fingerprint().equals(fingerprint)) {
+                return holder.client();
+            }
+            ClientConfig clientConfig = new ClientConfig();
+            clientConfig.setRegion(new Region(region));
+            clientConfig.setMaxConnectionsCount(maxConnections);
+            clientConfig.setIdleConnectionAlive(keepAliveSeconds * 1000);
+            COSClient client = new COSClient(new BasicCOSCredentials(secretId, secretKey), clientConfig);
+            log.info("腾讯云COS客户端已创建: region={}, maxConnections={}, keepAlive={}s", region, maxConnections, keepAliveSeconds);
+
+            CosHolder old = cosHolder;
+            cosHolder = new CosHolder(fingerprint, client);
+            if (old != null) {
+                retire(() -> old.client().shutdown());
+            }
+            return client;
+        }
+    }
+
+    private MinioHolder getMinioHolder() {
+        String endpoint = configService.getConfigValue(null, Constant.ConfigKey.S3.ENDPOINT);
+        String accessKey = configService.getConfigValue(null, Constant.ConfigKey.S3.ACCESS_KEY);
+        String secretKey = configService.getConfigValue(null, Constant.ConfigKey.S3.SECRET_KEY);
+        int maxConnections = getMaxConnections();
+        int keepAliveSeconds = getKeepAliveSeconds();
+        String fingerprint = fingerprint(endpoint, accessKey, secretKey, maxConnections, keepAliveSeconds);
+
+        MinioHolder holder = minioHolder;
+        if (holder != null && holder.fingerprint().equals(fingerprint)) {
+            return holder;
+        }
+        synchronized (this) {
+            holder = minioHolder;
+            if (holder != null && holder.fingerprint().equals(fingerprint)) {
+                return holder;
+            }
+            // MinIO 默认每个客户端新建一个 OkHttpClient，这里显式共享同一个连接池与调度器
+            Dispatcher dispatcher = new Dispatcher();
+            dispatcher.setMaxRequests(maxConnections);
+            dispatcher.setMaxRequestsPerHost(maxConnections);
+            OkHttpClient httpClient = new OkHttpClient.Builder()
+                    .connectionPool(new ConnectionPool(maxConnections, keepAliveSeconds, TimeUnit.SECONDS))
+                    .dispatcher(dispatcher)
+                    .connectTimeout(10, TimeUnit.SECONDS)
+                    .readTimeout(5, TimeUnit.MINUTES)
+                    .writeTimeout(5, TimeUnit.MINUTES)
+                    .build();
+            MinioClient client = MinioClient.builder()
+                    .endpoint(endpoint)
+                    .credentials(accessKey, secretKey)
+                    .httpClient(httpClient)
+                    .build();
+            MinioMultipartClient multipartClient = new MinioMultipartClient(MinioAsyncClient.builder()
+                    .endpoint(endpoint)
+                    .credentials(accessKey, secretKey)
+                    .httpClient(httpClient)
+                    .build());
+            log.info("S3客户端已创建: endpoint={}, maxConnections={}, keepAlive={}s", endpoint, maxConnections, keepAliveSeconds);
+
+            MinioHolder old = minioHolder;
+            minioHolder = new MinioHolder(fingerprint, httpClient, client, multipartClient);
+            if (old != null) {
+                retire(() -> closeHttpClient(old.httpClient()));
+            }
+            return minioHolder;
+        }
+    }
+
+    private int getMaxConnections() {
+        String value = configService.getConfigValue(null, Constant.ConfigKey.StorageClient.MAX_CONNECTIONS);
+        int maxConnections = NumberUtils.toInt(value, DEFAULT_MAX_CONNECTIONS);
+        return maxConnections > 0 ? maxConnections : DEFAULT_MAX_CONNECTIONS;
+    }
+
+    private int getKeepAliveSeconds() {
+        String value = configService.getConfigValue(null, Constant.ConfigKey.StorageClient.KEEP_ALIVE_SECONDS);
+        int keepAliveSeconds = NumberUtils.toInt(value, DEFAULT_KEEP_ALIVE_SECONDS);
+        return keepAliveSeconds > 0 ? keepAliveSeconds : DEFAULT_KEEP_ALIVE_SECONDS;
+    }
+
+    private String fingerprint(Object... values) {
+        return StringUtils.join(values, '|');
+    }
+
+    private void retire(Runnable close) {
+        CompletableFuture.runAsync(() -> {
+            try {
+                close.run();
+                log.info("旧的云存储客户端已关闭");
+            } catch (Exception e) {
+                log.warn("关闭旧的云存储客户端失败", e);
+            }
+        }, CompletableFuture.delayedExecutor(RETIRE_DELAY_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private void closeHttpClient(OkHttpClient httpClient) {
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        MinioHolder minio = minioHolder;
+        if (minio != null) {
+            closeHttpClient(minio.httpClient());
+        }
+        CosHolder cos = cosHolder;
+        if (cos != null) {
+            cos.client().shutdown();
+        }
+    }
+}
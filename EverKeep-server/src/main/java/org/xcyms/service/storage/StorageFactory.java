@@ -19,12 +19,36 @@ public class StorageFactory {
     private final IConfigService configService;
 
     public IStorageService getService() {
+        return storageServiceMap.get(getServiceType());
+    }
+
+    /**
+     * 获取指定类型的存储服务 (用于跨请求的操作，如分片上传需固定在初始化时的存储)
+     */
+    public IStorageService getService(String type) {
+        IStorageService service = StringUtils.isBlank(type) ? null : storageServiceMap.get(type.toUpperCase());
+        return service != null ? service : storageServiceMap.get("LOCAL");
+    }
+
+    /**
+     * 获取 URL 所在的存储服务：本地路径 (/uploads/ 开头) 为本地存储，其余为当前生效的对象存储
+     */
+    public IStorageService getServiceByUrl(String url) {
+        if (url != null && url.startsWith(Constant.UPLOAD_ROOT_PATH)) {
+            return storageServiceMap.get("LOCAL");
+        }
+        return getService();
+    }
+
+    /**
+     * 获取当前生效的存储类型 (LOCAL/S3/TENCENT)
+     */
+    public String getServiceType() {
         // 从数据库配置表读取当前存储类型 (LOCAL/S3)
         String type = configService.getConfigValue(null, Constant.ConfigKey.STORAGE_TYPE);
-        if (StringUtils.isBlank(type)) {
-            return storageServiceMap.get("LOCAL");
+        if (StringUtils.isBlank(type) || !storageServiceMap.containsKey(type.toUpperCase())) {
+            return "LOCAL";
         }
-        IStorageService service = storageServiceMap.get(type.toUpperCase());
-        return service != null ? service : storageServiceMap.get("LOCAL");
+        return type.toUpperCase();
     }
 }
\ No newline at end of file
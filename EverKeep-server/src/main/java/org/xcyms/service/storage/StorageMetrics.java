@@ -0,0 +1,53 @@
+package org.xcyms.service.storage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>
+ * 存储操作耗时指标
+ * 指标名 storage.operation，标签 storage (LOCAL/S3/TENCENT)、operation (upload/delete/...)、outcome (success/error)
+ * 查看: GET /actuator/metrics/storage.operation?tag=storage:S3&tag=operation:upload
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月12日 10:20
+ */
+@Component
+@RequiredArgsConstructor
+public class StorageMetrics {
+
+    private static final String METRIC_NAME = "storage.operation";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 存储操作 (允许抛出受检异常)
+     */
+    @FunctionalInterface
+    public interface StorageCall<T> {
+        T call() throws Exception;
+    }
+
+    /**
+     * 执行并记录一次存储操作的耗时，异常原样抛出
+     */
+    public <T> T record(String storage, String operation, StorageCall<T> call) throws Exception {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.call();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("storage", storage)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.xcyms.service.storage;
+
+import java.time.Instant;
+
+/**
+ * <p>
+ *     存储后端中的对象 (列举结果)
+ * </p>
+ *
+ * @param relativePath 相对路径 (与上传时使用的路径一致)
+ * @param size         对象大小 (bytes)
+ * @param lastModified 最后修改时间
+ * @author liu-xu
+ * @since 2026-02-24
+ */
+public record StorageObject(String relativePath, long size, Instant lastModified) {
+}
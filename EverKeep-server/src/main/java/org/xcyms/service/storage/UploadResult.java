@@ -0,0 +1,57 @@
+package org.xcyms.service.storage;
+
+import lombok.Data;
+
+import java.io.File;
+
+/**
+ * <p>
+ * 流式上传结果
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月10日 10:20
+ */
+@Data
+public class UploadResult {
+
+    /**
+     * 最终可访问的 Web URL 或路径
+     */
+    private String url;
+
+    /**
+     * 写入的存储类型 (LOCAL/S3/TENCENT)
+     */
+    private String storageType;
+
+    /**
+     * 存储相对路径 (如 user/1/image/2026/01/22/xxx.jpg)
+     */
+    private String relativePath;
+
+    /**
+     * 实际写入的字节数
+     */
+    private long size;
+
+    /**
+     * 内容 SHA-256
+     */
+    private String sha256;
+
+    /**
+     * 文件头嗅探出的真实格式 (无法识别时为 null)
+     */
+    private String detectedType;
+
+    /**
+     * 供后续处理 (EXIF/缩略图/封面) 使用的本地文件，不需要时为 null
+     */
+    private File localFile;
+
+    /**
+     * localFile 是否为临时文件 (处理完成后需删除)
+     */
+    private boolean temporary;
+}
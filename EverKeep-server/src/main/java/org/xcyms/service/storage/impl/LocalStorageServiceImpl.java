@@ -1,16 +1,35 @@
 package org.xcyms.service.storage.impl;
 
+import jakarta.annotation.Resource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.xcyms.common.Constant;
 import org.xcyms.service.IConfigService;
 import org.xcyms.service.storage.IStorageService;
+import org.xcyms.service.storage.StorageObject;
+import org.xcyms.utils.IdGenerator;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 本地磁盘存储实现
@@ -20,16 +39,24 @@ import java.nio.file.StandardCopyOption;
 @RequiredArgsConstructor
 public class LocalStorageServiceImpl implements IStorageService {
 
+    /**
+     * 单次 transferFrom 的最大字节数
+     */
+    private static final long TRANSFER_CHUNK = 8 * 1024 * 1024L;
+
+    /**
+     * 分片上传过程中的临时文件后缀
+     */
+    private static final String PART_SUFFIX = ".part";
+
     private final IConfigService configService;
 
+    @Resource(name = "ioExecutor")
+    private Executor ioExecutor;
+
     @Override
     public String upload(File file, String relativePath) {
-        String rootPath = configService.getConfigValue(null, Constant.ConfigKey.UPLOAD_PATH);
-        File destFile = new File(rootPath, relativePath.replace("/", File.separator));
-
-        if (!destFile.getParentFile().exists()) {
-            destFile.getParentFile().mkdirs();
-        }
+        File destFile = resolveDestFile(relativePath);
 
         try {
             Files.copy(file.toPath(), destFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
@@ -40,16 +67,223 @@ public class LocalStorageServiceImpl implements IStorageService {
         }
     }
 
+    @Override
+    public String upload(InputStream inputStream, long size, String relativePath) {
+        File destFile = resolveDestFile(relativePath);
+
+        // 源流由调用方关闭，这里只包装成通道，不关闭
+        ReadableByteChannel source = Channels.newChannel(inputStream);
+        try (FileChannel dest = FileChannel.open(destFile.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = dest.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                position += transferred;
+            }
+            return Constant.UPLOAD_ROOT_PATH + relativePath;
+        } catch (IOException e) {
+            log.error("本地存储上传失败", e);
+            destFile.delete();
+            throw new RuntimeException("文件保存失败");
+        }
+    }
+
+    @Override
+    public String initMultipartUpload(String relativePath, long size) {
+        File partFile = resolveDestFile(relativePath + PART_SUFFIX);
+        // 预分配文件长度，分片可按偏移乱序写入
+        try (RandomAccessFile raf = new RandomAccessFile(partFile, "rw")) {
+            raf.setLength(size);
+        } catch (IOException e) {
+            log.error("本地分片文件创建失败: {}", partFile, e);
+            throw new RuntimeException("文件保存失败");
+        }
+        return IdGenerator.nanoId();
+    }
+
+    @Override
+    public String uploadPart(String relativePath, String multipartId, int partNumber, long offset, InputStream inputStream, long partSize) {
+        File partFile = resolveDestFile(relativePath + PART_SUFFIX);
+        if (!partFile.exists()) {
+            throw new RuntimeException("分片上传任务不存在");
+        }
+
+        // 按偏移定位写入，不移动其他分片的数据
+        ReadableByteChannel source = Channels.newChannel(inputStream);
+        try (FileChannel dest = FileChannel.open(partFile.toPath(), StandardOpenOption.WRITE)) {
+            long written = 0;
+            long transferred;
+            while (written < partSize
+                    && (transferred = dest.transferFrom(source, offset + written, partSize - written)) > 0) {
+                written += transferred;
+            }
+            if (written != partSize) {
+                throw new IOException("分片数据不完整: expected=" + partSize + ", actual=" + written);
+            }
+            return "";
+        } catch (IOException e) {
+            log.error("本地分片写入失败: {}, part={}", partFile, partNumber, e);
+            throw new RuntimeException("分片保存失败");
+        }
+    }
+
+    @Override
+    public String completeMultipartUpload(String relativePath, String multipartId, Map<Integer, String> partETags) {
+        File partFile = resolveDestFile(relativePath + PART_SUFFIX);
+        File destFile = resolveDestFile(relativePath);
+        try {
+            Files.move(partFile.toPath(), destFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return Constant.UPLOAD_ROOT_PATH + relativePath;
+        } catch (IOException e) {
+            log.error("本地分片合并失败: {}", partFile, e);
+            throw new RuntimeException("文件保存失败");
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(String relativePath, String multipartId) {
+        File partFile = resolveDestFile(relativePath + PART_SUFFIX);
+        if (partFile.exists()) {
+            partFile.delete();
+        }
+    }
+
     @Override
     public void delete(String url) {
-        String rootPath = configService.getConfigValue(null, Constant.ConfigKey.UPLOAD_PATH);
+        File file = getLocalFile(url);
+        if (file != null && file.exists()) {
+            file.delete();
+        }
+    }
+
+    /**
+     * 在 I/O 线程池中并行删除 (文件系统的 unlink 各自独立，串行时耗时与文件数成正比)
+     */
+    @Override
+    public void deleteAll(Collection<String> urls) {
+        CompletableFuture.allOf(urls.stream()
+                .map(url -> CompletableFuture.runAsync(() -> delete(url), ioExecutor)
+                        .exceptionally(e -> {
+                            log.error("本地文件删除失败: {}", url, e);
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new)).join();
+    }
+
+    @Override
+    public void download(String relativePath, File target) {
+        File file = resolveDestFile(relativePath);
+        try {
+            Files.copy(file.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("本地文件读取失败: {}", file, e);
+            throw new RuntimeException("文件读取失败");
+        }
+    }
+
+    @Override
+    public long getObjectSize(String relativePath) {
+        try {
+            return Files.size(resolveFile(relativePath).toPath());
+        } catch (NoSuchFileException e) {
+            return -1;
+        } catch (IOException e) {
+            log.error("本地文件读取失败: {}", relativePath, e);
+            throw new RuntimeException("文件读取失败");
+        }
+    }
+
+    @Override
+    public byte[] readHead(String relativePath, int length) {
+        try (InputStream in = Files.newInputStream(resolveFile(relativePath).toPath())) {
+            return in.readNBytes(length);
+        } catch (IOException e) {
+            log.error("本地文件读取失败: {}", relativePath, e);
+            throw new RuntimeException("文件读取失败");
+        }
+    }
+
+    @Override
+    public void copy(String sourceRelativePath, String targetRelativePath) {
+        File target = resolveDestFile(targetRelativePath);
+        try {
+            Files.copy(resolveFile(sourceRelativePath).toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("本地文件复制失败: {} -> {}", sourceRelativePath, targetRelativePath, e);
+            throw new RuntimeException("文件复制失败");
+        }
+    }
+
+    @Override
+    public String getRelativePath(String url) {
+        return url.startsWith(Constant.UPLOAD_ROOT_PATH) ? url.substring(Constant.UPLOAD_ROOT_PATH.length()) : url;
+    }
+
+    @Override
+    public String getUrl(String relativePath) {
+        return Constant.UPLOAD_ROOT_PATH + relativePath;
+    }
+
+    /**
+     * 惰性遍历上传根目录 (目录流逐层打开，不预先收集文件列表)，跳过分片上传中的临时文件
+     */
+    @Override
+    public void listObjects(Consumer<StorageObject> consumer) {
+        Path root = Path.of(configService.getConfigValue(null, Constant.ConfigKey.UPLOAD_PATH));
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.forEach(path -> {
+                if (path.getFileName().toString().endsWith(PART_SUFFIX)) {
+                    return;
+                }
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    // 遍历期间被删除
+                    return;
+                }
+                if (!attributes.isRegularFile()) {
+                    return;
+                }
+                String relativePath = root.relativize(path).toString().replace(File.separatorChar, '/');
+                consumer.accept(new StorageObject(relativePath, attributes.size(), attributes.lastModifiedTime().toInstant()));
+            });
+        } catch (IOException | UncheckedIOException e) {
+            log.error("本地存储遍历失败: {}", root, e);
+            throw new RuntimeException("文件列举失败");
+        }
+    }
+
+    @Override
+    public boolean isLocal() {
+        return true;
+    }
+
+    @Override
+    public File getLocalFile(String url) {
         // 只有以 UPLOAD_ROOT_PATH 开头的才是本地路径
-        if (url.startsWith(Constant.UPLOAD_ROOT_PATH)) {
-            String relativePath = url.replace(Constant.UPLOAD_ROOT_PATH, "");
-            File file = new File(rootPath, relativePath.replace("/", File.separator));
-            if (file.exists()) {
-                file.delete();
-            }
+        if (url == null || !url.startsWith(Constant.UPLOAD_ROOT_PATH)) {
+            return null;
+        }
+        String rootPath = configService.getConfigValue(null, Constant.ConfigKey.UPLOAD_PATH);
+        String relativePath = url.replace(Constant.UPLOAD_ROOT_PATH, "");
+        return new File(rootPath, relativePath.replace("/", File.separator));
+    }
+
+    private File resolveFile(String relativePath) {
+        String rootPath = configService.getConfigValue(null, Constant.ConfigKey.UPLOAD_PATH);
+        return new File(rootPath, relativePath.replace("/", File.separator));
+    }
+
+    private File resolveDestFile(String relativePath) {
+        File destFile = resolveFile(relativePath);
+
+        if (!destFile.getParentFile().exists()) {
+            destFile.getParentFile().mkdirs();
         }
+        return destFile;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package org.xcyms.service.storage.impl;
+
+import com.google.common.collect.HashMultimap;
+import io.minio.MinioAsyncClient;
+import io.minio.messages.Part;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * <p>
+ * MinIO 原生分片上传客户端
+ * MinioClient 未公开 S3 的 CreateMultipartUpload/UploadPart/CompleteMultipartUpload 接口，这里通过继承暴露出来
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月11日 14:05
+ */
+public class MinioMultipartClient extends MinioAsyncClient {
+
+    public MinioMultipartClient(MinioAsyncClient client) {
+        super(client);
+    }
+
+    /**
+     * 初始化分片上传
+     *
+     * @return S3 UploadId
+     */
+    public String createMultipartUpload(String bucket, String object) throws Exception {
+        return await(createMultipartUploadAsync(bucket, null, object, HashMultimap.create(), HashMultimap.create())).result().uploadId();
+    }
+
+    /**
+     * 上传分片
+     *
+     * @return 分片 ETag
+     */
+    public String uploadPart(String bucket, String object, String uploadId, int partNumber, InputStream data, long size) throws Exception {
+        return await(uploadPartAsync(bucket, null, object, data, size, uploadId, partNumber, HashMultimap.create(), HashMultimap.create())).etag();
+    }
+
+    /**
+     * 合并分片
+     */
+    public void completeMultipartUpload(String bucket, String object, String uploadId, Part[] parts) throws Exception {
+        await(completeMultipartUploadAsync(bucket, null, object, uploadId, parts, HashMultimap.create(), HashMultimap.create()));
+    }
+
+    /**
+     * 取消分片上传
+     */
+    public void abortMultipartUpload(String bucket, String object, String uploadId) throws Exception {
+        await(abortMultipartUploadAsync(bucket, null, object, uploadId, HashMultimap.create(), HashMultimap.create()));
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException | CompletionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+}
@@ -1,17 +1,41 @@
 package org.xcyms.service.storage.impl;
 
-import io.minio.MinioClient;
+import io.minio.ComposeObjectArgs;
+import io.minio.ComposeSource;
+import io.minio.GetObjectArgs;
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.ListObjectsArgs;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectArgs;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
+import io.minio.StatObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import io.minio.http.Method;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Item;
+import io.minio.messages.Part;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.xcyms.common.Constant;
 import org.xcyms.service.IConfigService;
 import org.xcyms.service.storage.IStorageService;
+import org.xcyms.service.storage.StorageClientRegistry;
+import org.xcyms.service.storage.StorageMetrics;
+import org.xcyms.service.storage.StorageObject;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 /**
  * S3 兼容云存储实现 (支持 MinIO, AWS S3, Cloudflare R2 等)
@@ -21,17 +45,16 @@ import java.io.FileInputStream;
 @RequiredArgsConstructor
 public class S3StorageServiceImpl implements IStorageService {
 
-    private final IConfigService configService;
+    private static final String STORAGE = "S3";
 
-    private MinioClient getClient() {
-        return MinioClient.builder()
-                .endpoint(configService.getConfigValue(null, Constant.ConfigKey.S3.ENDPOINT))
-                .credentials(
-                        configService.getConfigValue(null, Constant.ConfigKey.S3.ACCESS_KEY),
-                        configService.getConfigValue(null, Constant.ConfigKey.S3.SECRET_KEY)
-                )
-                .build();
-    }
+    /**
+     * 单次批量删除的最大对象数 (S3 DeleteObjects 上限)
+     */
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final IConfigService configService;
+    private final StorageClientRegistry clientRegistry;
+    private final StorageMetrics storageMetrics;
 
     @Override
     public String upload(File file, String relativePath) {
@@ -39,13 +62,13 @@ public class S3StorageServiceImpl implements IStorageService {
         String domain = configService.getConfigValue(null, Constant.ConfigKey.S3.DOMAIN);
 
         try (FileInputStream fis = new FileInputStream(file)) {
-            getClient().putObject(
+            storageMetrics.record(STORAGE, "upload", () -> clientRegistry.getMinioClient().putObject(
                     PutObjectArgs.builder()
                             .bucket(bucket)
                             .object(relativePath)
                             .stream(fis, file.length(), -1)
                             .build()
-            );
+            ));
             // 返回完整的 Web 访问路径
             return domain.endsWith("/") ? domain + relativePath : domain + "/" + relativePath;
         } catch (Exception e) {
@@ -55,20 +78,247 @@ public class S3StorageServiceImpl implements IStorageService {
     }
 
     @Override
-    public void delete(String url) {
+    public String upload(InputStream inputStream, long size, String relativePath) {
+        String bucket = configService.getConfigValue(null, Constant.ConfigKey.S3.BUCKET);
         String domain = configService.getConfigValue(null, Constant.ConfigKey.S3.DOMAIN);
+
+        try {
+            // 直接将请求流写入对象存储，由 SDK 根据 size 自动决定分片
+            storageMetrics.record(STORAGE, "upload", () -> clientRegistry.getMinioClient().putObject(
+                    PutObjectArgs.builder()
+                            .bucket(bucket)
+                            .object(relativePath)
+                            .stream(inputStream, size, -1)
+                            .build()
+            ));
+            return domain.endsWith("/") ? domain + relativePath : domain + "/" + relativePath;
+        } catch (Exception e) {
+            log.error("S3上传失败", e);
+            throw new RuntimeException("云存储上传失败");
+        }
+    }
+
+    @Override
+    public String initMultipartUpload(String relativePath, long size) {
+        String bucket = configService.getConfigValue(null, Constant.ConfigKey.S3.BUCKET);
+        try {
+            return storageMetrics.record(STORAGE, "initMultipart", () -> clientRegistry.getMinioMultipartClient().createMultipartUpload(bucket, relativePath));
+        } catch (Exception e) {
+            log.error("S3分片上传初始化失败: {}", relativePath, e);
+            throw new RuntimeException("云存储上传失败");
+        }
+    }
+
+    @Override
+    public String uploadPart(String relativePath, String multipartId, int partNumber, long offset, InputStream inputStream, long partSize) {
+        String bucket = configService.getConfigValue(null, Constant.ConfigKey.S3.BUCKET);
+        try {
+            return storageMetrics.record(STORAGE, "uploadPart", () -> clientRegistry.getMinioMultipartClient().uploadPart(bucket, relativePath, multipartId, partNumber, inputStream, partSize));
+        } catch (Exception e) {
+            log.error("S3分片上传失败: {}, part={}", relativePath, partNumber, e);
+            throw new RuntimeException("云存储上传失败");
+        }
+    }
+
+    @Override
+    public String completeMultipartUpload(String relativePath, String multipartId, Map<Integer, String> partETags) {
+        String bucket = configService.getConfigValue(null, Constant.ConfigKey.S3.BUCKET);
+        String domain = configService.getConfigValue(null, Constant.ConfigKey.S3.DOMAIN);
+        // S3 要求分片按序号升序提交
+        Part[] parts = new TreeMap<>(partETags).entrySet().stream()
+                .map(e -> new Part(e.getKey(), e.getValue()))
+                .toArray(Part[]::new);
+        try {
+            storageMetrics.record(STORAGE, "completeMultipart", () -> {
+                clientRegistry.getMinioMultipartClient().completeMultipartUpload(bucket, relativePath, multipartId, parts);
+                return null;
+            });
+            return domain.endsWith("/") ? domain + relativePath : domain + "/" + relativePath;
+        } catch (Exception e) {
+            log.error("S3分片合并失败: {}", relativePath, e);
+            throw new RuntimeException("云存储上传失败");
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(String relativePath, String multipartId) {
+        String bucket = configService.getConfigValue(null, Constant.ConfigKey.S3.BUCKET);
+        try {
+            storageMetrics.record(STORAGE, "abortMultipart", () -> {
+                clientRegistry.getMinioMultipartClient().abortMultipartUpload(bucket, relativePath, multipartId);
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("S3分片上传取消失败: {}", relativePath, e);
+        }
+    }
+
+    @Override
+    public void download(String relativePath, File target) {
+        String bucket = configService.getConfigValue(null, Constant.ConfigKey.S3.BUCKET);
+        try {
+            storageMetrics.record(STORAGE, "download", () -> {
+                try (InputStream in = clientRegistry.getMinioClient().getObject(
+                        GetObjectArgs.builder().bucket(bucket).object(relativePath).build())) {
+                    Files.copy(in, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("S3下载失败: {}", relativePath, e);
+            throw new RuntimeException("云存储下载失败");
+        }
+    }
+
+    @Override
+    public void delete(String url) {
         String bucket = configService.getConfigValue(null, Constant.ConfigKey.S3.BUCKET);
 
         // 只有不是本地路径的才尝试从 S3 删除
         if (!url.startsWith(Constant.UPLOAD_ROOT_PATH)) {
-            String objectName = url.replace(domain, "").replaceFirst("^/", "");
+            String objectName = getRelativePath(url);
             try {
-                getClient().removeObject(
-                        RemoveObjectArgs.builder().bucket(bucket).object(objectName).build()
-                );
+                storageMetrics.record(STORAGE, "delete", () -> {
+                    clientRegistry.getMinioClient().removeObject(
+                            RemoveObjectArgs.builder().bucket(bucket).object(objectName).build()
+                    );
+                    return null;
+                });
             } catch (Exception e) {
                 log.error("S3删除失败: {}", url, e);
             }
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public void deleteAll(Collection<String> urls) {
+        String bucket = configService.getConfigValue(null, Constant.ConfigKey.S3.BUCKET);
+        String domain = configService.getConfigValue(null, Constant.ConfigKey.S3.DOMAIN);
+        List<DeleteObject> objects = urls.stream()
+                .filter(url -> !url.startsWith(Constant.UPLOAD_ROOT_PATH))
+                .map(url -> new DeleteObject(url.replace(domain, "").replaceFirst("^/", "")))
+                .toList();
+        for (int i = 0; i < objects.size(); i += DELETE_BATCH_SIZE) {
+            List<DeleteObject> batch = objects.subList(i, Math.min(i + DELETE_BATCH_SIZE, objects.size()));
+            try {
+                storageMetrics.record(STORAGE, "deleteAll", () -> {
+                    // 结果是惰性的，遍历时才真正发出请求，只返回删除失败的对象
+                    for (Result<DeleteError> result : clientRegistry.getMinioClient().removeObjects(
+                            RemoveObjectsArgs.builder().bucket(bucket).objects(batch).build())) {
+                        DeleteError error = result.get();
+                        log.error("S3删除失败: {}, {}", error.objectName(), error.message());
+                    }
+                    return null;
+                });
+            } catch (Exception e) {
+                log.error("S3批量删除失败: {} 个对象", batch.size(), e);
+            }
+        }
+    }
+
+    @Override
+    public String getRelativePath(String url) {
+        String domain = configService.getConfigValue(null, Constant.ConfigKey.S3.DOMAIN);
+        return url.replace(domain, "").replaceFirst("^/", "");
+    }
+
+    @Override
+    public String presignUpload(String relativePath, long expireSeconds) {
+        String bucket = configService.getConfigValue(null, Constant.ConfigKey.S3.BUCKET);
+        try {
+            // 只在本地计算签名，不访问存储服务
+            return clientRegistry.getMinioClient().getPresignedObjectUrl(
+                    GetPresignedObjectUrlArgs.builder()
+                            .method(Method.PUT)
+                            .bucket(bucket)
+                            .object(relativePath)
+                            .expiry((int) expireSeconds)
+                            .build());
+        } catch (Exception e) {
+            log.error("S3预签名地址生成失败: {}", relativePath, e);
+            throw new RuntimeException("云存储直传地址生成失败");
+        }
+    }
+
+    @Override
+    public long getObjectSize(String relativePath) {
+        String bucket = configService.getConfigValue(null, Constant.ConfigKey.S3.BUCKET);
+        try {
+            return storageMetrics.record(STORAGE, "stat", () -> clientRegistry.getMinioClient().statObject(
+                    StatObjectArgs.builder().bucket(bucket).object(relativePath).build()).size());
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return -1;
+            }
+            log.error("S3查询对象失败: {}", relativePath, e);
+            throw new RuntimeException("云存储查询失败");
+        } catch (Exception e) {
+            log.error("S3查询对象失败: {}", relativePath, e);
+            throw new RuntimeException("云存储查询失败");
+        }
+    }
+
+    @Override
+    public byte[] readHead(String relativePath, int length) {
+        String bucket = configService.getConfigValue(null, Constant.ConfigKey.S3.BUCKET);
+        try {
+            return storageMetrics.record(STORAGE, "readHead", () -> {
+                try (InputStream in = clientRegistry.getMinioClient().getObject(
+                        GetObjectArgs.builder().bucket(bucket).object(relativePath).offset(0L).length((long) length).build())) {
+                    return in.readNBytes(length);
+                }
+            });
+        } catch (Exception e) {
+            log.error("S3范围读取失败: {}", relativePath, e);
+            throw new RuntimeException("云存储下载失败");
+        }
+    }
+
+    /**
+     * 单一源的 composeObject：不超过 5GB 时为一次 CopyObject，更大时由客户端自动改为分片复制
+     */
+    @Override
+    public void copy(String sourceRelativePath, String targetRelativePath) {
+        String bucket = configService.getConfigValue(null, Constant.ConfigKey.S3.BUCKET);
+        try {
+            storageMetrics.record(STORAGE, "copy", () -> clientRegistry.getMinioClient().composeObject(
+                    ComposeObjectArgs.builder()
+                            .bucket(bucket)
+                            .object(targetRelativePath)
+                            .sources(List.of(ComposeSource.builder().bucket(bucket).object(sourceRelativePath).build()))
+                            .build()));
+        } catch (Exception e) {
+            log.error("S3复制对象失败: {} -> {}", sourceRelativePath, targetRelativePath, e);
+            throw new RuntimeException("云存储复制失败");
+        }
+    }
+
+    @Override
+    public String getUrl(String relativePath) {
+        String domain = configService.getConfigValue(null, Constant.ConfigKey.S3.DOMAIN);
+        return domain.endsWith("/") ? domain + relativePath : domain + "/" + relativePath;
+    }
+
+    /**
+     * ListObjectsV2 分页列举：结果是惰性的，遍历到页尾时才请求下一页 (每页最多 1000 个)
+     */
+    @Override
+    public void listObjects(Consumer<StorageObject> consumer) {
+        String bucket = configService.getConfigValue(null, Constant.ConfigKey.S3.BUCKET);
+        Iterable<Result<Item>> results = clientRegistry.getMinioClient().listObjects(
+                ListObjectsArgs.builder().bucket(bucket).recursive(true).build());
+        for (Result<Item> result : results) {
+            Item item;
+            try {
+                item = result.get();
+            } catch (Exception e) {
+                log.error("S3列举对象失败: {}", bucket, e);
+                throw new RuntimeException("云存储列举失败");
+            }
+            if (item.isDir()) {
+                continue;
+            }
+            consumer.accept(new StorageObject(item.objectName(), item.size(), item.lastModified().toInstant()));
+        }
+    }
+}
@@ -1,20 +1,44 @@
 package org.xcyms.service.storage.impl;
 
 import com.qcloud.cos.COSClient;
-import com.qcloud.cos.ClientConfig;
-import com.qcloud.cos.auth.BasicCOSCredentials;
-import com.qcloud.cos.auth.COSCredentials;
+import com.qcloud.cos.exception.CosServiceException;
+import com.qcloud.cos.exception.MultiObjectDeleteException;
+import com.qcloud.cos.http.HttpMethodName;
+import com.qcloud.cos.model.COSObject;
+import com.qcloud.cos.model.AbortMultipartUploadRequest;
+import com.qcloud.cos.model.COSObjectSummary;
+import com.qcloud.cos.model.CompleteMultipartUploadRequest;
+import com.qcloud.cos.model.CopyObjectRequest;
+import com.qcloud.cos.model.DeleteObjectsRequest;
+import com.qcloud.cos.model.GetObjectRequest;
+import com.qcloud.cos.model.InitiateMultipartUploadRequest;
+import com.qcloud.cos.model.ListObjectsRequest;
+import com.qcloud.cos.model.ObjectListing;
+import com.qcloud.cos.model.ObjectMetadata;
+import com.qcloud.cos.model.PartETag;
 import com.qcloud.cos.model.PutObjectRequest;
-import com.qcloud.cos.model.PutObjectResult;
-import com.qcloud.cos.region.Region;
+import com.qcloud.cos.model.UploadPartRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.xcyms.common.Constant;
 import org.xcyms.service.IConfigService;
 import org.xcyms.service.storage.IStorageService;
+import org.xcyms.service.storage.StorageClientRegistry;
+import org.xcyms.service.storage.StorageMetrics;
+import org.xcyms.service.storage.StorageObject;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -29,23 +53,33 @@ import java.io.File;
 @RequiredArgsConstructor
 public class TencentCosStorageServiceImpl implements IStorageService {
 
-    private final IConfigService configService;
+    private static final String STORAGE = "TENCENT";
 
-    private COSClient createCOSClient() {
-        // 设置用户身份信息。
-        String secretId = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.SECRET_ID);//用户的 SecretId
-        String secretKey = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.SECRET_KEY);//用户的 SecretKey
-        COSCredentials cred = new BasicCOSCredentials(secretId, secretKey);
+    /**
+     * 单次批量删除的最大对象数 (COS DeleteObjects 上限)
+     */
+    private static final int DELETE_BATCH_SIZE = 1000;
 
-        // ClientConfig 中包含了后续请求 COS 的客户端设置：
-        ClientConfig clientConfig = new ClientConfig();
+    /**
+     * 单次列举的最大对象数 (COS ListObjects 上限)
+     */
+    private static final int LIST_PAGE_SIZE = 1000;
 
-        // 设置 bucket 的地域
-        // COS_REGION
-        clientConfig.setRegion(new Region(configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.REGION)));
+    private final IConfigService configService;
+    private final StorageClientRegistry clientRegistry;
+    private final StorageMetrics storageMetrics;
 
-        // 生成 cos 客户端。
-        return new COSClient(cred, clientConfig);
+    /**
+     * 使用共享的 COS 客户端执行操作并记录耗时 (客户端由注册表统一管理，不在这里 shutdown)
+     */
+    private <T> T execute(String operation, Function<COSClient, T> action) {
+        try {
+            return storageMetrics.record(STORAGE, operation, () -> action.apply(clientRegistry.getCosClient()));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
     }
 
     @Override
@@ -53,35 +87,238 @@ public class TencentCosStorageServiceImpl implements IStorageService {
         // 存储桶的命名格式为 BucketName-APPID，此处填写的存储桶名称必须为此格式
         String bucketName = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.BUCKET);
         // 对象键(Key)是对象在存储桶中的唯一标识。
-        COSClient cosClient = null;
         PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, relativePath, file);
         try {
-            cosClient = createCOSClient();
-            PutObjectResult putObjectResult = cosClient.putObject(putObjectRequest);
-            return putObjectResult.getETag();
+            execute("upload", cosClient -> cosClient.putObject(putObjectRequest));
+            // 数据库中保存对象键 (与 getRelativePath/getUrl/delete 一致)
+            return relativePath;
         } catch (Exception e) {
             log.error("腾讯云上传失败", e);
             throw e;
-        } finally {
-            if (cosClient != null) {
-                cosClient.shutdown();
-            }
+        }
+    }
+
+    @Override
+    public String upload(InputStream inputStream, long size, String relativePath) {
+        String bucketName = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.BUCKET);
+        // 流式上传必须声明长度，否则 SDK 会将整个流缓存到内存
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(size);
+        PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, relativePath, inputStream, metadata);
+        try {
+            execute("upload", cosClient -> cosClient.putObject(putObjectRequest));
+            // 数据库中保存对象键 (与 getRelativePath/getUrl/delete 一致)
+            return relativePath;
+        } catch (Exception e) {
+            log.error("腾讯云上传失败", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String initMultipartUpload(String relativePath, long size) {
+        String bucketName = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.BUCKET);
+        try {
+            return execute("initMultipart", cosClient ->
+                    cosClient.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, relativePath)).getUploadId());
+        } catch (Exception e) {
+            log.error("腾讯云分片上传初始化失败: {}", relativePath, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String uploadPart(String relativePath, String multipartId, int partNumber, long offset, InputStream inputStream, long partSize) {
+        String bucketName = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.BUCKET);
+        UploadPartRequest uploadPartRequest = new UploadPartRequest();
+        uploadPartRequest.setBucketName(bucketName);
+        uploadPartRequest.setKey(relativePath);
+        uploadPartRequest.setUploadId(multipartId);
+        uploadPartRequest.setPartNumber(partNumber);
+        uploadPartRequest.setInputStream(inputStream);
+        uploadPartRequest.setPartSize(partSize);
+        try {
+            return execute("uploadPart", cosClient -> cosClient.uploadPart(uploadPartRequest).getETag());
+        } catch (Exception e) {
+            log.error("腾讯云分片上传失败: {}, part={}", relativePath, partNumber, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String completeMultipartUpload(String relativePath, String multipartId, Map<Integer, String> partETags) {
+        String bucketName = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.BUCKET);
+        List<PartETag> parts = new TreeMap<>(partETags).entrySet().stream()
+                .map(e -> new PartETag(e.getKey(), e.getValue()))
+                .toList();
+        try {
+            execute("completeMultipart", cosClient -> cosClient.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucketName, relativePath, multipartId, parts)));
+            return relativePath;
+        } catch (Exception e) {
+            log.error("腾讯云分片合并失败: {}", relativePath, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(String relativePath, String multipartId) {
+        String bucketName = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.BUCKET);
+        try {
+            execute("abortMultipart", cosClient -> {
+                cosClient.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, relativePath, multipartId));
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("腾讯云分片上传取消失败: {}", relativePath, e);
+        }
+    }
+
+    @Override
+    public void download(String relativePath, File target) {
+        String bucketName = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.BUCKET);
+        try {
+            execute("download", cosClient -> cosClient.getObject(new GetObjectRequest(bucketName, relativePath), target));
+        } catch (Exception e) {
+            log.error("腾讯云下载失败: {}", relativePath, e);
+            throw e;
         }
     }
 
     @Override
     public void delete(String url) {
-        COSClient cosClient = null;
+        String bucketName = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.BUCKET);
         try {
-            cosClient = createCOSClient();
-            cosClient.deleteObject(configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.BUCKET), url);
+            execute("delete", cosClient -> {
+                cosClient.deleteObject(bucketName, url);
+                return null;
+            });
             log.info("腾讯云删除成功: {}", url);
         } catch (Exception e) {
             log.error("腾讯云删除失败: {}", url, e);
-        } finally {
-            if (cosClient != null) {
-                cosClient.shutdown();
+        }
+    }
+
+    @Override
+    public void deleteAll(Collection<String> urls) {
+        String bucketName = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.BUCKET);
+        List<DeleteObjectsRequest.KeyVersion> keys = urls.stream().map(DeleteObjectsRequest.KeyVersion::new).toList();
+        for (int i = 0; i < keys.size(); i += DELETE_BATCH_SIZE) {
+            DeleteObjectsRequest request = new DeleteObjectsRequest(bucketName);
+            request.setKeys(keys.subList(i, Math.min(i + DELETE_BATCH_SIZE, keys.size())));
+            // 安静模式：只返回删除失败的对象
+            request.setQuiet(true);
+            try {
+                execute("deleteAll", cosClient -> cosClient.deleteObjects(request));
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error -> log.error("腾讯云删除失败: {}, {}", error.getKey(), error.getMessage()));
+            } catch (Exception e) {
+                log.error("腾讯云批量删除失败: {} 个对象", request.getKeys().size(), e);
+            }
+        }
+    }
+
+    @Override
+    public String getRelativePath(String url) {
+        // 与 delete 一致，数据库中保存的即对象键
+        return url;
+    }
+
+    @Override
+    public String presignUpload(String relativePath, long expireSeconds) {
+        String bucketName = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.BUCKET);
+        Date expiration = new Date(System.currentTimeMillis() + expireSeconds * 1000);
+        try {
+            return clientRegistry.getCosClient().generatePresignedUrl(bucketName, relativePath, expiration, HttpMethodName.PUT).toString();
+        } catch (Exception e) {
+            log.error("腾讯云预签名地址生成失败: {}", relativePath, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long getObjectSize(String relativePath) {
+        String bucketName = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.BUCKET);
+        try {
+            return execute("stat", cosClient -> cosClient.getObjectMetadata(bucketName, relativePath).getContentLength());
+        } catch (CosServiceException e) {
+            if (e.getStatusCode() == 404) {
+                return -1;
+            }
+            log.error("腾讯云查询对象失败: {}", relativePath, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public byte[] readHead(String relativePath, int length) {
+        String bucketName = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.BUCKET);
+        GetObjectRequest getObjectRequest = new GetObjectRequest(bucketName, relativePath);
+        getObjectRequest.setRange(0, length - 1L);
+        try {
+            return execute("readHead", cosClient -> {
+                COSObject object = cosClient.getObject(getObjectRequest);
+                try (InputStream in = object.getObjectContent()) {
+                    return in.readNBytes(length);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (Exception e) {
+            log.error("腾讯云范围读取失败: {}", relativePath, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 单次 CopyObject (上限 5GB，远大于上传大小限制)
+     */
+    @Override
+    public void copy(String sourceRelativePath, String targetRelativePath) {
+        String bucketName = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.BUCKET);
+        try {
+            execute("copy", cosClient -> cosClient.copyObject(
+                    new CopyObjectRequest(bucketName, sourceRelativePath, bucketName, targetRelativePath)));
+        } catch (Exception e) {
+            log.error("腾讯云复制对象失败: {} -> {}", sourceRelativePath, targetRelativePath, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getUrl(String relativePath) {
+        // 数据库中保存对象键，与 getRelativePath/delete 一致
+        return relativePath;
+    }
+
+    /**
+     * 按 marker 分页列举，每次只持有一页结果
+     */
+    @Override
+    public void listObjects(Consumer<StorageObject> consumer) {
+        String bucketName = configService.getConfigValue(null, Constant.ConfigKey.TencentCOS.BUCKET);
+        ListObjectsRequest request = new ListObjectsRequest();
+        request.setBucketName(bucketName);
+        request.setMaxKeys(LIST_PAGE_SIZE);
+        while (true) {
+            ObjectListing listing;
+            try {
+                listing = execute("list", cosClient -> cosClient.listObjects(request));
+            } catch (Exception e) {
+                log.error("腾讯云列举对象失败: {}, marker={}", bucketName, request.getMarker(), e);
+                throw e;
+            }
+            for (COSObjectSummary summary : listing.getObjectSummaries()) {
+                // 控制台创建的目录占位对象
+                if (summary.getKey().endsWith("/")) {
+                    continue;
+                }
+                consumer.accept(new StorageObject(summary.getKey(), summary.getSize(), summary.getLastModified().toInstant()));
+            }
+            if (!listing.isTruncated()) {
+                return;
             }
+            request.setMarker(listing.getNextMarker());
         }
     }
 }
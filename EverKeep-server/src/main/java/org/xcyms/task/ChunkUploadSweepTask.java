@@ -0,0 +1,81 @@
+package org.xcyms.task;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.xcyms.common.Constant;
+import org.xcyms.common.lock.RedisLeaseLock;
+import org.xcyms.service.IChunkUploadService;
+
+import java.io.File;
+import java.time.Duration;
+
+/**
+ * <p>
+ *     过期分片上传清理任务
+ *     客户端放弃的分片上传会话过期后，存储端的分片上传 (S3/COS 未完成分片、本地 .part 文件) 与本地副本不会自动释放。
+ *     按过期时间索引分批中止存储端分片上传 (集群内单节点执行)；本地副本只存在于接收分片的节点，由每个节点按修改时间清理本机临时目录。
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月27日 10:30
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChunkUploadSweepTask {
+
+    private final IChunkUploadService chunkUploadService;
+    private final RedisLeaseLock leaseLock;
+
+    /**
+     * 每10分钟执行
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 60 * 1000L)
+    public void sweep() {
+        sweepSessions();
+        sweepLocalCopies();
+    }
+
+    private void sweepSessions() {
+        Duration lease = Duration.ofSeconds(Constant.ChunkUpload.SWEEP_LEASE_SECONDS);
+        String token = leaseLock.tryAcquire(Constant.ChunkUpload.SWEEP_LOCK_KEY, lease);
+        if (token == null) {
+            return;
+        }
+        try {
+            int total = 0;
+            int swept;
+            do {
+                swept = chunkUploadService.sweepExpired(Constant.ChunkUpload.SWEEP_BATCH_SIZE);
+                total += swept;
+            } while (swept == Constant.ChunkUpload.SWEEP_BATCH_SIZE
+                    && leaseLock.renew(Constant.ChunkUpload.SWEEP_LOCK_KEY, token, lease));
+            if (total > 0) {
+                log.info("过期分片上传清理完成，处理 {} 个会话", total);
+            }
+        } catch (Exception e) {
+            log.error("过期分片上传清理失败", e);
+        } finally {
+            leaseLock.release(Constant.ChunkUpload.SWEEP_LOCK_KEY, token);
+        }
+    }
+
+    /**
+     * 删除本机超过会话有效期未写入的本地副本 (每次写入分片都会更新修改时间)
+     */
+    private void sweepLocalCopies() {
+        File[] files = new File(System.getProperty("java.io.tmpdir"))
+                .listFiles((dir, name) -> name.startsWith(Constant.ChunkUpload.LOCAL_COPY_PREFIX));
+        if (files == null) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - Constant.ChunkUpload.EXPIRE_SECONDS * 1000;
+        for (File file : files) {
+            if (file.isFile() && file.lastModified() < cutoff && file.delete()) {
+                log.info("过期分片本地副本已删除: {}", file);
+            }
+        }
+    }
+}
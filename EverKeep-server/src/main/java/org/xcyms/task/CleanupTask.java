@@ -2,22 +2,31 @@ package org.xcyms.task;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.xcyms.entity.Image;
-import org.xcyms.entity.Video;
+import org.xcyms.common.Constant;
+import org.xcyms.common.lock.RedisLeaseLock;
 import org.xcyms.mapper.ImageMapper;
 import org.xcyms.mapper.VideoMapper;
 import org.xcyms.service.IImageService;
 import org.xcyms.service.IVideoService;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 
 /**
  * <p>
  *     文件清理定时任务
+ *     按 (update_time, id) 游标分批读取过期记录，每批删除后暂停一段时间，限制对数据库和存储的压力；
+ *     多节点部署时通过 Redis 租约锁只在一个节点执行，每批完成后写入检查点，节点中断后由任意节点从检查点继续。
  * </p>
  *
  * @author liu-xu
@@ -28,10 +37,39 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CleanupTask {
 
+    private static final String STAGE_IMAGE = "image";
+    private static final String STAGE_VIDEO = "video";
+
     private final ImageMapper imageMapper;
     private final IImageService imageService;
     private final VideoMapper videoMapper;
     private final IVideoService videoService;
+    private final RedisLeaseLock leaseLock;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 每批处理的记录数
+     */
+    @Value("${everkeep.cleanup.batch-size:200}")
+    private int batchSize;
+
+    /**
+     * 每批之间的暂停时间
+     */
+    @Value("${everkeep.cleanup.batch-interval:500ms}")
+    private Duration batchInterval;
+
+    /**
+     * 清理进度：本轮的过期时间点、当前阶段及游标位置
+     */
+    private record Checkpoint(LocalDateTime expireTime, String stage, LocalDateTime afterTime, Long afterId) {
+    }
+
+    /**
+     * 游标行
+     */
+    private record Row(Long id, LocalDateTime updateTime) {
+    }
 
     /**
      * 每天凌晨2点执行，清理回收站中超过30天的图片和视频
@@ -39,37 +77,138 @@ public class CleanupTask {
      */
     @Scheduled(cron = "0 0 2 * * ?")
     public void cleanupRecycleBin() {
-        log.info("开始执行回收站清理任务...");
+        run(true);
+    }
 
-        // 1. 计算30天前的时间
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
+    /**
+     * 存在未完成的检查点时 (执行节点中断) 继续清理，租约到期前其他节点获取不到锁
+     */
+    @Scheduled(initialDelay = 5 * 60 * 1000L, fixedDelay = 10 * 60 * 1000L)
+    public void resumeCleanup() {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(Constant.Recycle.CLEANUP_CHECKPOINT_KEY))) {
+            run(false);
+        }
+    }
 
-        // 2. 清理图片
-        List<Image> expiredImages = imageMapper.selectExpiredRecycleImages(thirtyDaysAgo);
-        if (!expiredImages.isEmpty()) {
-            log.info("发现 {} 张过期图片，准备清理...", expiredImages.size());
-            List<Long> imageIds = expiredImages.stream().map(Image::getId).collect(Collectors.toList());
-            try {
-                imageService.deletePermanently(imageIds);
-                log.info("成功清理 {} 张过期图片", imageIds.size());
-            } catch (Exception e) {
-                log.error("清理过期图片时发生错误", e);
+    /**
+     * @param start 没有检查点时是否开始新一轮清理
+     */
+    private void run(boolean start) {
+        Duration lease = Duration.ofSeconds(Constant.Recycle.CLEANUP_LEASE_SECONDS);
+        String token = leaseLock.tryAcquire(Constant.Recycle.CLEANUP_LOCK_KEY, lease);
+        if (token == null) {
+            log.info("回收站清理任务正在其他节点执行，跳过");
+            return;
+        }
+        try {
+            Checkpoint checkpoint = loadCheckpoint();
+            if (checkpoint == null) {
+                if (!start) {
+                    return;
+                }
+                checkpoint = new Checkpoint(LocalDateTime.now().minusDays(Constant.Recycle.RETENTION_DAYS), STAGE_IMAGE, null, null);
+                saveCheckpoint(checkpoint);
+                log.info("开始执行回收站清理任务，过期时间点: {}", checkpoint.expireTime());
+            } else {
+                log.info("从检查点继续回收站清理任务: stage={}, afterTime={}, afterId={}",
+                        checkpoint.stage(), checkpoint.afterTime(), checkpoint.afterId());
             }
+
+            // 1. 清理图片
+            if (STAGE_IMAGE.equals(checkpoint.stage())) {
+                checkpoint = drain(checkpoint, token, lease,
+                        (c, limit) -> imageMapper.selectExpiredRecycleCursor(c.expireTime(), c.afterTime(), c.afterId(), limit).stream()
+                                .map(i -> new Row(i.getId(), i.getUpdateTime())).toList(),
+                        imageService::deleteExpired);
+                if (checkpoint == null) {
+                    return;
+                }
+                checkpoint = new Checkpoint(checkpoint.expireTime(), STAGE_VIDEO, null, null);
+                saveCheckpoint(checkpoint);
+            }
+
+            // 2. 清理视频
+            checkpoint = drain(checkpoint, token, lease,
+                    (c, limit) -> videoMapper.selectExpiredRecycleCursor(c.expireTime(), c.afterTime(), c.afterId(), limit).stream()
+                            .map(v -> new Row(v.getId(), v.getUpdateTime())).toList(),
+                    videoService::deleteExpired);
+            if (checkpoint == null) {
+                return;
+            }
+
+            stringRedisTemplate.delete(Constant.Recycle.CLEANUP_CHECKPOINT_KEY);
+            log.info("回收站清理任务执行完毕");
+        } finally {
+            leaseLock.release(Constant.Recycle.CLEANUP_LOCK_KEY, token);
         }
+    }
 
-        // 3. 清理视频
-        List<Video> expiredVideos = videoMapper.selectExpiredRecycleVideos(thirtyDaysAgo);
-        if (!expiredVideos.isEmpty()) {
-            log.info("发现 {} 个过期视频，准备清理...", expiredVideos.size());
-            List<Long> videoIds = expiredVideos.stream().map(Video::getId).collect(Collectors.toList());
+    /**
+     * 分批清理当前阶段，每批完成后写入检查点并续约
+     *
+     * @return 阶段完成时的检查点；出错、租约丢失或被中断时返回 null (保留检查点，稍后继续)
+     */
+    private Checkpoint drain(Checkpoint checkpoint, String token, Duration lease,
+                             BiFunction<Checkpoint, Integer, List<Row>> fetch,
+                             BiFunction<List<Long>, LocalDateTime, Integer> delete) {
+        long total = 0;
+        while (true) {
+            List<Row> rows;
             try {
-                videoService.deletePermanently(videoIds);
-                log.info("成功清理 {} 个过期视频", videoIds.size());
+                rows = fetch.apply(checkpoint, batchSize);
+                if (rows.isEmpty()) {
+                    log.info("回收站清理完成: stage={}, 删除 {} 条", checkpoint.stage(), total);
+                    return checkpoint;
+                }
+                total += delete.apply(rows.stream().map(Row::id).toList(), checkpoint.expireTime());
             } catch (Exception e) {
-                log.error("清理过期视频时发生错误", e);
+                log.error("回收站清理失败，稍后从检查点继续: stage={}, afterId={}", checkpoint.stage(), checkpoint.afterId(), e);
+                return null;
+            }
+
+            Row last = rows.get(rows.size() - 1);
+            checkpoint = new Checkpoint(checkpoint.expireTime(), checkpoint.stage(), last.updateTime(), last.id());
+            saveCheckpoint(checkpoint);
+            if (!leaseLock.renew(Constant.Recycle.CLEANUP_LOCK_KEY, token, lease)) {
+                log.warn("回收站清理租约已丢失，停止执行: stage={}", checkpoint.stage());
+                return null;
+            }
+            if (rows.size() < batchSize) {
+                log.info("回收站清理完成: stage={}, 删除 {} 条", checkpoint.stage(), total);
+                return checkpoint;
+            }
+
+            // 限速：给数据库和存储留出余量
+            try {
+                Thread.sleep(batchInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
             }
         }
+    }
+
+    private Checkpoint loadCheckpoint() {
+        Map<Object, Object> values = stringRedisTemplate.opsForHash().entries(Constant.Recycle.CLEANUP_CHECKPOINT_KEY);
+        Object expireTime = values.get("expireTime");
+        Object stage = values.get("stage");
+        if (expireTime == null || stage == null) {
+            return null;
+        }
+        Object afterTime = values.get("afterTime");
+        Object afterId = values.get("afterId");
+        return new Checkpoint(LocalDateTime.parse(expireTime.toString()), stage.toString(),
+                afterTime == null || StringUtils.isBlank(afterTime.toString()) ? null : LocalDateTime.parse(afterTime.toString()),
+                afterId == null || StringUtils.isBlank(afterId.toString()) ? null : Long.valueOf(afterId.toString()));
+    }
 
-        log.info("回收站清理任务执行完毕");
+    private void saveCheckpoint(Checkpoint checkpoint) {
+        Map<String, String> values = new HashMap<>();
+        values.put("expireTime", checkpoint.expireTime().toString());
+        values.put("stage", checkpoint.stage());
+        values.put("afterTime", checkpoint.afterTime() == null ? "" : checkpoint.afterTime().toString());
+        values.put("afterId", checkpoint.afterId() == null ? "" : checkpoint.afterId().toString());
+        stringRedisTemplate.opsForHash().putAll(Constant.Recycle.CLEANUP_CHECKPOINT_KEY, values);
+        stringRedisTemplate.expire(Constant.Recycle.CLEANUP_CHECKPOINT_KEY, Constant.Recycle.CLEANUP_CHECKPOINT_EXPIRE_SECONDS, TimeUnit.SECONDS);
     }
 }
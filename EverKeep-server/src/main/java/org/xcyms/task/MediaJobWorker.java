@@ -0,0 +1,317 @@
+package org.xcyms.task;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.xcyms.common.Constant;
+import org.xcyms.entity.MediaJob;
+import org.xcyms.mapper.ImageMapper;
+import org.xcyms.mapper.VideoMapper;
+import org.xcyms.service.IMediaJobService;
+import org.xcyms.service.impl.ExifProcessor;
+import org.xcyms.service.impl.ProcessedMedia;
+import org.xcyms.service.impl.VideoProcessor;
+import org.xcyms.service.storage.IStorageService;
+import org.xcyms.service.storage.StorageFactory;
+import org.xcyms.utils.IdGenerator;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * <p>
+ *     媒体处理任务执行器
+ *     定时从任务表认领到期任务 (每次只认领空闲并发数以内的任务，不会在本地堆积)，每个任务按阶段在不同线程池中执行：
+ *     准备 (查库、下载源文件) 与发布 (上传缩略图/封面、写库) 在存储线程池，解码缩放在按核数限制的媒体计算线程池。
+ *     源文件优先使用上传节点留下的本地副本，不存在时 (其他节点认领、重启后临时文件丢失) 从存储下载。
+ *     计算线程池队列已满时任务被拒绝，归还任务表延后重新认领，而不是占用调度线程执行。
+ *     执行中的任务由心跳定期续约，租约只在节点宕机或失联时过期；其他节点上留下的本地副本由各节点按修改时间清理。
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月17日 10:30
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MediaJobWorker {
+
+    /**
+     * 单节点最大并发任务数：一批在计算，一批在传输，计算线程池的线程数与队列容量之和不小于该值
+     */
+    private static final int CONCURRENCY = Math.max(2, Runtime.getRuntime().availableProcessors()) * 2;
+
+    private final IMediaJobService mediaJobService;
+    private final ExifProcessor exifProcessor;
+    private final VideoProcessor videoProcessor;
+    private final ImageMapper imageMapper;
+    private final VideoMapper videoMapper;
+    private final StorageFactory storageFactory;
+
+    @Resource(name = "mediaExecutor")
+    private Executor mediaExecutor;
+
+    @Resource(name = "storageExecutor")
+    private Executor storageExecutor;
+
+    /** 当前节点ID，用作租约持有者前缀 */
+    private final String nodeId = IdGenerator.nanoId(8);
+
+    private final Semaphore slots = new Semaphore(CONCURRENCY);
+
+    /** 本节点执行中的任务，心跳时续约 */
+    private final Map<Long, MediaJob> running = new ConcurrentHashMap<>();
+
+    private volatile boolean active = true;
+
+    /**
+     * 每秒认领一次到期任务
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void poll() {
+        int free = slots.availablePermits();
+        if (!active || free <= 0) {
+            return;
+        }
+        List<MediaJob> jobs;
+        try {
+            jobs = mediaJobService.claim(nodeId + ":" + IdGenerator.nanoId(), free);
+        } catch (Exception e) {
+            log.error("认领媒体任务失败", e);
+            return;
+        }
+        for (MediaJob job : jobs) {
+            // 认领数量不超过空闲许可，且只有本线程获取许可，这里不会阻塞
+            slots.acquireUninterruptibly();
+            running.put(job.getId(), job);
+            JobRun run = new JobRun(job);
+            try {
+                CompletableFuture.runAsync(run::prepare, storageExecutor)
+                        .thenRunAsync(run::compute, mediaExecutor)
+                        .thenRunAsync(run::publish, storageExecutor)
+                        .whenComplete((v, e) -> finish(run, e));
+            } catch (RuntimeException e) {
+                finish(run, e);
+            }
+        }
+    }
+
+    /**
+     * 心跳：每30秒 (租约时长的1/4) 续约本节点执行中的任务，长时间的视频处理不会因租约过期被其他节点重复认领
+     */
+    @Scheduled(fixedDelay = 30 * 1000L)
+    public void heartbeat() {
+        if (running.isEmpty()) {
+            return;
+        }
+        List<MediaJob> jobs = List.copyOf(running.values());
+        try {
+            int renewed = mediaJobService.renewLeases(jobs);
+            if (renewed < jobs.size()) {
+                log.warn("部分媒体任务租约已失效: 执行中={}, 续约={}", jobs.size(), renewed);
+            }
+        } catch (Exception e) {
+            log.error("媒体任务续约失败", e);
+        }
+    }
+
+    /**
+     * 每分钟回收一次租约过期的任务
+     */
+    @Scheduled(fixedDelay = 60 * 1000L)
+    public void recover() {
+        try {
+            int recovered = mediaJobService.recoverExpired();
+            if (recovered > 0) {
+                log.warn("回收租约过期的媒体任务 {} 个", recovered);
+            }
+        } catch (Exception e) {
+            log.error("回收媒体任务失败", e);
+        }
+    }
+
+    /**
+     * 每小时清理本节点临时目录中过期的本地副本与下载文件：
+     * 任务在其他节点结束时无法删除上传节点上的副本，进程中断时下载的源文件也不会被删除
+     */
+    @Scheduled(cron = "0 15 * * * ?")
+    public void cleanTempFiles() {
+        File[] files = new File(System.getProperty("java.io.tmpdir")).listFiles((dir, name) ->
+                name.startsWith(Constant.MediaJob.LOCAL_COPY_PREFIX) || name.startsWith(Constant.MediaJob.DOWNLOAD_PREFIX));
+        if (files == null) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - Constant.MediaJob.TEMP_FILE_RETENTION_SECONDS * 1000;
+        int deleted = 0;
+        for (File file : files) {
+            if (file.isFile() && file.lastModified() < cutoff && file.delete()) {
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            log.info("清理过期的媒体临时文件 {} 个", deleted);
+        }
+    }
+
+    /**
+     * 每天凌晨3点半清理已完成与失败的任务
+     */
+    @Scheduled(cron = "0 30 3 * * ?")
+    public void cleanFinished() {
+        try {
+            log.info("清理已完成与失败的媒体任务 {} 个", mediaJobService.cleanFinished());
+        } catch (Exception e) {
+            log.error("清理媒体任务失败", e);
+        }
+    }
+
+    /**
+     * 任务结束：成功标记完成；线程池拒绝时归还任务延后执行；其他异常按失败重试
+     */
+    private void finish(JobRun run, Throwable error) {
+        MediaJob job = run.job;
+        try {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause == null) {
+                mediaJobService.complete(job);
+                deleteLocalCopy(job);
+            } else if (cause instanceof RejectedExecutionException) {
+                mediaJobService.defer(job);
+            } else if (mediaJobService.fail(job, cause instanceof Exception ex ? ex : new RuntimeException(cause))) {
+                deleteLocalCopy(job);
+            }
+        } catch (Exception e) {
+            // 状态未能写回时任务保持处理中，租约过期后重新认领
+            log.error("更新媒体任务状态失败: id={}", job.getId(), e);
+        } finally {
+            running.remove(job.getId());
+            if (run.processed != null) {
+                run.processed.discard();
+            }
+            if (run.downloaded != null && run.downloaded.exists()) {
+                run.downloaded.delete();
+            }
+            slots.release();
+        }
+    }
+
+    /**
+     * 单个任务的执行状态，各阶段依次在不同线程中执行
+     */
+    private final class JobRun {
+
+        private final MediaJob job;
+        private final boolean isImage;
+
+        /** 媒体已被永久删除，跳过后续阶段 */
+        private boolean skipped;
+        private File source;
+        /** 从存储下载的临时源文件 */
+        private File downloaded;
+        private ProcessedMedia processed;
+
+        private JobRun(MediaJob job) {
+            this.job = job;
+            this.isImage = Constant.MediaJob.TYPE_IMAGE.equals(job.getJobType());
+        }
+
+        /**
+         * 准备阶段 (存储线程池)：确认媒体仍存在，定位或下载源文件
+         */
+        private void prepare() {
+            Object media = isImage ? imageMapper.selectWithDeleted(job.getBizId()) : videoMapper.selectWithDeleted(job.getBizId());
+            if (media == null) {
+                // 媒体已被永久删除，无需处理
+                log.info("媒体已删除，跳过任务: id={}, type={}, bizId={}", job.getId(), job.getJobType(), job.getBizId());
+                skipped = true;
+                return;
+            }
+            // 上传节点留下的本地副本 (本地存储时即原文件)，不存在时从存储下载
+            source = job.getLocalPath() == null ? null : new File(job.getLocalPath());
+            if (source == null || !source.exists()) {
+                try {
+                    downloaded = download(job);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+                source = downloaded;
+            }
+        }
+
+        /**
+         * 计算阶段 (媒体计算线程池)：生成缩略图/封面
+         */
+        private void compute() {
+            if (skipped) {
+                return;
+            }
+            try {
+                processed = isImage
+                        ? exifProcessor.process(source, job.getBizId(), job.getMediaUrl())
+                        : videoProcessor.process(source, job.getBizId(), job.getRelativePath());
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }
+
+        /**
+         * 发布阶段 (存储线程池)：上传生成的文件并写库
+         */
+        private void publish() {
+            if (skipped) {
+                return;
+            }
+            try {
+                processed.publish();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }
+    }
+
+    /**
+     * 从存储下载源文件到临时文件
+     */
+    private File download(MediaJob job) throws Exception {
+        IStorageService storage = storageFactory.getService(job.getStorageType());
+        String relativePath = job.getRelativePath();
+        File temp = File.createTempFile(Constant.MediaJob.DOWNLOAD_PREFIX, relativePath.substring(relativePath.lastIndexOf(".")));
+        try {
+            storage.download(relativePath, temp);
+        } catch (RuntimeException e) {
+            temp.delete();
+            throw e;
+        }
+        log.info("媒体任务源文件已从存储下载: id={}, path={}", job.getId(), relativePath);
+        return temp;
+    }
+
+    /**
+     * 任务结束 (成功或不再重试) 后删除上传时留下的临时副本，本地存储的原文件不删除；
+     * 副本在其他节点上时这里找不到文件，由该节点的 {@link #cleanTempFiles()} 删除
+     */
+    private void deleteLocalCopy(MediaJob job) {
+        if (Boolean.TRUE.equals(job.getTemporary()) && job.getLocalPath() != null) {
+            File file = new File(job.getLocalPath());
+            if (file.exists()) {
+                file.delete();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 停止认领新任务，已提交的任务由各线程池在关闭前执行完，未完成的在租约过期后由其他节点继续
+        active = false;
+    }
+}
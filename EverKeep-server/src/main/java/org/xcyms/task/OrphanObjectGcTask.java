@@ -0,0 +1,253 @@
+package org.xcyms.task;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.xcyms.common.Constant;
+import org.xcyms.common.lock.RedisLeaseLock;
+import org.xcyms.entity.Album;
+import org.xcyms.entity.Blob;
+import org.xcyms.entity.Image;
+import org.xcyms.entity.User;
+import org.xcyms.entity.Video;
+import org.xcyms.mapper.AlbumMapper;
+import org.xcyms.mapper.BlobMapper;
+import org.xcyms.mapper.ImageMapper;
+import org.xcyms.mapper.UserMapper;
+import org.xcyms.mapper.VideoMapper;
+import org.xcyms.service.storage.IStorageService;
+import org.xcyms.service.storage.StorageFactory;
+import org.xcyms.utils.BloomFilter;
+import org.xcyms.utils.ImageRenditions;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * <p>
+ *     孤儿文件回收定时任务
+ *     上传写入存储后保存记录失败、缩略图上传后更新记录失败、删除文件时异常被忽略等情况会在存储中留下无记录引用的文件。
+ *     先按 id 游标分批读取全部记录 (包含回收站、头像、相册封面) 引用的文件，写入布隆过滤器；再分页列举各存储后端的对象，
+ *     过滤器判断未被引用且修改时间早于宽限期的对象分批删除。
+ *     内存占用只有过滤器位数组 (有上限) 与一批待删除对象，与对象总数无关；过滤器误判只会保留孤儿文件，不会删除被引用的文件。
+ * </p>
+ *
+ * @author liu-xu
+ * @since 2026-02-24
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanObjectGcTask {
+
+    private final ImageMapper imageMapper;
+    private final VideoMapper videoMapper;
+    private final BlobMapper blobMapper;
+    private final UserMapper userMapper;
+    private final AlbumMapper albumMapper;
+    private final StorageFactory storageFactory;
+    private final RedisLeaseLock leaseLock;
+
+    @Value("${everkeep.gc.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 宽限期：修改时间在此之内的对象可能仍在上传或尚未保存记录，不回收
+     */
+    @Value("${everkeep.gc.grace-period:48h}")
+    private Duration gracePeriod;
+
+    @Value("${everkeep.gc.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    @Value("${everkeep.gc.max-filter-size:256MB}")
+    private DataSize maxFilterSize;
+
+    /**
+     * 只记录孤儿文件，不删除
+     */
+    @Value("${everkeep.gc.dry-run:true}")
+    private boolean dryRun;
+
+    @Value("${everkeep.image.renditions:160,400,1080,2048}")
+    private List<Integer> renditionSizes;
+
+    /**
+     * 默认每周日凌晨4点执行
+     */
+    @Scheduled(cron = "${everkeep.gc.cron:0 0 4 ? * SUN}")
+    public void collect() {
+        if (!enabled) {
+            return;
+        }
+        Duration lease = Duration.ofSeconds(Constant.StorageGc.LEASE_SECONDS);
+        String token = leaseLock.tryAcquire(Constant.StorageGc.LOCK_KEY, lease);
+        if (token == null) {
+            log.info("孤儿文件回收任务正在其他节点执行，跳过");
+            return;
+        }
+        try {
+            // 先确定截止时间再读取引用：截止时间之前写入的对象，其记录在读取引用时已经存在
+            Instant cutoff = Instant.now().minus(gracePeriod);
+            References refs = buildReferences(token, lease);
+            for (Map.Entry<String, IStorageService> entry : storages().entrySet()) {
+                Long unmappable = refs.unmappable.get(entry.getKey());
+                if (unmappable != null) {
+                    log.warn("存在 {} 条记录的地址无法映射为对象键，跳过该存储的孤儿文件回收: storage={}", unmappable, entry.getKey());
+                    continue;
+                }
+                sweep(entry.getKey(), entry.getValue(), refs.filter, cutoff, token, lease);
+            }
+        } catch (Exception e) {
+            log.error("孤儿文件回收任务失败", e);
+        } finally {
+            leaseLock.release(Constant.StorageGc.LOCK_KEY, token);
+        }
+    }
+
+    /**
+     * 需要回收的存储：本地存储 (切换存储类型前上传的文件仍保存在本地) + 当前生效的对象存储
+     */
+    private Map<String, IStorageService> storages() {
+        Map<String, IStorageService> storages = new LinkedHashMap<>();
+        storages.put("LOCAL", storageFactory.getService("LOCAL"));
+        String type = storageFactory.getServiceType();
+        if (!"LOCAL".equals(type)) {
+            storages.put(type, storageFactory.getService(type));
+        }
+        return storages;
+    }
+
+    /**
+     * 引用集合：布隆过滤器 + 无法映射为对象键的地址计数 (按存储类型)
+     */
+    private final class References {
+        private final BloomFilter filter;
+        private final Map<String, Long> unmappable = new HashMap<>();
+
+        private References(BloomFilter filter) {
+            this.filter = filter;
+        }
+
+        /**
+         * 统一按相对路径登记 (与列举结果一致)。只有能由当前存储配置还原出原地址的才登记：
+         * 更换域名/CDN 前保存的完整地址、早期腾讯云上传保存的 ETag 等无法映射为对象键，
+         * 登记后过滤器中的键与列举结果对不上，被引用的对象会被当作孤儿删除，因此计入无法映射，该存储不回收
+         */
+        private void put(String url) {
+            if (StringUtils.isBlank(url)) {
+                return;
+            }
+            IStorageService storage = storageFactory.getServiceByUrl(url);
+            String relativePath = storage.getRelativePath(url);
+            // 相对路径总是包含目录 (分类/年/月/日)，且不会是完整地址
+            if (!relativePath.contains("/") || relativePath.contains("://") || !url.equals(storage.getUrl(relativePath))) {
+                String type = storage.isLocal() ? "LOCAL" : storageFactory.getServiceType();
+                unmappable.merge(type, 1L, Long::sum);
+                return;
+            }
+            filter.put(relativePath);
+        }
+    }
+
+    /**
+     * 读取全部记录引用的文件相对路径构建布隆过滤器，任一步失败时抛出异常 (引用不完整时不能回收)
+     * 引用来源：图片 (原图/缩略图/多尺寸缩略图)、视频 (视频/封面)、存储对象、用户头像、相册封面
+     */
+    private References buildReferences(String token, Duration lease) {
+        long expected = imageMapper.countWithDeleted() * (2 + renditionSizes.size())
+                + videoMapper.countWithDeleted() * 2 + blobMapper.selectCount(null)
+                + userMapper.selectCount(null) + albumMapper.selectCount(null);
+        References refs = new References(new BloomFilter(expected, falsePositiveRate, maxFilterSize.toBytes()));
+        log.info("开始构建引用过滤器: 预计引用数={}, 位数组={} bytes, 哈希函数={}",
+                expected, refs.filter.sizeInBytes(), refs.filter.hashCount());
+
+        scan(imageMapper::selectStorageRefs, Image::getId, image -> {
+            refs.put(image.getUrl());
+            refs.put(image.getThumbnailUrl());
+            if (StringUtils.isNotBlank(image.getUrl())) {
+                ImageRenditions.urls(image.getUrl(), image.getRenditionSizes()).values().forEach(refs::put);
+            }
+        }, token, lease);
+        scan(videoMapper::selectStorageRefs, Video::getId, video -> {
+            refs.put(video.getUrl());
+            refs.put(video.getCoverUrl());
+        }, token, lease);
+        scan(blobMapper::selectStorageRefs, Blob::getId, blob -> refs.put(blob.getUrl()), token, lease);
+        // 头像 (category=avatar) 与相册封面 (category=album_cover) 上传后只保存在这两列中，没有图片记录
+        scan(userMapper::selectStorageRefs, User::getId, user -> refs.put(user.getAvatar()), token, lease);
+        scan(albumMapper::selectStorageRefs, Album::getId, album -> refs.put(album.getCover()), token, lease);
+        return refs;
+    }
+
+    /**
+     * 按 id 游标分批读取一张表，每批之后续约
+     */
+    private <T> void scan(BiFunction<Long, Integer, List<T>> fetch, Function<T, Long> idOf, Consumer<T> action,
+                          String token, Duration lease) {
+        long afterId = 0;
+        List<T> rows;
+        do {
+            rows = fetch.apply(afterId, Constant.StorageGc.SCAN_BATCH_SIZE);
+            for (T row : rows) {
+                action.accept(row);
+                afterId = idOf.apply(row);
+            }
+            renew(token, lease);
+        } while (rows.size() == Constant.StorageGc.SCAN_BATCH_SIZE);
+    }
+
+    /**
+     * 列举存储中的对象，删除未被引用且超过宽限期的对象
+     */
+    private void sweep(String type, IStorageService storage, BloomFilter filter, Instant cutoff, String token, Duration lease) {
+        long[] stats = new long[3];
+        List<String> orphans = new ArrayList<>(Constant.StorageGc.DELETE_BATCH_SIZE);
+        storage.listObjects(object -> {
+            if (++stats[0] % Constant.StorageGc.RENEW_INTERVAL == 0) {
+                renew(token, lease);
+            }
+            if (object.lastModified().isAfter(cutoff) || filter.mightContain(object.relativePath())) {
+                return;
+            }
+            stats[1]++;
+            stats[2] += object.size();
+            log.debug("孤儿文件: storage={}, path={}, size={}", type, object.relativePath(), object.size());
+            if (dryRun) {
+                return;
+            }
+            orphans.add(storage.getUrl(object.relativePath()));
+            if (orphans.size() >= Constant.StorageGc.DELETE_BATCH_SIZE) {
+                storage.deleteAll(orphans);
+                orphans.clear();
+                renew(token, lease);
+            }
+        });
+        if (!orphans.isEmpty()) {
+            storage.deleteAll(orphans);
+        }
+        log.info("孤儿文件回收完成: storage={}, 对象数={}, 孤儿文件={}, 大小={} bytes{}",
+                type, stats[0], stats[1], stats[2], dryRun ? " (dry-run，未删除)" : "");
+    }
+
+    /**
+     * 续约，租约已丢失 (其他节点已接手) 时中止本次回收
+     */
+    private void renew(String token, Duration lease) {
+        if (!leaseLock.renew(Constant.StorageGc.LOCK_KEY, token, lease)) {
+            throw new IllegalStateException("孤儿文件回收租约已丢失");
+        }
+    }
+}
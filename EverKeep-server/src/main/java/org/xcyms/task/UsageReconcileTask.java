@@ -0,0 +1,58 @@
+package org.xcyms.task;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.xcyms.common.Constant;
+import org.xcyms.common.lock.RedisLeaseLock;
+import org.xcyms.service.IUserUsageService;
+
+import java.time.Duration;
+
+/**
+ * <p>
+ *     用户存储用量对账任务
+ *     用量台账是增量维护的，异常中断、手工改库等会造成偏差，这里定期按业务表重新统计并修复
+ *     逐用户加行锁统计，集群内只在一个节点上执行 (租约锁，每批用户之后续约)
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月14日 11:20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UsageReconcileTask {
+
+    private final IUserUsageService userUsageService;
+    private final RedisLeaseLock leaseLock;
+
+    /**
+     * 每天凌晨3点执行 (在回收站清理之后)
+     * cron: 秒 分 时 日 月 周
+     */
+    @Scheduled(cron = "0 0 3 * * ?")
+    public void reconcile() {
+        Duration lease = Duration.ofSeconds(Constant.Usage.RECONCILE_LEASE_SECONDS);
+        String token = leaseLock.tryAcquire(Constant.Usage.RECONCILE_LOCK_KEY, lease);
+        if (token == null) {
+            log.info("用户用量对账任务正在其他节点执行，跳过");
+            return;
+        }
+        log.info("开始执行用户用量对账任务...");
+        try {
+            int repaired = userUsageService.reconcile(() -> {
+                // 租约已丢失 (其他节点已接手) 时中止
+                if (!leaseLock.renew(Constant.Usage.RECONCILE_LOCK_KEY, token, lease)) {
+                    throw new IllegalStateException("用户用量对账租约已丢失");
+                }
+            });
+            log.info("用户用量对账完成，修复 {} 个用户", repaired);
+        } catch (Exception e) {
+            log.error("用户用量对账失败", e);
+        } finally {
+            leaseLock.release(Constant.Usage.RECONCILE_LOCK_KEY, token);
+        }
+    }
+}
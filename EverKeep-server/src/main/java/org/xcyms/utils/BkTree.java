@@ -0,0 +1,121 @@
+package org.xcyms.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * 64 位哈希的 BK 树 (按汉明距离检索)
+ * 每个节点保存一个哈希及具有该哈希的 ID 列表，子节点按与父节点的距离分组；
+ * 查询半径 r 时只需进入距离在 [d - r, d + r] 内的子树 (三角不等式)，不必比较全部哈希。
+ * 删除只从节点中移除 ID，节点保留用于路由；非线程安全，由调用方加锁。
+ */
+public class BkTree {
+
+    private static final class Node {
+        private final long hash;
+        private final List<Long> ids = new ArrayList<>(1);
+        private Map<Integer, Node> children;
+
+        private Node(long hash) {
+            this.hash = hash;
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    /**
+     * 添加
+     */
+    public void add(long id, long hash) {
+        if (root == null) {
+            root = new Node(hash);
+            root.ids.add(id);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = PerceptualHash.distance(node.hash, hash);
+            if (distance == 0) {
+                if (!node.ids.contains(id)) {
+                    node.ids.add(id);
+                    size++;
+                }
+                return;
+            }
+            if (node.children == null) {
+                node.children = new HashMap<>(4);
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                child = new Node(hash);
+                child.ids.add(id);
+                node.children.put(distance, child);
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * 删除
+     *
+     * @return 是否存在
+     */
+    public boolean remove(long id, long hash) {
+        Node node = root;
+        while (node != null) {
+            int distance = PerceptualHash.distance(node.hash, hash);
+            if (distance == 0) {
+                boolean removed = node.ids.remove(id);
+                if (removed) {
+                    size--;
+                }
+                return removed;
+            }
+            node = node.children == null ? null : node.children.get(distance);
+        }
+        return false;
+    }
+
+    /**
+     * 查找与给定哈希距离不超过 maxDistance 的所有 ID
+     */
+    public void search(long hash, int maxDistance, LongConsumer consumer) {
+        if (root == null) {
+            return;
+        }
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            int distance = PerceptualHash.distance(node.hash, hash);
+            if (distance <= maxDistance) {
+                node.ids.forEach(consumer::accept);
+            }
+            if (node.children == null) {
+                continue;
+            }
+            for (int d = Math.max(1, distance - maxDistance); d <= distance + maxDistance; d++) {
+                Node child = node.children.get(d);
+                if (child != null) {
+                    stack.push(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * ID 数量
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,90 @@
+package org.xcyms.utils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 字符串布隆过滤器
+ * 位数组大小按预计元素数与误判率计算 (m = -n·ln(p) / ln²2)，并受内存上限约束，超出上限时误判率随之升高；
+ * 判断不存在时一定不存在，判断存在时可能误判。两个 64 位哈希按 h1 + i·h2 组合出 k 个位置。非线程安全。
+ */
+public class BloomFilter {
+
+    private final long[] bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 预计元素数
+     * @param falsePositiveRate  期望误判率 (0-1)
+     * @param maxBytes           位数组的内存上限 (bytes)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate, long maxBytes) {
+        long n = Math.max(expectedInsertions, 1);
+        long optimalBits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        long maxBits = Math.min(maxBytes * Byte.SIZE, (long) Integer.MAX_VALUE * Long.SIZE);
+        long size = Math.max(Long.SIZE, Math.min(optimalBits, maxBits));
+        this.bits = new long[(int) ((size + Long.SIZE - 1) / Long.SIZE)];
+        this.bitSize = (long) bits.length * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    /**
+     * 添加
+     */
+    public void put(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        long h1 = hash(bytes, 0x9E3779B97F4A7C15L);
+        long h2 = hash(bytes, 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    /**
+     * 是否可能存在
+     */
+    public boolean mightContain(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        long h1 = hash(bytes, 0x9E3779B97F4A7C15L);
+        long h2 = hash(bytes, 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 位数组占用的内存 (bytes)
+     */
+    public long sizeInBytes() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    /**
+     * 哈希函数个数
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 64 位哈希：逐字节乘法混合后做 MurmurHash3 fmix64 终结
+     */
+    private static long hash(byte[] bytes, long seed) {
+        long h = seed ^ bytes.length;
+        for (byte b : bytes) {
+            h = (h ^ (b & 0xFF)) * 0x100000001B3L;
+            h = Long.rotateLeft(h, 23);
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
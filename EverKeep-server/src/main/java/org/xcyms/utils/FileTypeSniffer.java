@@ -0,0 +1,129 @@
+package org.xcyms.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 文件类型嗅探工具
+ * 根据文件头部魔数识别真实格式，避免仅凭后缀判断
+ */
+public class FileTypeSniffer {
+
+    /**
+     * 嗅探所需的文件头长度 (ISO BMFF 需要读到 ftyp 中的前几个兼容品牌)
+     */
+    public static final int HEAD_SIZE = 32;
+
+    /**
+     * ISO BMFF (ftyp) 品牌与格式的对应关系，未列出的品牌视为无法识别
+     */
+    private static final Map<String, String> BRANDS = Map.ofEntries(
+            Map.entry("isom", "mp4"), Map.entry("iso2", "mp4"), Map.entry("iso3", "mp4"), Map.entry("iso4", "mp4"),
+            Map.entry("iso5", "mp4"), Map.entry("iso6", "mp4"), Map.entry("mp41", "mp4"), Map.entry("mp42", "mp4"),
+            Map.entry("avc1", "mp4"), Map.entry("dash", "mp4"), Map.entry("M4V ", "mp4"), Map.entry("MSNV", "mp4"),
+            Map.entry("qt  ", "mov"),
+            Map.entry("heic", "heic"), Map.entry("heix", "heic"), Map.entry("heim", "heic"), Map.entry("heis", "heic"),
+            Map.entry("hevc", "heic"), Map.entry("hevx", "heic"),
+            Map.entry("avif", "avif"), Map.entry("avis", "avif"));
+
+    /**
+     * HEIF 通用品牌，实际格式由兼容品牌决定 (HEIC 或 AVIF)
+     */
+    private static final String HEIF_BRAND = "mif1";
+    private static final String HEIF_SEQUENCE_BRAND = "msf1";
+
+    /**
+     * 根据文件头识别格式
+     *
+     * @param head 文件头部字节 (至少 12 字节)
+     * @return 识别出的后缀 (如 jpg/png/mp4/heic/avif)，无法识别返回 null
+     */
+    public static String detect(byte[] head) {
+        if (head == null || head.length < 4) {
+            return null;
+        }
+        if (startsWith(head, 0, 0xFF, 0xD8, 0xFF)) {
+            return "jpg";
+        }
+        if (startsWith(head, 0, 0x89, 0x50, 0x4E, 0x47)) {
+            return "png";
+        }
+        if (startsWith(head, 0, 'G', 'I', 'F', '8')) {
+            return "gif";
+        }
+        if (startsWith(head, 0, 'B', 'M')) {
+            return "bmp";
+        }
+        if (startsWith(head, 0, 0x1A, 0x45, 0xDF, 0xA3)) {
+            return "mkv";
+        }
+        if (head.length >= 12 && startsWith(head, 0, 'R', 'I', 'F', 'F')) {
+            String format = new String(head, 8, 4, StandardCharsets.US_ASCII);
+            if ("WEBP".equals(format)) {
+                return "webp";
+            }
+            if ("AVI ".equals(format)) {
+                return "avi";
+            }
+            return null;
+        }
+        if (head.length >= 12 && startsWith(head, 4, 'f', 't', 'y', 'p')) {
+            return detectBrand(head);
+        }
+        return null;
+    }
+
+    /**
+     * 按 ftyp 主品牌识别；主品牌为 HEIF 通用品牌时按文件头中可读到的兼容品牌判断 HEIC/AVIF
+     * ftyp 结构：box 大小(4) + "ftyp"(4) + 主品牌(4) + 次版本(4) + 兼容品牌(4 * n)
+     */
+    private static String detectBrand(byte[] head) {
+        String major = new String(head, 8, 4, StandardCharsets.US_ASCII);
+        if (!HEIF_BRAND.equals(major) && !HEIF_SEQUENCE_BRAND.equals(major)) {
+            return BRANDS.get(major);
+        }
+        long boxSize = ((head[0] & 0xFFL) << 24) | ((head[1] & 0xFF) << 16) | ((head[2] & 0xFF) << 8) | (head[3] & 0xFF);
+        int end = (int) Math.min(head.length, boxSize);
+        for (int offset = 16; offset + 4 <= end; offset += 4) {
+            String format = BRANDS.get(new String(head, offset, 4, StandardCharsets.US_ASCII));
+            if ("heic".equals(format) || "avif".equals(format)) {
+                return format;
+            }
+        }
+        return "heif";
+    }
+
+    /**
+     * 判断识别出的格式与声明的后缀是否一致
+     * jpg/jpeg 视为同一格式；mp4/mov 同属 ISO BMFF 容器，品牌标识不可靠，也视为同一格式；heic/heif 视为同一格式
+     */
+    public static boolean matches(String detected, String ext) {
+        if (detected == null || ext == null) {
+            return true;
+        }
+        return normalize(detected).equals(normalize(ext));
+    }
+
+    private static String normalize(String ext) {
+        String lower = ext.toLowerCase();
+        if ("jpeg".equals(lower)) {
+            return "jpg";
+        }
+        if ("heif".equals(lower)) {
+            return "heic";
+        }
+        return "mov".equals(lower) ? "mp4" : lower;
+    }
+
+    private static boolean startsWith(byte[] head, int offset, int... magic) {
+        if (head.length < offset + magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if ((head[offset + i] & 0xFF) != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
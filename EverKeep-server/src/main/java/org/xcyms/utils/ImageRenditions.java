@@ -0,0 +1,83 @@
+package org.xcyms.utils;
+
+import org.apache.commons.lang3.StringUtils;
+import org.xcyms.common.Constant;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 图片多尺寸缩略图 (rendition) 命名工具
+ * 每个尺寸与原图存放在同一目录，文件名为 原文件名_w{长边像素}.后缀，如 abc.jpg -> abc_w400.jpg；
+ * 数据库只记录已生成的尺寸列表 (如 "160,400,1080")，访问地址由原图地址按同一规则推导。
+ */
+public class ImageRenditions {
+
+    private ImageRenditions() {
+    }
+
+    /**
+     * 由原图的路径或地址得到指定尺寸缩略图的路径或地址
+     *
+     * @param original 原图相对路径或访问地址
+     * @param size     长边像素
+     */
+    public static String path(String original, int size) {
+        String suffix = Constant.Rendition.SUFFIX + size;
+        int slashIndex = original.lastIndexOf('/');
+        int dotIndex = original.lastIndexOf('.');
+        if (dotIndex <= slashIndex) {
+            return original + suffix;
+        }
+        return original.substring(0, dotIndex) + suffix + original.substring(dotIndex);
+    }
+
+    /**
+     * 解析已生成的尺寸列表
+     *
+     * @param sizes 逗号分隔的尺寸，可为空
+     * @return 升序尺寸列表
+     */
+    public static List<Integer> parse(String sizes) {
+        List<Integer> result = new ArrayList<>();
+        if (StringUtils.isBlank(sizes)) {
+            return result;
+        }
+        for (String size : sizes.split(",")) {
+            if (StringUtils.isNumeric(size.trim())) {
+                result.add(Integer.parseInt(size.trim()));
+            }
+        }
+        result.sort(Integer::compareTo);
+        return result;
+    }
+
+    /**
+     * 拼接尺寸列表，用于保存到数据库
+     */
+    public static String join(Collection<Integer> sizes) {
+        return sizes.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    /**
+     * 推导各尺寸缩略图的访问地址
+     *
+     * @param url   原图访问地址
+     * @param sizes 已生成的尺寸列表 (逗号分隔)
+     * @return 尺寸 -> 地址，按尺寸升序
+     */
+    public static Map<Integer, String> urls(String url, String sizes) {
+        Map<Integer, String> result = new LinkedHashMap<>();
+        if (StringUtils.isBlank(url)) {
+            return result;
+        }
+        for (Integer size : parse(sizes)) {
+            result.put(size, path(url, size));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+package org.xcyms.utils;
+
+import net.coobird.thumbnailator.Thumbnails;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+/**
+ * 图片感知哈希 (dHash)
+ * 缩小到 9x8 灰度图后逐行比较相邻像素的亮度，得到 64 位指纹；
+ * 缩放、重新压缩、轻微调色后指纹基本不变，两张图片指纹的汉明距离越小越相似 (一般不超过 6 可视为近似重复)。
+ */
+public class PerceptualHash {
+
+    private static final int WIDTH = 9;
+    private static final int HEIGHT = 8;
+
+    private PerceptualHash() {
+    }
+
+    /**
+     * 计算 dHash，输入应为已缩小的图片 (如最小尺寸的缩略图)，避免对大图做大比例缩放
+     */
+    public static long dHash(BufferedImage image) throws IOException {
+        BufferedImage small = Thumbnails.of(image).forceSize(WIDTH, HEIGHT).asBufferedImage();
+        long hash = 0;
+        for (int y = 0; y < HEIGHT; y++) {
+            int previous = luminance(small.getRGB(0, y));
+            for (int x = 1; x < WIDTH; x++) {
+                int current = luminance(small.getRGB(x, y));
+                hash = (hash << 1) | (current > previous ? 1 : 0);
+                previous = current;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * 汉明距离
+     */
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    /**
+     * ITU-R BT.601 亮度 (整数运算)
+     */
+    private static int luminance(int rgb) {
+        int r = (rgb >> 16) & 0xFF;
+        int g = (rgb >> 8) & 0xFF;
+        int b = rgb & 0xFF;
+        return (r * 299 + g * 587 + b * 114) / 1000;
+    }
+}
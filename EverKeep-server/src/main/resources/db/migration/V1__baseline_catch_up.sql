@@ -0,0 +1,37 @@
+-- 补齐 init-sql 中已有、但旧库尚未创建的表与配置 (重复执行无副作用)
+
+CREATE TABLE IF NOT EXISTS `biz_video`  (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `user_id` bigint NOT NULL COMMENT '上传者ID',
+  `album_id` bigint NULL DEFAULT NULL COMMENT '所属相册ID',
+  `url` varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL COMMENT '视频URL',
+  `cover_url` varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '封面图URL',
+  `name` varchar(100) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '视频名称',
+  `size` bigint NULL DEFAULT NULL COMMENT '大小(bytes)',
+  `type` varchar(20) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '格式(mp4/mov)',
+  `duration` bigint NULL DEFAULT NULL COMMENT '时长(秒)',
+  `status` tinyint NULL DEFAULT 0 COMMENT '是否公开',
+  `create_time` datetime NULL DEFAULT CURRENT_TIMESTAMP,
+  `update_time` datetime NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  `deleted` tinyint NULL DEFAULT 0,
+  PRIMARY KEY (`id`) USING BTREE
+) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci COMMENT = '视频表' ROW_FORMAT = Dynamic;
+
+CREATE TABLE IF NOT EXISTS `biz_user_usage`  (
+  `user_id` bigint NOT NULL COMMENT '用户ID',
+  `image_size` bigint NOT NULL DEFAULT 0 COMMENT '图片占用空间(bytes，不含回收站)',
+  `image_count` bigint NOT NULL DEFAULT 0 COMMENT '图片数量(不含回收站)',
+  `video_size` bigint NOT NULL DEFAULT 0 COMMENT '视频占用空间(bytes，不含回收站)',
+  `video_count` bigint NOT NULL DEFAULT 0 COMMENT '视频数量(不含回收站)',
+  `update_time` datetime NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  PRIMARY KEY (`user_id`) USING BTREE
+) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci COMMENT = '用户存储用量台账' ROW_FORMAT = Dynamic;
+
+-- 系统配置的 user_id 为 NULL，唯一索引不会拦截重复行，需显式判断
+INSERT INTO `sys_config` (`user_id`, `config_key`, `config_value`, `config_name`, `remark`)
+SELECT NULL, 'storage_max_connections', '64', '云存储最大连接数', '云存储客户端连接池大小，修改后客户端自动重建'
+FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM `sys_config` WHERE `user_id` IS NULL AND `config_key` = 'storage_max_connections');
+
+INSERT INTO `sys_config` (`user_id`, `config_key`, `config_value`, `config_name`, `remark`)
+SELECT NULL, 'storage_keep_alive_seconds', '300', '云存储连接保活时间', '单位: 秒，空闲连接超过该时间后关闭'
+FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM `sys_config` WHERE `user_id` IS NULL AND `config_key` = 'storage_keep_alive_seconds');
@@ -0,0 +1,23 @@
+-- 按 Mapper / 服务层的查询形态建立组合索引，索引已存在时 (MySQL 1061) 由迁移执行器跳过
+
+-- 图片：我的图片 / 公开图片 / 相册内图片列表 (游标分页按 create_time, id 排序)，回收站按 create_time 排序
+CREATE INDEX `idx_user_deleted_time` ON `biz_image` (`user_id`, `deleted`, `create_time`, `id`);
+CREATE INDEX `idx_status_deleted_time` ON `biz_image` (`status`, `deleted`, `create_time`, `id`);
+CREATE INDEX `idx_album_deleted_time` ON `biz_image` (`album_id`, `deleted`, `create_time`, `id`);
+-- 图片：过期回收站清理 (deleted = 1 AND update_time < ?)
+CREATE INDEX `idx_deleted_update_time` ON `biz_image` (`deleted`, `update_time`);
+
+-- 视频：同图片
+CREATE INDEX `idx_user_deleted_time` ON `biz_video` (`user_id`, `deleted`, `create_time`, `id`);
+CREATE INDEX `idx_status_deleted_time` ON `biz_video` (`status`, `deleted`, `create_time`, `id`);
+CREATE INDEX `idx_album_deleted_time` ON `biz_video` (`album_id`, `deleted`, `create_time`, `id`);
+-- 视频：回收站列表按 update_time 排序
+CREATE INDEX `idx_user_deleted_update_time` ON `biz_video` (`user_id`, `deleted`, `update_time`);
+CREATE INDEX `idx_deleted_update_time` ON `biz_video` (`deleted`, `update_time`);
+
+-- 相册：我的相册列表 / 相册分页
+CREATE INDEX `idx_user_deleted_time` ON `biz_album` (`user_id`, `deleted`, `create_time`);
+
+-- 消息：我的消息 (user_id = ? OR user_id IS NULL) 按时间倒序，未读数统计
+CREATE INDEX `idx_user_deleted_time` ON `sys_message` (`user_id`, `deleted`, `create_time`);
+CREATE INDEX `idx_user_read` ON `sys_message` (`user_id`, `read_flag`, `deleted`);
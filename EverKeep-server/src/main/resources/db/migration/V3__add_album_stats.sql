@@ -0,0 +1,16 @@
+-- 相册冗余统计字段，相册分页不再关联图片表 GROUP BY (列已存在时 (MySQL 1060) 由迁移执行器跳过)
+
+ALTER TABLE `biz_album` ADD COLUMN `image_count` bigint NOT NULL DEFAULT 0 COMMENT '图片数量(不含回收站)';
+ALTER TABLE `biz_album` ADD COLUMN `video_count` bigint NOT NULL DEFAULT 0 COMMENT '视频数量(不含回收站)';
+ALTER TABLE `biz_album` ADD COLUMN `total_size` bigint NOT NULL DEFAULT 0 COMMENT '占用空间(bytes，不含回收站)';
+
+-- 按现有数据初始化 (与 AlbumMapper.rebuildStats 一致)
+UPDATE biz_album a
+    LEFT JOIN (SELECT album_id, COUNT(*) AS cnt, IFNULL(SUM(size), 0) AS total
+               FROM biz_image WHERE deleted = 0 AND album_id IS NOT NULL GROUP BY album_id) i ON i.album_id = a.id
+    LEFT JOIN (SELECT album_id, COUNT(*) AS cnt, IFNULL(SUM(size), 0) AS total
+               FROM biz_video WHERE deleted = 0 AND album_id IS NOT NULL GROUP BY album_id) v ON v.album_id = a.id
+SET a.image_count = IFNULL(i.cnt, 0),
+    a.video_count = IFNULL(v.cnt, 0),
+    a.total_size = IFNULL(i.total, 0) + IFNULL(v.total, 0),
+    a.update_time = a.update_time;
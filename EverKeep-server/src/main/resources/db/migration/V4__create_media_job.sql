@@ -0,0 +1,27 @@
+-- 持久化的媒体处理任务队列 (替代内存线程池中的异步处理，重启后可继续执行)
+
+CREATE TABLE IF NOT EXISTS `biz_media_job`  (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `job_type` varchar(20) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL COMMENT '任务类型: IMAGE-缩略图/EXIF, VIDEO-封面/时长',
+  `biz_id` bigint NOT NULL COMMENT '图片/视频ID',
+  `storage_type` varchar(20) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '源文件所在的存储类型',
+  `relative_path` varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL COMMENT '源文件相对路径',
+  `media_url` varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '源文件访问地址',
+  `local_path` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '上传节点上的本地副本',
+  `temporary` tinyint(1) NOT NULL DEFAULT 0 COMMENT '本地副本是否为临时文件',
+  `status` tinyint NOT NULL DEFAULT 0 COMMENT '状态: 0-待处理, 1-处理中, 2-已完成, 3-失败',
+  `attempts` int NOT NULL DEFAULT 0 COMMENT '已尝试次数',
+  `max_attempts` int NOT NULL DEFAULT 5 COMMENT '最大尝试次数',
+  `next_run_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '下次可执行时间',
+  `lease_owner` varchar(64) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '租约持有者',
+  `lease_expire_time` datetime NULL DEFAULT NULL COMMENT '租约到期时间',
+  `last_error` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '最近一次失败原因',
+  `create_time` datetime NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  `update_time` datetime NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  PRIMARY KEY (`id`) USING BTREE,
+  UNIQUE INDEX `uk_type_biz`(`job_type` ASC, `biz_id` ASC) USING BTREE,
+  INDEX `idx_status_next_run`(`status` ASC, `next_run_time` ASC) USING BTREE,
+  INDEX `idx_status_lease_expire`(`status` ASC, `lease_expire_time` ASC) USING BTREE,
+  INDEX `idx_status_update_time`(`status` ASC, `update_time` ASC) USING BTREE,
+  INDEX `idx_lease_owner`(`lease_owner` ASC) USING BTREE
+) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci COMMENT = '媒体处理任务表' ROW_FORMAT = Dynamic;
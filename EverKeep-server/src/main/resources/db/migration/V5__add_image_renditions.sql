@@ -0,0 +1,3 @@
+-- 多尺寸缩略图：记录已生成的尺寸，地址按 原文件名_w{尺寸}.后缀 推导 (列已存在时 (MySQL 1060) 由迁移执行器跳过)
+
+ALTER TABLE `biz_image` ADD COLUMN `rendition_sizes` varchar(100) NULL DEFAULT NULL COMMENT '已生成的多尺寸缩略图(长边像素，逗号分隔)';
@@ -0,0 +1,23 @@
+-- 内容去重：相同内容 (同一用户、相同 SHA-256) 的图片/视频共用一个存储对象，按引用计数回收
+-- 表/列/索引已存在时 (MySQL 1050/1060/1061) 由迁移执行器跳过；本版本之前上传的文件没有摘要，不参与去重
+
+CREATE TABLE IF NOT EXISTS `biz_blob`  (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `user_id` bigint NOT NULL COMMENT '上传者ID',
+  `sha256` char(64) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL COMMENT '内容SHA-256',
+  `size` bigint NOT NULL COMMENT '大小(bytes)',
+  `storage_type` varchar(20) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL COMMENT '存储类型',
+  `relative_path` varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL COMMENT '存储相对路径',
+  `url` varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL COMMENT '访问地址',
+  `ref_count` int NOT NULL DEFAULT 1 COMMENT '引用数(图片/视频记录数，含回收站)',
+  `create_time` datetime NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  `update_time` datetime NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  PRIMARY KEY (`id`) USING BTREE,
+  UNIQUE INDEX `uk_user_sha256`(`user_id` ASC, `sha256` ASC) USING BTREE
+) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci COMMENT = '存储对象表(内容去重)' ROW_FORMAT = Dynamic;
+
+ALTER TABLE `biz_image` ADD COLUMN `blob_id` bigint NULL DEFAULT NULL COMMENT '存储对象ID';
+ALTER TABLE `biz_video` ADD COLUMN `blob_id` bigint NULL DEFAULT NULL COMMENT '存储对象ID';
+-- 重复上传时查找已处理过的同内容记录，复用缩略图/EXIF/封面
+CREATE INDEX `idx_blob_id` ON `biz_image` (`blob_id`);
+CREATE INDEX `idx_blob_id` ON `biz_video` (`blob_id`);
@@ -0,0 +1,3 @@
+-- 相似图片：记录图片的 64 位感知哈希 (dHash)，由缩略图处理任务写入；已有图片为空，重新处理后补齐 (列已存在时 (MySQL 1060) 由迁移执行器跳过)
+
+ALTER TABLE `biz_image` ADD COLUMN `phash` bigint NULL DEFAULT NULL COMMENT '感知哈希(64位dHash)';
@@ -0,0 +1,8 @@
+-- 游标分页按 (create_time, id) 排序与比较，create_time 为 NULL 的行会被行比较过滤掉且生成无法解码的游标；
+-- 先用修改时间 (没有时用当前时间) 补齐，再改为 NOT NULL (重复执行无副作用)
+
+UPDATE `biz_image` SET `create_time` = IFNULL(`update_time`, NOW()), `update_time` = `update_time` WHERE `create_time` IS NULL;
+UPDATE `biz_video` SET `create_time` = IFNULL(`update_time`, NOW()), `update_time` = `update_time` WHERE `create_time` IS NULL;
+
+ALTER TABLE `biz_image` MODIFY COLUMN `create_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE `biz_video` MODIFY COLUMN `create_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP;
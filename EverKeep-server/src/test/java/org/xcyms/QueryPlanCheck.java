@@ -0,0 +1,148 @@
+package org.xcyms;
+
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.xcyms.entity.Album;
+import org.xcyms.mapper.AlbumMapper;
+import org.xcyms.mapper.ImageMapper;
+import org.xcyms.mapper.VideoMapper;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * 查询计划检查
+ * 以 dev 配置 (可通过参数覆盖，如 --spring.profiles.active=test) 启动应用上下文 (不启动 Web 服务)，
+ * 对 Image / Album / Video Mapper XML 中的每条语句用示例参数执行 EXPLAIN：
+ * 每个访问的表都必须选中索引 (key 非空)，且访问类型不能是全表扫描 (ALL) 或全索引扫描 (index)，否则以非 0 状态退出。
+ * 优化器在数据量很小时可能放弃索引，请在有代表性数据量的库上执行 (或先执行 ANALYZE TABLE)。
+ * 修改 Mapper XML 或索引后执行，可接入 CI。
+ * </p>
+ *
+ * @author liu-xu
+ * @date 2026年02月16日 11:05
+ */
+public class QueryPlanCheck {
+
+    private static final Set<String> NAMESPACES = Set.of(
+            ImageMapper.class.getName(),
+            AlbumMapper.class.getName(),
+            VideoMapper.class.getName());
+
+    /**
+     * 按设计需要扫描全表的语句 (孤儿文件回收估算引用数的 COUNT(*))
+     */
+    private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+            ImageMapper.class.getName() + ".countWithDeleted",
+            VideoMapper.class.getName() + ".countWithDeleted");
+
+    public static void main(String[] args) throws Exception {
+        List<String> violations = new ArrayList<>();
+        int checked = 0;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("dev")
+                .run(args)) {
+            SqlSessionFactory sqlSessionFactory = context.getBean(SqlSessionFactory.class);
+            try (Connection connection = context.getBean(DataSource.class).getConnection()) {
+                for (MappedStatement ms : getXmlStatements(sqlSessionFactory)) {
+                    if (!FULL_SCAN_ALLOWED.contains(ms.getId())) {
+                        violations.addAll(explain(connection, ms));
+                        checked++;
+                    }
+                }
+            }
+        }
+        if (!violations.isEmpty()) {
+            violations.forEach(v -> System.err.println("查询计划检查未通过: " + v));
+            System.exit(1);
+        }
+        System.out.println("查询计划检查通过: 共 " + checked + " 条语句");
+        System.exit(0);
+    }
+
+    /**
+     * 只检查 XML 中手写的语句，MyBatis-Plus 注入的通用方法 (selectById 等) 不在此列
+     */
+    private static Collection<MappedStatement> getXmlStatements(SqlSessionFactory sqlSessionFactory) {
+        Map<String, MappedStatement> statements = new LinkedHashMap<>();
+        for (Object value : sqlSessionFactory.getConfiguration().getMappedStatements()) {
+            // StrictMap 中同一语句会以全名和短名各存一份，这里按 id 去重
+            if (value instanceof MappedStatement ms
+                    && NAMESPACES.contains(ms.getId().substring(0, ms.getId().lastIndexOf('.')))
+                    && ms.getResource() != null && ms.getResource().endsWith(".xml]")) {
+                statements.putIfAbsent(ms.getId(), ms);
+            }
+        }
+        return statements.values();
+    }
+
+    private static List<String> explain(Connection connection, MappedStatement ms) throws Exception {
+        Map<String, Object> parameter = sampleParameter();
+        BoundSql boundSql = ms.getBoundSql(parameter);
+        List<String> violations = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            new DefaultParameterHandler(ms, parameter, boundSql).setParameters(ps);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString("table");
+                    String type = rs.getString("type");
+                    String key = rs.getString("key");
+                    // 派生表/UNION 结果 (<derived2> 等) 与未访问表的行 (如 Impossible WHERE) 不检查
+                    if (table == null || table.startsWith("<") || type == null) {
+                        continue;
+                    }
+                    if (key == null || "ALL".equals(type) || "index".equals(type)) {
+                        violations.add(ms.getId() + " 在表 " + table + " 上未使用索引过滤: type=" + type
+                                + ", possible_keys=" + rs.getString("possible_keys") + ", key=" + key
+                                + ", rows=" + rs.getString("rows"));
+                    }
+                }
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * 覆盖各语句所用参数名的示例参数
+     */
+    private static Map<String, Object> sampleParameter() {
+        // 与 AlbumServiceImpl#getPage 的查询条件一致
+        QueryWrapper<Album> albumWrapper = new QueryWrapper<>();
+        albumWrapper.eq("a.deleted", 0).eq("a.user_id", 0L).orderByDesc("a.create_time");
+
+        Map<String, Object> parameter = new HashMap<>();
+        parameter.put("id", 0L);
+        parameter.put("userId", 0L);
+        parameter.put("albumId", 0L);
+        parameter.put("blobId", 0L);
+        parameter.put("idList", List.of(0L));
+        parameter.put("expireTime", LocalDateTime.now());
+        parameter.put("afterTime", LocalDateTime.now());
+        parameter.put("afterId", 0L);
+        parameter.put("limit", 100);
+        parameter.put("imageCount", 0L);
+        parameter.put("videoCount", 0L);
+        parameter.put("totalSize", 0L);
+        parameter.put(Constants.WRAPPER, albumWrapper);
+        return parameter;
+    }
+}
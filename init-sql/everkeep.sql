@@ -30,14 +30,37 @@ CREATE TABLE `biz_album`  (
   `create_time` datetime NULL DEFAULT CURRENT_TIMESTAMP,
   `update_time` datetime NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
   `deleted` tinyint NULL DEFAULT 0,
-  PRIMARY KEY (`id`) USING BTREE
+  `image_count` bigint NOT NULL DEFAULT 0 COMMENT '图片数量(不含回收站)',
+  `video_count` bigint NOT NULL DEFAULT 0 COMMENT '视频数量(不含回收站)',
+  `total_size` bigint NOT NULL DEFAULT 0 COMMENT '占用空间(bytes，不含回收站)',
+  PRIMARY KEY (`id`) USING BTREE,
+  INDEX `idx_user_deleted_time`(`user_id` ASC, `deleted` ASC, `create_time` ASC) USING BTREE
 ) ENGINE = InnoDB AUTO_INCREMENT = 3 CHARACTER SET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci COMMENT = '相册表' ROW_FORMAT = Dynamic;
 
 -- ----------------------------
 -- Records of biz_album
 -- ----------------------------
-INSERT INTO `biz_album` VALUES (1, 1, '测试相册', '这是第一个测试相册', '/uploads/album_cover/2026/01/18/6ec62c3f-47d8-439d-8c98-41091e079712.jpg', '2026-01-18 09:42:40', '2026-01-18 09:42:40', 0);
-INSERT INTO `biz_album` VALUES (2, 1, '测试相册2', '这是第二个测试i相册', '/uploads/image/2026/01/18/15d8daad-1030-4cac-a092-98189b280a85.jpg', '2026-01-18 09:48:09', '2026-01-20 09:53:14', 0);
+INSERT INTO `biz_album` VALUES (1, 1, '测试相册', '这是第一个测试相册', '/uploads/album_cover/2026/01/18/6ec62c3f-47d8-439d-8c98-41091e079712.jpg', '2026-01-18 09:42:40', '2026-01-18 09:42:40', 0, 5, 0, 1246726);
+INSERT INTO `biz_album` VALUES (2, 1, '测试相册2', '这是第二个测试i相册', '/uploads/image/2026/01/18/15d8daad-1030-4cac-a092-98189b280a85.jpg', '2026-01-18 09:48:09', '2026-01-20 09:53:14', 0, 38, 0, 23293946);
+
+-- ----------------------------
+-- Table structure for biz_blob
+-- ----------------------------
+DROP TABLE IF EXISTS `biz_blob`;
+CREATE TABLE `biz_blob`  (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `user_id` bigint NOT NULL COMMENT '上传者ID',
+  `sha256` char(64) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL COMMENT '内容SHA-256',
+  `size` bigint NOT NULL COMMENT '大小(bytes)',
+  `storage_type` varchar(20) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL COMMENT '存储类型',
+  `relative_path` varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL COMMENT '存储相对路径',
+  `url` varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL COMMENT '访问地址',
+  `ref_count` int NOT NULL DEFAULT 1 COMMENT '引用数(图片/视频记录数，含回收站)',
+  `create_time` datetime NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  `update_time` datetime NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  PRIMARY KEY (`id`) USING BTREE,
+  UNIQUE INDEX `uk_user_sha256`(`user_id` ASC, `sha256` ASC) USING BTREE
+) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci COMMENT = '存储对象表(内容去重)' ROW_FORMAT = Dynamic;
 
 -- ----------------------------
 -- Table structure for biz_image
@@ -53,7 +76,7 @@ CREATE TABLE `biz_image`  (
   `size` bigint NULL DEFAULT NULL COMMENT '大小(bytes)',
   `type` varchar(20) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '格式(jpg/png)',
   `status` tinyint NULL DEFAULT 0 COMMENT '是否公开',
-  `create_time` datetime NULL DEFAULT CURRENT_TIMESTAMP,
+  `create_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP,
   `update_time` datetime NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
   `deleted` tinyint NULL DEFAULT 0,
   `make` varchar(100) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '相机制造商',
@@ -66,179 +89,259 @@ CREATE TABLE `biz_image`  (
   `lat` varchar(50) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '纬度',
   `lng` varchar(50) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '经度',
   `take_time` datetime NULL DEFAULT NULL COMMENT '拍摄时间',
-  PRIMARY KEY (`id`) USING BTREE
+  `rendition_sizes` varchar(100) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '已生成的多尺寸缩略图(长边像素，逗号分隔)',
+  `blob_id` bigint NULL DEFAULT NULL COMMENT '存储对象ID',
+  `phash` bigint NULL DEFAULT NULL COMMENT '感知哈希(64位dHash)',
+  PRIMARY KEY (`id`) USING BTREE,
+  INDEX `idx_user_deleted_time`(`user_id` ASC, `deleted` ASC, `create_time` ASC, `id` ASC) USING BTREE,
+  INDEX `idx_status_deleted_time`(`status` ASC, `deleted` ASC, `create_time` ASC, `id` ASC) USING BTREE,
+  INDEX `idx_album_deleted_time`(`album_id` ASC, `deleted` ASC, `create_time` ASC, `id` ASC) USING BTREE,
+  INDEX `idx_deleted_update_time`(`deleted` ASC, `update_time` ASC) USING BTREE,
+  INDEX `idx_blob_id`(`blob_id` ASC) USING BTREE
 ) ENGINE = InnoDB AUTO_INCREMENT = 207 CHARACTER SET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci COMMENT = '图片表' ROW_FORMAT = Dynamic;
 
 -- ----------------------------
 -- Records of biz_image
 -- ----------------------------
-INSERT INTO `biz_image` VALUES (1, 1, 2, '/uploads/image/2026/01/18/1eba5ae7-9be9-4ae3-8018-57a7fb4bb977.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(20).jpg', 172844, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (2, 1, 2, '/uploads/image/2026/01/18/66469211-611a-42dc-8603-34060165b621.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(12).jpg', 181838, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (3, 1, 2, '/uploads/image/2026/01/18/6fe828f5-1ed7-4ffa-830d-fa00039306fd.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(25).jpg', 239514, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (4, 1, 2, '/uploads/image/2026/01/18/0ab71402-1f68-4074-b6f6-77ebbd89888e.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(26).jpg', 100208, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (5, 1, 2, '/uploads/image/2026/01/18/375478eb-5994-4241-95e9-f9f37efc739d.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(24).jpg', 491019, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (6, 1, 2, '/uploads/image/2026/01/18/519af61e-35bd-425a-a1d9-3172925da4ed.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(23).jpg', 346649, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (7, 1, 2, '/uploads/image/2026/01/18/b0cf09a6-c583-4dc4-b5ba-ec40d258f50f.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(29).jpg', 153534, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (8, 1, 2, '/uploads/image/2026/01/18/5986403f-2d64-4c40-9852-f48777b21c0e.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(28).jpg', 591604, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (9, 1, 2, '/uploads/image/2026/01/18/1e144c63-b3c7-4abf-8a9f-602c7918ceac.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(17).jpg', 334758, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (10, 1, 2, '/uploads/image/2026/01/18/624134ed-60db-4621-b1ac-f01bded4a23c.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(31).jpg', 402427, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (11, 1, 2, '/uploads/image/2026/01/18/48d6abbe-16a9-4b2d-a52f-4941d941d583.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(27).jpg', 540272, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (12, 1, 2, '/uploads/image/2026/01/18/b9bb3e47-d392-4816-84ef-326f5ed1fe1d.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(40).jpg', 1251899, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (13, 1, 2, '/uploads/image/2026/01/18/c8841e5e-9085-45e1-b36a-6879cfb32a4b.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(39).jpg', 75668, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (14, 1, 2, '/uploads/image/2026/01/18/81162ce1-8300-4339-a46c-43120d1bf8a7.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(33).jpg', 188512, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (15, 1, 2, '/uploads/image/2026/01/18/bea0b207-a33d-49c8-9f31-d457a99603e3.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(52).jpg', 509592, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (16, 1, 2, '/uploads/image/2026/01/18/0a5a8bd6-ecc1-46ce-a53d-06c592209c5e.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(44).jpg', 376493, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (17, 1, 2, '/uploads/image/2026/01/18/a7b2d7fc-d797-4150-ac72-fe224d82753f.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(46).jpg', 698871, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (18, 1, 2, '/uploads/image/2026/01/18/148cc24f-222a-44a4-abff-c2c5a6968499.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(51).jpg', 369067, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (19, 1, 2, '/uploads/image/2026/01/18/15d8daad-1030-4cac-a092-98189b280a85.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(53).jpg', 726189, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (20, 1, 2, '/uploads/image/2026/01/18/af90c31c-d7b5-423f-a055-f94b8c3650a5.jpg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(2).jpg', 252480, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (21, 1, 2, '/uploads/image/2026/01/18/344e8e54-24c7-41e3-abf0-db7e821e55ca.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(41).jpg', 556368, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (22, 1, 2, '/uploads/image/2026/01/18/0d906b6b-9f6a-4577-b454-92f33cdfab5f.jpg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(4).jpg', 205342, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (23, 1, 2, '/uploads/image/2026/01/18/a0d0410f-cb27-41c3-b2fc-39730d0e4867.jpeg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(3).jpeg', 454041, 'jpeg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (24, 1, 2, '/uploads/image/2026/01/18/543e664d-9d3f-461a-8fbf-32fa9c3bd555.jpeg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(5).jpeg', 294267, 'jpeg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (25, 1, 2, '/uploads/image/2026/01/18/72bd5e8a-0cda-4340-b53a-c8023ee3c6d5.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(49).jpg', 368258, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (26, 1, 2, '/uploads/image/2026/01/18/ca19fcb9-bcb7-49c1-9ed3-fc794d022d16.jpg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(10).jpg', 372471, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (27, 1, 2, '/uploads/image/2026/01/18/7b37a0d2-7df4-4991-87fa-2034dacd7e8a.jpg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(9).jpg', 487525, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (28, 1, 2, '/uploads/image/2026/01/18/3c61b39c-9437-42da-b8fd-79777153a082.jpg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(12).jpg', 236768, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (29, 1, 2, '/uploads/image/2026/01/18/2fed8571-5df2-4340-a751-43061ff00711.jpg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(13).jpg', 393487, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (30, 1, 2, '/uploads/image/2026/01/18/5e8f9f1b-d771-4c06-86b5-bbe07849b13d.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(13).jpg', 290503, 'jpg', 1, '2026-01-18 09:55:13', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (31, 1, 2, '/uploads/image/2026/01/18/aabdeeec-0741-4ded-9b10-e8ac6a8202f4.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(6).jpg', 195516, 'jpg', 1, '2026-01-18 09:55:13', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (32, 1, 2, '/uploads/image/2026/01/18/c1ed7a79-d2a1-42d2-9181-1e5313e2f4f6.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(16).jpg', 332003, 'jpg', 1, '2026-01-18 09:55:13', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (33, 1, 2, '/uploads/image/2026/01/18/cf57008f-09cd-4422-bcd1-921b38f37a76.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(9).jpg', 200932, 'jpg', 1, '2026-01-18 09:55:13', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (34, 1, 2, '/uploads/image/2026/01/18/eedd79a4-cad0-4e8b-815e-0a3ab8b2e464.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(1).jpg', 277037, 'jpg', 1, '2026-01-18 09:55:13', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (36, 2, NULL, '/uploads/test/image/2026/01/18/2012706963577769984.jpg', NULL, '65e82b2bd6b05.jpg', 361742, 'jpg', 0, '2026-01-18 10:01:49', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (37, 2, NULL, '/uploads/test/image/2026/01/18/2012707511022522368.jpg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(13).jpg', 393487, 'jpg', 0, '2026-01-18 10:04:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (38, 2, NULL, '/uploads/test/image/2026/01/18/2012707647471620096.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(24).jpg', 491019, 'jpg', 0, '2026-01-18 10:04:32', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (39, 2, NULL, '/uploads/image/2026/01/18/2012712511509499904.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(12).jpg', 181838, 'jpg', 0, '2026-01-18 10:23:52', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (40, 2, NULL, '/uploads/test/image/2026/01/18/2012715495639355392.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(39).jpg', 75668, 'jpg', 0, '2026-01-18 10:35:43', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (41, 2, NULL, '/uploads/test/image/2026/01/18/2012716586653323264.jpg', NULL, '6620cabddf7af.jpg', 145717, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (42, 2, NULL, '/uploads/test/image/2026/01/18/2012716586653323265.jpg', NULL, '6620cabe6c130.jpg', 114012, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (43, 2, NULL, '/uploads/test/image/2026/01/18/2012716586653323266.jpg', NULL, '6620cabe22b38.jpg', 175167, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (44, 2, NULL, '/uploads/test/image/2026/01/18/2012716586649128960.jpg', NULL, '6620cabde7be7.jpg', 151019, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (45, 2, NULL, '/uploads/test/image/2026/01/18/2012716586653323267.jpg', NULL, '6620cabe8d509.jpg', 113111, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (46, 2, NULL, '/uploads/test/image/2026/01/18/2012716586682683392.jpg', NULL, '6620cabde9282.jpg', 180773, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (47, 2, NULL, '/uploads/test/image/2026/01/18/2012716586741403649.jpg', NULL, '6620cabea4c2c.jpg', 130072, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (48, 2, NULL, '/uploads/test/image/2026/01/18/2012716586741403648.jpg', NULL, '6620cabea1877.jpg', 88966, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (49, 2, NULL, '/uploads/test/image/2026/01/18/2012716586753986560.jpg', NULL, '6620cabe39f76.jpg', 189646, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (50, 1, 2, '/uploads/image/2026/01/20/2013456494460276736.jpg', NULL, 'Cefx5Nm9J30D5e9f066dc2b87aea8f75314029570ae4.jpg', 1112378, 'jpg', 1, '2026-01-20 11:40:11', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (51, 1, 2, '/uploads/image/2026/01/20/2013459151639941120.jpg', NULL, 'pXyryQp3sMMv168d37e323827cd63a632e66f9b19ffd.jpg', 44284, 'jpg', 0, '2026-01-20 11:50:45', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (52, 1, 2, '/uploads/image/2026/01/20/2013459167653793792.jpg', NULL, 'Tm958bJHLFrWd7f1f97c0600308b63908cac9a22928b.jpg', 30299, 'jpg', 0, '2026-01-20 11:50:48', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (53, 1, 2, '/uploads/image/2026/01/21/2013902464390139904.jpg', NULL, '微信图片_20260121171146_93_3.jpg', 9439029, 'jpg', 0, '2026-01-21 17:12:19', '2026-01-21 17:12:18', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (54, 1, NULL, '/uploads/image/2026/01/21/2013902922294890496.jpg', NULL, 'DSC01158.JPG', 13860864, 'jpg', 0, '2026-01-21 17:14:08', '2026-01-21 17:14:07', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '40', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:22');
-INSERT INTO `biz_image` VALUES (55, 1, NULL, '/uploads/image/2026/01/21/2013905849638064129.jpg', NULL, 'DSC01163.JPG', 13860864, 'jpg', 0, '2026-01-21 17:25:46', '2026-01-21 17:25:46', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '37', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:30:35');
-INSERT INTO `biz_image` VALUES (56, 1, NULL, '/uploads/image/2026/01/21/2013905849638064130.jpg', NULL, 'DSC01158.JPG', 13860864, 'jpg', 0, '2026-01-21 17:25:46', '2026-01-21 17:25:46', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '40', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:22');
-INSERT INTO `biz_image` VALUES (57, 1, NULL, '/uploads/image/2026/01/21/2013905849638064133.jpg', NULL, 'DSC01161.JPG', 13893632, 'jpg', 0, '2026-01-21 17:25:46', '2026-01-21 17:25:46', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '39', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:55');
-INSERT INTO `biz_image` VALUES (58, 1, NULL, '/uploads/image/2026/01/21/2013905849638064128.jpg', NULL, 'DSC01160.JPG', 14024704, 'jpg', 0, '2026-01-21 17:25:46', '2026-01-21 17:25:46', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '39', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:52');
-INSERT INTO `biz_image` VALUES (59, 1, NULL, '/uploads/image/2026/01/21/2013905849638064131.jpg', NULL, 'DSC01162.JPG', 13959168, 'jpg', 0, '2026-01-21 17:25:46', '2026-01-21 17:25:46', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '39', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:57');
-INSERT INTO `biz_image` VALUES (60, 1, NULL, '/uploads/image/2026/01/21/2013905849638064132.jpg', NULL, 'DSC01159.JPG', 13828096, 'jpg', 0, '2026-01-21 17:25:46', '2026-01-21 17:25:46', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '40', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:25');
-INSERT INTO `biz_image` VALUES (61, 1, NULL, '/uploads/image/2026/01/21/2013906092530208768.jpg', NULL, 'DSC01159.JPG', 13828096, 'jpg', 0, '2026-01-21 17:26:44', '2026-01-21 17:26:44', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '40', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:25');
-INSERT INTO `biz_image` VALUES (62, 1, NULL, '/uploads/image/2026/01/21/2013906092526014464.jpg', NULL, 'DSC01163.JPG', 13860864, 'jpg', 0, '2026-01-21 17:26:44', '2026-01-21 17:26:44', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '37', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:30:35');
-INSERT INTO `biz_image` VALUES (63, 1, NULL, '/uploads/image/2026/01/21/2013906092530208770.jpg', NULL, 'DSC01161.JPG', 13893632, 'jpg', 0, '2026-01-21 17:26:44', '2026-01-21 17:26:44', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '39', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:55');
-INSERT INTO `biz_image` VALUES (64, 1, NULL, '/uploads/image/2026/01/21/2013906092530208769.jpg', NULL, 'DSC01158.JPG', 13860864, 'jpg', 0, '2026-01-21 17:26:44', '2026-01-21 17:26:44', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '40', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:22');
-INSERT INTO `biz_image` VALUES (65, 1, NULL, '/uploads/image/2026/01/21/2013906092530208771.jpg', NULL, 'DSC01160.JPG', 14024704, 'jpg', 0, '2026-01-21 17:26:44', '2026-01-21 17:26:44', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '39', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:52');
-INSERT INTO `biz_image` VALUES (66, 1, NULL, '/uploads/image/2026/01/21/2013906092614094848.jpg', NULL, 'DSC01162.JPG', 13959168, 'jpg', 0, '2026-01-21 17:26:44', '2026-01-21 17:26:44', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '39', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:57');
-INSERT INTO `biz_image` VALUES (67, 1, NULL, '/uploads/image/2026/01/21/2013906093243240448.jpg', NULL, 'DSC01165.JPG', 13565952, 'jpg', 0, '2026-01-21 17:26:44', '2026-01-21 17:26:44', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '37', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:30:40');
-INSERT INTO `biz_image` VALUES (68, 1, NULL, '/uploads/image/2026/01/21/2013906093276794880.jpg', NULL, 'DSC01164.JPG', 13926400, 'jpg', 0, '2026-01-21 17:26:44', '2026-01-21 17:26:44', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '37', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:30:37');
-INSERT INTO `biz_image` VALUES (69, 1, NULL, '/uploads/image/2026/01/21/2013908774829559809.jpg', '/uploads/image/2026/01/21/2013908774829559809_thumb.jpg', 'DSC01158.JPG', 13860864, 'jpg', 0, '2026-01-21 17:37:23', '2026-01-21 17:37:26', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '40', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:22');
-INSERT INTO `biz_image` VALUES (70, 1, NULL, '/uploads/image/2026/01/21/2013908774829559812.jpg', '/uploads/image/2026/01/21/2013908774829559812_thumb.jpg', 'DSC01160.JPG', 14024704, 'jpg', 0, '2026-01-21 17:37:23', '2026-01-21 17:37:26', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '39', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:52');
-INSERT INTO `biz_image` VALUES (71, 1, NULL, '/uploads/image/2026/01/21/2013908774829559811.jpg', '/uploads/image/2026/01/21/2013908774829559811_thumb.jpg', 'DSC01162.JPG', 13959168, 'jpg', 0, '2026-01-21 17:37:23', '2026-01-21 17:37:26', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '39', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:57');
-INSERT INTO `biz_image` VALUES (72, 1, NULL, '/uploads/image/2026/01/21/2013908774829559810.jpg', '/uploads/image/2026/01/21/2013908774829559810_thumb.jpg', 'DSC01163.JPG', 13860864, 'jpg', 0, '2026-01-21 17:37:23', '2026-01-21 17:37:26', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '37', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:30:35');
-INSERT INTO `biz_image` VALUES (74, 1, NULL, '/uploads/image/2026/01/21/2013908774829559808.jpg', '/uploads/image/2026/01/21/2013908774829559808_thumb.jpg', 'DSC01159.JPG', 13828096, 'jpg', 0, '2026-01-21 17:37:23', '2026-01-21 17:37:26', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '40', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:25');
-INSERT INTO `biz_image` VALUES (75, 1, NULL, '/uploads/image/2026/01/21/2013908775743918080.jpg', '/uploads/image/2026/01/21/2013908775743918080_thumb.jpg', 'DSC01165.JPG', 13565952, 'jpg', 0, '2026-01-21 17:37:23', '2026-01-21 17:37:26', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '37', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:30:40');
-INSERT INTO `biz_image` VALUES (76, 1, NULL, '/uploads/image/2026/01/21/2013908775743918081.jpg', '/uploads/image/2026/01/21/2013908775743918081_thumb.jpg', 'DSC01164.JPG', 13926400, 'jpg', 0, '2026-01-21 17:37:23', '2026-01-21 17:37:26', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '37', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:30:37');
-INSERT INTO `biz_image` VALUES (77, 1, NULL, '/uploads/image/2026/01/22/2014144679217598464.jpg', '/uploads/image/2026/01/22/2014144679217598464_thumb.jpg', '65e82b2e195f3.jpg', 328773, 'jpg', 0, '2026-01-22 09:14:47', '2026-01-22 09:14:48', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (78, 1, NULL, '/uploads/image/2026/01/22/2014144994310492160.jpg', '/uploads/image/2026/01/22/2014144994310492160_thumb.jpg', '6620cabccb5cb.jpg', 160161, 'jpg', 0, '2026-01-22 09:16:02', '2026-01-22 09:16:03', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (79, 1, NULL, '/uploads/image/2026/01/22/2014145069665357824.jpg', '/uploads/image/2026/01/22/2014145069665357824_thumb.jpg', '6620d17173494.jpg', 170775, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (80, 1, NULL, '/uploads/image/2026/01/22/2014145069665357825.jpg', '/uploads/image/2026/01/22/2014145069665357825_thumb.jpg', '6620d17053330.jpg', 192019, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (81, 1, NULL, '/uploads/image/2026/01/22/2014145069711495168.jpg', '/uploads/image/2026/01/22/2014145069711495168_thumb.jpg', '6620d16338679.jpg', 67532, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (82, 1, NULL, '/uploads/image/2026/01/22/2014145069711495170.jpg', '/uploads/image/2026/01/22/2014145069711495170_thumb.jpg', '6620d16494668.jpg', 115705, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (83, 1, NULL, '/uploads/image/2026/01/22/2014145069711495169.jpg', '/uploads/image/2026/01/22/2014145069711495169_thumb.jpg', '6620d16327160.jpg', 122420, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (84, 1, NULL, '/uploads/image/2026/01/22/2014145069711495171.jpg', '/uploads/image/2026/01/22/2014145069711495171_thumb.jpg', '6620d17765477.jpg', 124965, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (85, 1, NULL, '/uploads/image/2026/01/22/2014145069833129985.jpg', '/uploads/image/2026/01/22/2014145069833129985_thumb.jpg', '6620d17304556.jpg', 166625, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (86, 1, NULL, '/uploads/image/2026/01/22/2014145069833129984.jpg', '/uploads/image/2026/01/22/2014145069833129984_thumb.jpg', '6620d17762625.jpg', 127882, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (87, 1, NULL, '/uploads/image/2026/01/22/2014145070139314177.jpg', '/uploads/image/2026/01/22/2014145070139314177_thumb.jpg', '6620d17520237.jpg', 76160, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (88, 1, NULL, '/uploads/image/2026/01/22/2014145070139314176.jpg', '/uploads/image/2026/01/22/2014145070139314176_thumb.jpg', '6620d17406138.jpg', 228374, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (89, 1, NULL, '/uploads/image/2026/01/22/2014145070177062912.jpg', '/uploads/image/2026/01/22/2014145070177062912_thumb.jpg', '6620d25885831.jpg', 180737, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (90, 1, NULL, '/uploads/image/2026/01/22/2014145070244171776.jpg', '/uploads/image/2026/01/22/2014145070244171776_thumb.jpg', '6620d25949276.jpg', 184542, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (91, 1, NULL, '/uploads/image/2026/01/22/2014145070328057856.jpg', '/uploads/image/2026/01/22/2014145070328057856_thumb.jpg', '6620d25981523.jpg', 140142, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (92, 1, NULL, '/uploads/image/2026/01/22/2014145070328057857.jpg', '/uploads/image/2026/01/22/2014145070328057857_thumb.jpg', '6620d26151917.jpg', 301806, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (93, 1, NULL, '/uploads/image/2026/01/22/2014145070659407872.jpg', '/uploads/image/2026/01/22/2014145070659407872_thumb.jpg', '6620d26328129.jpg', 121410, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (94, 1, NULL, '/uploads/image/2026/01/22/2014145070697156608.jpg', '/uploads/image/2026/01/22/2014145070697156608_thumb.jpg', '6620d26460112.jpg', 199198, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (95, 1, NULL, '/uploads/image/2026/01/22/2014145070676185088.jpg', '/uploads/image/2026/01/22/2014145070676185088_thumb.jpg', '6620d26162253.jpg', 256920, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (96, 1, NULL, '/uploads/image/2026/01/22/2014145070810402816.jpg', '/uploads/image/2026/01/22/2014145070810402816_thumb.jpg', '6620d26684632.jpg', 246718, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (97, 1, NULL, '/uploads/image/2026/01/22/2014145070890094592.jpg', '/uploads/image/2026/01/22/2014145070890094592_thumb.jpg', '6620d26573114.jpg', 294414, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (98, 1, 1, '/uploads/image/2026/01/22/2014145070978174976.jpg', '/uploads/image/2026/01/22/2014145070978174976_thumb.jpg', '6620d27099100.jpg', 381506, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (99, 1, 1, '/uploads/image/2026/01/22/2014145071053672448.jpg', '/uploads/image/2026/01/22/2014145071053672448_thumb.jpg', '6620d27132384.jpg', 151987, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (100, 1, NULL, '/uploads/image/2026/01/22/2014145071120781313.jpg', '/uploads/image/2026/01/22/2014145071120781313_thumb.jpg', '6620d27302791.jpg', 202531, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (101, 1, 1, '/uploads/image/2026/01/22/2014145071120781312.jpg', '/uploads/image/2026/01/22/2014145071120781312_thumb.jpg', '6620d27400823.jpg', 178511, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (102, 1, 1, '/uploads/image/2026/01/22/2014145071250804736.jpg', '/uploads/image/2026/01/22/2014145071250804736_thumb.jpg', '6620d27649851.jpg', 273880, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (103, 1, NULL, '/uploads/image/2026/01/22/2014145071355662336.jpg', '/uploads/image/2026/01/22/2014145071355662336_thumb.jpg', '6620d27887218.jpg', 131459, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (104, 1, NULL, '/uploads/image/2026/01/22/2014145071607320576.jpg', '/uploads/image/2026/01/22/2014145071607320576_thumb.jpg', '6620d27775002.jpg', 352969, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (105, 1, NULL, '/uploads/image/2026/01/22/2014145071611514880.jpg', '/uploads/image/2026/01/22/2014145071611514880_thumb.jpg', '6620d28025322.jpg', 276833, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (106, 1, NULL, '/uploads/image/2026/01/22/2014145071875756032.jpg', '/uploads/image/2026/01/22/2014145071875756032_thumb.jpg', '6620d28005222.jpg', 126911, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (107, 1, NULL, '/uploads/image/2026/01/22/2014145071976419328.jpg', '/uploads/image/2026/01/22/2014145071976419328_thumb.jpg', '6620d28024664.jpg', 303008, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (108, 1, NULL, '/uploads/image/2026/01/22/2014145072022556672.jpg', '/uploads/image/2026/01/22/2014145072022556672_thumb.jpg', '6620d28009799.jpg', 323312, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (109, 1, NULL, '/uploads/image/2026/01/22/2014145072211300352.jpg', '/uploads/image/2026/01/22/2014145072211300352_thumb.jpg', '6620d28034996.jpg', 209471, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (110, 1, NULL, '/uploads/image/2026/01/22/2014145072534261760.jpg', '/uploads/image/2026/01/22/2014145072534261760_thumb.jpg', '6620d28306790.jpg', 265404, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (111, 1, NULL, '/uploads/image/2026/01/22/2014145072509095936.jpg', '/uploads/image/2026/01/22/2014145072509095936_thumb.jpg', '6620d28327501.jpg', 262272, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (112, 1, NULL, '/uploads/image/2026/01/22/2014145072555233280.jpg', '/uploads/image/2026/01/22/2014145072555233280_thumb.jpg', '6620d28258059.jpg', 146781, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (113, 1, NULL, '/uploads/image/2026/01/22/2014145072660090880.jpg', '/uploads/image/2026/01/22/2014145072660090880_thumb.jpg', '6620d28393092.jpg', 365233, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:23', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (114, 1, NULL, '/uploads/image/2026/01/22/2014145072689451009.jpg', '/uploads/image/2026/01/22/2014145072689451009_thumb.jpg', '6620d28787169.jpg', 161845, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (115, 1, 1, '/uploads/image/2026/01/22/2014145072689451008.jpg', '/uploads/image/2026/01/22/2014145072689451008_thumb.jpg', '6620d28531753.jpg', 260842, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (116, 1, NULL, '/uploads/image/2026/01/22/2014159558381015040.jpg', '/uploads/image/2026/01/22/2014159558381015040_thumb.jpg', '65e82252aa74c.jpg', 156671, 'jpg', 0, '2026-01-22 10:13:55', '2026-01-22 10:13:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (144, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165038553763844.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165038553763844_thumb.jpg', '6620cac0cda60.jpg', 243922, 'jpg', 0, '2026-01-22 10:35:41', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (145, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165038553763841.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165038553763841_thumb.jpg', '6620cac10c0aa.jpg', 169327, 'jpg', 0, '2026-01-22 10:35:41', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (146, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165038553763842.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165038553763842_thumb.jpg', '6620cac05e417.jpg', 357215, 'jpg', 0, '2026-01-22 10:35:41', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (147, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165038553763843.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165038553763843_thumb.jpg', '6620cac0ce9a1.jpg', 318580, 'jpg', 0, '2026-01-22 10:35:41', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (148, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165038553763840.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165038553763840_thumb.jpg', '6620cabfd471d.jpg', 206786, 'jpg', 0, '2026-01-22 10:35:41', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (149, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165038574735360.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165038574735360_thumb.jpg', '6620cac044baf.jpg', 420031, 'jpg', 0, '2026-01-22 10:35:41', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (150, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165039245824000.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165039245824000_thumb.jpg', '6620cac05349a.jpg', 126617, 'jpg', 0, '2026-01-22 10:35:41', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (151, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165039015137281.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165039015137281_thumb.jpg', '6620cac1525bd.jpg', 250098, 'jpg', 0, '2026-01-22 10:35:41', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (152, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165039023525888.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165039023525888_thumb.jpg', '6620cac055ca5.jpg', 133074, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (153, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165039015137280.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165039015137280_thumb.jpg', '6620cac134c88.jpg', 210974, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (154, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165039338098688.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165039338098688_thumb.jpg', '6620cac059808.jpg', 293548, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (155, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165039329710080.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165039329710080_thumb.jpg', '6620cac050ddd.jpg', 128544, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (156, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165039992410112.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165039992410112_thumb.jpg', '6620cae5b9e2a.jpg', 117525, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (157, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165040109850624.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165040109850624_thumb.jpg', '6620cae67a011.jpg', 248454, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (158, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165040004993024.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165040004993024_thumb.jpg', '6620cae8c8a79.jpg', 221220, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (159, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165040147599360.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165040147599360_thumb.jpg', '6620cae287b97.jpg', 265685, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (160, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165040067907584.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165040067907584_thumb.jpg', '6620cae6cd87b.jpg', 223435, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (161, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165040248262656.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165040248262656_thumb.jpg', '6620cae91a126.jpg', 185997, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (162, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165041049374720.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165041049374720_thumb.jpg', '6620cae5400d4.jpg', 126412, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (163, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165040973877248.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165040973877248_thumb.jpg', '6620cae447ff4.jpg', 196175, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (164, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165040915156992.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165040915156992_thumb.jpg', '6620cae62148c.jpg', 451916, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (165, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165041137455104.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165041137455104_thumb.jpg', '6620cae968de9.jpg', 198128, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (166, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165041544302592.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165041544302592_thumb.jpg', '6620caecdee72.jpg', 177561, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (167, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165041150038016.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165041150038016_thumb.jpg', '6620caed1bf27.jpg', 321814, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (168, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165041842098176.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165041842098176_thumb.jpg', '6620caed2d045.jpg', 309392, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (169, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165042144088064.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165042144088064_thumb.jpg', '6620caed2dec4.jpg', 190099, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (170, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165042282500096.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165042282500096_thumb.jpg', '6620caed5d7ae.jpg', 171929, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (171, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165042529964032.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165042529964032_thumb.jpg', '6620caed2455a.jpg', 227761, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (172, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165042781622272.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165042781622272_thumb.jpg', '6620caed9bf62.jpg', 206060, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (173, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165042987143168.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165042987143168_thumb.jpg', '6620caedcdd5f.jpg', 200912, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (174, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165042945200128.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165042945200128_thumb.jpg', '6620caed30188.jpg', 311499, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (175, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165043033280512.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165043033280512_thumb.jpg', '6620caee01ed3.jpg', 162084, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (176, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165043410767872.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165043410767872_thumb.jpg', '6620caee3eec8.jpg', 212071, 'jpg', 0, '2026-01-22 10:35:43', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (177, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165043565957120.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165043565957120_thumb.jpg', '6620caee5dd11.jpg', 172107, 'jpg', 0, '2026-01-22 10:35:43', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (178, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165043683397632.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165043683397632_thumb.jpg', '6620caee7a658.jpg', 256880, 'jpg', 0, '2026-01-22 10:35:43', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (179, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165044006359040.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165044006359040_thumb.jpg', '6620caee368e6.jpg', 138133, 'jpg', 0, '2026-01-22 10:35:43', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (180, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165970930765824.jpeg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165970930765824_thumb.jpeg', '65e822336a7ee.jpeg', 76825, 'jpeg', 0, '2026-01-22 10:39:24', '2026-01-22 10:39:24', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (181, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165970934960128.jpeg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165970934960128_thumb.jpeg', '65e822335ecb1.jpeg', 290643, 'jpeg', 0, '2026-01-22 10:39:24', '2026-01-22 10:39:24', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (182, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165970934960130.jpeg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165970934960130_thumb.jpeg', '65e822336f800.jpeg', 241219, 'jpeg', 0, '2026-01-22 10:39:24', '2026-01-22 10:39:24', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (183, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165970934960129.jpeg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165970934960129_thumb.jpeg', '65e822338c94b.jpeg', 220428, 'jpeg', 0, '2026-01-22 10:39:24', '2026-01-22 10:39:24', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (184, 1, NULL, '/uploads/image/2026/01/22/2014166343246548992.jpg', '/uploads/image/2026/01/22/2014166343246548992_thumb.jpg', '65e8223606333.jpg', 303504, 'jpg', 0, '2026-01-22 10:40:52', '2026-01-22 10:40:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (185, 1, NULL, '/uploads/image/2026/01/22/2014166343246548995.jpg', '/uploads/image/2026/01/22/2014166343246548995_thumb.jpg', '65e8225218803.jpg', 95972, 'jpg', 0, '2026-01-22 10:40:52', '2026-01-22 10:40:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (186, 1, NULL, '/uploads/image/2026/01/22/2014166343246548994.jpg', '/uploads/image/2026/01/22/2014166343246548994_thumb.jpg', '65e8223696544.jpg', 164600, 'jpg', 0, '2026-01-22 10:40:52', '2026-01-22 10:40:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (187, 1, NULL, '/uploads/image/2026/01/22/2014166343246548993.jpg', '/uploads/image/2026/01/22/2014166343246548993_thumb.jpg', '65e8225196335.jpg', 102918, 'jpg', 0, '2026-01-22 10:40:52', '2026-01-22 10:40:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (188, 1, NULL, '/uploads/image/2026/01/22/2014166343250743296.jpg', '/uploads/image/2026/01/22/2014166343250743296_thumb.jpg', '65e8223608812.jpg', 287072, 'jpg', 0, '2026-01-22 10:40:52', '2026-01-22 10:40:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (198, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014167577772822530.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014167577772822530_thumb.jpg', '6620d13b90408.jpg', 112422, 'jpg', 0, '2026-01-22 10:45:47', '2026-01-22 10:45:47', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (199, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014167577777016832.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014167577777016832_thumb.jpg', '6620d13c1fe8d.jpg', 113279, 'jpg', 0, '2026-01-22 10:45:47', '2026-01-22 10:45:47', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (201, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014167577772822531.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014167577772822531_thumb.jpg', '6620d13baec1a.jpg', 82788, 'jpg', 0, '2026-01-22 10:45:47', '2026-01-22 10:57:33', 1, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (202, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014167577772822528.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014167577772822528_thumb.jpg', '6620d13c2177e.jpg', 148154, 'jpg', 1, '2026-01-22 10:45:47', '2026-01-22 10:58:32', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (203, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014167577781211136.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014167577781211136_thumb.jpg', '6620d13c6caf0.jpg', 143933, 'jpg', 0, '2026-01-22 10:45:47', '2026-01-22 10:45:47', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (204, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014167578146115584.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014167578146115584_thumb.jpg', '6620d13c26567.jpg', 127780, 'jpg', 0, '2026-01-22 10:45:47', '2026-01-22 10:45:47', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (205, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014167578171281408.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014167578171281408_thumb.jpg', '6620d13c16531.jpg', 116041, 'jpg', 0, '2026-01-22 10:45:47', '2026-01-22 10:45:47', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
-INSERT INTO `biz_image` VALUES (206, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014167578112561152.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014167578112561152_thumb.jpg', '6620d13c48902.jpg', 290988, 'jpg', 0, '2026-01-22 10:45:47', '2026-01-22 10:45:47', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (1, 1, 2, '/uploads/image/2026/01/18/1eba5ae7-9be9-4ae3-8018-57a7fb4bb977.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(20).jpg', 172844, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (2, 1, 2, '/uploads/image/2026/01/18/66469211-611a-42dc-8603-34060165b621.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(12).jpg', 181838, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (3, 1, 2, '/uploads/image/2026/01/18/6fe828f5-1ed7-4ffa-830d-fa00039306fd.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(25).jpg', 239514, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (4, 1, 2, '/uploads/image/2026/01/18/0ab71402-1f68-4074-b6f6-77ebbd89888e.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(26).jpg', 100208, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (5, 1, 2, '/uploads/image/2026/01/18/375478eb-5994-4241-95e9-f9f37efc739d.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(24).jpg', 491019, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (6, 1, 2, '/uploads/image/2026/01/18/519af61e-35bd-425a-a1d9-3172925da4ed.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(23).jpg', 346649, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (7, 1, 2, '/uploads/image/2026/01/18/b0cf09a6-c583-4dc4-b5ba-ec40d258f50f.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(29).jpg', 153534, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (8, 1, 2, '/uploads/image/2026/01/18/5986403f-2d64-4c40-9852-f48777b21c0e.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(28).jpg', 591604, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (9, 1, 2, '/uploads/image/2026/01/18/1e144c63-b3c7-4abf-8a9f-602c7918ceac.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(17).jpg', 334758, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (10, 1, 2, '/uploads/image/2026/01/18/624134ed-60db-4621-b1ac-f01bded4a23c.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(31).jpg', 402427, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (11, 1, 2, '/uploads/image/2026/01/18/48d6abbe-16a9-4b2d-a52f-4941d941d583.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(27).jpg', 540272, 'jpg', 1, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (12, 1, 2, '/uploads/image/2026/01/18/b9bb3e47-d392-4816-84ef-326f5ed1fe1d.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(40).jpg', 1251899, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (13, 1, 2, '/uploads/image/2026/01/18/c8841e5e-9085-45e1-b36a-6879cfb32a4b.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(39).jpg', 75668, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (14, 1, 2, '/uploads/image/2026/01/18/81162ce1-8300-4339-a46c-43120d1bf8a7.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(33).jpg', 188512, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (15, 1, 2, '/uploads/image/2026/01/18/bea0b207-a33d-49c8-9f31-d457a99603e3.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(52).jpg', 509592, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (16, 1, 2, '/uploads/image/2026/01/18/0a5a8bd6-ecc1-46ce-a53d-06c592209c5e.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(44).jpg', 376493, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (17, 1, 2, '/uploads/image/2026/01/18/a7b2d7fc-d797-4150-ac72-fe224d82753f.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(46).jpg', 698871, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (18, 1, 2, '/uploads/image/2026/01/18/148cc24f-222a-44a4-abff-c2c5a6968499.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(51).jpg', 369067, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (19, 1, 2, '/uploads/image/2026/01/18/15d8daad-1030-4cac-a092-98189b280a85.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(53).jpg', 726189, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (20, 1, 2, '/uploads/image/2026/01/18/af90c31c-d7b5-423f-a055-f94b8c3650a5.jpg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(2).jpg', 252480, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (21, 1, 2, '/uploads/image/2026/01/18/344e8e54-24c7-41e3-abf0-db7e821e55ca.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(41).jpg', 556368, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (22, 1, 2, '/uploads/image/2026/01/18/0d906b6b-9f6a-4577-b454-92f33cdfab5f.jpg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(4).jpg', 205342, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (23, 1, 2, '/uploads/image/2026/01/18/a0d0410f-cb27-41c3-b2fc-39730d0e4867.jpeg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(3).jpeg', 454041, 'jpeg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (24, 1, 2, '/uploads/image/2026/01/18/543e664d-9d3f-461a-8fbf-32fa9c3bd555.jpeg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(5).jpeg', 294267, 'jpeg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (25, 1, 2, '/uploads/image/2026/01/18/72bd5e8a-0cda-4340-b53a-c8023ee3c6d5.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(49).jpg', 368258, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (26, 1, 2, '/uploads/image/2026/01/18/ca19fcb9-bcb7-49c1-9ed3-fc794d022d16.jpg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(10).jpg', 372471, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (27, 1, 2, '/uploads/image/2026/01/18/7b37a0d2-7df4-4991-87fa-2034dacd7e8a.jpg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(9).jpg', 487525, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (28, 1, 2, '/uploads/image/2026/01/18/3c61b39c-9437-42da-b8fd-79777153a082.jpg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(12).jpg', 236768, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (29, 1, 2, '/uploads/image/2026/01/18/2fed8571-5df2-4340-a751-43061ff00711.jpg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(13).jpg', 393487, 'jpg', 0, '2026-01-18 09:55:10', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (30, 1, 2, '/uploads/image/2026/01/18/5e8f9f1b-d771-4c06-86b5-bbe07849b13d.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(13).jpg', 290503, 'jpg', 1, '2026-01-18 09:55:13', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (31, 1, 2, '/uploads/image/2026/01/18/aabdeeec-0741-4ded-9b10-e8ac6a8202f4.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(6).jpg', 195516, 'jpg', 1, '2026-01-18 09:55:13', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (32, 1, 2, '/uploads/image/2026/01/18/c1ed7a79-d2a1-42d2-9181-1e5313e2f4f6.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(16).jpg', 332003, 'jpg', 1, '2026-01-18 09:55:13', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (33, 1, 2, '/uploads/image/2026/01/18/cf57008f-09cd-4422-bcd1-921b38f37a76.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(9).jpg', 200932, 'jpg', 1, '2026-01-18 09:55:13', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (34, 1, 2, '/uploads/image/2026/01/18/eedd79a4-cad0-4e8b-815e-0a3ab8b2e464.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(1).jpg', 277037, 'jpg', 1, '2026-01-18 09:55:13', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (36, 2, NULL, '/uploads/test/image/2026/01/18/2012706963577769984.jpg', NULL, '65e82b2bd6b05.jpg', 361742, 'jpg', 0, '2026-01-18 10:01:49', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (37, 2, NULL, '/uploads/test/image/2026/01/18/2012707511022522368.jpg', NULL, '“把生活的温柔藏进壁纸里✨”@神图壁纸 口令取图g6689 #该换壁纸了 #全屏高清壁纸 #美女壁纸 #手机壁纸@DOU+小助手(13).jpg', 393487, 'jpg', 0, '2026-01-18 10:04:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (38, 2, NULL, '/uploads/test/image/2026/01/18/2012707647471620096.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(24).jpg', 491019, 'jpg', 0, '2026-01-18 10:04:32', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (39, 2, NULL, '/uploads/image/2026/01/18/2012712511509499904.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(12).jpg', 181838, 'jpg', 0, '2026-01-18 10:23:52', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (40, 2, NULL, '/uploads/test/image/2026/01/18/2012715495639355392.jpg', NULL, '#锁屏壁纸 #该换壁纸了 #全屏高清壁纸(39).jpg', 75668, 'jpg', 0, '2026-01-18 10:35:43', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (41, 2, NULL, '/uploads/test/image/2026/01/18/2012716586653323264.jpg', NULL, '6620cabddf7af.jpg', 145717, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (42, 2, NULL, '/uploads/test/image/2026/01/18/2012716586653323265.jpg', NULL, '6620cabe6c130.jpg', 114012, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (43, 2, NULL, '/uploads/test/image/2026/01/18/2012716586653323266.jpg', NULL, '6620cabe22b38.jpg', 175167, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (44, 2, NULL, '/uploads/test/image/2026/01/18/2012716586649128960.jpg', NULL, '6620cabde7be7.jpg', 151019, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (45, 2, NULL, '/uploads/test/image/2026/01/18/2012716586653323267.jpg', NULL, '6620cabe8d509.jpg', 113111, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (46, 2, NULL, '/uploads/test/image/2026/01/18/2012716586682683392.jpg', NULL, '6620cabde9282.jpg', 180773, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (47, 2, NULL, '/uploads/test/image/2026/01/18/2012716586741403649.jpg', NULL, '6620cabea4c2c.jpg', 130072, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (48, 2, NULL, '/uploads/test/image/2026/01/18/2012716586741403648.jpg', NULL, '6620cabea1877.jpg', 88966, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (49, 2, NULL, '/uploads/test/image/2026/01/18/2012716586753986560.jpg', NULL, '6620cabe39f76.jpg', 189646, 'jpg', 0, '2026-01-18 10:40:03', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (50, 1, 2, '/uploads/image/2026/01/20/2013456494460276736.jpg', NULL, 'Cefx5Nm9J30D5e9f066dc2b87aea8f75314029570ae4.jpg', 1112378, 'jpg', 1, '2026-01-20 11:40:11', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (51, 1, 2, '/uploads/image/2026/01/20/2013459151639941120.jpg', NULL, 'pXyryQp3sMMv168d37e323827cd63a632e66f9b19ffd.jpg', 44284, 'jpg', 0, '2026-01-20 11:50:45', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (52, 1, 2, '/uploads/image/2026/01/20/2013459167653793792.jpg', NULL, 'Tm958bJHLFrWd7f1f97c0600308b63908cac9a22928b.jpg', 30299, 'jpg', 0, '2026-01-20 11:50:48', '2026-01-21 16:38:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (53, 1, 2, '/uploads/image/2026/01/21/2013902464390139904.jpg', NULL, '微信图片_20260121171146_93_3.jpg', 9439029, 'jpg', 0, '2026-01-21 17:12:19', '2026-01-21 17:12:18', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (54, 1, NULL, '/uploads/image/2026/01/21/2013902922294890496.jpg', NULL, 'DSC01158.JPG', 13860864, 'jpg', 0, '2026-01-21 17:14:08', '2026-01-21 17:14:07', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '40', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:22', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (55, 1, NULL, '/uploads/image/2026/01/21/2013905849638064129.jpg', NULL, 'DSC01163.JPG', 13860864, 'jpg', 0, '2026-01-21 17:25:46', '2026-01-21 17:25:46', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '37', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:30:35', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (56, 1, NULL, '/uploads/image/2026/01/21/2013905849638064130.jpg', NULL, 'DSC01158.JPG', 13860864, 'jpg', 0, '2026-01-21 17:25:46', '2026-01-21 17:25:46', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '40', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:22', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (57, 1, NULL, '/uploads/image/2026/01/21/2013905849638064133.jpg', NULL, 'DSC01161.JPG', 13893632, 'jpg', 0, '2026-01-21 17:25:46', '2026-01-21 17:25:46', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '39', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:55', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (58, 1, NULL, '/uploads/image/2026/01/21/2013905849638064128.jpg', NULL, 'DSC01160.JPG', 14024704, 'jpg', 0, '2026-01-21 17:25:46', '2026-01-21 17:25:46', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '39', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:52', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (59, 1, NULL, '/uploads/image/2026/01/21/2013905849638064131.jpg', NULL, 'DSC01162.JPG', 13959168, 'jpg', 0, '2026-01-21 17:25:46', '2026-01-21 17:25:46', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '39', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:57', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (60, 1, NULL, '/uploads/image/2026/01/21/2013905849638064132.jpg', NULL, 'DSC01159.JPG', 13828096, 'jpg', 0, '2026-01-21 17:25:46', '2026-01-21 17:25:46', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '40', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:25', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (61, 1, NULL, '/uploads/image/2026/01/21/2013906092530208768.jpg', NULL, 'DSC01159.JPG', 13828096, 'jpg', 0, '2026-01-21 17:26:44', '2026-01-21 17:26:44', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '40', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:25', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (62, 1, NULL, '/uploads/image/2026/01/21/2013906092526014464.jpg', NULL, 'DSC01163.JPG', 13860864, 'jpg', 0, '2026-01-21 17:26:44', '2026-01-21 17:26:44', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '37', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:30:35', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (63, 1, NULL, '/uploads/image/2026/01/21/2013906092530208770.jpg', NULL, 'DSC01161.JPG', 13893632, 'jpg', 0, '2026-01-21 17:26:44', '2026-01-21 17:26:44', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '39', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:55', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (64, 1, NULL, '/uploads/image/2026/01/21/2013906092530208769.jpg', NULL, 'DSC01158.JPG', 13860864, 'jpg', 0, '2026-01-21 17:26:44', '2026-01-21 17:26:44', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '40', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:22', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (65, 1, NULL, '/uploads/image/2026/01/21/2013906092530208771.jpg', NULL, 'DSC01160.JPG', 14024704, 'jpg', 0, '2026-01-21 17:26:44', '2026-01-21 17:26:44', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '39', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:52', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (66, 1, NULL, '/uploads/image/2026/01/21/2013906092614094848.jpg', NULL, 'DSC01162.JPG', 13959168, 'jpg', 0, '2026-01-21 17:26:44', '2026-01-21 17:26:44', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '39', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:57', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (67, 1, NULL, '/uploads/image/2026/01/21/2013906093243240448.jpg', NULL, 'DSC01165.JPG', 13565952, 'jpg', 0, '2026-01-21 17:26:44', '2026-01-21 17:26:44', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '37', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:30:40', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (68, 1, NULL, '/uploads/image/2026/01/21/2013906093276794880.jpg', NULL, 'DSC01164.JPG', 13926400, 'jpg', 0, '2026-01-21 17:26:44', '2026-01-21 17:26:44', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '37', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:30:37', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (69, 1, NULL, '/uploads/image/2026/01/21/2013908774829559809.jpg', '/uploads/image/2026/01/21/2013908774829559809_thumb.jpg', 'DSC01158.JPG', 13860864, 'jpg', 0, '2026-01-21 17:37:23', '2026-01-21 17:37:26', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '40', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:22', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (70, 1, NULL, '/uploads/image/2026/01/21/2013908774829559812.jpg', '/uploads/image/2026/01/21/2013908774829559812_thumb.jpg', 'DSC01160.JPG', 14024704, 'jpg', 0, '2026-01-21 17:37:23', '2026-01-21 17:37:26', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '39', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:52', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (71, 1, NULL, '/uploads/image/2026/01/21/2013908774829559811.jpg', '/uploads/image/2026/01/21/2013908774829559811_thumb.jpg', 'DSC01162.JPG', 13959168, 'jpg', 0, '2026-01-21 17:37:23', '2026-01-21 17:37:26', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '39', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:57', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (72, 1, NULL, '/uploads/image/2026/01/21/2013908774829559810.jpg', '/uploads/image/2026/01/21/2013908774829559810_thumb.jpg', 'DSC01163.JPG', 13860864, 'jpg', 0, '2026-01-21 17:37:23', '2026-01-21 17:37:26', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '37', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:30:35', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (74, 1, NULL, '/uploads/image/2026/01/21/2013908774829559808.jpg', '/uploads/image/2026/01/21/2013908774829559808_thumb.jpg', 'DSC01159.JPG', 13828096, 'jpg', 0, '2026-01-21 17:37:23', '2026-01-21 17:37:26', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '40', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:29:25', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (75, 1, NULL, '/uploads/image/2026/01/21/2013908775743918080.jpg', '/uploads/image/2026/01/21/2013908775743918080_thumb.jpg', 'DSC01165.JPG', 13565952, 'jpg', 0, '2026-01-21 17:37:23', '2026-01-21 17:37:26', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '37', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:30:40', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (76, 1, NULL, '/uploads/image/2026/01/21/2013908775743918081.jpg', '/uploads/image/2026/01/21/2013908775743918081_thumb.jpg', 'DSC01164.JPG', 13926400, 'jpg', 0, '2026-01-21 17:37:23', '2026-01-21 17:37:26', 0, 'SONY', 'ILCE-7M3', '1/125', '5.6', '5000', '37', 'FE 28-70mm F3.5-5.6 OSS', NULL, NULL, '2025-10-21 13:30:37', NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (77, 1, NULL, '/uploads/image/2026/01/22/2014144679217598464.jpg', '/uploads/image/2026/01/22/2014144679217598464_thumb.jpg', '65e82b2e195f3.jpg', 328773, 'jpg', 0, '2026-01-22 09:14:47', '2026-01-22 09:14:48', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (78, 1, NULL, '/uploads/image/2026/01/22/2014144994310492160.jpg', '/uploads/image/2026/01/22/2014144994310492160_thumb.jpg', '6620cabccb5cb.jpg', 160161, 'jpg', 0, '2026-01-22 09:16:02', '2026-01-22 09:16:03', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (79, 1, NULL, '/uploads/image/2026/01/22/2014145069665357824.jpg', '/uploads/image/2026/01/22/2014145069665357824_thumb.jpg', '6620d17173494.jpg', 170775, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (80, 1, NULL, '/uploads/image/2026/01/22/2014145069665357825.jpg', '/uploads/image/2026/01/22/2014145069665357825_thumb.jpg', '6620d17053330.jpg', 192019, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (81, 1, NULL, '/uploads/image/2026/01/22/2014145069711495168.jpg', '/uploads/image/2026/01/22/2014145069711495168_thumb.jpg', '6620d16338679.jpg', 67532, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (82, 1, NULL, '/uploads/image/2026/01/22/2014145069711495170.jpg', '/uploads/image/2026/01/22/2014145069711495170_thumb.jpg', '6620d16494668.jpg', 115705, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (83, 1, NULL, '/uploads/image/2026/01/22/2014145069711495169.jpg', '/uploads/image/2026/01/22/2014145069711495169_thumb.jpg', '6620d16327160.jpg', 122420, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (84, 1, NULL, '/uploads/image/2026/01/22/2014145069711495171.jpg', '/uploads/image/2026/01/22/2014145069711495171_thumb.jpg', '6620d17765477.jpg', 124965, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (85, 1, NULL, '/uploads/image/2026/01/22/2014145069833129985.jpg', '/uploads/image/2026/01/22/2014145069833129985_thumb.jpg', '6620d17304556.jpg', 166625, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (86, 1, NULL, '/uploads/image/2026/01/22/2014145069833129984.jpg', '/uploads/image/2026/01/22/2014145069833129984_thumb.jpg', '6620d17762625.jpg', 127882, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (87, 1, NULL, '/uploads/image/2026/01/22/2014145070139314177.jpg', '/uploads/image/2026/01/22/2014145070139314177_thumb.jpg', '6620d17520237.jpg', 76160, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (88, 1, NULL, '/uploads/image/2026/01/22/2014145070139314176.jpg', '/uploads/image/2026/01/22/2014145070139314176_thumb.jpg', '6620d17406138.jpg', 228374, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (89, 1, NULL, '/uploads/image/2026/01/22/2014145070177062912.jpg', '/uploads/image/2026/01/22/2014145070177062912_thumb.jpg', '6620d25885831.jpg', 180737, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (90, 1, NULL, '/uploads/image/2026/01/22/2014145070244171776.jpg', '/uploads/image/2026/01/22/2014145070244171776_thumb.jpg', '6620d25949276.jpg', 184542, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (91, 1, NULL, '/uploads/image/2026/01/22/2014145070328057856.jpg', '/uploads/image/2026/01/22/2014145070328057856_thumb.jpg', '6620d25981523.jpg', 140142, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (92, 1, NULL, '/uploads/image/2026/01/22/2014145070328057857.jpg', '/uploads/image/2026/01/22/2014145070328057857_thumb.jpg', '6620d26151917.jpg', 301806, 'jpg', 0, '2026-01-22 09:16:20', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (93, 1, NULL, '/uploads/image/2026/01/22/2014145070659407872.jpg', '/uploads/image/2026/01/22/2014145070659407872_thumb.jpg', '6620d26328129.jpg', 121410, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (94, 1, NULL, '/uploads/image/2026/01/22/2014145070697156608.jpg', '/uploads/image/2026/01/22/2014145070697156608_thumb.jpg', '6620d26460112.jpg', 199198, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (95, 1, NULL, '/uploads/image/2026/01/22/2014145070676185088.jpg', '/uploads/image/2026/01/22/2014145070676185088_thumb.jpg', '6620d26162253.jpg', 256920, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (96, 1, NULL, '/uploads/image/2026/01/22/2014145070810402816.jpg', '/uploads/image/2026/01/22/2014145070810402816_thumb.jpg', '6620d26684632.jpg', 246718, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (97, 1, NULL, '/uploads/image/2026/01/22/2014145070890094592.jpg', '/uploads/image/2026/01/22/2014145070890094592_thumb.jpg', '6620d26573114.jpg', 294414, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (98, 1, 1, '/uploads/image/2026/01/22/2014145070978174976.jpg', '/uploads/image/2026/01/22/2014145070978174976_thumb.jpg', '6620d27099100.jpg', 381506, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (99, 1, 1, '/uploads/image/2026/01/22/2014145071053672448.jpg', '/uploads/image/2026/01/22/2014145071053672448_thumb.jpg', '6620d27132384.jpg', 151987, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (100, 1, NULL, '/uploads/image/2026/01/22/2014145071120781313.jpg', '/uploads/image/2026/01/22/2014145071120781313_thumb.jpg', '6620d27302791.jpg', 202531, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (101, 1, 1, '/uploads/image/2026/01/22/2014145071120781312.jpg', '/uploads/image/2026/01/22/2014145071120781312_thumb.jpg', '6620d27400823.jpg', 178511, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (102, 1, 1, '/uploads/image/2026/01/22/2014145071250804736.jpg', '/uploads/image/2026/01/22/2014145071250804736_thumb.jpg', '6620d27649851.jpg', 273880, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (103, 1, NULL, '/uploads/image/2026/01/22/2014145071355662336.jpg', '/uploads/image/2026/01/22/2014145071355662336_thumb.jpg', '6620d27887218.jpg', 131459, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (104, 1, NULL, '/uploads/image/2026/01/22/2014145071607320576.jpg', '/uploads/image/2026/01/22/2014145071607320576_thumb.jpg', '6620d27775002.jpg', 352969, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (105, 1, NULL, '/uploads/image/2026/01/22/2014145071611514880.jpg', '/uploads/image/2026/01/22/2014145071611514880_thumb.jpg', '6620d28025322.jpg', 276833, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (106, 1, NULL, '/uploads/image/2026/01/22/2014145071875756032.jpg', '/uploads/image/2026/01/22/2014145071875756032_thumb.jpg', '6620d28005222.jpg', 126911, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (107, 1, NULL, '/uploads/image/2026/01/22/2014145071976419328.jpg', '/uploads/image/2026/01/22/2014145071976419328_thumb.jpg', '6620d28024664.jpg', 303008, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (108, 1, NULL, '/uploads/image/2026/01/22/2014145072022556672.jpg', '/uploads/image/2026/01/22/2014145072022556672_thumb.jpg', '6620d28009799.jpg', 323312, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (109, 1, NULL, '/uploads/image/2026/01/22/2014145072211300352.jpg', '/uploads/image/2026/01/22/2014145072211300352_thumb.jpg', '6620d28034996.jpg', 209471, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (110, 1, NULL, '/uploads/image/2026/01/22/2014145072534261760.jpg', '/uploads/image/2026/01/22/2014145072534261760_thumb.jpg', '6620d28306790.jpg', 265404, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (111, 1, NULL, '/uploads/image/2026/01/22/2014145072509095936.jpg', '/uploads/image/2026/01/22/2014145072509095936_thumb.jpg', '6620d28327501.jpg', 262272, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (112, 1, NULL, '/uploads/image/2026/01/22/2014145072555233280.jpg', '/uploads/image/2026/01/22/2014145072555233280_thumb.jpg', '6620d28258059.jpg', 146781, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (113, 1, NULL, '/uploads/image/2026/01/22/2014145072660090880.jpg', '/uploads/image/2026/01/22/2014145072660090880_thumb.jpg', '6620d28393092.jpg', 365233, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:23', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (114, 1, NULL, '/uploads/image/2026/01/22/2014145072689451009.jpg', '/uploads/image/2026/01/22/2014145072689451009_thumb.jpg', '6620d28787169.jpg', 161845, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:22', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (115, 1, 1, '/uploads/image/2026/01/22/2014145072689451008.jpg', '/uploads/image/2026/01/22/2014145072689451008_thumb.jpg', '6620d28531753.jpg', 260842, 'jpg', 0, '2026-01-22 09:16:21', '2026-01-22 09:16:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (116, 1, NULL, '/uploads/image/2026/01/22/2014159558381015040.jpg', '/uploads/image/2026/01/22/2014159558381015040_thumb.jpg', '65e82252aa74c.jpg', 156671, 'jpg', 0, '2026-01-22 10:13:55', '2026-01-22 10:13:55', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (144, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165038553763844.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165038553763844_thumb.jpg', '6620cac0cda60.jpg', 243922, 'jpg', 0, '2026-01-22 10:35:41', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (145, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165038553763841.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165038553763841_thumb.jpg', '6620cac10c0aa.jpg', 169327, 'jpg', 0, '2026-01-22 10:35:41', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (146, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165038553763842.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165038553763842_thumb.jpg', '6620cac05e417.jpg', 357215, 'jpg', 0, '2026-01-22 10:35:41', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (147, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165038553763843.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165038553763843_thumb.jpg', '6620cac0ce9a1.jpg', 318580, 'jpg', 0, '2026-01-22 10:35:41', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (148, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165038553763840.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165038553763840_thumb.jpg', '6620cabfd471d.jpg', 206786, 'jpg', 0, '2026-01-22 10:35:41', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (149, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165038574735360.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165038574735360_thumb.jpg', '6620cac044baf.jpg', 420031, 'jpg', 0, '2026-01-22 10:35:41', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (150, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165039245824000.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165039245824000_thumb.jpg', '6620cac05349a.jpg', 126617, 'jpg', 0, '2026-01-22 10:35:41', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (151, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165039015137281.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165039015137281_thumb.jpg', '6620cac1525bd.jpg', 250098, 'jpg', 0, '2026-01-22 10:35:41', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (152, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165039023525888.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165039023525888_thumb.jpg', '6620cac055ca5.jpg', 133074, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (153, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165039015137280.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165039015137280_thumb.jpg', '6620cac134c88.jpg', 210974, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (154, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165039338098688.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165039338098688_thumb.jpg', '6620cac059808.jpg', 293548, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (155, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165039329710080.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165039329710080_thumb.jpg', '6620cac050ddd.jpg', 128544, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (156, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165039992410112.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165039992410112_thumb.jpg', '6620cae5b9e2a.jpg', 117525, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (157, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165040109850624.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165040109850624_thumb.jpg', '6620cae67a011.jpg', 248454, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (158, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165040004993024.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165040004993024_thumb.jpg', '6620cae8c8a79.jpg', 221220, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (159, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165040147599360.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165040147599360_thumb.jpg', '6620cae287b97.jpg', 265685, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (160, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165040067907584.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165040067907584_thumb.jpg', '6620cae6cd87b.jpg', 223435, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (161, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165040248262656.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165040248262656_thumb.jpg', '6620cae91a126.jpg', 185997, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (162, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165041049374720.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165041049374720_thumb.jpg', '6620cae5400d4.jpg', 126412, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:42', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (163, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165040973877248.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165040973877248_thumb.jpg', '6620cae447ff4.jpg', 196175, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (164, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165040915156992.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165040915156992_thumb.jpg', '6620cae62148c.jpg', 451916, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (165, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165041137455104.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165041137455104_thumb.jpg', '6620cae968de9.jpg', 198128, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (166, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165041544302592.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165041544302592_thumb.jpg', '6620caecdee72.jpg', 177561, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (167, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165041150038016.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165041150038016_thumb.jpg', '6620caed1bf27.jpg', 321814, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (168, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165041842098176.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165041842098176_thumb.jpg', '6620caed2d045.jpg', 309392, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (169, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165042144088064.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165042144088064_thumb.jpg', '6620caed2dec4.jpg', 190099, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (170, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165042282500096.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165042282500096_thumb.jpg', '6620caed5d7ae.jpg', 171929, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (171, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165042529964032.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165042529964032_thumb.jpg', '6620caed2455a.jpg', 227761, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (172, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165042781622272.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165042781622272_thumb.jpg', '6620caed9bf62.jpg', 206060, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (173, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165042987143168.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165042987143168_thumb.jpg', '6620caedcdd5f.jpg', 200912, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (174, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165042945200128.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165042945200128_thumb.jpg', '6620caed30188.jpg', 311499, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (175, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165043033280512.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165043033280512_thumb.jpg', '6620caee01ed3.jpg', 162084, 'jpg', 0, '2026-01-22 10:35:42', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (176, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165043410767872.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165043410767872_thumb.jpg', '6620caee3eec8.jpg', 212071, 'jpg', 0, '2026-01-22 10:35:43', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (177, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165043565957120.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165043565957120_thumb.jpg', '6620caee5dd11.jpg', 172107, 'jpg', 0, '2026-01-22 10:35:43', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (178, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165043683397632.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165043683397632_thumb.jpg', '6620caee7a658.jpg', 256880, 'jpg', 0, '2026-01-22 10:35:43', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (179, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165044006359040.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165044006359040_thumb.jpg', '6620caee368e6.jpg', 138133, 'jpg', 0, '2026-01-22 10:35:43', '2026-01-22 10:35:43', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (180, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165970930765824.jpeg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165970930765824_thumb.jpeg', '65e822336a7ee.jpeg', 76825, 'jpeg', 0, '2026-01-22 10:39:24', '2026-01-22 10:39:24', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (181, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165970934960128.jpeg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165970934960128_thumb.jpeg', '65e822335ecb1.jpeg', 290643, 'jpeg', 0, '2026-01-22 10:39:24', '2026-01-22 10:39:24', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (182, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165970934960130.jpeg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165970934960130_thumb.jpeg', '65e822336f800.jpeg', 241219, 'jpeg', 0, '2026-01-22 10:39:24', '2026-01-22 10:39:24', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (183, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014165970934960129.jpeg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014165970934960129_thumb.jpeg', '65e822338c94b.jpeg', 220428, 'jpeg', 0, '2026-01-22 10:39:24', '2026-01-22 10:39:24', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (184, 1, NULL, '/uploads/image/2026/01/22/2014166343246548992.jpg', '/uploads/image/2026/01/22/2014166343246548992_thumb.jpg', '65e8223606333.jpg', 303504, 'jpg', 0, '2026-01-22 10:40:52', '2026-01-22 10:40:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (185, 1, NULL, '/uploads/image/2026/01/22/2014166343246548995.jpg', '/uploads/image/2026/01/22/2014166343246548995_thumb.jpg', '65e8225218803.jpg', 95972, 'jpg', 0, '2026-01-22 10:40:52', '2026-01-22 10:40:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (186, 1, NULL, '/uploads/image/2026/01/22/2014166343246548994.jpg', '/uploads/image/2026/01/22/2014166343246548994_thumb.jpg', '65e8223696544.jpg', 164600, 'jpg', 0, '2026-01-22 10:40:52', '2026-01-22 10:40:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (187, 1, NULL, '/uploads/image/2026/01/22/2014166343246548993.jpg', '/uploads/image/2026/01/22/2014166343246548993_thumb.jpg', '65e8225196335.jpg', 102918, 'jpg', 0, '2026-01-22 10:40:52', '2026-01-22 10:40:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (188, 1, NULL, '/uploads/image/2026/01/22/2014166343250743296.jpg', '/uploads/image/2026/01/22/2014166343250743296_thumb.jpg', '65e8223608812.jpg', 287072, 'jpg', 0, '2026-01-22 10:40:52', '2026-01-22 10:40:53', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (198, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014167577772822530.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014167577772822530_thumb.jpg', '6620d13b90408.jpg', 112422, 'jpg', 0, '2026-01-22 10:45:47', '2026-01-22 10:45:47', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (199, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014167577777016832.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014167577777016832_thumb.jpg', '6620d13c1fe8d.jpg', 113279, 'jpg', 0, '2026-01-22 10:45:47', '2026-01-22 10:45:47', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (201, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014167577772822531.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014167577772822531_thumb.jpg', '6620d13baec1a.jpg', 82788, 'jpg', 0, '2026-01-22 10:45:47', '2026-01-22 10:57:33', 1, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (202, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014167577772822528.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014167577772822528_thumb.jpg', '6620d13c2177e.jpg', 148154, 'jpg', 1, '2026-01-22 10:45:47', '2026-01-22 10:58:32', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (203, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014167577781211136.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014167577781211136_thumb.jpg', '6620d13c6caf0.jpg', 143933, 'jpg', 0, '2026-01-22 10:45:47', '2026-01-22 10:45:47', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (204, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014167578146115584.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014167578146115584_thumb.jpg', '6620d13c26567.jpg', 127780, 'jpg', 0, '2026-01-22 10:45:47', '2026-01-22 10:45:47', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (205, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014167578171281408.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014167578171281408_thumb.jpg', '6620d13c16531.jpg', 116041, 'jpg', 0, '2026-01-22 10:45:47', '2026-01-22 10:45:47', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+INSERT INTO `biz_image` VALUES (206, 1, NULL, 'http://192.168.200.3:9000/everkeep/image/2026/01/22/2014167578112561152.jpg', 'http://192.168.200.3:9000/everkeep/everkeep/image/2026/01/22/2014167578112561152_thumb.jpg', '6620d13c48902.jpg', 290988, 'jpg', 0, '2026-01-22 10:45:47', '2026-01-22 10:45:47', 0, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+
+-- ----------------------------
+-- Table structure for biz_media_job
+-- ----------------------------
+DROP TABLE IF EXISTS `biz_media_job`;
+CREATE TABLE `biz_media_job`  (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `job_type` varchar(20) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL COMMENT '任务类型: IMAGE-缩略图/EXIF, VIDEO-封面/时长',
+  `biz_id` bigint NOT NULL COMMENT '图片/视频ID',
+  `storage_type` varchar(20) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '源文件所在的存储类型',
+  `relative_path` varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL COMMENT '源文件相对路径',
+  `media_url` varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '源文件访问地址',
+  `local_path` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '上传节点上的本地副本',
+  `temporary` tinyint(1) NOT NULL DEFAULT 0 COMMENT '本地副本是否为临时文件',
+  `status` tinyint NOT NULL DEFAULT 0 COMMENT '状态: 0-待处理, 1-处理中, 2-已完成, 3-失败',
+  `attempts` int NOT NULL DEFAULT 0 COMMENT '已尝试次数',
+  `max_attempts` int NOT NULL DEFAULT 5 COMMENT '最大尝试次数',
+  `next_run_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '下次可执行时间',
+  `lease_owner` varchar(64) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '租约持有者',
+  `lease_expire_time` datetime NULL DEFAULT NULL COMMENT '租约到期时间',
+  `last_error` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '最近一次失败原因',
+  `create_time` datetime NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  `update_time` datetime NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  PRIMARY KEY (`id`) USING BTREE,
+  UNIQUE INDEX `uk_type_biz`(`job_type` ASC, `biz_id` ASC) USING BTREE,
+  INDEX `idx_status_next_run`(`status` ASC, `next_run_time` ASC) USING BTREE,
+  INDEX `idx_status_lease_expire`(`status` ASC, `lease_expire_time` ASC) USING BTREE,
+  INDEX `idx_status_update_time`(`status` ASC, `update_time` ASC) USING BTREE,
+  INDEX `idx_lease_owner`(`lease_owner` ASC) USING BTREE
+) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci COMMENT = '媒体处理任务表' ROW_FORMAT = Dynamic;
+
+-- ----------------------------
+-- Table structure for biz_user_usage
+-- ----------------------------
+DROP TABLE IF EXISTS `biz_user_usage`;
+CREATE TABLE `biz_user_usage`  (
+  `user_id` bigint NOT NULL COMMENT '用户ID',
+  `image_size` bigint NOT NULL DEFAULT 0 COMMENT '图片占用空间(bytes，不含回收站)',
+  `image_count` bigint NOT NULL DEFAULT 0 COMMENT '图片数量(不含回收站)',
+  `video_size` bigint NOT NULL DEFAULT 0 COMMENT '视频占用空间(bytes，不含回收站)',
+  `video_count` bigint NOT NULL DEFAULT 0 COMMENT '视频数量(不含回收站)',
+  `update_time` datetime NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  PRIMARY KEY (`user_id`) USING BTREE
+) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci COMMENT = '用户存储用量台账' ROW_FORMAT = Dynamic;
+
+-- ----------------------------
+-- Table structure for biz_video
+-- ----------------------------
+DROP TABLE IF EXISTS `biz_video`;
+CREATE TABLE `biz_video`  (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `user_id` bigint NOT NULL COMMENT '上传者ID',
+  `album_id` bigint NULL DEFAULT NULL COMMENT '所属相册ID',
+  `url` varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NOT NULL COMMENT '视频URL',
+  `cover_url` varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '封面图URL',
+  `name` varchar(100) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '视频名称',
+  `size` bigint NULL DEFAULT NULL COMMENT '大小(bytes)',
+  `type` varchar(20) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci NULL DEFAULT NULL COMMENT '格式(mp4/mov)',
+  `duration` bigint NULL DEFAULT NULL COMMENT '时长(秒)',
+  `status` tinyint NULL DEFAULT 0 COMMENT '是否公开',
+  `create_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `update_time` datetime NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  `deleted` tinyint NULL DEFAULT 0,
+  `blob_id` bigint NULL DEFAULT NULL COMMENT '存储对象ID',
+  PRIMARY KEY (`id`) USING BTREE,
+  INDEX `idx_user_deleted_time`(`user_id` ASC, `deleted` ASC, `create_time` ASC, `id` ASC) USING BTREE,
+  INDEX `idx_status_deleted_time`(`status` ASC, `deleted` ASC, `create_time` ASC, `id` ASC) USING BTREE,
+  INDEX `idx_album_deleted_time`(`album_id` ASC, `deleted` ASC, `create_time` ASC, `id` ASC) USING BTREE,
+  INDEX `idx_user_deleted_update_time`(`user_id` ASC, `deleted` ASC, `update_time` ASC) USING BTREE,
+  INDEX `idx_deleted_update_time`(`deleted` ASC, `update_time` ASC) USING BTREE,
+  INDEX `idx_blob_id`(`blob_id` ASC) USING BTREE
+) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci COMMENT = '视频表' ROW_FORMAT = Dynamic;
 
 -- ----------------------------
 -- Table structure for sys_config
@@ -255,7 +358,7 @@ CREATE TABLE `sys_config`  (
   `update_time` datetime NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
   PRIMARY KEY (`id`) USING BTREE,
   UNIQUE INDEX `uk_user_key`(`user_id` ASC, `config_key` ASC) USING BTREE
-) ENGINE = InnoDB AUTO_INCREMENT = 18 CHARACTER SET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci COMMENT = '系统/用户配置表' ROW_FORMAT = Dynamic;
+) ENGINE = InnoDB AUTO_INCREMENT = 20 CHARACTER SET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci COMMENT = '系统/用户配置表' ROW_FORMAT = Dynamic;
 
 -- ----------------------------
 -- Records of sys_config
@@ -277,6 +380,8 @@ INSERT INTO `sys_config` VALUES (14, NULL, 's3_access_key', 'minioadmin', 'S3访
 INSERT INTO `sys_config` VALUES (15, NULL, 's3_secret_key', 'minioadmin', 'S3私密密钥', NULL, '2026-01-22 10:20:08', '2026-01-22 10:20:08');
 INSERT INTO `sys_config` VALUES (16, NULL, 's3_bucket', 'everkeep', '存储桶名称', NULL, '2026-01-22 10:20:08', '2026-01-22 10:20:08');
 INSERT INTO `sys_config` VALUES (17, NULL, 's3_domain', 'http://192.168.200.3:9000/everkeep', '公网访问域名', NULL, '2026-01-22 10:20:08', '2026-01-22 10:45:10');
+INSERT INTO `sys_config` VALUES (18, NULL, 'storage_max_connections', '64', '云存储最大连接数', '云存储客户端连接池大小，修改后客户端自动重建', '2026-02-12 10:00:00', '2026-02-12 10:00:00');
+INSERT INTO `sys_config` VALUES (19, NULL, 'storage_keep_alive_seconds', '300', '云存储连接保活时间', '单位: 秒，空闲连接超过该时间后关闭', '2026-02-12 10:00:00', '2026-02-12 10:00:00');
 
 -- ----------------------------
 -- Table structure for sys_message
@@ -291,7 +396,9 @@ CREATE TABLE `sys_message`  (
   `user_id` bigint NULL DEFAULT NULL COMMENT '所属用户ID (NULL表示全体消息)',
   `create_time` datetime NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
   `deleted` tinyint NULL DEFAULT 0,
-  PRIMARY KEY (`id`) USING BTREE
+  PRIMARY KEY (`id`) USING BTREE,
+  INDEX `idx_user_deleted_time`(`user_id` ASC, `deleted` ASC, `create_time` ASC) USING BTREE,
+  INDEX `idx_user_read`(`user_id` ASC, `read_flag` ASC, `deleted` ASC) USING BTREE
 ) ENGINE = InnoDB AUTO_INCREMENT = 27 CHARACTER SET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci COMMENT = '系统消息表' ROW_FORMAT = Dynamic;
 
 -- ----------------------------